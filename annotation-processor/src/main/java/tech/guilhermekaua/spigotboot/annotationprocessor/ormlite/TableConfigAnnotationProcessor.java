@@ -0,0 +1,281 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.annotationprocessor.ormlite;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Writes the ORMLite table config of every {@code @DatabaseTable} class to {@value #RESOURCE}, in the
+ * format of ORMLite's {@code DatabaseTableConfigLoader}, so DAOs can be created without reading the
+ * entity annotations at runtime.
+ * <p>
+ * Annotations are read by name, so this processor does not need ORMLite on its classpath. Entities using
+ * something it cannot express (foreign collections, JPA annotations, a custom DAO class or schema) are left out
+ * and configured by reflection as usual.
+ */
+@SupportedAnnotationTypes("com.j256.ormlite.table.DatabaseTable")
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class TableConfigAnnotationProcessor extends AbstractProcessor {
+    public static final String RESOURCE = "META-INF/spigot-boot/ormlite-tables.txt";
+
+    private static final String DATABASE_TABLE = "com.j256.ormlite.table.DatabaseTable";
+    private static final String DATABASE_FIELD = "com.j256.ormlite.field.DatabaseField";
+    private static final String FOREIGN_COLLECTION_FIELD = "com.j256.ormlite.field.ForeignCollectionField";
+    private static final String DEFAULT_STRING = "__ormlite__ no default value string was specified";
+
+    // DatabaseField attribute -> DatabaseFieldConfigLoader key
+    private static final Map<String, String> FIELD_KEYS = new HashMap<>();
+
+    static {
+        for (String key : Arrays.asList("columnName", "defaultValue", "width", "canBeNull", "id", "generatedId",
+                "generatedIdSequence", "foreign", "useGetSet", "throwIfNull", "format", "unique", "uniqueCombo",
+                "index", "uniqueIndex", "indexName", "uniqueIndexName", "foreignAutoRefresh",
+                "maxForeignAutoRefreshLevel", "persisterClass", "allowGeneratedIdInsert", "columnDefinition",
+                "fullColumnDefinition", "foreignAutoCreate", "version", "foreignColumnName", "readOnly")) {
+            FIELD_KEYS.put(key, key);
+        }
+        FIELD_KEYS.put("dataType", "dataPersister");
+        FIELD_KEYS.put("unknownEnumName", "unknownEnumValue");
+    }
+
+    private final Map<String, String> tableConfigs = new TreeMap<>();
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    continue;
+                }
+
+                TypeElement entity = (TypeElement) element;
+                String tableConfig = createTableConfig(entity);
+                if (tableConfig == null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            "No table config generated for " + entity.getQualifiedName() + ", it will be configured by reflection", entity);
+                    continue;
+                }
+                tableConfigs.put(binaryName(entity), tableConfig);
+            }
+        }
+
+        if (roundEnv.processingOver() && !tableConfigs.isEmpty()) {
+            try {
+                writeTableConfigs();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate " + RESOURCE + ": " + e.getMessage());
+            }
+        }
+
+        // other processors may handle @DatabaseTable too
+        return false;
+    }
+
+    private void writeTableConfigs() throws IOException {
+        FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+
+        try (PrintWriter writer = new PrintWriter(fileObject.openWriter())) {
+            for (String tableConfig : tableConfigs.values()) {
+                writer.print(tableConfig);
+            }
+        }
+    }
+
+    /**
+     * @return the table config of {@code entity}, or {@code null} if it cannot be expressed in the config format
+     */
+    private String createTableConfig(TypeElement entity) {
+        if (hasUnsupportedAnnotation(entity)) {
+            return null;
+        }
+
+        AnnotationMirror databaseTable = findAnnotation(entity, DATABASE_TABLE);
+        if (databaseTable != null) {
+            Map<String, AnnotationValue> values = getExplicitValues(databaseTable);
+            if (values.containsKey("daoClass") || values.containsKey("schemaName")) {
+                return null;
+            }
+        }
+
+        StringBuilder config = new StringBuilder();
+        config.append("# --table-start--\n");
+        config.append("dataClass=").append(binaryName(entity)).append('\n');
+        // the table name is resolved at runtime, where the database type is known
+        config.append("# --table-fields-start--\n");
+
+        int fields = 0;
+        for (TypeElement type = entity; type != null; type = superclass(type)) {
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                if (hasUnsupportedAnnotation(member) || findAnnotation(member, FOREIGN_COLLECTION_FIELD) != null) {
+                    return null;
+                }
+
+                AnnotationMirror databaseField = findAnnotation(member, DATABASE_FIELD);
+                if (databaseField == null) {
+                    continue;
+                }
+
+                String fieldConfig = createFieldConfig((VariableElement) member, getExplicitValues(databaseField));
+                if (fieldConfig == null) {
+                    return null;
+                }
+                if (!fieldConfig.isEmpty()) {
+                    config.append(fieldConfig);
+                    fields++;
+                }
+            }
+        }
+        if (fields == 0) {
+            return null;
+        }
+
+        config.append("# --table-fields-end--\n");
+        config.append("# --table-end--\n");
+        config.append("#################################\n");
+        return config.toString();
+    }
+
+    /**
+     * @return the field config, an empty string if the field is not persisted, or {@code null} if an
+     * attribute is not supported
+     */
+    private String createFieldConfig(VariableElement field, Map<String, AnnotationValue> values) {
+        AnnotationValue persisted = values.get("persisted");
+        if (persisted != null && !((Boolean) persisted.getValue())) {
+            return "";
+        }
+
+        StringBuilder config = new StringBuilder();
+        config.append("# --field-start--\n");
+        config.append("fieldName=").append(field.getSimpleName()).append('\n');
+
+        for (Map.Entry<String, AnnotationValue> entry : values.entrySet()) {
+            String attribute = entry.getKey();
+            if (attribute.equals("persisted")) {
+                continue;
+            }
+
+            String key = FIELD_KEYS.get(attribute);
+            if (key == null) {
+                return null;
+            }
+
+            String value = formatValue(attribute, entry.getValue().getValue(), field);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                return null;
+            }
+            config.append(key).append('=').append(value).append('\n');
+        }
+
+        config.append("# --field-end--\n");
+        return config.toString();
+    }
+
+    /**
+     * @return the value as the config loader reads it, or {@code null} if it is the default
+     */
+    private String formatValue(String attribute, Object value, VariableElement field) {
+        if (value instanceof VariableElement) {
+            // enum constant, e.g. DataType.UUID
+            String name = ((VariableElement) value).getSimpleName().toString();
+            return name.equals("UNKNOWN") ? null : name;
+        }
+        if (value instanceof TypeMirror) {
+            TypeMirror type = (TypeMirror) value;
+            return type.getKind() == TypeKind.DECLARED ? binaryName((TypeElement) ((DeclaredType) type).asElement()) : null;
+        }
+
+        String string = String.valueOf(value);
+        if (attribute.equals("defaultValue")) {
+            return string.equals(DEFAULT_STRING) ? null : string;
+        }
+        if (string.isEmpty()) {
+            return null;
+        }
+        if (attribute.equals("unknownEnumName")) {
+            TypeMirror type = field.asType();
+            return type.getKind() == TypeKind.DECLARED
+                    ? binaryName((TypeElement) ((DeclaredType) type).asElement()) + "#" + string
+                    : null;
+        }
+        return string;
+    }
+
+    private boolean hasUnsupportedAnnotation(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.startsWith("javax.persistence.") || name.startsWith("jakarta.persistence.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, AnnotationValue> getExplicitValues(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        return values;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+}
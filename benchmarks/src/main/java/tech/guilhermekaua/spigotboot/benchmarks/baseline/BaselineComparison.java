@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.baseline;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result (run with {@code -prof gc -rf json}) to a recorded baseline and exits with
+ * status 1 when a benchmark got slower, or allocates more per operation, than the allowed tolerance.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar tech.guilhermekaua.spigotboot.benchmarks.baseline.BaselineComparison \
+ *     benchmarks/baselines/2.0.2.json jmh-result.json [tolerancePercent]
+ * </pre>
+ */
+public final class BaselineComparison {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE = 10.0;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [tolerancePercent]");
+            System.exit(2);
+            return;
+        }
+
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> current = read(args[1]);
+        double tolerance = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE) / 100.0;
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW   %s: %.3f %s%n", entry.getKey(), after.score, after.unit);
+                continue;
+            }
+
+            boolean slower = isSlower(before, after, tolerance);
+            boolean allocates = before.allocation >= 0 && after.allocation >= 0
+                    && after.allocation > before.allocation * (1 + tolerance) + 1;
+
+            System.out.printf("%s %s: %.3f -> %.3f %s (%+.1f%%), %.0f -> %.0f B/op%n",
+                    slower || allocates ? "FAIL " : "OK   ",
+                    entry.getKey(), before.score, after.score, after.unit,
+                    (after.score - before.score) / before.score * 100,
+                    before.allocation, after.allocation);
+            if (slower || allocates) {
+                regressions++;
+            }
+        }
+
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.println("GONE  " + name);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + tolerance * 100 + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A regression must exceed the tolerance and the error margins of both runs, so noisy benchmarks
+     * do not fail the comparison on their own.
+     */
+    private static boolean isSlower(Result before, Result after, double tolerance) {
+        double margin = Math.max(before.score * tolerance, before.error + after.error);
+        if (before.higherIsBetter) {
+            return after.score < before.score - margin;
+        }
+        return after.score > before.score + margin;
+    }
+
+    private static Map<String, Result> read(String path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            JsonArray runs = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : runs) {
+                JsonObject run = element.getAsJsonObject();
+                results.put(key(run), new Result(run));
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject run) {
+        StringBuilder key = new StringBuilder(run.get("benchmark").getAsString());
+        if (run.has("params")) {
+            Map<String, String> params = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> param : run.getAsJsonObject("params").entrySet()) {
+                params.put(param.getKey(), param.getValue().getAsString());
+            }
+            key.append(params);
+        }
+        return key.toString();
+    }
+
+    private static final class Result {
+        private final double score;
+        private final double error;
+        private final String unit;
+        private final boolean higherIsBetter;
+        private final double allocation;
+
+        private Result(JsonObject run) {
+            JsonObject primary = run.getAsJsonObject("primaryMetric");
+            this.score = primary.get("score").getAsDouble();
+            JsonElement scoreError = primary.get("scoreError");
+            this.error = scoreError == null || !isNumber(scoreError) ? 0 : scoreError.getAsDouble();
+            this.unit = primary.get("scoreUnit").getAsString();
+            this.higherIsBetter = "thrpt".equals(run.get("mode").getAsString());
+
+            double allocation = -1;
+            if (run.has("secondaryMetrics")) {
+                // older JMH versions prefix profiler metrics with a middle dot
+                for (Map.Entry<String, JsonElement> metric : run.getAsJsonObject("secondaryMetrics").entrySet()) {
+                    if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                        allocation = metric.getValue().getAsJsonObject().get("score").getAsDouble();
+                    }
+                }
+            }
+            this.allocation = allocation;
+        }
+
+        private static boolean isNumber(JsonElement element) {
+            return element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber();
+        }
+    }
+}
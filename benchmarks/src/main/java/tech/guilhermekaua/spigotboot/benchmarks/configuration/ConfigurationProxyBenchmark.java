@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.configuration;
+
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Bean;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Configuration;
+import tech.guilhermekaua.spigotboot.core.context.configuration.processor.ConfigurationProcessor;
+import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls on a configuration class proxy: {@code @Bean} methods return the already created bean, other
+ * methods run as they are.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationProxyBenchmark {
+    private BenchConfiguration configuration;
+
+    @Setup
+    public void setUp() {
+        DependencyManager dependencyManager = new DependencyManager();
+        new ConfigurationProcessor().processClass(BenchConfiguration.class, dependencyManager);
+
+        configuration = dependencyManager.resolveDependency(BenchConfiguration.class, null);
+        configuration.settings();
+    }
+
+    @Benchmark
+    public Settings cachedBeanCall() {
+        return configuration.settings();
+    }
+
+    @Benchmark
+    public String nonBeanCall() {
+        return configuration.describe();
+    }
+
+    public static class Settings {
+        private final String name;
+
+        public Settings(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @Configuration
+    public static class BenchConfiguration {
+        @Bean
+        public Settings settings() {
+            return new Settings("benchmark");
+        }
+
+        public String describe() {
+            return "configuration";
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.di;
+
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Inject;
+import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolution of already created singletons and field/setter injection, which run for every bean on
+ * startup and reload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyManagerBenchmark {
+    private DependencyManager dependencyManager;
+
+    @Setup
+    public void setUp() {
+        dependencyManager = new DependencyManager();
+        dependencyManager.registerDependency(Service.class, ServiceImpl.class, null, true);
+        dependencyManager.registerDependency(Service.class, SpecialServiceImpl.class, "special", false);
+        dependencyManager.registerDependency(Store.class, StoreImpl.class, null, true);
+
+        // create the singletons up front, so only the lookup is measured
+        dependencyManager.resolveDependency(Service.class, null);
+        dependencyManager.resolveDependency(Service.class, "special");
+        dependencyManager.resolveDependency(Store.class, null);
+    }
+
+    @Benchmark
+    public Service resolveDependency() {
+        return dependencyManager.resolveDependency(Service.class, null);
+    }
+
+    @Benchmark
+    public Service resolveQualifiedDependency() {
+        return dependencyManager.resolveDependency(Service.class, "special");
+    }
+
+    @Benchmark
+    public Consumer injectDependencies() {
+        Consumer consumer = new Consumer();
+        dependencyManager.injectDependencies(consumer);
+        return consumer;
+    }
+
+    public interface Service {
+        String getName();
+    }
+
+    public static class ServiceImpl implements Service {
+        @Override
+        public String getName() {
+            return "default";
+        }
+    }
+
+    public static class SpecialServiceImpl implements Service {
+        @Override
+        public String getName() {
+            return "special";
+        }
+    }
+
+    public interface Store {
+    }
+
+    public static class StoreImpl implements Store {
+    }
+
+    public static class Consumer {
+        @Inject
+        private Service service;
+        @Inject
+        private Store store;
+        private String notInjected;
+        private Store setterStore;
+
+        @Inject
+        public void setStore(Store store) {
+            this.setterStore = store;
+        }
+    }
+}
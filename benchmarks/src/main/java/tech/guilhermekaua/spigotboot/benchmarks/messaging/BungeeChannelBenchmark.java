@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.messaging;
+
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.messaging.bungee.BungeeChannel;
+import tech.guilhermekaua.spigotboot.messaging.message.Message;
+import tech.guilhermekaua.spigotboot.messaging.utils.ChannelDataOutputUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of a forwarded message and its decoding by {@link BungeeChannel}, down to the subscriber call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BungeeChannelBenchmark {
+    private static final String SUB_CHANNEL = "stats";
+
+    private BungeeChannel channel;
+    private Message<StatsPayload, StatsPayload> message;
+    private byte[] encoded;
+    private Message<StatsPayload, StatsPayload> received;
+
+    @Setup
+    public void setUp() throws IOException {
+        // the plugin is only used to register the channel and send messages, which are not measured
+        Plugin plugin = (Plugin) Proxy.newProxyInstance(
+                Plugin.class.getClassLoader(),
+                new Class[]{Plugin.class},
+                (proxy, method, args) -> null
+        );
+        channel = new BungeeChannel(plugin);
+        channel.<StatsPayload, StatsPayload>subscribe(SUB_CHANNEL, incoming -> received = incoming);
+
+        message = new Message<>(UUID.randomUUID(), "lobby", SUB_CHANNEL, new StatsPayload(UUID.randomUUID(), 42, 3_600_000L));
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return ChannelDataOutputUtils.write(
+                header -> header.writeUTF(SUB_CHANNEL),
+                body -> {
+                    try {
+                        body.writeObject(message);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+        ).toByteArray();
+    }
+
+    @Benchmark
+    public Message<StatsPayload, StatsPayload> decode() {
+        channel.onPluginMessageReceived(BungeeChannel.NAME, null, encoded);
+        return received;
+    }
+
+    public static class StatsPayload implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final UUID player;
+        private final int kills;
+        private final long playtime;
+
+        public StatsPayload(UUID player, int kills, long playtime) {
+            this.player = player;
+            this.kills = kills;
+            this.playtime = playtime;
+        }
+    }
+}
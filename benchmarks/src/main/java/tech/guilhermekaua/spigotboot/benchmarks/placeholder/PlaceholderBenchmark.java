@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.placeholder;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.placeholder.converter.TypeConverterManager;
+import tech.guilhermekaua.spigotboot.placeholder.metadata.PlaceholderMetadata;
+import tech.guilhermekaua.spigotboot.placeholder.registry.PlaceholderRegistry;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder lookup and evaluation, which run for every placeholder of every scoreboard, tab list and
+ * hologram line on each refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderBenchmark {
+    @Param({"10", "100"})
+    public int placeholders;
+
+    private PlaceholderRegistry registry;
+    private PlaceholderMetadata metadata;
+    private TypeConverterManager typeConverterManager;
+    private String lastParams;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        registry = new PlaceholderRegistry(null, null, null);
+        typeConverterManager = new TypeConverterManager();
+
+        Handler handler = new Handler();
+        Method method = Handler.class.getMethod("stat", Player.class, String.class, Integer.class);
+        for (int i = 0; i < placeholders; i++) {
+            String placeholder = "stat" + i + "_<name>_<amount>";
+            registry.getPlaceholders().put(placeholder, new PlaceholderMetadata(handler, method, placeholder, "", true));
+        }
+
+        lastParams = "stat" + (placeholders - 1) + "_kills_10";
+        metadata = registry.findPlaceholderMetadata(lastParams);
+    }
+
+    @Benchmark
+    public PlaceholderMetadata findPlaceholderMetadata() {
+        return registry.findPlaceholderMetadata(lastParams);
+    }
+
+    @Benchmark
+    public PlaceholderMetadata findMissingPlaceholderMetadata() {
+        return registry.findPlaceholderMetadata("unknown_kills_10");
+    }
+
+    @Benchmark
+    public String getValue() {
+        return metadata.getValue(null, lastParams, typeConverterManager);
+    }
+
+    public static class Handler {
+        public String stat(Player player,
+                           @tech.guilhermekaua.spigotboot.placeholder.annotations.Param("name") String name,
+                           @tech.guilhermekaua.spigotboot.placeholder.annotations.Param("amount") Integer amount) {
+            return name + ": " + amount;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.proxy;
+
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.ComponentProxy;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.MethodHandlerRegistry;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.RegisteredMethodHandler;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.RegisteredMethodHandlerRunnable;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a call through a component proxy, against the number of registered method handlers. All but one
+ * handler target an annotation the method does not have, like {@code @Transactional} handlers do for most
+ * methods of a service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentProxyBenchmark {
+    private static final RegisteredMethodHandlerRunnable PROCEED = context -> context.proceed().invoke(context.self(), context.args());
+
+    @Param({"0", "1", "8"})
+    public int handlers;
+
+    private Calculator direct;
+    private Calculator proxy;
+
+    @Setup
+    public void setUp() {
+        MethodHandlerRegistry.clear();
+
+        List<RegisteredMethodHandler> registered = new ArrayList<>();
+        for (int i = 1; i < handlers; i++) {
+            registered.add(new RegisteredMethodHandler(PROCEED, void.class, Annotation.class, Unused.class));
+        }
+        if (handlers > 0) {
+            registered.add(new RegisteredMethodHandler(PROCEED, Calculator.class, Annotation.class, Annotation.class));
+        }
+        MethodHandlerRegistry.registerAll(registered);
+
+        direct = new Calculator();
+        proxy = ComponentProxy.createProxy(Calculator.class, null, new Class[0], new Object[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MethodHandlerRegistry.clear();
+    }
+
+    @Benchmark
+    public int directCall() {
+        return direct.add(20, 22);
+    }
+
+    @Benchmark
+    public int proxiedCall() {
+        return proxy.add(20, 22);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface Unused {
+    }
+
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+}
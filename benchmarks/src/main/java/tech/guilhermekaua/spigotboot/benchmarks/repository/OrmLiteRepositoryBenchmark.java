@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.benchmarks.repository;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.table.DatabaseTable;
+import com.j256.ormlite.table.TableUtils;
+import org.openjdk.jmh.annotations.*;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.OrmLiteRepositoryImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository operations against an in-memory H2 database. The numbers include JDBC and H2 itself, so they
+ * are only meaningful compared to a baseline recorded on the same machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrmLiteRepositoryBenchmark {
+    private static final int ROWS = 1000;
+    private static final int BATCH = 100;
+
+    private JdbcConnectionSource connectionSource;
+    private OrmLiteRepositoryImpl<BenchEntity, UUID> repository;
+    private List<BenchEntity> entities;
+    private List<BenchEntity> batch;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        connectionSource = new JdbcConnectionSource("jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1");
+        TableUtils.dropTable(connectionSource, BenchEntity.class, true);
+        TableUtils.createTable(connectionSource, BenchEntity.class);
+
+        Dao<BenchEntity, UUID> dao = DaoManager.createDao(connectionSource, BenchEntity.class);
+        repository = new OrmLiteRepositoryImpl<>(dao, Runnable::run, 500, DriverProfile.H2);
+
+        entities = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            entities.add(new BenchEntity(UUID.randomUUID(), "player" + i, i));
+        }
+        repository.saveAll(entities);
+        batch = new ArrayList<>(entities.subList(0, BATCH));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        connectionSource.close();
+    }
+
+    private BenchEntity nextEntity() {
+        BenchEntity entity = entities.get(next);
+        next = (next + 1) % ROWS;
+        return entity;
+    }
+
+    @Benchmark
+    public BenchEntity findById() {
+        return repository.findById(nextEntity().getId());
+    }
+
+    @Benchmark
+    public int update() {
+        BenchEntity entity = nextEntity();
+        entity.setScore(entity.getScore() + 1);
+        return repository.update(entity);
+    }
+
+    @Benchmark
+    public List<BenchEntity> upsertAll() {
+        for (BenchEntity entity : batch) {
+            entity.setScore(entity.getScore() + 1);
+        }
+        return repository.upsertAll(batch);
+    }
+
+    @Benchmark
+    public List<BenchEntity> findAllAfter() {
+        return repository.findAllAfter(null, BATCH);
+    }
+
+    @DatabaseTable(tableName = "bench_entity")
+    public static class BenchEntity {
+        @DatabaseField(id = true)
+        private UUID id;
+        @DatabaseField
+        private String name;
+        @DatabaseField
+        private int score;
+
+        public BenchEntity() {
+        }
+
+        public BenchEntity(UUID id, String name, int score) {
+            this.id = id;
+            this.name = name;
+            this.score = score;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public void setScore(int score) {
+            this.score = score;
+        }
+    }
+}
@@ -3,16 +3,20 @@ package tech.guilhermekaua.spigotboot.core.context;
 import lombok.Getter;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.MethodHandlerRegistry;
 import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
 import tech.guilhermekaua.spigotboot.core.context.lifecycle.ContextLifecycle;
 import tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.ContextPreDestroyProcessor;
 import tech.guilhermekaua.spigotboot.core.context.registration.BeanRegistrar;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.PackageScanCache;
 import tech.guilhermekaua.spigotboot.core.module.Module;
 import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
+import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
@@ -104,6 +108,10 @@ public class PluginContext implements Context {
 
         dependencyManager.clear();
 
+        // the registries are static, so they outlive this context when the framework is shared by several plugins
+        MethodHandlerRegistry.unregisterAll(dependencyManager);
+        PackageScanCache.evict(ProxyUtils.getRealClass(plugin).getClassLoader());
+
         initialized = false;
     }
 
@@ -123,7 +131,10 @@ public class PluginContext implements Context {
     }
 
     private void callPreDestroyProcessors() {
-        for (ContextPreDestroyProcessor processor : getBeansByType(ContextPreDestroyProcessor.class)) {
+        List<ContextPreDestroyProcessor> processors = new ArrayList<>(getBeansByType(ContextPreDestroyProcessor.class));
+        processors.sort(Comparator.comparingInt(ContextPreDestroyProcessor::getOrder));
+
+        for (ContextPreDestroyProcessor processor : processors) {
             try {
                 processor.onPreDestroy(this);
             } catch (Exception e) {
@@ -22,13 +22,46 @@
  */
 package tech.guilhermekaua.spigotboot.core.context.annotations;
 
+import tech.guilhermekaua.spigotboot.core.service.priority.ServicePriority;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Marks a service class and its asynchronous methods. Values set on the class apply to every method
+ * that leaves them at their default.
+ */
 @Component
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.TYPE, ElementType.METHOD})
 public @interface Service {
+    /**
+     * Maximum time, in milliseconds, a single invocation may take before its future is completed
+     * with a {@link tech.guilhermekaua.spigotboot.core.exceptions.ServiceTimeoutException}.
+     * Values {@code <= 0} disable the timeout.
+     */
+    long timeout() default 0;
+
+    /**
+     * How many times a failed invocation is retried before the failure is propagated.
+     */
+    int retries() default 0;
+
+    /**
+     * Base delay, in milliseconds, between retries. Doubles after each attempt.
+     */
+    long backoff() default 0;
+
+    /**
+     * Whether invocations of this method go through the per-service circuit breaker.
+     */
+    boolean circuitBreaker() default false;
+
+    /**
+     * Lane the invocation is queued in when priority lanes are enabled in
+     * {@link tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties}; ignored otherwise.
+     */
+    ServicePriority priority() default ServicePriority.NORMAL;
 }
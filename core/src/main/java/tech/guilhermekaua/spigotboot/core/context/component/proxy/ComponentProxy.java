@@ -36,9 +36,38 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ComponentProxy implements MethodHandler {
     private final Object realObject;
+    private final Object scope;
 
-    @SuppressWarnings("unchecked")
     public static <T> T createProxy(Class<T> clazz, @Nullable Object realObject, Class<?>[] ctorArgs, Object[] ctorValues) {
+        return createProxy(clazz, realObject, ctorArgs, ctorValues, null);
+    }
+
+    /**
+     * Creates a proxy whose calls go through the unscoped handlers and the ones registered under {@code scope}
+     * in the {@link MethodHandlerRegistry}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createProxy(Class<T> clazz, @Nullable Object realObject, Class<?>[] ctorArgs, Object[] ctorValues, @Nullable Object scope) {
+        ProxyFactory factory = new ProxyFactory();
+        if (clazz.isInterface()) {
+            factory.setInterfaces(new Class<?>[]{clazz});
+        } else {
+            factory.setSuperclass(clazz);
+        }
+
+        try {
+            return (T) factory.create(ctorArgs, ctorValues, new ComponentProxy(realObject, scope));
+        } catch (Throwable e) {
+            throw new RuntimeException("Proxy creation failed for " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a proxy of {@code clazz} whose calls are all routed to {@code interceptor}, bypassing the
+     * method handler registry. {@code clazz} must be an interface or have a no-args constructor.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createProxy(Class<T> clazz, ProxyInterceptor interceptor) {
         ProxyFactory factory = new ProxyFactory();
         if (clazz.isInterface()) {
             factory.setInterfaces(new Class<?>[]{clazz});
@@ -47,7 +76,7 @@ public class ComponentProxy implements MethodHandler {
         }
 
         try {
-            return (T) factory.create(ctorArgs, ctorValues, new ComponentProxy(realObject));
+            return (T) factory.create(new Class[0], new Object[0], interceptor::intercept);
         } catch (Throwable e) {
             throw new RuntimeException("Proxy creation failed for " + clazz.getName(), e);
         }
@@ -61,15 +90,28 @@ public class ComponentProxy implements MethodHandler {
 
         final MethodHandlerContext context = new MethodHandlerContext(self, thisMethod, proceed, args);
 
-        List<RegisteredMethodHandler> handlers = MethodHandlerRegistry.getHandlersFor(context);
+        List<RegisteredMethodHandler> handlers = MethodHandlerRegistry.getHandlersFor(scope, context);
         for (RegisteredMethodHandler handler : handlers) {
             try {
                 return handler.getRunnable().handle(context);
             } catch (Throwable t) {
+                // exceptions the caller can handle are rethrown as they are, e.g. from a @Transactional method
+                if (t instanceof RuntimeException || t instanceof Error || isDeclared(thisMethod, t)) {
+                    throw t;
+                }
                 throw new RuntimeException("Error handling method " + thisMethod.getName() + " in " + self.getClass().getName(), t);
             }
         }
 
         return proceed.invoke(self, args);
     }
-}
\ No newline at end of file
+
+    private static boolean isDeclared(Method method, Throwable throwable) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(throwable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.component.proxy;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+
+/**
+ * Handles every call made on a proxy created through {@link ComponentProxy#createProxy(Class, ProxyInterceptor)}.
+ * <p>
+ * Unlike method handlers, which are looked up globally on each call, an interceptor is bound to a
+ * single proxy instance, so it can keep per-proxy state such as a delegate or a precomputed dispatch table.
+ */
+@FunctionalInterface
+public interface ProxyInterceptor {
+    /**
+     * @param self       the proxy instance
+     * @param thisMethod the invoked method, as declared by the proxied type
+     * @param proceed    the concrete or default implementation, {@code null} if the method is abstract
+     * @param args       the call arguments
+     */
+    Object intercept(Object self, Method thisMethod, @Nullable Method proceed, Object[] args) throws Throwable;
+}
@@ -46,7 +46,7 @@ public class MethodHandlerDrivenProxyDecider implements BeanProxyDecider {
             return false;
         }
 
-        for (RegisteredMethodHandler handler : MethodHandlerRegistry.getAllHandlers()) {
+        for (RegisteredMethodHandler handler : MethodHandlerRegistry.getAllHandlers(dependencyManager)) {
             if (handlerCouldApply(handler, beanClass)) {
                 return true;
             }
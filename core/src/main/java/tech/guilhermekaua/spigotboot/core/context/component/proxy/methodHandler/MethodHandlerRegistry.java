@@ -23,15 +23,24 @@
 package tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.context.MethodHandlerContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Keeps the registered method handlers. Handlers discovered by a context are registered under a scope (its
+ * {@code DependencyManager}), so that when several plugins share one copy of the framework, a proxy only
+ * sees the handlers of the context that created it. Handlers registered without a scope apply to every proxy.
+ */
 public final class MethodHandlerRegistry {
-    private static final List<RegisteredMethodHandler> handlers = new ArrayList<>();
+    private static final List<RegisteredMethodHandler> handlers = new CopyOnWriteArrayList<>();
+    private static final Map<Object, List<RegisteredMethodHandler>> scopedHandlers = new ConcurrentHashMap<>();
 
     private MethodHandlerRegistry() {
     }
@@ -40,17 +49,62 @@ public final class MethodHandlerRegistry {
         MethodHandlerRegistry.handlers.addAll(handlers);
     }
 
+    public static void registerAll(@NotNull Object scope, List<RegisteredMethodHandler> handlers) {
+        scopedHandlers.computeIfAbsent(scope, key -> new CopyOnWriteArrayList<>()).addAll(handlers);
+    }
+
+    /**
+     * Drops every handler registered under {@code scope}, once its context is destroyed.
+     */
+    public static void unregisterAll(@NotNull Object scope) {
+        scopedHandlers.remove(scope);
+    }
+
     public static @NotNull List<RegisteredMethodHandler> getAllHandlers() {
         return Collections.unmodifiableList(handlers);
     }
 
+    /**
+     * @return the unscoped handlers followed by the ones registered under {@code scope}
+     */
+    public static @NotNull List<RegisteredMethodHandler> getAllHandlers(@Nullable Object scope) {
+        List<RegisteredMethodHandler> scoped = scope != null ? scopedHandlers.get(scope) : null;
+        if (scoped == null || scoped.isEmpty()) {
+            return getAllHandlers();
+        }
+
+        List<RegisteredMethodHandler> all = new ArrayList<>(handlers.size() + scoped.size());
+        all.addAll(handlers);
+        all.addAll(scoped);
+        return Collections.unmodifiableList(all);
+    }
+
     public static List<RegisteredMethodHandler> getHandlersFor(@NotNull MethodHandlerContext context) {
-        return handlers.stream()
-                .filter(handler -> handler.canHandle(context))
-                .collect(Collectors.toList());
+        return getHandlersFor(null, context);
+    }
+
+    public static List<RegisteredMethodHandler> getHandlersFor(@Nullable Object scope, @NotNull MethodHandlerContext context) {
+        List<RegisteredMethodHandler> matching = new ArrayList<>();
+        addMatching(handlers, context, matching);
+        if (scope != null) {
+            List<RegisteredMethodHandler> scoped = scopedHandlers.get(scope);
+            if (scoped != null) {
+                addMatching(scoped, context, matching);
+            }
+        }
+        return matching;
     }
 
     public static void clear() {
         handlers.clear();
+        scopedHandlers.clear();
+    }
+
+    private static void addMatching(List<RegisteredMethodHandler> candidates, MethodHandlerContext context, List<RegisteredMethodHandler> matching) {
+        for (RegisteredMethodHandler handler : candidates) {
+            if (handler.canHandle(context)) {
+                matching.add(handler);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -30,14 +30,24 @@ import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyM
 import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
 import tech.guilhermekaua.spigotboot.core.utils.ReflectionUtils;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MethodHandlerProcessor {
     public List<RegisteredMethodHandler> processFromPackage(String basePackage, DependencyManager dependencyManager) {
-        return ReflectionUtils.getClassesAnnotatedWith(basePackage, RegisterMethodHandler.class)
-                .stream()
+        return processClasses(discoverHandlerClasses(basePackage), dependencyManager);
+    }
+
+    public Set<Class<?>> discoverHandlerClasses(String basePackage) {
+        return ReflectionUtils.getClassesAnnotatedWith(basePackage, RegisterMethodHandler.class);
+    }
+
+    public List<RegisteredMethodHandler> processClasses(Collection<Class<?>> handlerClasses, DependencyManager dependencyManager) {
+        return handlerClasses.stream()
                 .flatMap(clazz -> processClass(clazz, dependencyManager).stream())
                 .collect(Collectors.toList());
     }
@@ -52,7 +62,13 @@ public class MethodHandlerProcessor {
                     .map(method -> {
                         MethodHandler annotation = method.getAnnotation(MethodHandler.class);
                         return new RegisteredMethodHandler(
-                                context -> method.invoke(handler, context),
+                                context -> {
+                                    try {
+                                        return method.invoke(handler, context);
+                                    } catch (InvocationTargetException e) {
+                                        throw e.getCause();
+                                    }
+                                },
                                 annotation.targetClass(),
                                 annotation.classAnnotatedWith(),
                                 annotation.methodAnnotatedWith()
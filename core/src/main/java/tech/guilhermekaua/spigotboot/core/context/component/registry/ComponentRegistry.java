@@ -42,10 +42,19 @@ public class ComponentRegistry {
     private final Set<Class<? extends Annotation>> componentsAnnotations = new HashSet<>();
 
     public void registerComponents(String basePackage, DependencyManager dependencyManager) {
-        this.componentsAnnotations.addAll(discoverComponentsAnnotations(basePackage));
+        registerComponentsAnnotations(discoverComponentsAnnotations(basePackage));
+        registerComponents(discoverComponentsClasses(basePackage), dependencyManager);
+    }
 
-        Set<Class<?>> componentsClasses = discoverComponentsClasses(basePackage);
+    /**
+     * Adds stereotype annotations, which {@link #discoverComponentsClasses} looks for in the packages
+     * scanned afterwards.
+     */
+    public void registerComponentsAnnotations(Collection<Class<? extends Annotation>> annotations) {
+        this.componentsAnnotations.addAll(annotations);
+    }
 
+    public void registerComponents(Collection<Class<?>> componentsClasses, DependencyManager dependencyManager) {
         for (Class<?> componentsClass : componentsClasses) {
             dependencyManager.registerDependency(
                     componentsClass,
@@ -69,7 +78,7 @@ public class ComponentRegistry {
         }
     }
 
-    private Set<Class<? extends Annotation>> discoverComponentsAnnotations(String basePackage) {
+    public Set<Class<? extends Annotation>> discoverComponentsAnnotations(String basePackage) {
         Reflections reflections = new Reflections(basePackage, new SubTypesScanner(), new TypeAnnotationsScanner());
 
         return Stream.concat(
@@ -81,7 +90,7 @@ public class ComponentRegistry {
                 .collect(Collectors.toSet());
     }
 
-    private Set<Class<?>> discoverComponentsClasses(@NotNull String... basePackages) {
+    public Set<Class<?>> discoverComponentsClasses(@NotNull String... basePackages) {
         if (componentsAnnotations.isEmpty()) {
             return Collections.emptySet();
         }
@@ -27,6 +27,8 @@ import tech.guilhermekaua.spigotboot.core.context.annotations.Bean;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Configuration;
 import tech.guilhermekaua.spigotboot.core.context.configuration.proxy.ConfigurationClassProxy;
 import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStep;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStepType;
 import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
 import tech.guilhermekaua.spigotboot.core.utils.ReflectionUtils;
 
@@ -39,11 +41,15 @@ import java.util.stream.Collectors;
 public class ConfigurationProcessor {
 
     public void processFromPackage(String basePackage, DependencyManager dependencyManager) {
-        for (Class<?> configClass : ReflectionUtils.getClassesAnnotatedWith(basePackage, Configuration.class)) {
+        for (Class<?> configClass : discoverConfigurationClasses(basePackage)) {
             processClass(configClass, dependencyManager);
         }
     }
 
+    public Set<Class<?>> discoverConfigurationClasses(String basePackage) {
+        return ReflectionUtils.getClassesAnnotatedWith(basePackage, Configuration.class);
+    }
+
     @SuppressWarnings("unchecked")
     public void processClass(Class<?> clazz, DependencyManager dependencyManager) {
         try {
@@ -99,7 +105,12 @@ public class ConfigurationProcessor {
                 (type) -> {
                     try {
                         method.setAccessible(true);
-                        return method.invoke(configProxy, dependencyManager.resolveArguments(method));
+                        Object[] args = dependencyManager.resolveArguments(method);
+
+                        String name = method.getDeclaringClass().getName() + "#" + method.getName();
+                        try (StartupStep ignored = dependencyManager.getStartupProfiler().start(StartupStepType.BEAN_METHOD, name)) {
+                            return method.invoke(configProxy, args);
+                        }
                     } catch (Throwable t) {
                         throw new RuntimeException("Failed to invoke @Bean method: " + method.getName(), t);
                     }
@@ -25,6 +25,7 @@ package tech.guilhermekaua.spigotboot.core.context.dependency.manager;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Supplier;
 import lombok.Getter;
+import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Inject;
@@ -36,6 +37,9 @@ import tech.guilhermekaua.spigotboot.core.context.dependency.DependencyResolveRe
 import tech.guilhermekaua.spigotboot.core.context.dependency.injector.*;
 import tech.guilhermekaua.spigotboot.core.context.dependency.registry.BeanDefinitionRegistry;
 import tech.guilhermekaua.spigotboot.core.context.dependency.registry.BeanInstanceRegistry;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupProfiler;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStep;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStepType;
 import tech.guilhermekaua.spigotboot.core.exceptions.MultipleConstructorException;
 import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
 import tech.guilhermekaua.spigotboot.core.utils.CollectionTypeUtils;
@@ -61,6 +65,17 @@ public class DependencyManager {
 
     private final BeanNamingDefiner beanNamingDefiner = new DefaultBeanNamingDefiner();
 
+    @Getter
+    private StartupProfiler startupProfiler = StartupProfiler.disabled();
+
+    /**
+     * Whether registrations are checked for circular dependencies. Turned off while restoring a startup
+     * snapshot, whose bean graph was already checked when the snapshot was recorded.
+     */
+    @Getter
+    @Setter
+    private boolean circularDependencyDetection = true;
+
     public DependencyManager() {
         this(new BeanDefinitionRegistry(), new BeanInstanceRegistry(), new BeanProxyDeciderResolver(), new DefaultCustomInjectorRegistry());
     }
@@ -94,6 +109,13 @@ public class DependencyManager {
         customInjectorRegistry.register(injector);
     }
 
+    /**
+     * Sets the profiler that records bean instantiation, constructor and {@code @Bean} method times.
+     */
+    public void setStartupProfiler(@NotNull StartupProfiler startupProfiler) {
+        this.startupProfiler = Objects.requireNonNull(startupProfiler, "startupProfiler cannot be null.");
+    }
+
     public <T> T resolveDependency(@NotNull Class<T> clazz, @Nullable String qualifier) {
         return resolveDependency((Type) clazz, qualifier);
     }
@@ -305,7 +327,9 @@ public class DependencyManager {
             Preconditions.checkArgument(!(dependencyClass.isInterface() && resolver == null),
                     "You cannot register an interface without a resolver. Use DependencyResolveResolver to provide an implementation.");
 
-            BeanUtils.detectCircularDependencies(dependencyClass, beanDefinitionRegistry.asMapView());
+            if (circularDependencyDetection) {
+                BeanUtils.detectCircularDependencies(dependencyClass, beanDefinitionRegistry.asMapView());
+            }
 
             String resolvedQualifier = beanNamingDefiner.defineQualifier(dependencyClass, instance, resolver, qualifier);
 
@@ -353,12 +377,14 @@ public class DependencyManager {
         }
 
         Object instance;
-        if (definition.getResolver() != null) {
-            @SuppressWarnings("unchecked")
-            DependencyResolveResolver<T> resolver = (DependencyResolveResolver<T>) definition.getResolver();
-            instance = resolver.resolve(requestedType);
-        } else {
-            instance = createInstance(definition);
+        try (StartupStep ignored = startupProfiler.start(StartupStepType.BEAN, definition.identifier())) {
+            if (definition.getResolver() != null) {
+                @SuppressWarnings("unchecked")
+                DependencyResolveResolver<T> resolver = (DependencyResolveResolver<T>) definition.getResolver();
+                instance = resolver.resolve(requestedType);
+            } else {
+                instance = createInstance(definition);
+            }
         }
 
         if (instance == null) {
@@ -410,19 +436,26 @@ public class DependencyManager {
                 throw new IllegalStateException("Cannot proxy final class: " + type.getName());
             }
 
-            Object proxy = ComponentProxy.createProxy(
-                    rawType,
-                    null,
-                    ctor.getParameterTypes(),
-                    ctorArgs
-            );
+            Object proxy;
+            try (StartupStep ignored = startupProfiler.start(StartupStepType.CONSTRUCTOR, type.getName())) {
+                proxy = ComponentProxy.createProxy(
+                        rawType,
+                        null,
+                        ctor.getParameterTypes(),
+                        ctorArgs,
+                        this
+                );
+            }
 
             injectDependencies(rawType, proxy);
             return proxy;
         }
 
         ctor.setAccessible(true);
-        Object instance = ctor.newInstance(ctorArgs);
+        Object instance;
+        try (StartupStep ignored = startupProfiler.start(StartupStepType.CONSTRUCTOR, type.getName())) {
+            instance = ctor.newInstance(ctorArgs);
+        }
         injectDependencies(rawType, instance);
         return instance;
     }
@@ -14,12 +14,24 @@ import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyM
 import tech.guilhermekaua.spigotboot.core.context.dependency.registry.BeanDefinitionRegistry;
 import tech.guilhermekaua.spigotboot.core.context.lifecycle.listeners.BeanDefinitionsReadyListener;
 import tech.guilhermekaua.spigotboot.core.context.lifecycle.listeners.ContextReadyListener;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupProfiler;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupReport;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStep;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStepType;
 import tech.guilhermekaua.spigotboot.core.context.registration.BeanRegistrar;
 import tech.guilhermekaua.spigotboot.core.context.registration.DefaultBeanRegistrar;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.PackageScan;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.PackageScanCache;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.StartupSnapshot;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.StartupSnapshotStore;
 import tech.guilhermekaua.spigotboot.core.module.Module;
 import tech.guilhermekaua.spigotboot.core.module.ModuleRegistry;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
 import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,13 +41,19 @@ public class ContextLifecycle {
     private final DependencyManager dependencyManager;
     private final List<Class<? extends Module>> modulesToLoad;
     private final BeanRegistrar beanRegistrar;
+    private final StartupProfiler startupProfiler = StartupProfiler.fromSystemProperties();
 
     private ContextPhase currentPhase = ContextPhase.REGISTER_CORE;
+    private StartupReport startupReport;
+    private StartupSnapshotStore snapshotStore;
+    private final List<PackageScan> packageScans = new ArrayList<>();
+    private boolean restoredFromSnapshot;
 
     public ContextLifecycle(@NotNull Context context, @NotNull DependencyManager dependencyManager, @NotNull List<Class<? extends Module>> modulesToLoad) {
         this.context = context;
         this.dependencyManager = dependencyManager;
         this.modulesToLoad = modulesToLoad;
+        dependencyManager.setStartupProfiler(startupProfiler);
 
         beanRegistrar = new DefaultBeanRegistrar(dependencyManager, () -> {
             if (currentPhase.ordinal() >= ContextPhase.INSTANTIATE.ordinal()) {
@@ -47,16 +65,51 @@ public class ContextLifecycle {
     }
 
     public void initialize() {
+        // Reflections also finds classes through the context class loader, which is how it sees the plugin's
+        // classes when the framework is loaded by the host plugin rather than shaded into the plugin
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(ProxyUtils.getRealClass(context.getPlugin()).getClassLoader());
         try {
             runPhase(ContextPhase.REGISTER_CORE, this::registerCoreBeans);
             runPhase(ContextPhase.SCAN, this::scanPackages);
             runPhase(ContextPhase.MODULES, this::initializeModules);
             runPhase(ContextPhase.DEFINITIONS_READY, this::notifyBeanDefinitionsReady);
+            saveStartupSnapshot();
             runPhase(ContextPhase.INSTANTIATE, this::instantiateAllBeans);
             runPhase(ContextPhase.READY, this::notifyContextReady);
             currentPhase = ContextPhase.RUNNING;
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize context", e);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+            // also reported when startup fails, since a timeout is often what makes it fail
+            finishStartupProfiling();
+        }
+    }
+
+    private void finishStartupProfiling() {
+        boolean enabled = startupProfiler.isEnabled();
+        startupReport = startupProfiler.finish();
+        dependencyManager.setStartupProfiler(StartupProfiler.disabled());
+        if (!enabled) {
+            return;
+        }
+
+        Plugin plugin = context.getPlugin();
+        plugin.getLogger().info(startupReport.format(25));
+
+        String traceDirectory = System.getProperty(StartupProfiler.TRACE_PROPERTY);
+        if (traceDirectory == null || traceDirectory.isEmpty()) {
+            return;
+        }
+
+        File traceFile = new File(traceDirectory, plugin.getName() + "-startup-trace.json");
+        try {
+            startupReport.writeChromeTrace(traceFile.toPath(), plugin.getName());
+            plugin.getLogger().info("Startup trace written to " + traceFile.getAbsolutePath());
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write startup trace to " + traceFile.getAbsolutePath() + ": " + e.getMessage());
         }
     }
 
@@ -75,23 +128,98 @@ public class ContextLifecycle {
     }
 
     private void scanPackages() {
-        Set<String> packagesToScan = new LinkedHashSet<>();
-        packagesToScan.add(SpigotBoot.class.getPackage().getName());
-        packagesToScan.add(ProxyUtils.getRealClass(context.getPlugin()).getPackage().getName());
+        Class<?> pluginClass = ProxyUtils.getRealClass(context.getPlugin());
+
+        // each package is scanned in the class loader of the classes that brought it in
+        Map<String, ClassLoader> packagesToScan = new LinkedHashMap<>();
+        packagesToScan.putIfAbsent(SpigotBoot.class.getPackage().getName(), SpigotBoot.class.getClassLoader());
+        packagesToScan.putIfAbsent(pluginClass.getPackage().getName(), pluginClass.getClassLoader());
 
         for (Class<? extends Module> moduleClass : modulesToLoad) {
-            packagesToScan.add(moduleClass.getPackage().getName());
+            packagesToScan.putIfAbsent(moduleClass.getPackage().getName(), moduleClass.getClassLoader());
         }
 
         ComponentRegistry componentRegistry = dependencyManager.resolveDependency(ComponentRegistry.class, null, ComponentRegistry::new);
         ConfigurationProcessor configurationProcessor = dependencyManager.resolveDependency(ConfigurationProcessor.class, null, ConfigurationProcessor::new);
         MethodHandlerProcessor methodHandlerProcessor = dependencyManager.resolveDependency(MethodHandlerProcessor.class, null, MethodHandlerProcessor::new);
 
-        for (String basePackage : packagesToScan) {
-            componentRegistry.registerComponents(basePackage, dependencyManager);
-            configurationProcessor.processFromPackage(basePackage, dependencyManager);
-            MethodHandlerRegistry.registerAll(methodHandlerProcessor.processFromPackage(basePackage, dependencyManager));
+        List<Class<?>> codeSources = new ArrayList<>(modulesToLoad);
+        codeSources.add(pluginClass);
+        codeSources.add(SpigotBoot.class);
+
+        snapshotStore = StartupSnapshotStore.create(context.getPlugin(), new ArrayList<>(packagesToScan.keySet()), codeSources);
+        StartupSnapshot snapshot = snapshotStore.load();
+        restoredFromSnapshot = snapshot != null;
+
+        // the graph of a snapshot was checked for cycles when it was recorded, with the same classes
+        dependencyManager.setCircularDependencyDetection(!restoredFromSnapshot);
+        try {
+            for (Map.Entry<String, ClassLoader> entry : packagesToScan.entrySet()) {
+                String basePackage = entry.getKey();
+                try (StartupStep ignored = startupProfiler.start(StartupStepType.PACKAGE_SCAN, basePackage)) {
+                    PackageScan scan = restoredFromSnapshot ?
+                            snapshot.getScan(basePackage) :
+                            scanPackage(basePackage, entry.getValue(), componentRegistry, configurationProcessor, methodHandlerProcessor);
+                    packageScans.add(scan);
+
+                    componentRegistry.registerComponentsAnnotations(scan.getComponentsAnnotations());
+                    componentRegistry.registerComponents(scan.getComponentsClasses(), dependencyManager);
+                    for (Class<?> configurationClass : scan.getConfigurationClasses()) {
+                        configurationProcessor.processClass(configurationClass, dependencyManager);
+                    }
+                }
+            }
+        } finally {
+            dependencyManager.setCircularDependencyDetection(true);
+        }
+
+        // method handlers are resolved eagerly, so only process them once every package has registered
+        // its definitions; otherwise their dependencies could miss customizers declared by the plugin
+        for (PackageScan scan : packageScans) {
+            try (StartupStep ignored = startupProfiler.start(StartupStepType.PACKAGE_SCAN, scan.getBasePackage() + " (method handlers)")) {
+                MethodHandlerRegistry.registerAll(dependencyManager, methodHandlerProcessor.processClasses(scan.getMethodHandlerClasses(), dependencyManager));
+            }
+        }
+    }
+
+    private PackageScan scanPackage(String basePackage,
+                                    ClassLoader classLoader,
+                                    ComponentRegistry componentRegistry,
+                                    ConfigurationProcessor configurationProcessor,
+                                    MethodHandlerProcessor methodHandlerProcessor) {
+        // with a single copy of the framework, its packages were most likely scanned by another plugin already
+        boolean shared = SharedRuntime.get().isHosted();
+        Set<Class<? extends Annotation>> knownAnnotations = new HashSet<>(componentRegistry.getComponentsAnnotations());
+        if (shared) {
+            PackageScan cached = PackageScanCache.get(classLoader, basePackage, knownAnnotations);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // stereotypes found here also apply to the component classes of this package
+        Set<Class<? extends Annotation>> componentsAnnotations = componentRegistry.discoverComponentsAnnotations(basePackage);
+        componentRegistry.registerComponentsAnnotations(componentsAnnotations);
+
+        PackageScan scan = new PackageScan(
+                basePackage,
+                componentsAnnotations,
+                componentRegistry.discoverComponentsClasses(basePackage),
+                configurationProcessor.discoverConfigurationClasses(basePackage),
+                methodHandlerProcessor.discoverHandlerClasses(basePackage)
+        );
+        if (shared) {
+            PackageScanCache.put(classLoader, knownAnnotations, scan);
         }
+        return scan;
+    }
+
+    private void saveStartupSnapshot() {
+        if (snapshotStore == null || restoredFromSnapshot) {
+            return;
+        }
+
+        snapshotStore.save(packageScans);
     }
 
     private void initializeModules() {
@@ -124,7 +252,7 @@ public class ContextLifecycle {
         List<BeanDefinitionsReadyListener> listeners = getOrderedListeners(BeanDefinitionsReadyListener.class);
 
         for (BeanDefinitionsReadyListener listener : listeners) {
-            try {
+            try (StartupStep ignored = startupProfiler.start(StartupStepType.LISTENER, ProxyUtils.getRealClass(listener).getName())) {
                 listener.onBeanDefinitionsReady(
                         context,
                         dependencyManager.getBeanDefinitionRegistry(),
@@ -155,7 +283,7 @@ public class ContextLifecycle {
         List<ContextReadyListener> listeners = getOrderedListeners(ContextReadyListener.class);
 
         for (ContextReadyListener listener : listeners) {
-            try {
+            try (StartupStep ignored = startupProfiler.start(StartupStepType.LISTENER, ProxyUtils.getRealClass(listener).getName())) {
                 listener.onContextReady(context);
             } catch (Exception e) {
                 context.getPlugin().getLogger().severe(
@@ -184,7 +312,9 @@ public class ContextLifecycle {
 
     private void runPhase(ContextPhase phase, Runnable action) {
         currentPhase = phase;
-        action.run();
+        try (StartupStep ignored = startupProfiler.start(StartupStepType.PHASE, phase.name())) {
+            action.run();
+        }
     }
 
     public ContextPhase getCurrentPhase() {
@@ -194,5 +324,12 @@ public class ContextLifecycle {
     public BeanRegistrar getBeanRegistrar() {
         return beanRegistrar;
     }
+
+    /**
+     * @return the startup timings, empty unless profiling was enabled, or null before initialization ends
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
 }
 
@@ -1,7 +1,11 @@
 package tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy;
 
 import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.Ordered;
 
-public interface ContextPreDestroyProcessor {
+/**
+ * Called when the context is destroyed, in {@link Ordered#getOrder()} order (lower values first).
+ */
+public interface ContextPreDestroyProcessor extends Ordered {
     void onPreDestroy(Context context);
 }
@@ -1,29 +1,120 @@
 package tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.impl;
 
+import lombok.RequiredArgsConstructor;
 import tech.guilhermekaua.spigotboot.core.context.Context;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
 import tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.ContextPreDestroyProcessor;
+import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorMetricsRegistry;
+import tech.guilhermekaua.spigotboot.core.service.metrics.InstrumentedExecutorService;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ServiceShutdownGate;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ShutdownFlushable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Coordinated shutdown of the service layer:
+ * <ol>
+ *   <li>new {@code @Service} calls are rejected;</li>
+ *   <li>every executor is shut down at once and awaited against a single deadline
+ *   ({@link ServiceProperties#getShutdownTimeout()}), so they drain in parallel;</li>
+ *   <li>{@link ShutdownFlushable} beans persist their buffers with the time that is left;</li>
+ *   <li>executors still running are forced down and the tasks they dropped are reported.</li>
+ * </ol>
+ */
 @Component
+@RequiredArgsConstructor
 public class ShutdownExecutorServicesContextPreDestroyProcessor implements ContextPreDestroyProcessor {
+    private final ServiceShutdownGate serviceShutdownGate;
+    private final ServiceProperties serviceProperties;
+    private final ExecutorMetricsRegistry executorMetricsRegistry;
 
     @Override
     public void onPreDestroy(Context context) {
-        for (ExecutorService executorService : context.getBeansByType(ExecutorService.class)) {
-            try {
-                executorService.shutdown();
+        Logger logger = context.getPlugin().getLogger();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(serviceProperties.getShutdownTimeout());
+
+        serviceShutdownGate.close();
+
+        // executors created internally (e.g. the priority lanes) are only known to the metrics registry
+        Set<ExecutorService> executors = Collections.newSetFromMap(new IdentityHashMap<>());
+        executors.addAll(context.getBeansByType(ExecutorService.class));
+        executors.addAll(executorMetricsRegistry.getExecutors());
+        for (ExecutorService executorService : executors) {
+            executorService.shutdown();
+        }
+
+        boolean interrupted = awaitAll(executors, deadline);
+
+        int unflushed = interrupted ? 0 : flushAll(context, deadline, logger);
+
+        int dropped = 0;
+        for (ExecutorService executorService : executors) {
+            if (executorService.isTerminated()) {
+                continue;
+            }
+
+            int pending = executorService.shutdownNow().size();
+            dropped += pending;
+            logger.warning("Executor " + describe(executorService) + " did not drain in time, dropped "
+                    + pending + " queued task(s) and interrupted the running ones.");
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
 
-                if (!executorService.awaitTermination(3, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (dropped > 0 || unflushed > 0) {
+            logger.warning("Service shutdown finished in " + elapsed + "ms with " + dropped
+                    + " dropped task(s) and " + unflushed + " unflushed entr(ies).");
+        } else {
+            logger.fine("Service shutdown drained " + executors.size() + " executor(s) in " + elapsed + "ms.");
+        }
+    }
+
+    private boolean awaitAll(Set<ExecutorService> executors, long deadline) {
+        for (ExecutorService executorService : executors) {
+            try {
+                executorService.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
             } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                executorService.shutdownNow();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int flushAll(Context context, long deadline, Logger logger) {
+        List<ShutdownFlushable> flushables = new ArrayList<>(context.getBeansByType(ShutdownFlushable.class));
+        flushables.sort(Comparator.comparingInt(ShutdownFlushable::getOrder));
+
+        int unflushed = 0;
+        for (ShutdownFlushable flushable : flushables) {
+            try {
+                // flushing gets at least a moment even if the executors used up the whole deadline
+                long remaining = Math.max(deadline - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(500));
+                unflushed += flushable.flush(remaining, TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "Failed to flush " + flushable.getClass().getName() + " on shutdown", e);
             }
         }
+        return unflushed;
     }
 
-}
\ No newline at end of file
+    private static String describe(ExecutorService executorService) {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getName();
+        }
+        return executorService.getClass().getSimpleName();
+    }
+}
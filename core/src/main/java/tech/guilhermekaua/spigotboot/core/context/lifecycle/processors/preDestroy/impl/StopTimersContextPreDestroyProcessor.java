@@ -0,0 +1,30 @@
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.impl;
+
+import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.ContextPreDestroyProcessor;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+
+@Component
+public class StopTimersContextPreDestroyProcessor implements ContextPreDestroyProcessor {
+
+    @Override
+    public void onPreDestroy(Context context) {
+        for (HashedWheelTimer timer : context.getBeansByType(HashedWheelTimer.class)) {
+            // a timer shared with other plugins keeps running until its last holder releases it
+            if (!SharedRuntime.get().release(timer)) {
+                timer.stop();
+            }
+        }
+    }
+
+    /**
+     * Runs after the executors drained, since in-flight calls still rely on the timers for timeouts and backoff.
+     */
+    @Override
+    public int getOrder() {
+        return 100;
+    }
+
+}
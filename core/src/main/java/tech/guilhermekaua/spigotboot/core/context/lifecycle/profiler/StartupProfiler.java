@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the wall and CPU time of startup steps: lifecycle phases, package scans, module initialization,
+ * bean instantiation and listener callbacks. Steps nest per thread, so every timing also has a self time
+ * that leaves out the steps started inside it, e.g. the dependencies created while resolving a bean.
+ * <p>
+ * Profiling is off unless the server is started with {@code -Dspigotboot.startup.profile=true}, which logs
+ * a report once the context is ready, or {@code -Dspigotboot.startup.trace=<directory>}, which also writes
+ * a Chrome trace per plugin (open it in {@code chrome://tracing} or Perfetto). While disabled,
+ * {@link #start} returns a shared no-op step.
+ */
+public class StartupProfiler {
+    public static final String PROFILE_PROPERTY = "spigotboot.startup.profile";
+    public static final String TRACE_PROPERTY = "spigotboot.startup.trace";
+
+    private static final StartupProfiler DISABLED = new StartupProfiler(false);
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported;
+    private final long originNanos = System.nanoTime();
+    private final List<StartupTiming> timings = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<Deque<StartupStep>> steps = new ThreadLocal<>();
+    private volatile boolean enabled;
+
+    public StartupProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.cpuTimeSupported = enabled && threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+    }
+
+    public static @NotNull StartupProfiler disabled() {
+        return DISABLED;
+    }
+
+    public static @NotNull StartupProfiler fromSystemProperties() {
+        boolean enabled = Boolean.getBoolean(PROFILE_PROPERTY) || System.getProperty(TRACE_PROPERTY) != null;
+        return enabled ? new StartupProfiler(true) : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public @NotNull StartupStep start(@NotNull StartupStepType type, @NotNull String name) {
+        if (!enabled) {
+            return StartupStep.NOOP;
+        }
+
+        Deque<StartupStep> stack = steps.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            steps.set(stack);
+        }
+
+        StartupStep step = new StartupStep(this, type, name, stack.size(), System.nanoTime(), cpuTime());
+        stack.push(step);
+        return step;
+    }
+
+    void end(StartupStep step) {
+        long wallNanos = System.nanoTime() - step.startNanos;
+        long cpuNanos = cpuTimeSupported ? cpuTime() - step.startCpuNanos : -1;
+
+        Deque<StartupStep> stack = steps.get();
+        if (stack != null) {
+            // steps left open by an exception are dropped along with this one
+            StartupStep top;
+            do {
+                top = stack.poll();
+            } while (top != null && top != step);
+
+            StartupStep parent = stack.peek();
+            if (parent != null) {
+                parent.childNanos += wallNanos;
+            }
+        }
+
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+        timings.add(new StartupTiming(
+                step.type,
+                step.name,
+                thread.getId(),
+                thread.getName(),
+                step.depth,
+                step.startNanos - originNanos,
+                wallNanos,
+                wallNanos - step.childNanos,
+                cpuNanos
+        ));
+    }
+
+    /**
+     * Stops recording and returns what was recorded so far. Steps that are still running are not included.
+     */
+    public @NotNull StartupReport finish() {
+        enabled = false;
+        steps.remove();
+
+        synchronized (timings) {
+            return new StartupReport(new ArrayList<>(timings));
+        }
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+}
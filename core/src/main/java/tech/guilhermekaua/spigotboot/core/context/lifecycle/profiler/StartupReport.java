@@ -0,0 +1,200 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The timings recorded by a {@link StartupProfiler}, as a text report sorted by self time or as a
+ * Chrome trace-event file.
+ */
+public class StartupReport {
+    private final List<StartupTiming> timings;
+
+    public StartupReport(@NotNull List<StartupTiming> timings) {
+        this.timings = Collections.unmodifiableList(timings);
+    }
+
+    /**
+     * @return every timing, in the order the steps ended
+     */
+    public @NotNull List<StartupTiming> getTimings() {
+        return timings;
+    }
+
+    public @NotNull List<StartupTiming> getTimings(@NotNull StartupStepType type) {
+        return timings.stream()
+                .filter(timing -> timing.getType() == type)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the wall time of all lifecycle phases
+     */
+    public long getTotalNanos() {
+        return getTimings(StartupStepType.PHASE).stream().mapToLong(StartupTiming::getWallNanos).sum();
+    }
+
+    /**
+     * @return the {@code limit} steps with the highest self time
+     */
+    public @NotNull List<StartupTiming> getSlowest(int limit) {
+        return timings.stream()
+                .sorted(Comparator.comparingLong(StartupTiming::getSelfNanos).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Formats the phase durations followed by the {@code limit} slowest steps.
+     */
+    public @NotNull String format(int limit) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Startup took %.1f ms%n", millis(getTotalNanos())));
+
+        for (StartupTiming phase : getTimings(StartupStepType.PHASE)) {
+            report.append(String.format("  %-18s %10.1f ms%s%n", phase.getName(), millis(phase.getWallNanos()), cpu(phase)));
+        }
+
+        report.append(String.format("Slowest steps (self / total):%n"));
+        List<StartupTiming> slowest = timings.stream()
+                .filter(timing -> timing.getType() != StartupStepType.PHASE)
+                .sorted(Comparator.comparingLong(StartupTiming::getSelfNanos).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+        for (StartupTiming timing : slowest) {
+            report.append(String.format("  %10.1f ms %10.1f ms%s  %-12s %s%n",
+                    millis(timing.getSelfNanos()),
+                    millis(timing.getWallNanos()),
+                    cpu(timing),
+                    timing.getType().name().toLowerCase(),
+                    timing.getName()));
+        }
+
+        return report.toString();
+    }
+
+    public void writeChromeTrace(@NotNull Path file, @NotNull String processName) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeChromeTrace(writer, processName);
+        }
+    }
+
+    /**
+     * Writes the timings as complete ("X") events of the Chrome trace-event format, one track per thread.
+     */
+    public void writeChromeTrace(@NotNull Writer writer, @NotNull String processName) throws IOException {
+        Map<Long, String> threads = new LinkedHashMap<>();
+        List<String> events = new ArrayList<>(timings.size() + 4);
+
+        events.add("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"args\":{\"name\":" + quote(processName) + "}}");
+        for (StartupTiming timing : timings) {
+            threads.putIfAbsent(timing.getThreadId(), timing.getThreadName());
+        }
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            events.add("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey()
+                    + ",\"args\":{\"name\":" + quote(thread.getValue()) + "}}");
+        }
+
+        // parents end after their children, so sort by start to keep viewers from misplacing nested events
+        List<StartupTiming> sorted = new ArrayList<>(timings);
+        sorted.sort(Comparator.comparingLong(StartupTiming::getStartNanos).thenComparingInt(StartupTiming::getDepth));
+        for (StartupTiming timing : sorted) {
+            events.add(String.format(Locale.ROOT,
+                    "{\"name\":%s,\"cat\":\"%s\",\"ph\":\"X\",\"pid\":1,\"tid\":%d,\"ts\":%.3f,\"dur\":%.3f,\"args\":{\"selfMs\":%.3f,\"cpuMs\":%.3f}}",
+                    quote(timing.getName()),
+                    timing.getType().name().toLowerCase(),
+                    timing.getThreadId(),
+                    timing.getStartNanos() / 1_000.0,
+                    timing.getWallNanos() / 1_000.0,
+                    millis(timing.getSelfNanos()),
+                    timing.getCpuNanos() < 0 ? -1.0 : millis(timing.getCpuNanos())
+            ));
+        }
+
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        for (int i = 0; i < events.size(); i++) {
+            writer.write(events.get(i));
+            writer.write(i + 1 < events.size() ? ",\n" : "\n");
+        }
+        writer.write("]}\n");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String cpu(StartupTiming timing) {
+        return timing.getCpuNanos() < 0 ? "" : String.format(" (%.1f ms cpu)", millis(timing.getCpuNanos()));
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
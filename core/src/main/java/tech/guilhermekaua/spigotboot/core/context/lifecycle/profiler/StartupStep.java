@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler;
+
+/**
+ * A running step of a {@link StartupProfiler}, ended by {@link #close()}:
+ * <pre>{@code
+ * try (StartupStep ignored = profiler.start(StartupStepType.MODULE, moduleClass.getName())) {
+ *     module.onInitialize(context);
+ * }
+ * }</pre>
+ */
+public final class StartupStep implements AutoCloseable {
+    static final StartupStep NOOP = new StartupStep(null, null, null, 0, 0, 0);
+
+    private final StartupProfiler profiler;
+    final StartupStepType type;
+    final String name;
+    final int depth;
+    final long startNanos;
+    final long startCpuNanos;
+    long childNanos;
+    private boolean ended;
+
+    StartupStep(StartupProfiler profiler, StartupStepType type, String name, int depth, long startNanos, long startCpuNanos) {
+        this.profiler = profiler;
+        this.type = type;
+        this.name = name;
+        this.depth = depth;
+        this.startNanos = startNanos;
+        this.startCpuNanos = startCpuNanos;
+    }
+
+    @Override
+    public void close() {
+        if (profiler == null || ended) {
+            return;
+        }
+
+        ended = true;
+        profiler.end(this);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler;
+
+/**
+ * What a {@link StartupStep} measures.
+ */
+public enum StartupStepType {
+    /**
+     * A {@link tech.guilhermekaua.spigotboot.core.context.lifecycle.ContextPhase}.
+     */
+    PHASE,
+    /**
+     * Component and configuration scanning of one base package.
+     */
+    PACKAGE_SCAN,
+    /**
+     * {@code Module.onInitialize} of one module.
+     */
+    MODULE,
+    /**
+     * Creation of one bean, including the dependencies it pulls in.
+     */
+    BEAN,
+    /**
+     * The constructor call of a bean, without the resolution of its arguments.
+     */
+    CONSTRUCTOR,
+    /**
+     * The {@code @Bean} method call of a bean, without the resolution of its arguments.
+     */
+    BEAN_METHOD,
+    /**
+     * One lifecycle listener callback.
+     */
+    LISTENER
+}
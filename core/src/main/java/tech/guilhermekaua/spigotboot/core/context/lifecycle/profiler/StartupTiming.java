@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A finished {@link StartupStep}. Times are in nanoseconds; {@code startNanos} is relative to the start of
+ * the profiler.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class StartupTiming {
+    private final StartupStepType type;
+    private final String name;
+    private final long threadId;
+    private final String threadName;
+    private final int depth;
+    private final long startNanos;
+    private final long wallNanos;
+    /**
+     * Wall time minus the wall time of the steps nested in this one.
+     */
+    private final long selfNanos;
+    /**
+     * CPU time of the thread during the step, or -1 when the JVM does not measure thread CPU time.
+     */
+    private final long cpuNanos;
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scan results shared by the contexts running on one copy of the framework, so that the framework and
+ * module packages are scanned once per server rather than once per plugin when the framework runs as the
+ * host plugin. Results are keyed by the class loader the package was scanned in, and by the stereotype
+ * annotations known before the scan, since those decide which classes are components.
+ */
+public final class PackageScanCache {
+    private static final Map<Key, PackageScan> scans = new ConcurrentHashMap<>();
+
+    private PackageScanCache() {
+    }
+
+    public static @Nullable PackageScan get(@NotNull ClassLoader classLoader,
+                                            @NotNull String basePackage,
+                                            @NotNull Collection<Class<? extends Annotation>> knownAnnotations) {
+        return scans.get(new Key(classLoader, basePackage, knownAnnotations));
+    }
+
+    public static void put(@NotNull ClassLoader classLoader,
+                           @NotNull Collection<Class<? extends Annotation>> knownAnnotations,
+                           @NotNull PackageScan scan) {
+        scans.put(new Key(classLoader, scan.getBasePackage(), knownAnnotations), scan);
+    }
+
+    /**
+     * Drops the scans made in {@code classLoader}, once the plugin it belongs to is disabled.
+     */
+    public static void evict(@NotNull ClassLoader classLoader) {
+        scans.keySet().removeIf(key -> key.classLoader == classLoader);
+    }
+
+    public static void clear() {
+        scans.clear();
+    }
+
+    private static final class Key {
+        private final ClassLoader classLoader;
+        private final String basePackage;
+        private final Set<String> knownAnnotations = new TreeSet<>();
+
+        private Key(ClassLoader classLoader, String basePackage, Collection<Class<? extends Annotation>> knownAnnotations) {
+            this.classLoader = classLoader;
+            this.basePackage = basePackage;
+            for (Class<? extends Annotation> annotation : knownAnnotations) {
+                this.knownAnnotations.add(annotation.getName());
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return classLoader == key.classLoader
+                    && basePackage.equals(key.basePackage)
+                    && knownAnnotations.equals(key.knownAnnotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(classLoader), basePackage, knownAnnotations);
+        }
+    }
+}
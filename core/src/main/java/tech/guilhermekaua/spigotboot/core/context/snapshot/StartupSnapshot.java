@@ -0,0 +1,166 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The package scans of a startup, stored by class name so the next startup with the same JARs can
+ * register the same classes without scanning the classpath again.
+ * <p>
+ * Binary layout: magic, format version, key, then per package its name and four class name lists
+ * (stereotype annotations, components, configuration classes, method handlers).
+ */
+public class StartupSnapshot {
+    private static final int MAGIC = 0x53425353;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String key;
+    private final List<PackageScan> scans;
+
+    public StartupSnapshot(@NotNull String key, @NotNull List<PackageScan> scans) {
+        this.key = key;
+        this.scans = Collections.unmodifiableList(new ArrayList<>(scans));
+    }
+
+    /**
+     * @return the hash of the JARs and base packages the snapshot was recorded for
+     */
+    public @NotNull String getKey() {
+        return key;
+    }
+
+    public @NotNull List<PackageScan> getScans() {
+        return scans;
+    }
+
+    public @Nullable PackageScan getScan(@NotNull String basePackage) {
+        for (PackageScan scan : scans) {
+            if (scan.getBasePackage().equals(basePackage)) {
+                return scan;
+            }
+        }
+        return null;
+    }
+
+    public void write(@NotNull OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(key);
+
+        out.writeInt(scans.size());
+        for (PackageScan scan : scans) {
+            out.writeUTF(scan.getBasePackage());
+            writeClasses(out, scan.getComponentsAnnotations());
+            writeClasses(out, scan.getComponentsClasses());
+            writeClasses(out, scan.getConfigurationClasses());
+            writeClasses(out, scan.getMethodHandlerClasses());
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a snapshot, loading its classes through {@code classLoader}.
+     *
+     * @return the snapshot, or null if it was written by another format version or for another key
+     * @throws IOException if the snapshot is corrupt or one of its classes no longer exists
+     */
+    public static @Nullable StartupSnapshot read(@NotNull InputStream inputStream,
+                                                 @NotNull String expectedKey,
+                                                 @NotNull ClassLoader classLoader) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a startup snapshot");
+        }
+        if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(expectedKey)) {
+            return null;
+        }
+
+        int packages = in.readInt();
+        if (packages < 0) {
+            throw new IOException("Corrupt startup snapshot");
+        }
+
+        List<PackageScan> scans = new ArrayList<>(packages);
+        for (int i = 0; i < packages; i++) {
+            String basePackage = in.readUTF();
+            Set<Class<? extends Annotation>> annotations = new LinkedHashSet<>();
+            for (Class<?> annotation : readClasses(in, classLoader)) {
+                if (!annotation.isAnnotation()) {
+                    throw new IOException(annotation.getName() + " is no longer an annotation");
+                }
+                annotations.add(annotation.asSubclass(Annotation.class));
+            }
+
+            scans.add(new PackageScan(
+                    basePackage,
+                    annotations,
+                    readClasses(in, classLoader),
+                    readClasses(in, classLoader),
+                    readClasses(in, classLoader)
+            ));
+        }
+
+        return new StartupSnapshot(expectedKey, scans);
+    }
+
+    private static void writeClasses(DataOutputStream out, Collection<? extends Class<?>> classes) throws IOException {
+        out.writeInt(classes.size());
+        for (Class<?> clazz : classes) {
+            out.writeUTF(clazz.getName());
+        }
+    }
+
+    private static Set<Class<?>> readClasses(DataInputStream in, ClassLoader classLoader) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Corrupt startup snapshot");
+        }
+
+        Set<Class<?>> classes = new LinkedHashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String className = in.readUTF();
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IOException("Cannot load snapshot class " + className, e);
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.context.snapshot;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the {@link StartupSnapshot} of a plugin in its data folder, keyed by a SHA-256 hash of the JARs
+ * that hold the plugin, the framework and the loaded modules, plus the scanned base packages. Any change
+ * to those JARs makes the stored snapshot stale, so the next startup scans again and records a new one.
+ * <p>
+ * Snapshots are only used when all those classes come from JAR files (not from class directories, as in
+ * tests and IDE runs) and can be turned off with {@code -Dspigotboot.startup.snapshot=false}.
+ */
+public class StartupSnapshotStore {
+    public static final String SNAPSHOT_PROPERTY = "spigotboot.startup.snapshot";
+    private static final String FILE_NAME = ".startup-snapshot";
+
+    private final File file;
+    private final ClassLoader classLoader;
+    private final Logger logger;
+    private final String key;
+
+    public StartupSnapshotStore(@NotNull File file, @NotNull ClassLoader classLoader, @NotNull Logger logger, @Nullable String key) {
+        this.file = file;
+        this.classLoader = classLoader;
+        this.logger = logger;
+        this.key = key;
+    }
+
+    /**
+     * @param classes classes whose JARs make up the key, e.g. the plugin main class and the module classes
+     */
+    public static @NotNull StartupSnapshotStore create(@NotNull Plugin plugin,
+                                                       @NotNull List<String> basePackages,
+                                                       @NotNull Collection<Class<?>> classes) {
+        String key = null;
+        if (!"false".equalsIgnoreCase(System.getProperty(SNAPSHOT_PROPERTY))) {
+            try {
+                key = computeKey(basePackages, classes);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to hash plugin JARs, startup snapshot disabled", e);
+            }
+        }
+
+        return new StartupSnapshotStore(
+                new File(plugin.getDataFolder(), FILE_NAME),
+                plugin.getClass().getClassLoader(),
+                plugin.getLogger(),
+                key
+        );
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    /**
+     * @return the stored snapshot, or null if there is none or it was recorded for other JARs
+     */
+    public @Nullable StartupSnapshot load() {
+        if (key == null || !file.isFile()) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return StartupSnapshot.read(in, key, classLoader);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable startup snapshot " + file, e);
+            return null;
+        }
+    }
+
+    public void save(@NotNull List<PackageScan> scans) {
+        if (key == null) {
+            return;
+        }
+
+        Path target = file.toPath();
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), FILE_NAME, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    new StartupSnapshot(key, scans).write(out);
+                }
+                move(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write startup snapshot " + file, e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @return the key of the given JARs and packages, or null if a class does not come from a JAR file
+     */
+    static @Nullable String computeKey(@NotNull List<String> basePackages, @NotNull Collection<Class<?>> classes) throws IOException {
+        Set<File> jars = new TreeSet<>();
+        for (Class<?> clazz : classes) {
+            File jar = getJarFile(clazz);
+            if (jar == null) {
+                return null;
+            }
+            jars.add(jar);
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        for (File jar : jars) {
+            try (InputStream in = Files.newInputStream(jar.toPath())) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        for (String basePackage : basePackages) {
+            digest.update(basePackage.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        StringBuilder key = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static @Nullable File getJarFile(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        URL location = codeSource != null ? codeSource.getLocation() : null;
+        if (location == null || !"file".equals(location.getProtocol())) {
+            return null;
+        }
+
+        try {
+            File file = new File(location.toURI());
+            return file.isFile() && file.getName().endsWith(".jar") ? file.getAbsoluteFile() : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package tech.guilhermekaua.spigotboot.core.exceptions;
+
+public class CircuitBreakerOpenException extends RuntimeException {
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
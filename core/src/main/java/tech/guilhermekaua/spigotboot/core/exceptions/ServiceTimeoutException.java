@@ -0,0 +1,7 @@
+package tech.guilhermekaua.spigotboot.core.exceptions;
+
+public class ServiceTimeoutException extends RuntimeException {
+    public ServiceTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.integrations.bukkit.command;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.utils.ColorUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code /spigotboot <subcommand>} diagnostics command, dispatching to {@link DiagnosticsSubcommand}s.
+ */
+public class SpigotBootCommand extends Command {
+    public static final String NAME = "spigotboot";
+    public static final String PERMISSION = "spigotboot.diagnostics";
+
+    private final Map<String, DiagnosticsSubcommand> subcommands = new TreeMap<>();
+
+    public SpigotBootCommand(@NotNull List<DiagnosticsSubcommand> subcommands) {
+        super(NAME, "SpigotBoot diagnostics", "/" + NAME + " <subcommand>", Collections.emptyList());
+        setPermission(PERMISSION);
+
+        for (DiagnosticsSubcommand subcommand : subcommands) {
+            this.subcommands.put(subcommand.getName().toLowerCase(Locale.ROOT), subcommand);
+        }
+    }
+
+    @Override
+    public boolean execute(@NotNull CommandSender sender, @NotNull String label, @NotNull String[] args) {
+        if (!testPermission(sender)) {
+            return true;
+        }
+
+        DiagnosticsSubcommand subcommand = args.length > 0 ? subcommands.get(args[0].toLowerCase(Locale.ROOT)) : null;
+        if (subcommand == null) {
+            sender.sendMessage(ColorUtil.colored("&6Usage: /" + label + " <subcommand>"));
+            for (DiagnosticsSubcommand available : subcommands.values()) {
+                sender.sendMessage(ColorUtil.colored("&e  " + available.getName() + " &7- " + available.getDescription()));
+            }
+            return true;
+        }
+
+        subcommand.execute(sender, Arrays.copyOfRange(args, 1, args.length));
+        return true;
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String alias, @NotNull String[] args) {
+        if (!testPermissionSilent(sender)) {
+            return Collections.emptyList();
+        }
+
+        if (args.length <= 1) {
+            String prefix = args.length == 0 ? "" : args[0].toLowerCase(Locale.ROOT);
+            List<String> names = new ArrayList<>();
+            for (String name : subcommands.keySet()) {
+                if (name.startsWith(prefix)) {
+                    names.add(name);
+                }
+            }
+            return names;
+        }
+
+        DiagnosticsSubcommand subcommand = subcommands.get(args[0].toLowerCase(Locale.ROOT));
+        if (subcommand == null) {
+            return Collections.emptyList();
+        }
+
+        return subcommand.tabComplete(sender, Arrays.copyOfRange(args, 1, args.length));
+    }
+}
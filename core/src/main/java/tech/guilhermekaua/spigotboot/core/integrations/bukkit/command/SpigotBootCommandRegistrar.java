@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.integrations.bukkit.command;
+
+import org.bukkit.Server;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandMap;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.listeners.ContextReadyListener;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registers {@code /spigotboot} for the context's plugin. When several plugins use the framework the
+ * first one owns the plain label and the others stay reachable through {@code /<plugin>:spigotboot}.
+ * <p>
+ * The command map is not part of the Spigot API, so it is looked up reflectively; the command is skipped
+ * when the server does not expose it.
+ */
+@Component
+public class SpigotBootCommandRegistrar implements ContextReadyListener {
+
+    @Override
+    public void onContextReady(@NotNull Context context) {
+        List<DiagnosticsSubcommand> subcommands = context.getBeansByType(DiagnosticsSubcommand.class);
+        if (subcommands.isEmpty()) {
+            return;
+        }
+
+        Plugin plugin = context.getPlugin();
+        CommandMap commandMap = findCommandMap(plugin.getServer());
+        if (commandMap == null) {
+            plugin.getLogger().warning("Command map is not available on this server, /" + SpigotBootCommand.NAME + " is disabled");
+            return;
+        }
+        String fallbackPrefix = plugin.getName().toLowerCase(Locale.ROOT);
+
+        SpigotBootCommand command = new SpigotBootCommand(subcommands);
+        commandMap.register(fallbackPrefix, command);
+
+        context.registerShutdownHook(() -> {
+            command.unregister(commandMap);
+
+            Map<String, Command> knownCommands = findKnownCommands(commandMap);
+            if (knownCommands != null) {
+                knownCommands.remove(fallbackPrefix + ":" + SpigotBootCommand.NAME, command);
+                knownCommands.remove(SpigotBootCommand.NAME, command);
+            }
+        });
+    }
+
+    /**
+     * {@code Server#getCommandMap} only exists on Paper; CraftBukkit has the same public method on its
+     * server class, and every implementation keeps the map in {@code SimplePluginManager.commandMap}.
+     */
+    private static @Nullable CommandMap findCommandMap(Server server) {
+        try {
+            Method method = server.getClass().getMethod("getCommandMap");
+            Object commandMap = method.invoke(server);
+            if (commandMap instanceof CommandMap) {
+                return (CommandMap) commandMap;
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // fall back to the plugin manager's field
+        }
+
+        Object commandMap = readField(server.getPluginManager(), "commandMap");
+        return commandMap instanceof CommandMap ? (CommandMap) commandMap : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable Map<String, Command> findKnownCommands(CommandMap commandMap) {
+        try {
+            Object knownCommands = commandMap.getClass().getMethod("getKnownCommands").invoke(commandMap);
+            if (knownCommands instanceof Map) {
+                return (Map<String, Command>) knownCommands;
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // SimpleCommandMap keeps them in a protected field on Spigot
+        }
+
+        Object knownCommands = readField(commandMap, "knownCommands");
+        return knownCommands instanceof Map ? (Map<String, Command>) knownCommands : null;
+    }
+
+    private static @Nullable Object readField(Object target, String name) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(target);
+            } catch (NoSuchFieldException ignored) {
+                // declared by a superclass
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.integrations.bukkit.command.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.integrations.bukkit.command.DiagnosticsSubcommand;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorMetricsRegistry;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorStats;
+import tech.guilhermekaua.spigotboot.core.service.metrics.InstrumentedExecutorService;
+import tech.guilhermekaua.spigotboot.core.utils.ColorUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /spigotboot executors [reset]}: prints the statistics of every instrumented executor.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutorsDiagnosticsSubcommand implements DiagnosticsSubcommand {
+    private final ExecutorMetricsRegistry executorMetricsRegistry;
+
+    @Override
+    public @NotNull String getName() {
+        return "executors";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Shows queue, latency and saturation statistics of the service executors";
+    }
+
+    @Override
+    public void execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        List<ExecutorStats> stats = executorMetricsRegistry.getStats();
+        if (stats.isEmpty()) {
+            sender.sendMessage(ColorUtil.colored("&7No instrumented executors."));
+            return;
+        }
+
+        for (ExecutorStats executor : stats) {
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "&6%s &7active &f%d&7/&f%d &7peak, queued &f%d&7, rate &f%.1f&7/s",
+                    executor.getName(), executor.getActive(), executor.getPeakActive(),
+                    executor.getQueued(), executor.getSubmissionRate())));
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "  &7wait avg &f%.2fms &7max &f%.2fms&7, run avg &f%.2fms &7max &f%.2fms",
+                    millis(executor.getAverageQueueWaitNanos()), millis(executor.getMaxQueueWaitNanos()),
+                    millis(executor.getAverageRunNanos()), millis(executor.getMaxRunNanos()))));
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "  &7submitted &f%d&7, completed &f%d&7, failed &f%d&7, rejected &f%d",
+                    executor.getSubmitted(), executor.getCompleted(), executor.getFailed(), executor.getRejected())));
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            for (InstrumentedExecutorService executor : executorMetricsRegistry.getExecutors()) {
+                executor.resetPeaks();
+            }
+            sender.sendMessage(ColorUtil.colored("&7Peak values were reset."));
+        }
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String[] args) {
+        return args.length == 1 ? Collections.singletonList("reset") : Collections.emptyList();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
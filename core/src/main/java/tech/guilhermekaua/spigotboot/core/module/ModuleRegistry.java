@@ -28,6 +28,9 @@ import tech.guilhermekaua.spigotboot.core.context.Context;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
 import tech.guilhermekaua.spigotboot.core.context.annotations.ConditionalOnClass;
 import tech.guilhermekaua.spigotboot.core.context.component.registry.ComponentRegistry;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupProfiler;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStep;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStepType;
 import tech.guilhermekaua.spigotboot.core.exceptions.ModuleInitializationException;
 
 import java.util.List;
@@ -71,7 +74,10 @@ public class ModuleRegistry {
             );
         }
 
-        module.onInitialize(context);
+        StartupProfiler profiler = context.getDependencyManager().getStartupProfiler();
+        try (StartupStep ignored = profiler.start(StartupStepType.MODULE, moduleClass.getName())) {
+            module.onInitialize(context);
+        }
     }
 
     private boolean verifyModuleDependencies(@NotNull Class<? extends Module> moduleClass) {
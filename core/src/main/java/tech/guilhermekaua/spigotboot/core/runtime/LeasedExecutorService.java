@@ -0,0 +1,214 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One context's view of a shared executor. Its lifecycle methods only apply to the tasks submitted through
+ * it: shutting it down stops accepting tasks and releases the lease, and it terminates once those tasks are
+ * done. {@link #shutdownNow()} cancels this lease's tasks that have not started and interrupts its running
+ * ones, leaving the tasks of the other contexts alone.
+ */
+public class LeasedExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final Runnable onShutdown;
+    private final Object lock = new Object();
+    private final Set<LeasedTask> tasks = new HashSet<>();
+    private int running;
+    private boolean shutdown;
+
+    public LeasedExecutorService(@NotNull ExecutorService delegate, @NotNull Runnable onShutdown) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null.");
+        this.onShutdown = Objects.requireNonNull(onShutdown, "onShutdown cannot be null.");
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        Objects.requireNonNull(command, "command cannot be null.");
+
+        LeasedTask task = new LeasedTask(command);
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor lease has been shut down");
+            }
+            running++;
+            tasks.add(task);
+        }
+
+        try {
+            delegate.execute(task);
+        } catch (RuntimeException e) {
+            if (task.cancel()) {
+                taskFinished(task);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            lock.notifyAll();
+        }
+
+        onShutdown.run();
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        shutdown();
+
+        List<LeasedTask> snapshot;
+        synchronized (lock) {
+            snapshot = new ArrayList<>(tasks);
+        }
+
+        List<Runnable> notStarted = new ArrayList<>();
+        for (LeasedTask task : snapshot) {
+            if (task.cancel()) {
+                if (delegate instanceof ThreadPoolExecutor) {
+                    ((ThreadPoolExecutor) delegate).remove(task);
+                }
+                taskFinished(task);
+                notStarted.add(task.command);
+            }
+        }
+        // only once nothing is left to start, or an interrupted task's worker could pick up a queued one
+        for (LeasedTask task : snapshot) {
+            task.interruptIfRunning();
+        }
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (lock) {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (lock) {
+            return shutdown && running == 0;
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+
+        synchronized (lock) {
+            while (!(shutdown && running == 0)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            return true;
+        }
+    }
+
+    private void taskFinished(LeasedTask task) {
+        synchronized (lock) {
+            tasks.remove(task);
+            if (--running == 0) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * A task of this lease, handed to the shared executor. Once cancelled it does nothing if the shared
+     * executor still gets to it.
+     */
+    private final class LeasedTask implements Runnable {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final Runnable command;
+        private int state = NEW;
+        private Thread runner;
+
+        private LeasedTask(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (state != NEW) {
+                    return;
+                }
+                state = RUNNING;
+                runner = Thread.currentThread();
+            }
+
+            try {
+                command.run();
+            } finally {
+                synchronized (this) {
+                    state = DONE;
+                    runner = null;
+                }
+                taskFinished(this);
+            }
+        }
+
+        /**
+         * @return whether the task had not started, in which case it never will
+         */
+        synchronized boolean cancel() {
+            if (state != NEW) {
+                return false;
+            }
+            state = DONE;
+            return true;
+        }
+
+        synchronized void interruptIfRunning() {
+            if (state == RUNNING) {
+                runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resources shared by every plugin context running on the same copy of the framework.
+ * <p>
+ * A plugin that shades the framework gets its own copy of this class, so nothing is shared and contexts keep
+ * creating their own executors, timers and connection pools. When the framework is installed once, as the
+ * {@code SpigotBoot} host plugin, the host marks the runtime as {@link #isHosted() hosted} and contexts lease
+ * those resources from here instead. Each resource is reference counted: it is closed once the last context
+ * holding it releases it, or when the host is disabled. Beans are never shared, every context keeps its own
+ * {@code DependencyManager}.
+ */
+public final class SharedRuntime {
+    private static final SharedRuntime INSTANCE = new SharedRuntime();
+    private static final Logger LOGGER = Logger.getLogger(SharedRuntime.class.getName());
+
+    private final Map<String, SharedResource<?>> resources = new LinkedHashMap<>();
+    private final Map<Object, SharedResource<?>> resourcesByInstance = new IdentityHashMap<>();
+    private volatile boolean hosted;
+
+    private SharedRuntime() {
+    }
+
+    public static @NotNull SharedRuntime get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return whether the framework is installed as the host plugin, so that its resources may be shared
+     */
+    public boolean isHosted() {
+        return hosted;
+    }
+
+    /**
+     * Called by the host plugin when it loads, before any dependent plugin creates its context.
+     */
+    public void setHosted(boolean hosted) {
+        this.hosted = hosted;
+    }
+
+    /**
+     * Returns the resource registered under {@code key}, creating it with {@code factory} on first use. Every
+     * call must be paired with a {@link #release(Object)} of the returned instance.
+     *
+     * @param closer closes the resource once it is no longer held by any context
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> @NotNull T acquire(@NotNull String key, @NotNull Supplier<T> factory, @NotNull Consumer<? super T> closer) {
+        Objects.requireNonNull(key, "key cannot be null.");
+        Objects.requireNonNull(factory, "factory cannot be null.");
+        Objects.requireNonNull(closer, "closer cannot be null.");
+
+        SharedResource<T> resource = (SharedResource<T>) resources.get(key);
+        if (resource == null) {
+            T instance = Objects.requireNonNull(factory.get(), "factory returned null for " + key);
+            resource = new SharedResource<>(key, instance, closer);
+            resources.put(key, resource);
+            resourcesByInstance.put(instance, resource);
+        }
+
+        resource.references++;
+        return resource.instance;
+    }
+
+    /**
+     * Leases the executor registered under {@code key}. Shutting the lease down only releases it, waiting for
+     * the tasks submitted through it; the shared executor keeps running the tasks of the other contexts.
+     */
+    public @NotNull ExecutorService leaseExecutor(@NotNull String key, @NotNull Supplier<ExecutorService> factory) {
+        ExecutorService executor = acquire(key, factory, ExecutorService::shutdown);
+        return new LeasedExecutorService(executor, () -> release(executor));
+    }
+
+    /**
+     * Releases one reference to a resource returned by {@link #acquire}, closing it if it was the last one.
+     *
+     * @return {@code false} if {@code instance} is not a shared resource, in which case the caller still owns it
+     */
+    public boolean release(@NotNull Object instance) {
+        SharedResource<?> toClose;
+        synchronized (this) {
+            SharedResource<?> resource = resourcesByInstance.get(instance);
+            if (resource == null) {
+                return false;
+            }
+
+            if (--resource.references > 0) {
+                return true;
+            }
+
+            resources.remove(resource.key);
+            resourcesByInstance.remove(instance);
+            toClose = resource;
+        }
+
+        toClose.close();
+        return true;
+    }
+
+    public synchronized boolean isShared(@NotNull Object instance) {
+        return resourcesByInstance.containsKey(instance);
+    }
+
+    /**
+     * @return the number of contexts holding the resource registered under {@code key}
+     */
+    public synchronized int getReferenceCount(@NotNull String key) {
+        SharedResource<?> resource = resources.get(key);
+        return resource != null ? resource.references : 0;
+    }
+
+    /**
+     * @return the references held on each shared resource, keyed by resource key
+     */
+    public synchronized @NotNull Map<String, Integer> getReferenceCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (SharedResource<?> resource : resources.values()) {
+            counts.put(resource.key, resource.references);
+        }
+        return counts;
+    }
+
+    /**
+     * Closes every resource, whatever its references. Called by the host plugin when it is disabled, after
+     * the plugins depending on it.
+     */
+    public void closeAll() {
+        List<SharedResource<?>> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<>(resources.values());
+            resources.clear();
+            resourcesByInstance.clear();
+        }
+
+        for (SharedResource<?> resource : toClose) {
+            if (resource.references > 0) {
+                LOGGER.warning("Closing shared resource " + resource.key + " still held by " + resource.references + " context(s)");
+            }
+            resource.close();
+        }
+    }
+
+    private static final class SharedResource<T> {
+        private final String key;
+        private final T instance;
+        private final Consumer<? super T> closer;
+        private int references;
+
+        private SharedResource(String key, T instance, Consumer<? super T> closer) {
+            this.key = key;
+            this.instance = instance;
+            this.closer = closer;
+        }
+
+        private void close() {
+            try {
+                closer.accept(instance);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to close shared resource " + key, e);
+            }
+        }
+    }
+}
@@ -27,14 +27,36 @@ import tech.guilhermekaua.spigotboot.core.context.annotations.RegisterMethodHand
 import tech.guilhermekaua.spigotboot.core.context.annotations.Service;
 import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.annotations.MethodHandler;
 import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.context.MethodHandlerContext;
+import tech.guilhermekaua.spigotboot.core.exceptions.CircuitBreakerOpenException;
+import tech.guilhermekaua.spigotboot.core.exceptions.ServiceTimeoutException;
 import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+import tech.guilhermekaua.spigotboot.core.service.priority.Prioritized;
+import tech.guilhermekaua.spigotboot.core.service.priority.ServicePriority;
+import tech.guilhermekaua.spigotboot.core.service.resilience.CircuitBreaker;
+import tech.guilhermekaua.spigotboot.core.service.scope.TaskScope;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ServiceShutdownGate;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+import tech.guilhermekaua.spigotboot.core.service.timer.Timeout;
+import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @RegisterMethodHandler
 public class ServiceMethodHandler {
     private final ServiceProperties serviceProperties;
+    private final ServiceShutdownGate serviceShutdownGate;
+    private final Map<Method, MethodSettings> settingsCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
 
     @MethodHandler(
             classAnnotatedWith = Service.class,
@@ -49,18 +71,282 @@ public class ServiceMethodHandler {
             throw new IllegalArgumentException("Service methods must return CompletableFuture");
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                CompletableFuture<?> result = (CompletableFuture<?>) context.proceed().invoke(context.self(), context.args());
+        if (!serviceShutdownGate.isAccepting()) {
+            CompletableFuture<Object> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new RejectedExecutionException(
+                    "Service method " + context.thisMethod().getName() + " called while the context is shutting down"
+            ));
+            return rejected;
+        }
+
+        MethodSettings settings = settingsCache.computeIfAbsent(context.thisMethod(), method -> MethodSettings.of(context));
+        CircuitBreaker circuitBreaker = settings.circuitBreaker ? getCircuitBreaker(context.self()) : null;
+
+        TaskScope scope = TaskScope.current();
+        if (scope != null && scope.isClosed()) {
+            // closed from another thread since, calls are no longer bound to it
+            scope = null;
+        }
+        if (scope != null && scope.hasDeadline()) {
+            settings = settings.withDeadline(System.nanoTime() + scope.remaining(TimeUnit.NANOSECONDS));
+        }
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        if (settings.needsTimer() && serviceProperties.getTimer() == null) {
+            // checked up front, a retry scheduled from a completion callback could not report it
+            result.completeExceptionally(new IllegalStateException(
+                    "ServiceProperties has no timer configured, @Service timeouts and backoff are unavailable."
+            ));
+            return result;
+        }
+        if (scope != null) {
+            scope.attach(result);
+        }
+
+        execute(context, settings, circuitBreaker, result, 0);
+        return result;
+    }
+
+    private void execute(MethodHandlerContext context,
+                         MethodSettings settings,
+                         CircuitBreaker circuitBreaker,
+                         CompletableFuture<Object> result,
+                         int attempt) {
+        if (result.isDone()) {
+            return;
+        }
+
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            complete(result, null, new CircuitBreakerOpenException(
+                    "Circuit breaker is open for service: " + circuitBreaker.getName()
+            ));
+            return;
+        }
+
+        CompletableFuture<Object> attemptFuture = new CompletableFuture<>();
+
+        Future<?> task;
+        try {
+            task = getExecutor().submit(Prioritized.wrap(settings.priority, () -> {
+                try {
+                    attemptFuture.complete(invoke(context));
+                } catch (Throwable t) {
+                    attemptFuture.completeExceptionally(t);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure();
+            }
+            complete(result, null, e);
+            return;
+        }
 
-                if (result == null) {
-                    return null;
+        // cancelling the returned future (directly or through its scope) interrupts the running attempt
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+
+        long attemptTimeout = settings.attemptTimeout();
+        if (attemptTimeout > 0) {
+            Timeout timeout = getTimer().newTimeout(() -> {
+                if (attemptFuture.completeExceptionally(new ServiceTimeoutException(
+                        "Service method " + context.thisMethod().getName() + " timed out after " + attemptTimeout + "ms"
+                ))) {
+                    task.cancel(true);
+                }
+            }, attemptTimeout, TimeUnit.MILLISECONDS);
+
+            attemptFuture.whenComplete((value, error) -> timeout.cancel());
+        }
+
+        attemptFuture.whenComplete((value, error) -> {
+            if (error == null) {
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
                 }
+                complete(result, value, null);
+                return;
+            }
+
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure();
+            }
+
+            long backoff = settings.backoff << Math.min(attempt, 16);
+            if (attempt >= settings.retries || settings.exceedsDeadline(backoff)) {
+                complete(result, null, error);
+                return;
+            }
+
+            if (backoff <= 0) {
+                execute(context, settings, circuitBreaker, result, attempt + 1);
+                return;
+            }
+
+            getTimer().newTimeout(
+                    () -> execute(context, settings, circuitBreaker, result, attempt + 1),
+                    backoff,
+                    TimeUnit.MILLISECONDS
+            );
+        });
+    }
+
+    /**
+     * Completes {@code result} on the service executor when called from the timer's worker (a timed out
+     * attempt or a retry after backoff), so the caller's continuations never run on the timer shared by
+     * every service.
+     */
+    private void complete(CompletableFuture<Object> result, Object value, Throwable error) {
+        Runnable completion = () -> {
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        };
+
+        HashedWheelTimer timer = serviceProperties.getTimer();
+        if (timer == null || !timer.isWorkerThread()) {
+            completion.run();
+            return;
+        }
 
-                return result.join();
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to invoke service method: " + context.thisMethod().getName(), e);
+        try {
+            getExecutor().execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    private Object invoke(MethodHandlerContext context) {
+        CompletableFuture<?> result;
+        try {
+            result = (CompletableFuture<?>) context.proceed().invoke(context.self(), context.args());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to invoke service method: " + context.thisMethod().getName(), e);
+        }
+
+        if (result == null) {
+            return null;
+        }
+
+        // unlike join(), get() returns when a timeout or cancellation interrupts the worker
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Service method " + context.thisMethod().getName() + " was interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to invoke service method: " + context.thisMethod().getName(), e.getCause());
+        }
+    }
+
+    private CircuitBreaker getCircuitBreaker(Object self) {
+        return circuitBreakers.computeIfAbsent(ProxyUtils.getRealClass(self), serviceClass -> new CircuitBreaker(
+                serviceClass.getName(),
+                serviceProperties.getCircuitBreakerFailureThreshold(),
+                serviceProperties.getCircuitBreakerOpenDuration(),
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    private ExecutorService getExecutor() {
+        if (serviceProperties.isPriorityLanes() && serviceProperties.getPriorityExecutorService() != null) {
+            return serviceProperties.getPriorityExecutorService();
+        }
+        return serviceProperties.getExecutorService();
+    }
+
+    private HashedWheelTimer getTimer() {
+        HashedWheelTimer timer = serviceProperties.getTimer();
+        if (timer == null) {
+            throw new IllegalStateException("ServiceProperties has no timer configured, @Service timeouts and backoff are unavailable.");
+        }
+        return timer;
+    }
+
+    private static final class MethodSettings {
+        private static final MethodSettings DEFAULT = new MethodSettings(0, 0, 0, false, ServicePriority.NORMAL, Long.MAX_VALUE);
+
+        private final long timeout;
+        private final int retries;
+        private final long backoff;
+        private final boolean circuitBreaker;
+        private final ServicePriority priority;
+        private final long deadline;
+
+        private MethodSettings(long timeout, int retries, long backoff, boolean circuitBreaker, ServicePriority priority, long deadline) {
+            this.timeout = timeout;
+            this.retries = Math.max(retries, 0);
+            this.backoff = Math.max(backoff, 0);
+            this.circuitBreaker = circuitBreaker;
+            this.priority = priority;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @param deadline {@link System#nanoTime()} by which every attempt, retries and backoff included,
+         *                 must be done
+         */
+        MethodSettings withDeadline(long deadline) {
+            return new MethodSettings(timeout, retries, backoff, circuitBreaker, priority, deadline);
+        }
+
+        /**
+         * @return the timeout of an attempt starting now, in milliseconds, capped by the deadline
+         */
+        long attemptTimeout() {
+            if (deadline == Long.MAX_VALUE) {
+                return timeout;
             }
-        }, serviceProperties.getExecutorService());
+
+            long remaining = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1);
+            return timeout > 0 ? Math.min(timeout, remaining) : remaining;
+        }
+
+        /**
+         * @return whether a retry after {@code backoff} milliseconds would only start once the deadline passed
+         */
+        boolean exceedsDeadline(long backoff) {
+            return deadline != Long.MAX_VALUE && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff) >= deadline;
+        }
+
+        boolean needsTimer() {
+            return timeout > 0 || deadline != Long.MAX_VALUE || (retries > 0 && backoff > 0);
+        }
+
+        /**
+         * Reads the method's {@link Service}, falling back to the service class's for every value the
+         * method leaves at its default.
+         */
+        static MethodSettings of(MethodHandlerContext context) {
+            Service method = context.thisMethod().getAnnotation(Service.class);
+            if (method == null && context.proceed() != null) {
+                method = context.proceed().getAnnotation(Service.class);
+            }
+            Service type = ProxyUtils.getRealClass(context.self()).getAnnotation(Service.class);
+
+            if (method == null && type == null) {
+                return DEFAULT;
+            }
+            if (method == null) {
+                method = type;
+            } else if (type == null) {
+                type = method;
+            }
+
+            return new MethodSettings(
+                    method.timeout() > 0 ? method.timeout() : type.timeout(),
+                    method.retries() > 0 ? method.retries() : type.retries(),
+                    method.backoff() > 0 ? method.backoff() : type.backoff(),
+                    method.circuitBreaker() || type.circuitBreaker(),
+                    method.priority() != ServicePriority.NORMAL ? method.priority() : type.priority(),
+                    Long.MAX_VALUE
+            );
+        }
     }
 }
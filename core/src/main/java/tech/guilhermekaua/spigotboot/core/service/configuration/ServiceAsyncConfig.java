@@ -5,11 +5,21 @@ import lombok.RequiredArgsConstructor;
 import org.bukkit.plugin.Plugin;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Bean;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Configuration;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorMetricsRegistry;
+import tech.guilhermekaua.spigotboot.core.service.priority.PriorityLaneExecutor;
+import tech.guilhermekaua.spigotboot.core.service.priority.ServicePriority;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
 
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
@@ -18,17 +28,101 @@ public class ServiceAsyncConfig {
     /* debug only */
     private final Set<ExecutorService> executors = new HashSet<>();
 
+    @Bean
+    public ExecutorMetricsRegistry executorMetricsRegistry() {
+        return new ExecutorMetricsRegistry();
+    }
+
+    /**
+     * When the framework runs as the host plugin, this is a lease of one cached pool shared by every plugin,
+     * so idle threads are reused across plugins instead of each plugin keeping its own.
+     */
     @Bean
     public ExecutorService serviceAsyncExecutor() {
-        ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(plugin.getName() + "-Service-Thread-%d").build());
+        ExecutorService executor = executorMetricsRegistry().instrument("service", createServiceExecutor());
         executors.add(executor);
         return executor;
     }
 
+    private ExecutorService createServiceExecutor() {
+        SharedRuntime runtime = SharedRuntime.get();
+        if (!runtime.isHosted()) {
+            return Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(plugin.getName() + "-Service-Thread-%d").build());
+        }
+
+        return runtime.leaseExecutor(
+                "service-executor",
+                () -> Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("SpigotBoot-Service-Thread-%d").build())
+        );
+    }
+
+    /**
+     * Work-stealing pool used by {@code ServiceScope} when {@link ServiceProperties#isWorkStealing()} is set.
+     * Worker threads are only started once tasks are submitted.
+     */
+    @Bean
+    public ForkJoinPool serviceWorkStealingPool() {
+        ClassLoader classLoader = plugin.getClass().getClassLoader();
+
+        return new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(plugin.getName() + "-Service-ForkJoin-" + thread.getPoolIndex());
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                null,
+                true
+        );
+    }
+
+    /**
+     * Shared by every plugin when the framework runs as the host plugin; see {@code StopTimersContextPreDestroyProcessor}.
+     */
     @Bean
-    public ServiceProperties serviceProperties() {
-        return ServiceProperties.builder()
+    public HashedWheelTimer serviceTimer() {
+        SharedRuntime runtime = SharedRuntime.get();
+        if (!runtime.isHosted()) {
+            return new HashedWheelTimer(plugin.getName() + "-Service-Timer");
+        }
+
+        return runtime.acquire("service-timer", () -> new HashedWheelTimer("SpigotBoot-Service-Timer"), HashedWheelTimer::stop);
+    }
+
+    @Bean
+    public ServiceProperties serviceProperties(List<ServicePropertiesCustomizer> customizers) {
+        ServiceProperties.ServicePropertiesBuilder builder = ServiceProperties.builder()
                 .executorService(serviceAsyncExecutor())
+                .workStealingExecutorService(executorMetricsRegistry().instrument("service-work-stealing", serviceWorkStealingPool()))
+                .timer(serviceTimer());
+
+        customizers.stream()
+                .sorted(Comparator.comparingInt(ServicePropertiesCustomizer::getOrder))
+                .forEach(customizer -> customizer.customize(builder));
+
+        ServiceProperties properties = builder.build();
+        if (!properties.isPriorityLanes() || properties.getPriorityExecutorService() != null) {
+            return properties;
+        }
+
+        return builder
+                .priorityExecutorService(executorMetricsRegistry().instrument("service-priority", createPriorityLaneExecutor(properties)))
                 .build();
     }
+
+    private PriorityLaneExecutor createPriorityLaneExecutor(ServiceProperties properties) {
+        int[] capacities = new int[ServicePriority.values().length];
+        capacities[ServicePriority.HIGH.ordinal()] = properties.getHighPriorityLaneCapacity();
+        capacities[ServicePriority.NORMAL.ordinal()] = properties.getNormalPriorityLaneCapacity();
+        capacities[ServicePriority.LOW.ordinal()] = properties.getLowPriorityLaneCapacity();
+
+        return new PriorityLaneExecutor(
+                properties.getPriorityLaneThreads(),
+                capacities,
+                properties.getPriorityAgingThreshold(),
+                TimeUnit.MILLISECONDS,
+                new ThreadFactoryBuilder().setNameFormat(plugin.getName() + "-Service-Priority-%d").setDaemon(true).build()
+        );
+    }
 }
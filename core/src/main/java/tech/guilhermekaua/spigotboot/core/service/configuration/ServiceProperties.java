@@ -22,15 +22,72 @@
  */
 package tech.guilhermekaua.spigotboot.core.service.configuration;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Builder
 @Getter
 public class ServiceProperties {
     private final ExecutorService executorService;
+    /**
+     * Executor used by {@code ServiceScope} when {@link #workStealing} is enabled.
+     */
+    private final ExecutorService workStealingExecutorService;
+    /**
+     * Shared timer driving {@code @Service} timeouts and retry backoff.
+     */
+    private final HashedWheelTimer timer;
+    /**
+     * Consecutive failures after which a service's circuit breaker opens.
+     */
+    @Builder.Default
+    private final int circuitBreakerFailureThreshold = 5;
+    /**
+     * How long, in milliseconds, an open circuit breaker rejects calls before allowing a trial call.
+     */
+    @Builder.Default
+    private final long circuitBreakerOpenDuration = TimeUnit.SECONDS.toMillis(30);
+    /**
+     * Whether {@code ServiceScope} forks subtasks onto {@link #workStealingExecutorService} instead of {@link #executorService}.
+     */
+    @Builder.Default
+    private final boolean workStealing = false;
+    /**
+     * Whether {@code @Service} calls run on {@link #priorityExecutorService}, queued by their
+     * {@code priority}, instead of {@link #executorService}.
+     */
+    @Builder.Default
+    private final boolean priorityLanes = false;
+    /**
+     * Worker threads of the priority lane executor. Unlike the default cached pool this is a hard limit,
+     * so services should not block waiting on other services.
+     */
+    @Builder.Default
+    private final int priorityLaneThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    @Builder.Default
+    private final int highPriorityLaneCapacity = 1024;
+    @Builder.Default
+    private final int normalPriorityLaneCapacity = 4096;
+    @Builder.Default
+    private final int lowPriorityLaneCapacity = 4096;
+    /**
+     * How long, in milliseconds, a queued task may wait before it is served ahead of higher-priority lanes.
+     */
+    @Builder.Default
+    private final long priorityAgingThreshold = 500;
+    /**
+     * Created by the framework when {@link #priorityLanes} is enabled.
+     */
+    private final ExecutorService priorityExecutorService;
+    /**
+     * Global deadline, in milliseconds, for draining the service executors and flushing buffers on shutdown.
+     */
+    @Builder.Default
+    private final long shutdownTimeout = TimeUnit.SECONDS.toMillis(5);
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Keeps track of every framework-managed executor and exposes their statistics.
+ * <pre>{@code
+ * for (ExecutorStats stats : executorMetricsRegistry.getStats()) {
+ *     if (stats.getQueued() > 100) {
+ *         getLogger().warning(stats.getName() + " is saturated");
+ *     }
+ * }
+ * }</pre>
+ */
+public class ExecutorMetricsRegistry {
+    private final Map<String, InstrumentedExecutorService> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps {@code executor} in an {@link InstrumentedExecutorService} and registers it under {@code name}.
+     * Executors that are already instrumented are registered as they are.
+     */
+    public @NotNull InstrumentedExecutorService instrument(@NotNull String name, @NotNull ExecutorService executor) {
+        Objects.requireNonNull(name, "name cannot be null.");
+        Objects.requireNonNull(executor, "executor cannot be null.");
+
+        InstrumentedExecutorService instrumented = executor instanceof InstrumentedExecutorService
+                ? (InstrumentedExecutorService) executor
+                : new InstrumentedExecutorService(name, executor);
+
+        InstrumentedExecutorService existing = executors.putIfAbsent(name, instrumented);
+        if (existing != null && existing != instrumented) {
+            throw new IllegalArgumentException("An executor named '" + name + "' is already registered.");
+        }
+
+        return instrumented;
+    }
+
+    public void unregister(@NotNull String name) {
+        executors.remove(name);
+    }
+
+    public @NotNull Collection<InstrumentedExecutorService> getExecutors() {
+        return Collections.unmodifiableCollection(executors.values());
+    }
+
+    public @Nullable ExecutorStats getStats(@NotNull String name) {
+        InstrumentedExecutorService executor = executors.get(name);
+        return executor != null ? executor.snapshot() : null;
+    }
+
+    public @NotNull List<ExecutorStats> getStats() {
+        List<ExecutorStats> stats = new ArrayList<>(executors.size());
+        for (InstrumentedExecutorService executor : executors.values()) {
+            stats.add(executor.snapshot());
+        }
+        stats.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return stats;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of an {@link InstrumentedExecutorService}'s counters. Durations are in nanoseconds.
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+public class ExecutorStats {
+    private final String name;
+    /**
+     * Tasks handed to the executor, including rejected ones.
+     */
+    private final long submitted;
+    /**
+     * Tasks that finished running, successfully or not.
+     */
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+    /**
+     * Tasks accepted but not yet started.
+     */
+    private final long queued;
+    private final int active;
+    private final int peakActive;
+    private final long averageQueueWaitNanos;
+    private final long maxQueueWaitNanos;
+    private final long averageRunNanos;
+    private final long maxRunNanos;
+    /**
+     * Submissions per second measured over the last closed one-second window.
+     */
+    private final double submissionRate;
+}
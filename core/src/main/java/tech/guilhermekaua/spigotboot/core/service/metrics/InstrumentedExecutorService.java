@@ -0,0 +1,280 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.service.priority.Prioritized;
+import tech.guilhermekaua.spigotboot.core.service.priority.ServicePriority;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ExecutorService} decorator that records queue wait, run time, rejections, thread activity and
+ * submission rate of the tasks it forwards to its delegate.
+ * <p>
+ * Every counter is lock-free, so instrumentation adds a handful of atomic operations per task and
+ * never serialises submitters. Use {@link #snapshot()} to read a consistent-enough view of the counters.
+ * <p>
+ * Wrapped tasks keep their {@link Prioritized} priority, so a prioritizing delegate still sees it.
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final ExecutorService delegate;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // queued tasks that shutdownNow() removed without running them
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    private final AtomicLong rateWindowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder rateWindowCount = new LongAdder();
+    private volatile double submissionRate;
+
+    public InstrumentedExecutorService(@NotNull String name, @NotNull ExecutorService delegate) {
+        this.name = Objects.requireNonNull(name, "name cannot be null.");
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null.");
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        Objects.requireNonNull(command, "command cannot be null.");
+
+        submitted.increment();
+        rateWindowCount.increment();
+        rollRateWindow(System.nanoTime());
+
+        try {
+            delegate.execute(new InstrumentedTask(command));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new FailureTrackingTask<>(callable, ServicePriority.of(callable));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new FailureTrackingTask<>(runnable, value, ServicePriority.of(runnable));
+    }
+
+    /**
+     * @return a point-in-time view of this executor's counters
+     */
+    public @NotNull ExecutorStats snapshot() {
+        long now = System.nanoTime();
+        rollRateWindow(now);
+
+        long submittedCount = submitted.sum();
+        long startedCount = started.sum();
+        long completedCount = completed.sum();
+        long rejectedCount = rejected.sum();
+
+        return ExecutorStats.builder()
+                .name(name)
+                .submitted(submittedCount)
+                .completed(completedCount)
+                .failed(failed.sum())
+                .rejected(rejectedCount)
+                .queued(Math.max(submittedCount - rejectedCount - startedCount - dropped.sum(), 0))
+                .active(active.get())
+                .peakActive(peakActive.get())
+                .averageQueueWaitNanos(startedCount == 0 ? 0 : totalQueueWaitNanos.sum() / startedCount)
+                .maxQueueWaitNanos(maxQueueWaitNanos.get())
+                .averageRunNanos(completedCount == 0 ? 0 : totalRunNanos.sum() / completedCount)
+                .maxRunNanos(maxRunNanos.get())
+                .submissionRate(submissionRate)
+                .build();
+    }
+
+    /**
+     * Resets the peak and maximum values so the next snapshot reflects only what happened since.
+     */
+    public void resetPeaks() {
+        peakActive.set(active.get());
+        maxQueueWaitNanos.set(0);
+        maxRunNanos.set(0);
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public @NotNull ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        List<Runnable> drained = delegate.shutdownNow();
+        for (Runnable task : drained) {
+            if (task instanceof InstrumentedTask) {
+                dropped.increment();
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedExecutorService[" + name + "] -> " + delegate;
+    }
+
+    private void rollRateWindow(long now) {
+        long windowStart = rateWindowStart.get();
+        long elapsed = now - windowStart;
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return;
+        }
+
+        // only the thread that wins the CAS publishes the rate for the window that just closed
+        if (rateWindowStart.compareAndSet(windowStart, now)) {
+            submissionRate = rateWindowCount.sumThenReset() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        }
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    private final class InstrumentedTask implements Runnable, Prioritized {
+        private final Runnable task;
+        private final long submittedAt = System.nanoTime();
+
+        InstrumentedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            long queueWait = startedAt - submittedAt;
+
+            started.increment();
+            totalQueueWaitNanos.add(queueWait);
+            updateMax(maxQueueWaitNanos, queueWait);
+
+            int running = active.incrementAndGet();
+            peakActive.accumulateAndGet(running, Math::max);
+
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failed.increment();
+                throw t;
+            } finally {
+                active.decrementAndGet();
+
+                long runTime = System.nanoTime() - startedAt;
+                totalRunNanos.add(runTime);
+                updateMax(maxRunNanos, runTime);
+                completed.increment();
+            }
+        }
+
+        @Override
+        public @NotNull ServicePriority getPriority() {
+            return ServicePriority.of(task);
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private final class FailureTrackingTask<T> extends FutureTask<T> implements Prioritized {
+        private final ServicePriority priority;
+
+        FailureTrackingTask(Callable<T> callable, ServicePriority priority) {
+            super(callable);
+            this.priority = priority;
+        }
+
+        FailureTrackingTask(Runnable runnable, T result, ServicePriority priority) {
+            super(runnable, result);
+            this.priority = priority;
+        }
+
+        @Override
+        public @NotNull ServicePriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            failed.increment();
+            super.setException(t);
+        }
+    }
+}
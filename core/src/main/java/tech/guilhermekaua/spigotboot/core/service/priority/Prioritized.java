@@ -0,0 +1,62 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.priority;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Task carrying the {@link ServicePriority} it should be scheduled with by a {@link PriorityLaneExecutor}.
+ * Executor decorators are expected to preserve it on the tasks they wrap.
+ */
+public interface Prioritized {
+    @NotNull ServicePriority getPriority();
+
+    static @NotNull Runnable wrap(@NotNull ServicePriority priority, @NotNull Runnable task) {
+        Objects.requireNonNull(priority, "priority cannot be null.");
+        Objects.requireNonNull(task, "task cannot be null.");
+
+        return new PrioritizedRunnable(priority, task);
+    }
+
+    final class PrioritizedRunnable implements Runnable, Prioritized {
+        private final ServicePriority priority;
+        private final Runnable task;
+
+        private PrioritizedRunnable(ServicePriority priority, Runnable task) {
+            this.priority = priority;
+            this.task = task;
+        }
+
+        @Override
+        public @NotNull ServicePriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.priority;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fixed-size executor with one bounded queue per {@link ServicePriority}.
+ * <p>
+ * Workers always serve the highest non-empty lane, except when the oldest task of a lower lane has
+ * waited longer than the aging threshold: it is then served first, so background work keeps making
+ * progress under sustained high-priority load. Submissions to a full lane are rejected.
+ */
+public class PriorityLaneExecutor extends AbstractExecutorService {
+    private static final ServicePriority[] PRIORITIES = ServicePriority.values();
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Lane[] lanes = new Lane[PRIORITIES.length];
+    private final Semaphore available = new Semaphore(0);
+    private final long agingThresholdNanos;
+    private final Thread[] workers;
+    private final CountDownLatch terminated;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile boolean shutdown;
+
+    /**
+     * @param threads         number of worker threads, started on the first submission
+     * @param capacities      queue capacity of each lane, indexed by {@link ServicePriority#ordinal()}
+     * @param agingThreshold  how long a lower-priority task may wait before it is served ahead of higher lanes
+     */
+    public PriorityLaneExecutor(int threads,
+                                @NotNull int[] capacities,
+                                long agingThreshold,
+                                @NotNull TimeUnit unit,
+                                @NotNull ThreadFactory threadFactory) {
+        Objects.requireNonNull(capacities, "capacities cannot be null.");
+        Objects.requireNonNull(unit, "unit cannot be null.");
+        Objects.requireNonNull(threadFactory, "threadFactory cannot be null.");
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than 0: " + threads);
+        }
+        if (capacities.length != PRIORITIES.length) {
+            throw new IllegalArgumentException("Expected one capacity per priority, got " + capacities.length);
+        }
+
+        for (ServicePriority priority : PRIORITIES) {
+            lanes[priority.ordinal()] = new Lane(capacities[priority.ordinal()]);
+        }
+
+        this.agingThresholdNanos = unit.toNanos(agingThreshold);
+        this.workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = threadFactory.newThread(new Worker());
+        }
+        this.terminated = new CountDownLatch(threads);
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        execute(command, ServicePriority.of(command));
+    }
+
+    public void execute(@NotNull Runnable command, @NotNull ServicePriority priority) {
+        Objects.requireNonNull(command, "command cannot be null.");
+        Objects.requireNonNull(priority, "priority cannot be null.");
+
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down.");
+        }
+
+        startWorkers();
+
+        Lane lane = lanes[priority.ordinal()];
+        Entry entry = lane.offer(command);
+        if (entry == null) {
+            throw new RejectedExecutionException("The " + priority + " priority lane is full.");
+        }
+
+        // a shutdown between the check above and the offer may have already let the workers exit; if the
+        // entry is gone, a worker took it or shutdownNow returned it
+        if (shutdown && lane.queue.remove(entry)) {
+            throw new RejectedExecutionException("Executor has been shut down.");
+        }
+        available.release();
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new PrioritizedFutureTask<>(callable, ServicePriority.of(callable));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedFutureTask<>(runnable, value, ServicePriority.of(runnable));
+    }
+
+    /**
+     * @return the number of tasks waiting in the given lane
+     */
+    public int getQueued(@NotNull ServicePriority priority) {
+        return lanes[priority.ordinal()].queue.size();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (!started.get()) {
+            drainTermination();
+        }
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        shutdown();
+
+        List<Runnable> dropped = new ArrayList<>();
+        for (Lane lane : lanes) {
+            Entry entry;
+            while ((entry = lane.queue.poll()) != null) {
+                dropped.add(entry.task);
+            }
+        }
+
+        if (started.get()) {
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+        }
+        return dropped;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private void startWorkers() {
+        if (started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    private void drainTermination() {
+        // workers were never started, so nothing will count the latch down for them
+        if (started.compareAndSet(false, true)) {
+            for (int i = 0; i < workers.length; i++) {
+                terminated.countDown();
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        for (Lane lane : lanes) {
+            if (!lane.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Runnable next() {
+        while (true) {
+            long now = System.nanoTime();
+
+            // the oldest aged task of a lower lane goes first
+            for (int i = lanes.length - 1; i > 0; i--) {
+                Entry head = lanes[i].queue.peek();
+                if (head != null && now - head.enqueuedAt >= agingThresholdNanos && lanes[i].queue.remove(head)) {
+                    return head.task;
+                }
+            }
+
+            for (Lane lane : lanes) {
+                Entry entry = lane.queue.poll();
+                if (entry != null) {
+                    return entry.task;
+                }
+            }
+
+            if (shutdown && isEmpty()) {
+                return null;
+            }
+            Thread.yield();
+        }
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    if (!available.tryAcquire(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (shutdown && isEmpty()) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    Runnable task = next();
+                    if (task == null) {
+                        return;
+                    }
+
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        Thread thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                // shutdownNow
+            } finally {
+                terminated.countDown();
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final Queue<Entry> queue;
+
+        Lane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        }
+
+        /**
+         * @return the queued entry, or {@code null} if the lane is full
+         */
+        Entry offer(Runnable task) {
+            Entry entry = new Entry(task);
+            return queue.offer(entry) ? entry : null;
+        }
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final long enqueuedAt = System.nanoTime();
+
+        Entry(Runnable task) {
+            this.task = task;
+        }
+    }
+
+    private static final class PrioritizedFutureTask<T> extends FutureTask<T> implements Prioritized {
+        private final ServicePriority priority;
+
+        PrioritizedFutureTask(Callable<T> callable, ServicePriority priority) {
+            super(callable);
+            this.priority = priority;
+        }
+
+        PrioritizedFutureTask(Runnable runnable, T result, ServicePriority priority) {
+            super(runnable, result);
+            this.priority = priority;
+        }
+
+        @Override
+        public @NotNull ServicePriority getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * <p>
+ * After {@code failureThreshold} consecutive failures the breaker opens and rejects calls for
+ * {@code openDuration}. Once that elapses a single trial call is let through (half-open); its
+ * outcome either closes the breaker again or re-opens it for another period.
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDuration, TimeUnit unit) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be greater than 0: " + failureThreshold);
+        }
+
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = unit.toNanos(openDuration);
+    }
+
+    /**
+     * @return {@code true} if the call may proceed, {@code false} if it must fail fast
+     */
+    public boolean tryAcquire() {
+        switch (state.get()) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                // only the caller that wins the transition performs the trial call
+                return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            default:
+                return false;
+        }
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            trip();
+            return;
+        }
+
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            trip();
+        }
+    }
+
+    private void trip() {
+        openedAt = System.nanoTime();
+        state.set(State.OPEN);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.scope;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for structured fan-out: opens {@link TaskScope}s whose subtasks run on the service
+ * executor, or on the work-stealing executor when {@link ServiceProperties#isWorkStealing()} is enabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceScope {
+    private final ServiceProperties serviceProperties;
+
+    /**
+     * Opens a scope without a deadline of its own; it still inherits the deadline of an enclosing scope.
+     */
+    public @NotNull TaskScope open() {
+        return new TaskScope(getExecutor(), serviceProperties.getTimer(), 0);
+    }
+
+    /**
+     * Opens a scope that fails with a {@code ServiceTimeoutException} once {@code timeout} elapses,
+     * or earlier if an enclosing scope's deadline comes first.
+     *
+     * @throws IllegalStateException if {@link ServiceProperties} has no timer configured
+     */
+    public @NotNull TaskScope open(long timeout, @NotNull TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("timeout must be greater than 0: " + timeout);
+        }
+
+        return new TaskScope(getExecutor(), serviceProperties.getTimer(), unit.toNanos(timeout));
+    }
+
+    private ExecutorService getExecutor() {
+        return serviceProperties.isWorkStealing() && serviceProperties.getWorkStealingExecutorService() != null
+                ? serviceProperties.getWorkStealingExecutorService()
+                : serviceProperties.getExecutorService();
+    }
+}
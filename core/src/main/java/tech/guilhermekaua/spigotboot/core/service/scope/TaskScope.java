@@ -0,0 +1,342 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.scope;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.exceptions.ServiceTimeoutException;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+import tech.guilhermekaua.spigotboot.core.service.timer.Timeout;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A group of subtasks that succeed or fail together.
+ * <p>
+ * The first subtask to fail cancels its siblings and every nested scope, and a deadline, when set,
+ * applies to the whole group. Scopes opened while another one is current (on the opening thread or
+ * from within a forked subtask) become its children and inherit its deadline. Closing the scope
+ * cancels whatever is still running, so the usual pattern is:
+ * <pre>{@code
+ * try (TaskScope scope = serviceScope.open(2, TimeUnit.SECONDS)) {
+ *     CompletableFuture<Stats> stats = scope.attach(statsService.load(playerId));
+ *     CompletableFuture<Inventory> inventory = scope.fork(() -> inventoryLoader.load(playerId));
+ *     scope.join();
+ *     return new Profile(stats.join(), inventory.join());
+ * }
+ * }</pre>
+ * {@code @Service} calls made while a scope is current are attached to it automatically and have
+ * their timeout capped by the scope's remaining time.
+ */
+public final class TaskScope implements AutoCloseable {
+    private static final ThreadLocal<TaskScope> CURRENT = new ThreadLocal<>();
+
+    private final ExecutorService executor;
+    private final HashedWheelTimer timer;
+    private final TaskScope parent;
+    private final TaskScope previous;
+    private final Thread owner;
+    private final long deadline;
+
+    private final Set<CompletableFuture<?>> tasks = ConcurrentHashMap.newKeySet();
+    private final Set<TaskScope> children = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Timeout deadlineTimeout;
+
+    TaskScope(@NotNull ExecutorService executor, @Nullable HashedWheelTimer timer, long timeoutNanos) {
+        if (timeoutNanos > 0 && timer == null) {
+            throw new IllegalStateException("ServiceProperties has no timer configured, task scope deadlines are unavailable.");
+        }
+
+        this.executor = executor;
+        this.timer = timer;
+        this.parent = current();
+        this.previous = parent;
+        this.owner = Thread.currentThread();
+
+        long ownDeadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : Long.MAX_VALUE;
+        this.deadline = parent != null ? Math.min(parent.deadline, ownDeadline) : ownDeadline;
+
+        if (parent != null) {
+            parent.children.add(this);
+            if (parent.isCancelled()) {
+                failure.compareAndSet(null, parent.failure.get());
+            }
+        }
+
+        this.deadlineTimeout = scheduleDeadline();
+        CURRENT.set(this);
+    }
+
+    /**
+     * @return the innermost open scope on the calling thread, or {@code null} if there is none
+     */
+    public static @Nullable TaskScope current() {
+        TaskScope scope = CURRENT.get();
+        if (scope != null && scope.isClosed()) {
+            // closed out of order, or from another thread
+            scope = unwind();
+        }
+        return scope;
+    }
+
+    /**
+     * Runs {@code task} on the scope's executor. The task sees this scope as {@link #current()}, so
+     * scopes it opens and {@code @Service} calls it makes are bound to this one.
+     */
+    public <T> @NotNull CompletableFuture<T> fork(@NotNull Callable<T> task) {
+        Objects.requireNonNull(task, "task cannot be null.");
+        ensureOpen();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (isCancelled()) {
+            future.completeExceptionally(cancellation());
+            return future;
+        }
+
+        track(future);
+        try {
+            Future<?> running = executor.submit(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+
+                TaskScope outer = CURRENT.get();
+                CURRENT.set(this);
+                try {
+                    future.complete(task.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    restore(outer);
+                }
+            });
+
+            future.whenComplete((value, error) -> {
+                if (future.isCancelled()) {
+                    running.cancel(true);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Tracks an already running future as part of this scope; it is cancelled together with the scope
+     * and its failure fails the scope.
+     */
+    public <T> @NotNull CompletableFuture<T> attach(@NotNull CompletableFuture<T> future) {
+        Objects.requireNonNull(future, "future cannot be null.");
+        ensureOpen();
+
+        if (isCancelled()) {
+            future.cancel(true);
+            return future;
+        }
+
+        track(future);
+        return future;
+    }
+
+    /**
+     * @return a future completed once every tracked subtask is done, or exceptionally with the first failure
+     */
+    public @NotNull CompletableFuture<Void> whenAll() {
+        CompletableFuture<?>[] snapshot = tasks.toArray(new CompletableFuture<?>[0]);
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.allOf(snapshot).whenComplete((value, error) -> {
+            Throwable cause = failure.get();
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            } else if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(null);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Blocks until every tracked subtask is done.
+     *
+     * @throws CompletionException wrapping the first failure, if any subtask failed
+     */
+    public void join() {
+        whenAll().join();
+    }
+
+    /**
+     * Cancels every running subtask and nested scope.
+     */
+    public void cancel() {
+        fail(new CancellationException("Task scope was cancelled."));
+    }
+
+    public boolean isCancelled() {
+        return failure.get() != null;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return the time left until the scope's deadline, {@link Long#MAX_VALUE} if it has none
+     */
+    public long remaining(@NotNull TimeUnit unit) {
+        if (deadline == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+
+        return unit.convert(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean hasDeadline() {
+        return deadline != Long.MAX_VALUE;
+    }
+
+    /**
+     * Cancels unfinished subtasks and detaches the scope from its parent. On the opening thread, the
+     * innermost scope that is still open becomes current again, even if scopes were closed out of order.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        for (CompletableFuture<?> task : tasks) {
+            task.cancel(true);
+        }
+        for (TaskScope child : children) {
+            child.close();
+        }
+
+        if (deadlineTimeout != null) {
+            deadlineTimeout.cancel();
+        }
+        if (parent != null) {
+            parent.children.remove(this);
+        }
+        if (Thread.currentThread() == owner) {
+            unwind();
+        }
+    }
+
+    private void track(CompletableFuture<?> future) {
+        tasks.add(future);
+        future.whenComplete((value, error) -> {
+            // a long-lived scope would otherwise keep every finished subtask reachable
+            tasks.remove(future);
+            if (error != null && !closed.get()) {
+                fail(unwrap(error));
+            }
+        });
+    }
+
+    private void fail(Throwable cause) {
+        if (!failure.compareAndSet(null, cause)) {
+            return;
+        }
+
+        for (CompletableFuture<?> task : tasks) {
+            task.cancel(true);
+        }
+        for (TaskScope child : children) {
+            child.fail(cause);
+        }
+    }
+
+    private Timeout scheduleDeadline() {
+        if (deadline == Long.MAX_VALUE || timer == null) {
+            return null;
+        }
+
+        long delay = deadline - System.nanoTime();
+        return timer.newTimeout(
+                () -> fail(new ServiceTimeoutException("Task scope deadline exceeded.")),
+                delay,
+                TimeUnit.NANOSECONDS
+        );
+    }
+
+    private CancellationException cancellation() {
+        CancellationException exception = new CancellationException("Task scope was cancelled.");
+        exception.initCause(failure.get());
+        return exception;
+    }
+
+    private void ensureOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("Task scope is already closed.");
+        }
+    }
+
+    /**
+     * Pops closed scopes off the calling thread's stack.
+     *
+     * @return the scope left on top
+     */
+    private static TaskScope unwind() {
+        TaskScope scope = CURRENT.get();
+        while (scope != null && scope.isClosed()) {
+            scope = scope.previous;
+        }
+        restore(scope);
+        return scope;
+    }
+
+    private static void restore(TaskScope scope) {
+        if (scope == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.shutdown;
+
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.Ordered;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean holding buffered work (e.g. write-behind queues) that must be persisted when the context is destroyed.
+ * <p>
+ * Flushables run on the disabling thread once the service executors have drained, in
+ * {@link Ordered#getOrder()} order, and share the remaining shutdown deadline.
+ */
+public interface ShutdownFlushable extends Ordered {
+    /**
+     * Persists buffered work, giving up once {@code timeout} elapses.
+     *
+     * @return the number of buffered entries that could not be flushed
+     */
+    int flush(long timeout, @NotNull TimeUnit unit) throws Exception;
+}
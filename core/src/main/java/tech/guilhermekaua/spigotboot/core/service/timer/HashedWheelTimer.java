@@ -0,0 +1,306 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.core.service.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Approximate timer backed by a single worker thread and a wheel of buckets.
+ * <p>
+ * Scheduling and cancelling are O(1), which makes it suitable for tracking a large number of
+ * short-lived deadlines (e.g. service call timeouts) that are usually cancelled before expiring.
+ * Expired tasks run on the worker thread and must therefore be short and non-blocking.
+ */
+public class HashedWheelTimer {
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    private final Logger logger = Logger.getLogger(HashedWheelTimer.class.getName());
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private volatile long startTime;
+
+    public HashedWheelTimer(@NotNull String threadName) {
+        this(threadName, 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    public HashedWheelTimer(@NotNull String threadName, long tickDuration, @NotNull TimeUnit unit, int ticksPerWheel) {
+        Objects.requireNonNull(threadName, "threadName cannot be null.");
+        Objects.requireNonNull(unit, "unit cannot be null.");
+
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+
+        int normalizedTicks = 1;
+        while (normalizedTicks < ticksPerWheel) {
+            normalizedTicks <<= 1;
+        }
+
+        this.wheel = new Bucket[normalizedTicks];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.tickDuration = unit.toNanos(tickDuration);
+
+        this.workerThread = new Thread(new Worker(), threadName);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedules {@code task} to run once after the given delay.
+     *
+     * @return a handle that can be used to cancel the task
+     */
+    public @NotNull Timeout newTimeout(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        Objects.requireNonNull(task, "task cannot be null.");
+        Objects.requireNonNull(unit, "unit cannot be null.");
+
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - startTime;
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public void start() {
+        switch (state.get()) {
+            case STATE_INIT:
+                if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+                    startTime = System.nanoTime();
+                    startTimeInitialized.countDown();
+                    workerThread.start();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("Cannot schedule timeouts after the timer was stopped.");
+        }
+
+        try {
+            startTimeInitialized.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts are discarded without running.
+     */
+    public void stop() {
+        int previous = state.getAndSet(STATE_SHUTDOWN);
+        if (previous != STATE_STARTED) {
+            return;
+        }
+
+        workerThread.interrupt();
+        try {
+            workerThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        pendingTimeouts.clear();
+    }
+
+    /**
+     * @return whether the calling thread is the timer's worker, which runs every expired task
+     */
+    public boolean isWorkerThread() {
+        return Thread.currentThread() == workerThread;
+    }
+
+    public boolean isStopped() {
+        return state.get() == STATE_SHUTDOWN;
+    }
+
+    private final class Worker implements Runnable {
+        private long tick;
+
+        @Override
+        public void run() {
+            while (state.get() == STATE_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline <= 0) {
+                    continue;
+                }
+
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+
+            for (Bucket bucket : wheel) {
+                bucket.clear();
+            }
+        }
+
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+
+            while (true) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = (deadline - currentTime + 999_999) / 1_000_000;
+
+                if (sleepTimeMs <= 0) {
+                    return currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException e) {
+                    if (state.get() == STATE_SHUTDOWN) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            // bounded so a flood of new timeouts cannot starve the wheel
+            for (int i = 0; i < 100_000; i++) {
+                WheelTimeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+
+    private final class Bucket {
+        private final LinkedList<WheelTimeout> timeouts = new LinkedList<>();
+
+        void add(WheelTimeout timeout) {
+            timeouts.add(timeout);
+        }
+
+        void expireTimeouts(long deadline) {
+            Iterator<WheelTimeout> iterator = timeouts.iterator();
+            while (iterator.hasNext()) {
+                WheelTimeout timeout = iterator.next();
+
+                if (timeout.isCancelled()) {
+                    iterator.remove();
+                    continue;
+                }
+
+                if (timeout.remainingRounds <= 0) {
+                    iterator.remove();
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        // placed in the wrong slot, should never happen
+                        pendingTimeouts.add(timeout);
+                    }
+                    continue;
+                }
+
+                timeout.remainingRounds--;
+            }
+        }
+
+        void clear() {
+            timeouts.clear();
+        }
+    }
+
+    private final class WheelTimeout implements Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+
+        WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            return state.compareAndSet(ST_INIT, ST_CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.log(Level.WARNING, "Timer task threw an exception", t);
+            }
+        }
+    }
+}
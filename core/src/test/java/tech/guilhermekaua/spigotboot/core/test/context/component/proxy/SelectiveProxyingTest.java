@@ -86,6 +86,31 @@ public class SelectiveProxyingTest {
         assertFalse(bean instanceof ProxyObject, "Bean should not be proxied when no handlers could apply");
         assertEquals("original", bean.hello());
     }
-}
 
+    @Test
+    void handlersScopedToAnotherContextShouldNotApply() {
+        MethodHandlerRegistry.clear();
+
+        DependencyManager otherDependencyManager = new DependencyManager();
+        otherDependencyManager.registerDependency(new MethodHandlerDrivenProxyDecider(), null, true);
+        MethodHandlerRegistry.registerAll(otherDependencyManager, Collections.singletonList(new RegisteredMethodHandler(
+                context -> "intercepted",
+                void.class,
+                Annotation.class,
+                Intercept.class
+        )));
 
+        dependencyManager.registerDependency(NeedsProxy.class, (String) null, false, null, null);
+        NeedsProxy bean = dependencyManager.resolveDependency(NeedsProxy.class, null);
+        assertFalse(bean instanceof ProxyObject, "Handlers of another context should not make the bean proxied");
+        assertEquals("original", bean.hello());
+
+        otherDependencyManager.registerDependency(NeedsProxy.class, (String) null, false, null, null);
+        NeedsProxy otherBean = otherDependencyManager.resolveDependency(NeedsProxy.class, null);
+        assertInstanceOf(ProxyObject.class, otherBean);
+        assertEquals("intercepted", otherBean.hello(), "Handlers of the bean's own context should apply");
+
+        MethodHandlerRegistry.unregisterAll(otherDependencyManager);
+        assertTrue(MethodHandlerRegistry.getAllHandlers(otherDependencyManager).isEmpty());
+    }
+}
@@ -0,0 +1,234 @@
+package tech.guilhermekaua.spigotboot.core.test.context.lifecycle;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Service;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.context.MethodHandlerContext;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.processors.preDestroy.impl.ShutdownExecutorServicesContextPreDestroyProcessor;
+import tech.guilhermekaua.spigotboot.core.service.ServiceMethodHandler;
+import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorMetricsRegistry;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ServiceShutdownGate;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ShutdownFlushable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ShutdownExecutorServicesContextPreDestroyProcessorTest {
+    private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+    private final List<ShutdownFlushable> flushables = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ServiceShutdownGate gate;
+    private ExecutorMetricsRegistry registry;
+    private ExecutorService serviceExecutor;
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        gate = new ServiceShutdownGate();
+        registry = new ExecutorMetricsRegistry();
+        serviceExecutor = registry.instrument("service", Executors.newCachedThreadPool());
+
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.ALL);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(logger);
+        context = mock(Context.class);
+        when(context.getPlugin()).thenReturn(plugin);
+        when(context.getBeansByType(ShutdownFlushable.class)).thenReturn(flushables);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        for (ExecutorService executor : registry.getExecutors()) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectServiceCallsOnceTheGateCloses() throws Exception {
+        ServiceMethodHandler handler = new ServiceMethodHandler(
+                ServiceProperties.builder().executorService(serviceExecutor).build(),
+                gate
+        );
+        TestService service = new TestService();
+        Method method = TestService.class.getMethod("call");
+
+        assertEquals("done", ((CompletableFuture<?>) handler.handle(new MethodHandlerContext(service, method, method, new Object[0]))).join());
+
+        processor(1000).onPreDestroy(context);
+        assertFalse(gate.isAccepting());
+
+        CompletableFuture<?> rejected = (CompletableFuture<?>) handler.handle(new MethodHandlerContext(service, method, method, new Object[0]));
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(1, service.calls);
+    }
+
+    @Test
+    void shouldDrainExecutorsInParallelAgainstOneDeadline() {
+        List<ExecutorService> executors = Arrays.asList(
+                serviceExecutor,
+                registry.instrument("second", Executors.newSingleThreadExecutor()),
+                registry.instrument("third", Executors.newSingleThreadExecutor())
+        );
+        for (ExecutorService executor : executors) {
+            executor.execute(this::awaitRelease);
+        }
+
+        long start = System.nanoTime();
+        processor(300).onPreDestroy(context);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // one 300ms deadline for all three, not 300ms each
+        assertTrue(elapsed >= 300 && elapsed < 700, "took " + elapsed + "ms");
+        for (ExecutorService executor : executors) {
+            assertTrue(executor.isShutdown());
+        }
+    }
+
+    @Test
+    void shouldGiveFlushablesAMinimumWindowAfterTheDeadline() {
+        serviceExecutor.execute(this::awaitRelease);
+
+        List<Long> timeouts = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+        flushables.add(new RecordingFlushable("late", 10, order, timeouts));
+        flushables.add(new RecordingFlushable("early", -10, order, timeouts));
+
+        processor(100).onPreDestroy(context);
+
+        // the executor used up the whole deadline, each flushable still gets 500ms
+        assertEquals(Arrays.asList("early", "late"), order);
+        for (long timeout : timeouts) {
+            assertEquals(500, TimeUnit.NANOSECONDS.toMillis(timeout));
+        }
+        assertTrue(hasWarning("3 unflushed entr(ies)"));
+    }
+
+    @Test
+    void shouldReportTasksDroppedByShutdownNow() {
+        ExecutorService single = registry.instrument("single", Executors.newSingleThreadExecutor());
+        single.execute(this::awaitRelease);
+        single.execute(() -> {
+        });
+        single.execute(() -> {
+        });
+
+        processor(100).onPreDestroy(context);
+
+        assertTrue(single.isShutdown());
+        assertTrue(hasWarning("Executor single did not drain in time, dropped 2 queued task(s)"));
+        assertTrue(hasWarning("with 2 dropped task(s) and 0 unflushed entr(ies)"));
+    }
+
+    @Test
+    void shouldNotWarnWhenEverythingDrains() {
+        serviceExecutor.execute(() -> {
+        });
+
+        processor(1000).onPreDestroy(context);
+
+        assertTrue(serviceExecutor.isTerminated());
+        assertFalse(records.stream().anyMatch(record -> record.getLevel() == Level.WARNING));
+    }
+
+    private ShutdownExecutorServicesContextPreDestroyProcessor processor(long shutdownTimeout) {
+        return new ShutdownExecutorServicesContextPreDestroyProcessor(
+                gate,
+                ServiceProperties.builder().executorService(serviceExecutor).shutdownTimeout(shutdownTimeout).build(),
+                registry
+        );
+    }
+
+    private boolean hasWarning(String text) {
+        synchronized (records) {
+            return records.stream().anyMatch(record -> record.getLevel() == Level.WARNING && record.getMessage().contains(text));
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingFlushable implements ShutdownFlushable {
+        private final String name;
+        private final int order;
+        private final List<String> flushed;
+        private final List<Long> timeouts;
+
+        RecordingFlushable(String name, int order, List<String> flushed, List<Long> timeouts) {
+            this.name = name;
+            this.order = order;
+            this.flushed = flushed;
+            this.timeouts = timeouts;
+        }
+
+        @Override
+        public int flush(long timeout, @NotNull TimeUnit unit) {
+            flushed.add(name);
+            timeouts.add(unit.toNanos(timeout));
+            return order < 0 ? 1 : 2;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    @Service
+    public static class TestService {
+        private volatile int calls;
+
+        @Service
+        public CompletableFuture<Object> call() {
+            calls++;
+            return CompletableFuture.completedFuture("done");
+        }
+    }
+}
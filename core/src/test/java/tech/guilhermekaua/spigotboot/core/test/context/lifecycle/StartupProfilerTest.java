@@ -0,0 +1,107 @@
+package tech.guilhermekaua.spigotboot.core.test.context.lifecycle;
+
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Inject;
+import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupProfiler;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupReport;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStep;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupStepType;
+import tech.guilhermekaua.spigotboot.core.context.lifecycle.profiler.StartupTiming;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupProfilerTest {
+
+    static class Repository {
+    }
+
+    static class Service {
+        private final Repository repository;
+
+        @Inject
+        public Service(Repository repository) {
+            this.repository = repository;
+        }
+    }
+
+    @Test
+    void shouldExcludeNestedStepsFromSelfTime() throws InterruptedException {
+        StartupProfiler profiler = new StartupProfiler(true);
+
+        try (StartupStep ignored = profiler.start(StartupStepType.BEAN, "outer")) {
+            Thread.sleep(5);
+            try (StartupStep nested = profiler.start(StartupStepType.CONSTRUCTOR, "inner")) {
+                Thread.sleep(20);
+            }
+        }
+
+        List<StartupTiming> timings = profiler.finish().getTimings();
+        assertEquals(2, timings.size());
+
+        StartupTiming inner = timings.get(0);
+        StartupTiming outer = timings.get(1);
+        assertEquals("inner", inner.getName());
+        assertEquals(1, inner.getDepth());
+        assertEquals(0, outer.getDepth());
+        assertTrue(outer.getWallNanos() >= inner.getWallNanos());
+        assertEquals(outer.getWallNanos() - inner.getWallNanos(), outer.getSelfNanos());
+        assertTrue(outer.getSelfNanos() < inner.getSelfNanos());
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabledOrFinished() {
+        StartupProfiler disabled = StartupProfiler.disabled();
+        disabled.start(StartupStepType.PHASE, "SCAN").close();
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.finish().getTimings().isEmpty());
+
+        StartupProfiler profiler = new StartupProfiler(true);
+        StartupStep running = profiler.start(StartupStepType.PHASE, "SCAN");
+        StartupReport report = profiler.finish();
+        running.close();
+        profiler.start(StartupStepType.PHASE, "READY").close();
+
+        assertTrue(report.getTimings().isEmpty());
+        assertTrue(profiler.finish().getTimings().isEmpty());
+    }
+
+    @Test
+    void shouldRecordBeanInstantiation() {
+        StartupProfiler profiler = new StartupProfiler(true);
+        DependencyManager dependencyManager = new DependencyManager();
+        dependencyManager.setStartupProfiler(profiler);
+        dependencyManager.registerDependency(Repository.class, Repository.class, null, false);
+        dependencyManager.registerDependency(Service.class, Service.class, null, false);
+
+        assertNotNull(dependencyManager.resolveDependency(Service.class, null));
+
+        StartupReport report = profiler.finish();
+        List<StartupTiming> beans = report.getTimings(StartupStepType.BEAN);
+        assertEquals(2, beans.size());
+        // the repository is created while resolving the service constructor arguments
+        assertTrue(beans.get(0).getName().startsWith(Repository.class.getName()));
+        assertEquals(1, beans.get(0).getDepth());
+        assertTrue(beans.get(1).getName().startsWith(Service.class.getName()));
+        assertEquals(2, report.getTimings(StartupStepType.CONSTRUCTOR).size());
+    }
+
+    @Test
+    void shouldWriteChromeTrace() throws IOException {
+        StartupProfiler profiler = new StartupProfiler(true);
+        profiler.start(StartupStepType.MODULE, "com.example.\"Quoted\"Module").close();
+
+        StringWriter writer = new StringWriter();
+        profiler.finish().writeChromeTrace(writer, "ExamplePlugin");
+        String trace = writer.toString();
+
+        assertTrue(trace.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(trace.contains("\"name\":\"com.example.\\\"Quoted\\\"Module\",\"cat\":\"module\",\"ph\":\"X\""));
+        assertTrue(trace.contains("\"args\":{\"name\":\"ExamplePlugin\"}"));
+        assertTrue(trace.trim().endsWith("]}"));
+    }
+}
@@ -0,0 +1,78 @@
+package tech.guilhermekaua.spigotboot.core.test.context.snapshot;
+
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.PackageScan;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.StartupSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupSnapshotTest {
+    private static final ClassLoader CLASS_LOADER = StartupSnapshotTest.class.getClassLoader();
+
+    static class FirstComponent {
+    }
+
+    static class SecondComponent {
+    }
+
+    static class AppConfiguration {
+    }
+
+    private static byte[] write(StartupSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(out);
+        return out.toByteArray();
+    }
+
+    private static PackageScan scan() {
+        Set<Class<? extends Annotation>> annotations = Collections.singleton(Component.class);
+        Set<Class<?>> components = new LinkedHashSet<>(Arrays.asList(FirstComponent.class, SecondComponent.class));
+        return new PackageScan("com.example", annotations, components, Collections.singleton(AppConfiguration.class), Collections.emptySet());
+    }
+
+    @Test
+    void shouldRestoreScannedClasses() throws IOException {
+        byte[] bytes = write(new StartupSnapshot("abc", Collections.singletonList(scan())));
+
+        StartupSnapshot restored = StartupSnapshot.read(new ByteArrayInputStream(bytes), "abc", CLASS_LOADER);
+
+        assertNotNull(restored);
+        PackageScan scan = restored.getScan("com.example");
+        assertNotNull(scan);
+        assertEquals(Collections.singleton(Component.class), scan.getComponentsAnnotations());
+        assertEquals(Arrays.asList(FirstComponent.class, SecondComponent.class), Arrays.asList(scan.getComponentsClasses().toArray()));
+        assertEquals(Collections.singleton(AppConfiguration.class), scan.getConfigurationClasses());
+        assertTrue(scan.getMethodHandlerClasses().isEmpty());
+        assertNull(restored.getScan("com.other"));
+    }
+
+    @Test
+    void shouldIgnoreSnapshotOfOtherKey() throws IOException {
+        byte[] bytes = write(new StartupSnapshot("abc", Collections.singletonList(scan())));
+
+        assertNull(StartupSnapshot.read(new ByteArrayInputStream(bytes), "def", CLASS_LOADER));
+    }
+
+    @Test
+    void shouldFailOnMissingClassOrCorruptData() throws IOException {
+        byte[] valid = write(new StartupSnapshot("abc", Collections.singletonList(scan())));
+        // same length, so only the class name changes
+        byte[] renamed = new String(valid, StandardCharsets.ISO_8859_1)
+                .replace("SecondComponent", "ThirdComponent0")
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThrows(IOException.class, () -> StartupSnapshot.read(new ByteArrayInputStream(renamed), "abc", CLASS_LOADER));
+        assertThrows(IOException.class, () -> StartupSnapshot.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}), "abc", CLASS_LOADER));
+    }
+}
@@ -0,0 +1,117 @@
+package tech.guilhermekaua.spigotboot.core.test.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedRuntimeTest {
+    private final SharedRuntime runtime = SharedRuntime.get();
+
+    @AfterEach
+    void tearDown() {
+        runtime.closeAll();
+    }
+
+    @Test
+    void shouldCloseResourceWhenLastReferenceIsReleased() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        Object first = runtime.acquire("test-resource", () -> new Object[]{created.incrementAndGet()}, resource -> closed.incrementAndGet());
+        Object second = runtime.acquire("test-resource", () -> new Object[]{created.incrementAndGet()}, resource -> closed.incrementAndGet());
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(2, runtime.getReferenceCount("test-resource"));
+
+        assertTrue(runtime.release(first));
+        assertEquals(0, closed.get(), "Resource should stay open while another context holds it");
+
+        assertTrue(runtime.release(second));
+        assertEquals(1, closed.get());
+        assertFalse(runtime.isShared(first));
+    }
+
+    @Test
+    void releaseShouldIgnoreResourcesNotOwnedByRuntime() {
+        assertFalse(runtime.release(new Object()));
+    }
+
+    @Test
+    void leaseShutdownShouldNotStopSharedExecutor() throws InterruptedException {
+        ExecutorService shared = Executors.newCachedThreadPool();
+        ExecutorService first = runtime.leaseExecutor("test-executor", () -> shared);
+        ExecutorService second = runtime.leaseExecutor("test-executor", () -> shared);
+
+        CountDownLatch release = new CountDownLatch(1);
+        first.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        first.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> first.execute(() -> {
+        }));
+        assertFalse(first.awaitTermination(50, TimeUnit.MILLISECONDS), "Lease should wait for its own in-flight task");
+
+        release.countDown();
+        assertTrue(first.awaitTermination(1, TimeUnit.SECONDS));
+        assertFalse(shared.isShutdown(), "Shared executor should keep running for the other lease");
+
+        CountDownLatch ran = new CountDownLatch(1);
+        second.execute(ran::countDown);
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+
+        second.shutdown();
+        assertTrue(shared.isShutdown(), "Shared executor should shut down with its last lease");
+    }
+
+    @Test
+    void leaseShutdownNowShouldCancelOnlyItsOwnTasks() throws InterruptedException {
+        ExecutorService shared = Executors.newFixedThreadPool(1);
+        ExecutorService first = runtime.leaseExecutor("test-executor", () -> shared);
+        ExecutorService second = runtime.leaseExecutor("test-executor", () -> shared);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        first.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        AtomicInteger ran = new AtomicInteger();
+        Runnable queued = ran::incrementAndGet;
+        first.execute(queued);
+        CountDownLatch otherRan = new CountDownLatch(1);
+        second.execute(otherRan::countDown);
+
+        List<Runnable> notStarted = first.shutdownNow();
+
+        assertEquals(1, notStarted.size());
+        assertSame(queued, notStarted.get(0));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "Running task of the lease should be interrupted");
+        assertTrue(first.awaitTermination(1, TimeUnit.SECONDS));
+        assertTrue(otherRan.await(1, TimeUnit.SECONDS), "Tasks of the other lease should still run");
+        assertEquals(0, ran.get());
+
+        second.shutdown();
+    }
+}
@@ -0,0 +1,189 @@
+package tech.guilhermekaua.spigotboot.core.test.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Service;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.context.MethodHandlerContext;
+import tech.guilhermekaua.spigotboot.core.exceptions.ServiceTimeoutException;
+import tech.guilhermekaua.spigotboot.core.service.ServiceMethodHandler;
+import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+import tech.guilhermekaua.spigotboot.core.service.scope.ServiceScope;
+import tech.guilhermekaua.spigotboot.core.service.scope.TaskScope;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ServiceShutdownGate;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServiceMethodHandlerTest {
+    private ExecutorService executor;
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        timer = new HashedWheelTimer("test-timer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        timer.stop();
+    }
+
+    @Test
+    void shouldTimeOutAndFreeTheWorker() throws Exception {
+        TestService service = new TestService();
+
+        CompletableFuture<Object> result = call(handler(timer), service, "hanging");
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ServiceTimeoutException.class, exception.getCause());
+        // the worker was interrupted out of its wait and gave up on the inner future
+        assertTrue(service.hanging.handle((value, error) -> service.hanging.isCancelled()).get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCompleteTimeoutsOffTheTimerThread() {
+        TestService service = new TestService();
+
+        CompletableFuture<String> thread = call(handler(timer), service, "hanging")
+                .handle((value, error) -> Thread.currentThread().getName());
+
+        assertNotEquals("test-timer", thread.join());
+    }
+
+    @Test
+    void shouldRetryFailedAttempts() {
+        TestService service = new TestService();
+
+        assertEquals("done", call(handler(timer), service, "flaky").join());
+        assertEquals(3, service.attempts.get());
+    }
+
+    @Test
+    void shouldPropagateFailureOnceRetriesAreExhausted() {
+        TestService service = new TestService();
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> call(handler(timer), service, "failing").join());
+        assertTrue(exception.getCause().getMessage().startsWith("Failed to invoke service method: failing"));
+        assertEquals(2, service.attempts.get());
+    }
+
+    @Test
+    void shouldBackOffBetweenRetries() {
+        TestService service = new TestService();
+
+        long start = System.nanoTime();
+        assertEquals("done", call(handler(timer), service, "flakyWithBackoff").join());
+
+        // 50ms before the second attempt, 100ms before the third
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+        assertEquals(3, service.attempts.get());
+    }
+
+    @Test
+    void shouldNotRetryPastTheScopeDeadline() {
+        TestService service = new TestService();
+        ServiceScope serviceScope = new ServiceScope(ServiceProperties.builder().executorService(executor).timer(timer).build());
+
+        long start = System.nanoTime();
+        try (TaskScope scope = serviceScope.open(300, TimeUnit.MILLISECONDS)) {
+            CompletableFuture<Object> result = call(handler(timer), service, "failingWithBackoff");
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+
+            // the third attempt would only start 300ms in, after 100ms and 200ms of backoff
+            assertTrue(exception.getCause().getMessage().startsWith("Failed to invoke service method: failingWithBackoff"));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 250);
+            assertEquals(2, service.attempts.get());
+        }
+    }
+
+    @Test
+    void shouldFailWithoutTimerWhenBackoffIsNeeded() {
+        TestService service = new TestService();
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> call(handler(null), service, "flakyWithBackoff").join());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(0, service.attempts.get());
+    }
+
+    @Test
+    void shouldFallBackToClassLevelSettings() {
+        TimedService service = new TimedService();
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> call(handler(timer), service, "hanging").join());
+        assertInstanceOf(ServiceTimeoutException.class, exception.getCause());
+    }
+
+    private ServiceMethodHandler handler(HashedWheelTimer timer) {
+        return new ServiceMethodHandler(
+                ServiceProperties.builder()
+                        .executorService(executor)
+                        .timer(timer)
+                        .build(),
+                new ServiceShutdownGate()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> call(ServiceMethodHandler handler, Object service, String methodName) {
+        try {
+            Method method = service.getClass().getMethod(methodName);
+            return (CompletableFuture<Object>) handler.handle(new MethodHandlerContext(service, method, method, new Object[0]));
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Service
+    public static class TestService {
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CompletableFuture<Object> hanging = new CompletableFuture<>();
+
+        @Service(timeout = 50)
+        public CompletableFuture<Object> hanging() {
+            return hanging;
+        }
+
+        @Service(retries = 2)
+        public CompletableFuture<Object> flaky() {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("attempt " + attempts.get());
+            }
+            return CompletableFuture.completedFuture("done");
+        }
+
+        @Service(retries = 1)
+        public CompletableFuture<Object> failing() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("always");
+        }
+
+        @Service(retries = 2, backoff = 50)
+        public CompletableFuture<Object> flakyWithBackoff() {
+            return flaky();
+        }
+
+        @Service(retries = 5, backoff = 100)
+        public CompletableFuture<Object> failingWithBackoff() {
+            return failing();
+        }
+    }
+
+    @Service(timeout = 50)
+    public static class TimedService {
+        @Service
+        public CompletableFuture<Object> hanging() {
+            return new CompletableFuture<>();
+        }
+    }
+}
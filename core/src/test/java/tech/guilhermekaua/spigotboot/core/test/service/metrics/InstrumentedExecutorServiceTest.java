@@ -0,0 +1,110 @@
+package tech.guilhermekaua.spigotboot.core.test.service.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorStats;
+import tech.guilhermekaua.spigotboot.core.service.metrics.InstrumentedExecutorService;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedExecutorServiceTest {
+    private InstrumentedExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new InstrumentedExecutorService("test", Executors.newFixedThreadPool(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCountCompletedAndFailedTasks() throws Exception {
+        executor.submit(() -> 1).get();
+        Future<?> failing = executor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThrows(ExecutionException.class, failing::get);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+
+        ExecutorStats stats = executor.snapshot();
+        assertEquals(2, stats.getSubmitted());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(1, stats.getFailed());
+        assertEquals(0, stats.getQueued());
+        assertEquals(0, stats.getActive());
+    }
+
+    @Test
+    void shouldTrackActiveQueuedAndPeak() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(running.await(2, TimeUnit.SECONDS));
+
+        ExecutorStats stats = executor.snapshot();
+        assertEquals(2, stats.getActive());
+        assertEquals(2, stats.getPeakActive());
+        assertEquals(1, stats.getQueued());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(3, executor.snapshot().getCompleted());
+        assertEquals(2, executor.snapshot().getPeakActive());
+    }
+
+    @Test
+    void shouldNotCountTasksDroppedByShutdownNowAsQueued() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(2);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(running.await(2, TimeUnit.SECONDS));
+        assertEquals(2, executor.snapshot().getQueued());
+
+        assertEquals(2, executor.shutdownNow().size());
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(0, executor.snapshot().getQueued());
+    }
+
+    @Test
+    void shouldCountRejections() {
+        executor.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(1, executor.snapshot().getRejected());
+    }
+}
@@ -0,0 +1,48 @@
+package tech.guilhermekaua.spigotboot.core.test.service.metrics;
+
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.service.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    @Test
+    void shouldTrackCountMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1, TimeUnit.MILLISECONDS);
+        histogram.record(3, TimeUnit.MILLISECONDS);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(2), histogram.getMeanNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(3), histogram.getMaxNanos());
+    }
+
+    @Test
+    void shouldBoundPercentilesWithinTheirBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1, TimeUnit.MILLISECONDS);
+        }
+        histogram.record(200, TimeUnit.MILLISECONDS);
+
+        long median = histogram.getPercentileNanos(0.5);
+        assertTrue(median >= TimeUnit.MILLISECONDS.toNanos(1) && median < TimeUnit.MILLISECONDS.toNanos(2), "median was " + median);
+        assertTrue(histogram.getPercentileNanos(0.99) < TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    void shouldResetAndRejectInvalidPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5, TimeUnit.MILLISECONDS);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(0.99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(1.5));
+    }
+}
@@ -0,0 +1,144 @@
+package tech.guilhermekaua.spigotboot.core.test.service.priority;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.service.priority.Prioritized;
+import tech.guilhermekaua.spigotboot.core.service.priority.PriorityLaneExecutor;
+import tech.guilhermekaua.spigotboot.core.service.priority.ServicePriority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityLaneExecutorTest {
+    private PriorityLaneExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PriorityLaneExecutor(1, new int[]{4, 4, 4}, 100, TimeUnit.MILLISECONDS, Executors.defaultThreadFactory());
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldServeHigherLanesFirst() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        blockWorker();
+
+        executor.execute(Prioritized.wrap(ServicePriority.LOW, () -> order.add("low")));
+        executor.execute(Prioritized.wrap(ServicePriority.NORMAL, () -> order.add("normal")));
+        executor.execute(Prioritized.wrap(ServicePriority.HIGH, () -> order.add("high")));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(Arrays.asList("high", "normal", "low"), order);
+    }
+
+    @Test
+    void shouldPromoteAgedTasks() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        blockWorker();
+
+        executor.execute(Prioritized.wrap(ServicePriority.LOW, () -> order.add("low")));
+        Thread.sleep(200);
+        executor.execute(Prioritized.wrap(ServicePriority.HIGH, () -> order.add("high")));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(Arrays.asList("low", "high"), order);
+    }
+
+    @Test
+    void shouldRejectWhenLaneIsFull() {
+        blockWorker();
+
+        for (int i = 0; i < 4; i++) {
+            executor.execute(Prioritized.wrap(ServicePriority.LOW, () -> {
+            }));
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(Prioritized.wrap(ServicePriority.LOW, () -> {
+        })));
+        executor.execute(Prioritized.wrap(ServicePriority.HIGH, () -> {
+        }));
+    }
+
+    @Test
+    void shutdownNowShouldReturnQueuedTasks() {
+        blockWorker();
+        executor.execute(() -> {
+        });
+
+        assertEquals(1, executor.shutdownNow().size());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+
+    @Test
+    void shouldNotStrandTasksSubmittedDuringShutdown() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            PriorityLaneExecutor racing = new PriorityLaneExecutor(1, new int[]{1000, 1000, 1000}, 100, TimeUnit.MILLISECONDS, Executors.defaultThreadFactory());
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger ran = new AtomicInteger();
+            CountDownLatch submitting = new CountDownLatch(1);
+
+            Thread submitter = new Thread(() -> {
+                submitting.countDown();
+                while (true) {
+                    try {
+                        racing.execute(ran::incrementAndGet);
+                        accepted.incrementAndGet();
+                    } catch (RejectedExecutionException e) {
+                        return;
+                    }
+                }
+            });
+            submitter.start();
+            assertTrue(submitting.await(2, TimeUnit.SECONDS));
+
+            int dropped = racing.shutdownNow().size();
+            submitter.join(2000);
+            assertTrue(racing.awaitTermination(2, TimeUnit.SECONDS));
+
+            // every accepted task either ran or was handed back, none is left in a lane nobody serves
+            assertEquals(accepted.get(), ran.get() + dropped);
+        }
+    }
+
+    private void blockWorker() {
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            assertTrue(running.await(2, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package tech.guilhermekaua.spigotboot.core.test.service.resilience;
+
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.service.resilience.CircuitBreaker;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 1, TimeUnit.MINUTES);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successShouldResetFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 1, TimeUnit.MINUTES);
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void shouldAllowSingleTrialCallAfterOpenDuration() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 10, TimeUnit.MILLISECONDS);
+
+        breaker.onFailure();
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(20);
+
+        assertTrue(breaker.tryAcquire(), "First caller after the open period should be let through");
+        assertFalse(breaker.tryAcquire(), "Only one trial call is allowed while half-open");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedTrialCallShouldReopen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 10, TimeUnit.MILLISECONDS);
+
+        breaker.onFailure();
+        Thread.sleep(20);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+}
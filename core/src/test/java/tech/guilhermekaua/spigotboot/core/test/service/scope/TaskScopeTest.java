@@ -0,0 +1,182 @@
+package tech.guilhermekaua.spigotboot.core.test.service.scope;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.exceptions.ServiceTimeoutException;
+import tech.guilhermekaua.spigotboot.core.service.configuration.ServiceProperties;
+import tech.guilhermekaua.spigotboot.core.service.scope.ServiceScope;
+import tech.guilhermekaua.spigotboot.core.service.scope.TaskScope;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskScopeTest {
+    private ExecutorService executor;
+    private ForkJoinPool pool;
+    private HashedWheelTimer timer;
+    private ServiceScope serviceScope;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        pool = new ForkJoinPool(2);
+        timer = new HashedWheelTimer("test-timer");
+        serviceScope = new ServiceScope(ServiceProperties.builder()
+                .executorService(executor)
+                .workStealingExecutorService(pool)
+                .timer(timer)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+        timer.stop();
+    }
+
+    @Test
+    void shouldJoinAllForkedTasks() {
+        try (TaskScope scope = serviceScope.open()) {
+            CompletableFuture<Integer> a = scope.fork(() -> 1);
+            CompletableFuture<Integer> b = scope.fork(() -> 2);
+
+            scope.join();
+
+            assertEquals(3, a.join() + b.join());
+        }
+    }
+
+    @Test
+    void shouldCancelSiblingsOnFailure() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (TaskScope scope = serviceScope.open()) {
+            CompletableFuture<Object> slow = scope.fork(() -> {
+                started.countDown();
+                Thread.sleep(10_000);
+                return null;
+            });
+            assertTrue(started.await(2, TimeUnit.SECONDS));
+
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            CompletionException exception = assertThrows(CompletionException.class, scope::join);
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertTrue(slow.isCancelled());
+            assertTrue(scope.isCancelled());
+        }
+    }
+
+    @Test
+    void shouldFailWhenDeadlineExpires() {
+        try (TaskScope scope = serviceScope.open(50, TimeUnit.MILLISECONDS)) {
+            CompletableFuture<Object> slow = scope.fork(() -> {
+                Thread.sleep(10_000);
+                return null;
+            });
+
+            CompletionException exception = assertThrows(CompletionException.class, scope::join);
+            assertInstanceOf(ServiceTimeoutException.class, exception.getCause());
+            assertTrue(slow.isCancelled());
+        }
+    }
+
+    @Test
+    void shouldRejectDeadlineWithoutTimer() {
+        ServiceScope withoutTimer = new ServiceScope(ServiceProperties.builder().executorService(executor).build());
+
+        assertThrows(IllegalStateException.class, () -> withoutTimer.open(50, TimeUnit.MILLISECONDS));
+        assertNull(TaskScope.current());
+    }
+
+    @Test
+    void shouldNotRetainCompletedTasks() throws InterruptedException {
+        try (TaskScope scope = serviceScope.open()) {
+            CompletableFuture<Object> future = scope.attach(new CompletableFuture<>());
+            WeakReference<CompletableFuture<Object>> reference = new WeakReference<>(future);
+
+            future.complete(null);
+            future = null;
+
+            for (int i = 0; i < 20 && reference.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull(reference.get());
+        }
+    }
+
+    @Test
+    void nestedScopeShouldInheritDeadlineAndCancellation() {
+        try (TaskScope parent = serviceScope.open(1, TimeUnit.SECONDS)) {
+            try (TaskScope child = serviceScope.open(1, TimeUnit.HOURS)) {
+                assertSame(child, TaskScope.current());
+                assertTrue(child.remaining(TimeUnit.SECONDS) <= 1);
+
+                parent.cancel();
+                assertTrue(child.isCancelled());
+            }
+
+            assertSame(parent, TaskScope.current());
+        }
+
+        assertNull(TaskScope.current());
+    }
+
+    @Test
+    void closingOutOfOrderShouldUnwindClosedScopes() {
+        TaskScope outer = serviceScope.open();
+        TaskScope inner = serviceScope.open();
+
+        // closes the inner scope too, which is still on top of the stack
+        outer.close();
+
+        assertTrue(inner.isClosed());
+        assertNull(TaskScope.current());
+        inner.close();
+        assertNull(TaskScope.current());
+    }
+
+    @Test
+    void scopeClosedFromAnotherThreadShouldNotBeCurrent() throws InterruptedException {
+        try (TaskScope outer = serviceScope.open()) {
+            TaskScope inner = serviceScope.open();
+
+            Thread closer = new Thread(inner::close);
+            closer.start();
+            closer.join();
+
+            assertSame(outer, TaskScope.current());
+        }
+
+        assertNull(TaskScope.current());
+    }
+
+    @Test
+    void forkedTaskShouldSeeItsScope() {
+        try (TaskScope scope = serviceScope.open()) {
+            assertSame(scope, scope.fork(TaskScope::current).join());
+        }
+    }
+
+    @Test
+    void shouldRejectForkAfterClose() {
+        TaskScope scope = serviceScope.open();
+        scope.close();
+
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> 1));
+    }
+}
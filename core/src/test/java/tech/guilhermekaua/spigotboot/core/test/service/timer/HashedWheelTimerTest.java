@@ -0,0 +1,59 @@
+package tech.guilhermekaua.spigotboot.core.test.service.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.service.timer.HashedWheelTimer;
+import tech.guilhermekaua.spigotboot.core.service.timer.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer("test-timer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void shouldRunTaskAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    void cancelledTaskShouldNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        Timeout timeout = timer.newTimeout(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+
+        Thread.sleep(100);
+        assertFalse(ran.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    void shouldRejectTimeoutsAfterStop() {
+        timer.stop();
+
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(() -> {
+        }, 1, TimeUnit.MILLISECONDS));
+    }
+}
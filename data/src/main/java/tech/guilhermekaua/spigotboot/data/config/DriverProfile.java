@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver-specific data source properties, picked from the JDBC URL unless configured explicitly.
+ */
+public enum DriverProfile {
+    /**
+     * Connector/J only streams a result set, one row at a time, with a fetch size of {@link Integer#MIN_VALUE}.
+     */
+    MYSQL("jdbc:mysql:", Integer.MAX_VALUE, Integer.MIN_VALUE) {
+        @Override
+        protected void addProperties(Map<String, String> properties) {
+            properties.put("useUnicode", "true");
+            properties.put("characterEncoding", "utf8");
+
+            properties.put("cachePrepStmts", "true");
+            properties.put("prepStmtCacheSize", "250");
+            properties.put("prepStmtCacheSqlLimit", "2048");
+            properties.put("useServerPrepStmts", "true");
+            properties.put("useLocalSessionState", "true");
+            properties.put("rewriteBatchedStatements", "true");
+            properties.put("cacheResultSetMetadata", "true");
+            properties.put("cacheServerConfiguration", "true");
+            properties.put("elideSetAutoCommits", "true");
+            properties.put("maintainTimeStats", "false");
+            properties.put("alwaysSendSetIsolation", "false");
+            properties.put("cacheCallableStmts", "true");
+
+            properties.put("socketTimeout", String.valueOf(TimeUnit.SECONDS.toMillis(30)));
+        }
+    },
+    MARIADB("jdbc:mariadb:", Integer.MAX_VALUE, 1000) {
+        @Override
+        protected void addProperties(Map<String, String> properties) {
+            properties.put("cachePrepStmts", "true");
+            properties.put("prepStmtCacheSize", "250");
+            properties.put("useServerPrepStmts", "true");
+            properties.put("useBulkStmts", "true");
+
+            properties.put("socketTimeout", String.valueOf(TimeUnit.SECONDS.toMillis(30)));
+        }
+    },
+    /**
+     * The driver ignores the fetch size outside a transaction.
+     */
+    POSTGRESQL("jdbc:postgresql:", Integer.MAX_VALUE, 1000) {
+        @Override
+        public boolean isStreamingInTransactionOnly() {
+            return true;
+        }
+
+        @Override
+        protected void addProperties(Map<String, String> properties) {
+            properties.put("reWriteBatchedInserts", "true");
+            properties.put("tcpKeepAlive", "true");
+
+            // seconds, unlike the MySQL drivers
+            properties.put("socketTimeout", "30");
+        }
+    },
+    H2("jdbc:h2:", Integer.MAX_VALUE, 0),
+    /**
+     * SQLite allows a single writer, extra connections would only fail with {@code SQLITE_BUSY}.
+     */
+    SQLITE("jdbc:sqlite:", 1, 0),
+    GENERIC("", Integer.MAX_VALUE, 0);
+
+    private final String urlPrefix;
+    private final int maximumPoolSize;
+    private final int streamingFetchSize;
+    private final Map<String, String> properties;
+
+    DriverProfile(String urlPrefix, int maximumPoolSize, int streamingFetchSize) {
+        this.urlPrefix = urlPrefix;
+        this.maximumPoolSize = maximumPoolSize;
+        this.streamingFetchSize = streamingFetchSize;
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        addProperties(properties);
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    protected void addProperties(Map<String, String> properties) {
+    }
+
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Upper bound the driver imposes on the pool size.
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Fetch size that makes the driver read a result set from the database as it is iterated, instead of
+     * loading it all on execution. {@code 0} leaves the driver default, for drivers that already do so.
+     */
+    public int getStreamingFetchSize() {
+        return streamingFetchSize;
+    }
+
+    /**
+     * Whether the {@link #getStreamingFetchSize() streaming fetch size} only applies with auto-commit off.
+     */
+    public boolean isStreamingInTransactionOnly() {
+        return false;
+    }
+
+    public static DriverProfile detect(String jdbcUrl) {
+        String url = jdbcUrl.toLowerCase(Locale.ROOT);
+        for (DriverProfile profile : values()) {
+            if (profile != GENERIC && url.startsWith(profile.urlPrefix)) {
+                return profile;
+            }
+        }
+        return GENERIC;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool tuning of a persistence unit. Durations are in milliseconds.
+ * <p>
+ * The default size suits a database dedicated to one server; when several servers share a database,
+ * the sum of their pool sizes is what the database has to sustain, so size each pool explicitly.
+ */
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Getter
+public class PoolSettings {
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = (Runtime.getRuntime().availableProcessors() * 2) + 1;
+
+    @Builder.Default
+    private final int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+    /**
+     * Idle connections kept open; {@code -1} uses {@code min(maximumPoolSize, 10)}.
+     */
+    @Builder.Default
+    private final int minimumIdle = -1;
+    @Builder.Default
+    private final long maxLifetime = TimeUnit.MINUTES.toMillis(30);
+    @Builder.Default
+    private final long idleTimeout = TimeUnit.MINUTES.toMillis(10);
+    @Builder.Default
+    private final long connectionTimeout = TimeUnit.SECONDS.toMillis(10);
+    /**
+     * Interval between liveness checks of idle connections; {@code 0} disables them.
+     */
+    @Builder.Default
+    private final long keepaliveTime = 0;
+    /**
+     * Time a connection may be held before a leak warning is logged; {@code 0} disables detection.
+     */
+    @Builder.Default
+    private final long leakDetectionThreshold = TimeUnit.SECONDS.toMillis(10);
+
+    public static PoolSettings defaults() {
+        return builder().build();
+    }
+
+    public int getEffectiveMinimumIdle() {
+        return minimumIdle < 0 ? Math.min(maximumPoolSize, 10) : Math.min(minimumIdle, maximumPoolSize);
+    }
+}
@@ -23,55 +23,64 @@
 package tech.guilhermekaua.spigotboot.data.config.impl;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import lombok.Getter;
 import lombok.Setter;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
 import tech.guilhermekaua.spigotboot.data.config.PersistenceUnitConfig;
+import tech.guilhermekaua.spigotboot.data.config.PoolSettings;
 
 import javax.sql.DataSource;
-import java.util.concurrent.TimeUnit;
+import java.util.Collections;
+import java.util.Map;
 
 @Setter
 @Getter
 public class HikariPersistenceUnitConfig implements PersistenceUnitConfig {
-    private static final int MAXIMUM_POOL_SIZE = (Runtime.getRuntime().availableProcessors() * 2) + 1;
-    private static final int MINIMUM_IDLE = Math.min(MAXIMUM_POOL_SIZE, 10);
-
-    private static final long MAX_LIFETIME = TimeUnit.MINUTES.toMillis(30);
-    private static final long CONNECTION_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
-    private static final long LEAK_DETECTION_THRESHOLD = TimeUnit.SECONDS.toMillis(10);
+    private PoolSettings poolSettings = PoolSettings.defaults();
+    /**
+     * {@code null} detects the profile from the JDBC URL.
+     */
+    private DriverProfile driverProfile;
+    /**
+     * Applied after the driver profile, so they can override its properties.
+     */
+    private Map<String, String> dataSourceProperties = Collections.emptyMap();
+    private String poolName;
+    private boolean readOnly;
+    /**
+     * Receives the pool's connection wait and usage times, {@code null} for none.
+     */
+    private MetricsTrackerFactory metricsTrackerFactory;
 
     @Override
     public DataSource configure(String address, String username, String password) {
+        DriverProfile profile = driverProfile != null ? driverProfile : DriverProfile.detect(address);
         HikariDataSource dataSource = new HikariDataSource();
 
         dataSource.setJdbcUrl(address);
         dataSource.setUsername(username);
         dataSource.setPassword(password);
+        if (poolName != null) {
+            dataSource.setPoolName(poolName);
+        }
+        dataSource.setReadOnly(readOnly);
+        if (metricsTrackerFactory != null) {
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        }
 
-        dataSource.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
-        dataSource.setMinimumIdle(MINIMUM_IDLE);
-
-        dataSource.setMaxLifetime(MAX_LIFETIME);
-        dataSource.setConnectionTimeout(CONNECTION_TIMEOUT);
-        dataSource.setLeakDetectionThreshold(LEAK_DETECTION_THRESHOLD);
-
-        dataSource.addDataSourceProperty("useUnicode", true);
-        dataSource.addDataSourceProperty("characterEncoding", "utf8");
+        int maximumPoolSize = Math.min(poolSettings.getMaximumPoolSize(), profile.getMaximumPoolSize());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(Math.min(poolSettings.getEffectiveMinimumIdle(), maximumPoolSize));
 
-        dataSource.addDataSourceProperty("cachePrepStmts", "true");
-        dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
-        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        dataSource.addDataSourceProperty("useServerPrepStmts", "true");
-        dataSource.addDataSourceProperty("useLocalSessionState", "true");
-        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
-        dataSource.addDataSourceProperty("cacheResultSetMetadata", "true");
-        dataSource.addDataSourceProperty("cacheServerConfiguration", "true");
-        dataSource.addDataSourceProperty("elideSetAutoCommits", "true");
-        dataSource.addDataSourceProperty("maintainTimeStats", "false");
-        dataSource.addDataSourceProperty("alwaysSendSetIsolation", "false");
-        dataSource.addDataSourceProperty("cacheCallableStmts", "true");
+        dataSource.setMaxLifetime(poolSettings.getMaxLifetime());
+        dataSource.setIdleTimeout(poolSettings.getIdleTimeout());
+        dataSource.setConnectionTimeout(poolSettings.getConnectionTimeout());
+        dataSource.setKeepaliveTime(poolSettings.getKeepaliveTime());
+        dataSource.setLeakDetectionThreshold(poolSettings.getLeakDetectionThreshold());
 
-        dataSource.addDataSourceProperty("socketTimeout", String.valueOf(TimeUnit.SECONDS.toMillis(30)));
+        profile.getProperties().forEach(dataSource::addDataSourceProperty);
+        dataSourceProperties.forEach(dataSource::addDataSourceProperty);
         return dataSource;
     }
-}
\ No newline at end of file
+}
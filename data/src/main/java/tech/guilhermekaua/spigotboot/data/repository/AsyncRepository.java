@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Non-blocking view of a {@link Repository}: every call runs on a database executor and completes the
+ * returned future there.
+ */
+public interface AsyncRepository<T, KEY> {
+    CompletableFuture<T> save(T entity);
+
+    CompletableFuture<List<T>> saveAll(Iterable<T> iterable);
+
+    CompletableFuture<List<T>> upsertAll(Collection<T> entities);
+
+    CompletableFuture<T> findById(KEY id);
+
+    CompletableFuture<List<T>> findAll();
+
+    CompletableFuture<List<T>> findAllById(Collection<KEY> ids);
+
+    CompletableFuture<List<T>> findAllAfter(KEY afterId, int limit);
+
+    CompletableFuture<Void> delete(T entity);
+
+    CompletableFuture<Void> delete(Iterable<T> iterable);
+
+    CompletableFuture<Void> deleteById(KEY id);
+
+    CompletableFuture<Void> deleteAllById(Collection<KEY> ids);
+
+    CompletableFuture<Void> deleteAll();
+
+    CompletableFuture<Long> count();
+
+    CompletableFuture<Boolean> existsById(KEY id);
+
+    /**
+     * Runs {@code action} against the blocking repository on the database executor, e.g. to combine
+     * several calls in one task.
+     */
+    <V> CompletableFuture<V> call(Function<? super Repository<T, KEY>, ? extends V> action);
+
+    /**
+     * The executor the futures complete on.
+     */
+    Executor getExecutor();
+}
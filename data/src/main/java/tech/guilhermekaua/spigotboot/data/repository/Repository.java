@@ -22,23 +22,61 @@
  */
 package tech.guilhermekaua.spigotboot.data.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface Repository<T, KEY> {
     T save(T entity);
 
     List<T> saveAll(Iterable<T> iterable);
 
+    /**
+     * Inserts the entities that do not exist yet and updates the others, grouping many rows per statement
+     * where the database supports it. All batches run in one transaction.
+     */
+    List<T> upsertAll(Collection<T> entities);
+
     T findById(KEY id);
 
     List<T> findAll();
 
+    /**
+     * Loads the entities with the given IDs in batches of {@code IN} queries. IDs without a row are
+     * skipped, and the result is not in the order of {@code ids}.
+     */
+    List<T> findAllById(Collection<KEY> ids);
+
+    /**
+     * Streams every entity from a single query without loading them all in memory. The stream holds a
+     * database connection until it is exhausted or closed, so use it in a try-with-resources block.
+     */
+    Stream<T> streamAll();
+
+    /**
+     * Visits every entity in pages of {@code batchSize}, ordered by ID. Each page is a separate query, so
+     * no connection is held while {@code consumer} runs.
+     */
+    void forEachBatch(int batchSize, Consumer<List<T>> consumer);
+
+    /**
+     * Keyset pagination: returns up to {@code limit} entities with an ID greater than {@code afterId},
+     * ordered by ID. Pass {@code null} for the first page and the last ID of a page for the next one.
+     */
+    List<T> findAllAfter(KEY afterId, int limit);
+
     void delete(T entity);
 
     void delete(Iterable<T> iterable);
 
     void deleteById(KEY id);
 
+    /**
+     * Deletes the entities with the given IDs in batches of {@code IN} statements, all in one transaction.
+     */
+    void deleteAllById(Collection<KEY> ids);
+
     void deleteAll();
 
     long count();
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DriverProfileTest {
+
+    @Test
+    void testDetectsProfileFromUrl() {
+        assertEquals(DriverProfile.MYSQL, DriverProfile.detect("jdbc:mysql://localhost:3306/server"));
+        assertEquals(DriverProfile.MARIADB, DriverProfile.detect("jdbc:mariadb://localhost/server"));
+        assertEquals(DriverProfile.POSTGRESQL, DriverProfile.detect("jdbc:postgresql://localhost/server"));
+        assertEquals(DriverProfile.H2, DriverProfile.detect("jdbc:h2:mem:server"));
+        assertEquals(DriverProfile.SQLITE, DriverProfile.detect("jdbc:sqlite:plugins/Server/data.db"));
+    }
+
+    @Test
+    void testDetectionIgnoresCase() {
+        assertEquals(DriverProfile.MYSQL, DriverProfile.detect("JDBC:MySQL://localhost/server"));
+    }
+
+    @Test
+    void testUnknownDriversAreGeneric() {
+        assertEquals(DriverProfile.GENERIC, DriverProfile.detect("jdbc:oracle:thin:@localhost:1521:server"));
+        // the MySQL prefix must match the scheme, not any URL mentioning it
+        assertEquals(DriverProfile.GENERIC, DriverProfile.detect("jdbc:tracing:jdbc:mysql://localhost/server"));
+        assertTrue(DriverProfile.GENERIC.getProperties().isEmpty());
+    }
+
+    @Test
+    void testSqliteAllowsASingleConnection() {
+        assertEquals(1, DriverProfile.SQLITE.getMaximumPoolSize());
+        assertEquals(Integer.MAX_VALUE, DriverProfile.MYSQL.getMaximumPoolSize());
+    }
+
+    @Test
+    void testStreamingFetchSizes() {
+        assertEquals(Integer.MIN_VALUE, DriverProfile.MYSQL.getStreamingFetchSize());
+        assertTrue(DriverProfile.MARIADB.getStreamingFetchSize() > 0);
+        assertTrue(DriverProfile.POSTGRESQL.getStreamingFetchSize() > 0);
+        assertTrue(DriverProfile.POSTGRESQL.isStreamingInTransactionOnly());
+        assertFalse(DriverProfile.MYSQL.isStreamingInTransactionOnly());
+        assertEquals(0, DriverProfile.H2.getStreamingFetchSize());
+    }
+
+    @Test
+    void testDriverSpecificProperties() {
+        assertEquals("true", DriverProfile.MYSQL.getProperties().get("rewriteBatchedStatements"));
+        assertEquals("true", DriverProfile.POSTGRESQL.getProperties().get("reWriteBatchedInserts"));
+        // seconds for PostgreSQL, milliseconds for the MySQL drivers
+        assertEquals("30", DriverProfile.POSTGRESQL.getProperties().get("socketTimeout"));
+        assertEquals("30000", DriverProfile.MARIADB.getProperties().get("socketTimeout"));
+    }
+}
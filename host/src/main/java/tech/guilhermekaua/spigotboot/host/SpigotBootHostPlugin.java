@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.host;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.MethodHandlerRegistry;
+import tech.guilhermekaua.spigotboot.core.context.snapshot.PackageScanCache;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+
+/**
+ * Installs one copy of the framework on the server, for plugins that declare {@code depend: [SpigotBoot]} and
+ * use it with {@code provided} scope instead of shading it. Their contexts share this copy's classes, scan
+ * cache, proxy classes, service executor, timer and connection pools, while each keeps its own beans.
+ */
+public class SpigotBootHostPlugin extends JavaPlugin {
+
+    @Override
+    public void onLoad() {
+        SharedRuntime.get().setHosted(true);
+    }
+
+    @Override
+    public void onEnable() {
+        getLogger().info("Shared Spigot Boot runtime " + getDescription().getVersion() + " ready");
+    }
+
+    /**
+     * Plugins depending on this one are disabled first, so every context has released its resources by now;
+     * anything left is logged and closed.
+     */
+    @Override
+    public void onDisable() {
+        SharedRuntime runtime = SharedRuntime.get();
+        runtime.closeAll();
+        runtime.setHosted(false);
+        MethodHandlerRegistry.clear();
+        PackageScanCache.clear();
+    }
+}
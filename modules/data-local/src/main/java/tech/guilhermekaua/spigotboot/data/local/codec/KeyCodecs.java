@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Codecs of entity IDs. Common ID types get a fixed or UTF-8 encoding, which keeps the in-memory index
+ * and every log record small; other types fall back to {@link SerializableCodec}.
+ */
+public final class KeyCodecs {
+    private KeyCodecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K> @NotNull EntityCodec<K> forType(@NotNull Class<K> type) {
+        if (type == String.class) {
+            return (EntityCodec<K>) new EntityCodec<String>() {
+                @Override
+                public byte[] encode(String value) {
+                    return value.getBytes(StandardCharsets.UTF_8);
+                }
+
+                @Override
+                public String decode(byte[] bytes) {
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+        if (type == Integer.class) {
+            return (EntityCodec<K>) new EntityCodec<Integer>() {
+                @Override
+                public byte[] encode(Integer value) {
+                    return ByteBuffer.allocate(4).putInt(value).array();
+                }
+
+                @Override
+                public Integer decode(byte[] bytes) throws IOException {
+                    return checkLength(bytes, 4).getInt();
+                }
+            };
+        }
+        if (type == Long.class) {
+            return (EntityCodec<K>) new EntityCodec<Long>() {
+                @Override
+                public byte[] encode(Long value) {
+                    return ByteBuffer.allocate(8).putLong(value).array();
+                }
+
+                @Override
+                public Long decode(byte[] bytes) throws IOException {
+                    return checkLength(bytes, 8).getLong();
+                }
+            };
+        }
+        if (type == UUID.class) {
+            return (EntityCodec<K>) new EntityCodec<UUID>() {
+                @Override
+                public byte[] encode(UUID value) {
+                    return ByteBuffer.allocate(16)
+                            .putLong(value.getMostSignificantBits())
+                            .putLong(value.getLeastSignificantBits())
+                            .array();
+                }
+
+                @Override
+                public UUID decode(byte[] bytes) throws IOException {
+                    ByteBuffer buffer = checkLength(bytes, 16);
+                    return new UUID(buffer.getLong(), buffer.getLong());
+                }
+            };
+        }
+
+        return new SerializableCodec<>(type);
+    }
+
+    private static ByteBuffer checkLength(byte[] bytes, int length) throws IOException {
+        if (bytes.length != length) {
+            throw new IOException("Expected a key of " + length + " bytes, got " + bytes.length);
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.config;
+
+import tech.guilhermekaua.spigotboot.data.local.store.SyncPolicy;
+
+/**
+ * Settings of the local stores. Optional: a plugin without an implementation gets the defaults.
+ */
+public interface LocalStorageConfig {
+    /**
+     * Directory of the store files, relative to the plugin's data folder.
+     */
+    default String getDirectory() {
+        return "storage";
+    }
+
+    default SyncPolicy getSyncPolicy() {
+        return SyncPolicy.INTERVAL;
+    }
+
+    /**
+     * Delay, in milliseconds, between background syncs with {@link SyncPolicy#INTERVAL}, and between checks
+     * for stores to compact.
+     */
+    default long getSyncInterval() {
+        return 1000;
+    }
+
+    /**
+     * A store is compacted once more than this fraction of its file holds overwritten or deleted entities.
+     */
+    default double getCompactionRatio() {
+        return 0.5;
+    }
+
+    /**
+     * Stores smaller than this many bytes are never compacted.
+     */
+    default long getMinCompactionSize() {
+        return 4L * 1024 * 1024;
+    }
+}
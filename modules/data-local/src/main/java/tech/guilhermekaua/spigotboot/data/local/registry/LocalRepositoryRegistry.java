@@ -0,0 +1,304 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.registry;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
+import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
+import tech.guilhermekaua.spigotboot.core.utils.ReflectionUtils;
+import tech.guilhermekaua.spigotboot.data.local.annotations.LocalId;
+import tech.guilhermekaua.spigotboot.data.local.annotations.LocalStore;
+import tech.guilhermekaua.spigotboot.data.local.codec.EntityCodec;
+import tech.guilhermekaua.spigotboot.data.local.codec.KeyCodecs;
+import tech.guilhermekaua.spigotboot.data.local.codec.SerializableCodec;
+import tech.guilhermekaua.spigotboot.data.local.config.LocalStorageConfig;
+import tech.guilhermekaua.spigotboot.data.local.config.discovery.LocalStorageConfigDiscoveryService;
+import tech.guilhermekaua.spigotboot.data.local.registry.discovery.LocalRepositoryDiscoveryService;
+import tech.guilhermekaua.spigotboot.data.local.repository.LocalRepository;
+import tech.guilhermekaua.spigotboot.data.local.repository.impl.LocalRepositoryImpl;
+import tech.guilhermekaua.spigotboot.data.local.repository.proxy.LocalRepositoryProxy;
+import tech.guilhermekaua.spigotboot.data.local.store.LogStore;
+import tech.guilhermekaua.spigotboot.data.local.store.SyncPolicy;
+import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+@Component
+@SuppressWarnings("rawtypes")
+@RequiredArgsConstructor
+public class LocalRepositoryRegistry {
+    private final Map<Class<?>, LocalRepository<?, ?>> repositoryMap = new HashMap<>();
+    private final List<LogStore<?>> stores = new CopyOnWriteArrayList<>();
+    private final Plugin plugin;
+    private final LocalRepositoryDiscoveryService repositoryDiscoveryService;
+    private final LocalStorageConfigDiscoveryService configDiscoveryService;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public void initialize(Context context) {
+        String basePackage = ProxyUtils.getRealClass(context.getPlugin()).getPackage().getName();
+        LocalStorageConfig config = resolveConfig(context, basePackage);
+        Path directory = plugin.getDataFolder().toPath().resolve(config.getDirectory());
+
+        DependencyManager dependencyManager = context.getDependencyManager();
+        for (Class<? extends LocalRepository> repositoryClass : repositoryDiscoveryService.discoverFromPackage(basePackage)) {
+            try {
+                initializeRepository(repositoryClass, dependencyManager, directory, config);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        if (!stores.isEmpty()) {
+            startMaintenance(config);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initializeRepository(Class<? extends LocalRepository> repositoryClass,
+                                      DependencyManager dependencyManager,
+                                      Path directory,
+                                      LocalStorageConfig config) {
+        try {
+            Class<?> entityClass = resolveEntityClass(repositoryClass);
+            Field idField = resolveIdField(entityClass);
+            LocalStore localStore = repositoryClass.getAnnotation(LocalStore.class);
+
+            String name = localStore != null && !localStore.value().isEmpty() ? localStore.value() : entityClass.getSimpleName();
+            LogStore<?> store = LogStore.open(
+                    directory.resolve(name + ".log"),
+                    KeyCodecs.forType(wrap(idField.getType())),
+                    config.getSyncPolicy(),
+                    plugin.getLogger()
+            );
+            stores.add(store);
+
+            LocalRepository defaultImpl = new LocalRepositoryImpl(store, createCodec(localStore, entityClass), idField);
+            repositoryMap.put(entityClass, defaultImpl);
+
+            dependencyManager.registerDependency(
+                    (Class<LocalRepository>) repositoryClass,
+                    repositoryClass,
+                    BeanUtils.getQualifier(repositoryClass),
+                    BeanUtils.getIsPrimary(repositoryClass),
+                    (clazz) -> LocalRepositoryProxy.create(repositoryClass, defaultImpl)
+            );
+        } catch (Throwable t) {
+            throw new RuntimeException("Failed to register repository " + repositoryClass.getName(), t);
+        }
+    }
+
+    private LocalStorageConfig resolveConfig(Context context, String basePackage) {
+        List<Class<? extends LocalStorageConfig>> configClasses = new ArrayList<>();
+        for (Class<? extends LocalStorageConfig> configClass : configDiscoveryService.discoverFromPackage(basePackage)) {
+            if (!configClass.isInterface() && !configClass.isAnonymousClass() && !Modifier.isAbstract(configClass.getModifiers())) {
+                configClasses.add(configClass);
+            }
+        }
+
+        if (configClasses.isEmpty()) {
+            return new LocalStorageConfig() {
+            };
+        }
+        if (configClasses.size() > 1) {
+            throw new IllegalStateException("Multiple LocalStorageConfig implementations found, declare only one: " + configClasses);
+        }
+
+        context.registerBean(configClasses.get(0));
+        return context.getBean(configClasses.get(0));
+    }
+
+    /**
+     * Syncs the stores with {@link SyncPolicy#INTERVAL} and compacts the ones with too much garbage, from a
+     * single background thread.
+     */
+    private synchronized void startMaintenance(LocalStorageConfig config) {
+        if (scheduler != null) {
+            return;
+        }
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat(plugin.getName() + "-LocalStorage-%d")
+                .setDaemon(true)
+                .build());
+        executor.scheduleWithFixedDelay(
+                () -> maintain(config),
+                config.getSyncInterval(),
+                config.getSyncInterval(),
+                TimeUnit.MILLISECONDS
+        );
+        scheduler = executor;
+    }
+
+    private void maintain(LocalStorageConfig config) {
+        for (LogStore<?> store : stores) {
+            try {
+                if (config.getSyncPolicy() == SyncPolicy.INTERVAL) {
+                    store.sync();
+                }
+                if (store.needsCompaction(config.getCompactionRatio(), config.getMinCompactionSize())) {
+                    store.compact();
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to maintain local store " + store.getFile().getFileName(), e);
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread and closes every store, forcing pending writes to disk.
+     */
+    public void closeStores() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+
+        try {
+            if (scheduler != null) {
+                // let a running compaction finish rather than closing the store under it
+                scheduler.awaitTermination(30, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (LogStore<?> store : stores) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to close local store " + store.getFile().getFileName(), e);
+            }
+        }
+        stores.clear();
+    }
+
+    private static EntityCodec<?> createCodec(LocalStore localStore, Class<?> entityClass) throws ReflectiveOperationException {
+        Class<? extends EntityCodec> codecClass = localStore != null ? localStore.codec() : SerializableCodec.class;
+        try {
+            return codecClass.getConstructor(Class.class).newInstance(entityClass);
+        } catch (NoSuchMethodException e) {
+            return codecClass.getConstructor().newInstance();
+        }
+    }
+
+    private static Field resolveIdField(Class<?> entityClass) {
+        List<Field> fields = new ArrayList<>(ReflectionUtils.getFieldsAnnotatedWith(LocalId.class, entityClass));
+        if (fields.size() != 1) {
+            throw new IllegalStateException("Entity " + entityClass.getName() + " must have exactly one field annotated with @LocalId.");
+        }
+
+        Field idField = fields.get(0);
+        if (!Comparable.class.isAssignableFrom(wrap(idField.getType()))) {
+            throw new IllegalStateException("The @LocalId field of " + entityClass.getName() + " must be Comparable: " + idField.getType().getName());
+        }
+        return idField;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        if (type == char.class) {
+            return Character.class;
+        }
+        throw new IllegalStateException("Unsupported ID type " + type.getName());
+    }
+
+    private Class<?> resolveEntityClass(Class<?> repositoryClass) {
+        Type entityType = findRepositoryTypeArguments(repositoryClass)[0];
+
+        if (entityType instanceof Class) {
+            return (Class<?>) entityType;
+        }
+        if (entityType instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) entityType).getRawType();
+        }
+
+        throw new IllegalStateException("Cannot resolve the entity type of repository " + repositoryClass.getName() + ": " + entityType);
+    }
+
+    private Type[] findRepositoryTypeArguments(Class<?> type) {
+        List<Type> candidates = new ArrayList<>(Arrays.asList(type.getGenericInterfaces()));
+        if (type.getGenericSuperclass() != null) {
+            candidates.add(type.getGenericSuperclass());
+        }
+
+        for (Type candidate : candidates) {
+            if (candidate instanceof ParameterizedType && ((ParameterizedType) candidate).getRawType() == LocalRepository.class) {
+                return ((ParameterizedType) candidate).getActualTypeArguments();
+            }
+        }
+
+        for (Type candidate : candidates) {
+            Class<?> raw = candidate instanceof ParameterizedType
+                    ? (Class<?>) ((ParameterizedType) candidate).getRawType()
+                    : (Class<?>) candidate;
+
+            if (LocalRepository.class.isAssignableFrom(raw) && raw != LocalRepository.class) {
+                return findRepositoryTypeArguments(raw);
+            }
+        }
+
+        throw new IllegalStateException("Repository " + type.getName() + " must extend " + LocalRepository.class.getSimpleName() + " with concrete type arguments.");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T, ID> LocalRepository<T, ID> getRepository(@NotNull Class<T> entityClass) {
+        return (LocalRepository<T, ID>) repositoryMap.get(entityClass);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.repository;
+
+import tech.guilhermekaua.spigotboot.data.repository.Repository;
+
+/**
+ * Repository backed by an embedded store file instead of a database.
+ * <p>
+ * Every entity is indexed in memory by ID, so lookups and writes never leave the process; values are
+ * read from the file on demand. Batch writes ({@code saveAll}, {@code upsertAll}, {@code delete(Iterable)}
+ * and {@code deleteAllById}) are atomic. Entities are ordered by ID, which therefore must be
+ * {@link Comparable}; there are no derived queries, so other lookups are default methods.
+ */
+public interface LocalRepository<T, ID> extends Repository<T, ID> {
+    /**
+     * Forces writes not yet on disk to it, regardless of the
+     * {@link tech.guilhermekaua.spigotboot.data.local.store.SyncPolicy}.
+     */
+    void sync();
+}
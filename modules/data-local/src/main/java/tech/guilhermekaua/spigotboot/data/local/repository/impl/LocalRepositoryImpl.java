@@ -0,0 +1,273 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.repository.impl;
+
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.data.local.codec.EntityCodec;
+import tech.guilhermekaua.spigotboot.data.local.repository.LocalRepository;
+import tech.guilhermekaua.spigotboot.data.local.store.LogStore;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class LocalRepositoryImpl<T, ID> implements LocalRepository<T, ID> {
+    private static final int PAGE_SIZE = 256;
+
+    private final LogStore<ID> store;
+    private final EntityCodec<T> codec;
+    private final Field idField;
+
+    public LocalRepositoryImpl(@NotNull LogStore<ID> store, @NotNull EntityCodec<T> codec, @NotNull Field idField) {
+        this.store = store;
+        this.codec = codec;
+        this.idField = idField;
+        this.idField.setAccessible(true);
+    }
+
+    @Override
+    public T save(T entity) {
+        try {
+            store.put(getId(entity), codec.encode(entity));
+            return entity;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save entity", e);
+        }
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        List<T> entities = new ArrayList<>();
+        iterable.forEach(entities::add);
+        return upsertAll(entities);
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        try {
+            List<LogStore.Operation<ID>> operations = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                operations.add(LogStore.Operation.put(getId(entity), codec.encode(entity)));
+            }
+            store.write(operations);
+            return new ArrayList<>(entities);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save entities", e);
+        }
+    }
+
+    @Override
+    public T findById(ID id) {
+        try {
+            byte[] value = store.get(id);
+            return value != null ? codec.decode(value) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to find entity by id", e);
+        }
+    }
+
+    @Override
+    public List<T> findAll() {
+        List<T> entities = new ArrayList<>(store.size());
+        forEachBatch(PAGE_SIZE, entities::addAll);
+        return entities;
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        List<T> entities = new ArrayList<>(ids.size());
+        for (ID id : ids) {
+            T entity = findById(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Streams the entities lazily, reading each from the store file as it is consumed. There is no
+     * connection to release, but closing the stream is harmless.
+     */
+    @Override
+    public Stream<T> streamAll() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new EntityIterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive.");
+        }
+
+        ID afterId = null;
+        while (true) {
+            List<ID> ids = store.keys(afterId, batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            List<T> page = findAllById(ids);
+            if (!page.isEmpty()) {
+                consumer.accept(page);
+            }
+            if (ids.size() < batchSize) {
+                return;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        return findAllById(store.keys(afterId, limit));
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(getId(entity));
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        List<ID> ids = new ArrayList<>();
+        for (T entity : iterable) {
+            ids.add(getId(entity));
+        }
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        try {
+            store.delete(id);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete entity by id", e);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        try {
+            List<LogStore.Operation<ID>> operations = new ArrayList<>(ids.size());
+            for (ID id : ids) {
+                if (store.contains(id)) {
+                    operations.add(LogStore.Operation.delete(id));
+                }
+            }
+            store.write(operations);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete entities by id", e);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            store.clear();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete all entities", e);
+        }
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return store.contains(id);
+    }
+
+    @Override
+    public void sync() {
+        try {
+            store.sync();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to sync store " + store.getFile().getFileName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ID getId(T entity) {
+        Objects.requireNonNull(entity, "entity cannot be null.");
+        try {
+            Object id = idField.get(entity);
+            if (id == null) {
+                throw new IllegalArgumentException("Entity " + entity.getClass().getName() + " has no ID; local repositories do not generate them.");
+            }
+            return (ID) id;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to read the ID of " + entity.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Walks the index in pages, skipping entities deleted since their page was read.
+     */
+    private final class EntityIterator implements Iterator<T> {
+        private Iterator<ID> page;
+        private ID lastId;
+        private boolean exhausted;
+        private T next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (page != null && page.hasNext()) {
+                    lastId = page.next();
+                    next = findById(lastId);
+                } else if (exhausted) {
+                    return false;
+                } else {
+                    List<ID> ids = store.keys(lastId, PAGE_SIZE);
+                    exhausted = ids.size() < PAGE_SIZE;
+                    page = ids.iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            T entity = next;
+            next = null;
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.repository.proxy;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.ComponentProxy;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.ProxyInterceptor;
+import tech.guilhermekaua.spigotboot.data.local.repository.LocalRepository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Proxy interceptor bound to a repository's {@link LocalRepository} delegate. Abstract methods are mapped
+ * to the matching delegate method once, when the proxy is created; default methods run their own body.
+ */
+public final class LocalRepositoryProxy implements ProxyInterceptor {
+    private final Class<?> repositoryClass;
+    private final Object delegate;
+    private final Map<Method, Method> dispatchTable;
+
+    private LocalRepositoryProxy(Class<?> repositoryClass, Object delegate, Map<Method, Method> dispatchTable) {
+        this.repositoryClass = repositoryClass;
+        this.delegate = delegate;
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * @throws IllegalStateException if {@code repositoryClass} declares an abstract method the delegate cannot serve
+     */
+    public static <R> @NotNull R create(@NotNull Class<R> repositoryClass, @NotNull LocalRepository<?, ?> delegate) {
+        Objects.requireNonNull(repositoryClass, "repositoryClass cannot be null.");
+        Objects.requireNonNull(delegate, "delegate cannot be null.");
+
+        Map<Method, Method> dispatchTable = new HashMap<>();
+        for (Method method : repositoryClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || !Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+
+            try {
+                Method target = delegate.getClass().getMethod(method.getName(), method.getParameterTypes());
+                target.setAccessible(true);
+                dispatchTable.put(method, target);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Repository " + repositoryClass.getName() + " declares method "
+                        + method.getName() + " which has no implementation; local repositories have no derived"
+                        + " queries, declare it as a default method.", e);
+            }
+        }
+
+        return ComponentProxy.createProxy(repositoryClass, new LocalRepositoryProxy(repositoryClass, delegate, dispatchTable));
+    }
+
+    @Override
+    public Object intercept(Object self, Method thisMethod, @Nullable Method proceed, Object[] args) throws Throwable {
+        Method target = dispatchTable.get(thisMethod);
+        if (target != null) {
+            return invokeUnwrapped(target, delegate, args);
+        }
+
+        switch (thisMethod.getName()) {
+            case "toString":
+                return repositoryClass.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(self));
+            case "hashCode":
+                return System.identityHashCode(self);
+            case "equals":
+                return self == args[0];
+            default:
+                break;
+        }
+
+        if (proceed == null) {
+            throw new UnsupportedOperationException("Repository method has no implementation: " + thisMethod);
+        }
+        return invokeUnwrapped(proceed, self, args);
+    }
+
+    private static Object invokeUnwrapped(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
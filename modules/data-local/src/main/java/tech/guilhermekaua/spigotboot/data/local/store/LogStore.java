@@ -0,0 +1,697 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.store;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.local.codec.EntityCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only key-value log with an in-memory index.
+ * <p>
+ * Every write appends one record holding a batch of puts and deletes, so a batch is applied entirely or
+ * not at all. The index maps each key to the position of its latest value in the file: a lookup is an
+ * index probe plus one positional read, usually served by the operating system's page cache.
+ * <p>
+ * On open the log is replayed; a record cut short by a crash fails its checksum and is truncated
+ * away. Overwritten and deleted values are left in the file until {@link #compact()} rewrites it with
+ * only the live ones and atomically replaces it.
+ * <p>
+ * Keys are ordered by their natural ordering, so they must be {@link Comparable}.
+ * <p>
+ * A {@link FileChannel} is closed for every user when a thread is interrupted during I/O on it, which
+ * cancelled {@code @Service} calls do. The store reopens its channel when that happens: the interrupted
+ * call fails with an {@link InterruptedIOException} and the others carry on.
+ *
+ * @param <K> the key type
+ */
+public class LogStore<K> implements Closeable {
+    // [int payload length][int crc32 of payload], followed by the payload
+    private static final int RECORD_HEADER_BYTES = 8;
+    // [byte op][int key length][key][int value length][value]
+    private static final int OP_HEADER_BYTES = 9;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final int COMPACTION_RECORD_BYTES = 1 << 20;
+
+    private final Path file;
+    private final EntityCodec<K> keyCodec;
+    private final SyncPolicy syncPolicy;
+    private final Logger logger;
+
+    private final NavigableMap<K, Location> index = new ConcurrentSkipListMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object channelLock = new Object();
+    private final Object compactionLock = new Object();
+
+    private volatile FileChannel channel;
+    private long fileSize;
+    private long liveBytes;
+    // bumped by clear(), so a compaction running meanwhile knows its copy is stale
+    private long generation;
+    private boolean dirty;
+    private volatile boolean closed;
+
+    private LogStore(Path file, EntityCodec<K> keyCodec, SyncPolicy syncPolicy, Logger logger) {
+        this.file = file;
+        this.keyCodec = keyCodec;
+        this.syncPolicy = syncPolicy;
+        this.logger = logger;
+    }
+
+    /**
+     * Opens (or creates) the log at {@code file} and rebuilds its index.
+     */
+    public static <K> @NotNull LogStore<K> open(@NotNull Path file,
+                                                @NotNull EntityCodec<K> keyCodec,
+                                                @NotNull SyncPolicy syncPolicy,
+                                                @NotNull Logger logger) throws IOException {
+        Objects.requireNonNull(file, "file cannot be null.");
+        Objects.requireNonNull(keyCodec, "keyCodec cannot be null.");
+        Objects.requireNonNull(syncPolicy, "syncPolicy cannot be null.");
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // a compaction that did not finish never replaced the log
+        Files.deleteIfExists(compactionFile(file));
+
+        LogStore<K> store = new LogStore<>(file, keyCodec, syncPolicy, logger);
+        store.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            store.replay();
+        } catch (IOException | RuntimeException e) {
+            store.channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * @return the latest value of {@code key}, or {@code null} if it has none
+     */
+    public @Nullable byte[] get(@NotNull K key) throws IOException {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+
+            Location location = index.get(key);
+            return location != null ? withChannel(channel -> read(channel, location)) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(@NotNull K key) {
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return up to {@code limit} keys greater than {@code after} (or the first ones if it is {@code null}), in order
+     */
+    public @NotNull List<K> keys(@Nullable K after, int limit) {
+        NavigableMap<K, Location> view = after != null ? index.tailMap(after, false) : index;
+
+        List<K> keys = new ArrayList<>(Math.min(limit, 64));
+        for (K key : view.keySet()) {
+            if (keys.size() >= limit) {
+                break;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    public void put(@NotNull K key, @NotNull byte[] value) throws IOException {
+        write(Collections.singletonList(Operation.put(key, value)));
+    }
+
+    public void delete(@NotNull K key) throws IOException {
+        write(Collections.singletonList(Operation.delete(key)));
+    }
+
+    /**
+     * Appends {@code operations} as a single record: after a crash either all of them are visible or none is.
+     */
+    public void write(@NotNull List<Operation<K>> operations) throws IOException {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> keys = new ArrayList<>(operations.size());
+        int payloadBytes = 4;
+        for (Operation<K> operation : operations) {
+            byte[] key = keyCodec.encode(operation.key);
+            keys.add(key);
+            payloadBytes += OP_HEADER_BYTES + key.length + (operation.value != null ? operation.value.length : 0);
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payloadBytes);
+        record.position(RECORD_HEADER_BYTES);
+        record.putInt(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            putOperation(record, operations.get(i), keys.get(i));
+        }
+        sealRecord(record, payloadBytes);
+
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+
+            long recordStart = fileSize;
+            withChannel(channel -> writeFully(channel, record, recordStart));
+            fileSize += record.capacity();
+            dirty = true;
+
+            long position = recordStart + RECORD_HEADER_BYTES + 4;
+            for (int i = 0; i < operations.size(); i++) {
+                Operation<K> operation = operations.get(i);
+                int keyLength = keys.get(i).length;
+                if (operation.value != null) {
+                    long valuePosition = position + OP_HEADER_BYTES + keyLength;
+                    apply(operation.key, new Location(valuePosition, operation.value.length, OP_HEADER_BYTES + keyLength));
+                    position = valuePosition + operation.value.length;
+                } else {
+                    apply(operation.key, null);
+                    position += OP_HEADER_BYTES + keyLength;
+                }
+            }
+
+            if (syncPolicy == SyncPolicy.ALWAYS) {
+                force(false);
+                dirty = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every key by truncating the log.
+     */
+    public void clear() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+
+            withChannel(channel -> channel.truncate(0));
+            force(true);
+            index.clear();
+            fileSize = 0;
+            liveBytes = 0;
+            generation++;
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces pending writes to disk, if there are any.
+     */
+    public void sync() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed || !dirty) {
+                return;
+            }
+
+            force(false);
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether more than {@code garbageRatio} of a log of at least {@code minSize} bytes is made of
+     * overwritten or deleted values
+     */
+    public boolean needsCompaction(double garbageRatio, long minSize) {
+        lock.readLock().lock();
+        try {
+            return !closed && fileSize >= minSize && getGarbageBytes() > fileSize * garbageRatio;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log with only the live values, then atomically replaces the old one. The live values are
+     * copied under the read lock, so lookups are still served while writers wait; the write lock is only
+     * taken at the end, to copy what was appended in between and swap the files.
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            Path compactionFile = compactionFile(file);
+            Map<K, Location> relocated = new HashMap<>(index.size() * 2);
+            boolean replaced = false;
+
+            try (FileChannel target = FileChannel.open(compactionFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long copiedUpTo;
+                long copiedGeneration;
+                long newSize;
+
+                lock.readLock().lock();
+                try {
+                    ensureOpen();
+                    copiedUpTo = fileSize;
+                    copiedGeneration = generation;
+                    newSize = copyLiveValues(target, relocated);
+                } finally {
+                    lock.readLock().unlock();
+                }
+
+                lock.writeLock().lock();
+                try {
+                    ensureOpen();
+                    if (generation != copiedGeneration) {
+                        // cleared in between, there is nothing left to compact
+                        return;
+                    }
+
+                    // records appended after the copy are moved over as they are
+                    long tailStart = newSize;
+                    long tailBytes = fileSize - copiedUpTo;
+                    if (tailBytes > 0) {
+                        newSize += copyTail(target, copiedUpTo, tailBytes, tailStart);
+                    }
+                    target.force(true);
+
+                    long before = fileSize;
+                    replaceFile(compactionFile);
+                    replaced = true;
+
+                    index.putAll(relocated);
+                    applyRecords(tailStart, newSize);
+                    liveBytes = 0;
+                    for (Location location : index.values()) {
+                        liveBytes += location.getRecordBytes();
+                    }
+                    dirty = false;
+                    logger.log(Level.FINE, "Compacted " + file.getFileName() + " from " + before + " to " + fileSize + " bytes");
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                if (!replaced) {
+                    Files.deleteIfExists(compactionFile);
+                }
+            }
+        }
+    }
+
+    private long copyLiveValues(FileChannel target, Map<K, Location> relocated) throws IOException {
+        List<Map.Entry<K, byte[]>> pending = new ArrayList<>();
+        int pendingBytes = 4;
+        long newSize = 0;
+
+        for (Map.Entry<K, Location> entry : index.entrySet()) {
+            byte[] key = keyCodec.encode(entry.getKey());
+            byte[] value = withChannel(channel -> read(channel, entry.getValue()));
+            pending.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), value));
+            pendingBytes += OP_HEADER_BYTES + key.length + value.length;
+
+            if (pendingBytes >= COMPACTION_RECORD_BYTES) {
+                newSize = writeCompacted(target, newSize, pending, relocated);
+                pending.clear();
+                pendingBytes = 4;
+            }
+        }
+        if (!pending.isEmpty()) {
+            newSize = writeCompacted(target, newSize, pending, relocated);
+        }
+        return newSize;
+    }
+
+    private long copyTail(FileChannel target, long from, long bytes, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(bytes, COMPACTION_RECORD_BYTES));
+        long copied = 0;
+        while (copied < bytes) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), bytes - copied));
+            long position = from + copied;
+            withChannel(channel -> readFully(channel, buffer, position));
+            buffer.flip();
+            writeFully(target, buffer, to + copied);
+            copied += buffer.limit();
+        }
+        return copied;
+    }
+
+    private void replaceFile(Path compactionFile) throws IOException {
+        synchronized (channelLock) {
+            channel.close();
+            try {
+                Files.move(compactionFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(compactionFile, file, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                fileSize = channel.size();
+            }
+        }
+    }
+
+    public long getFileSize() {
+        lock.readLock().lock();
+        try {
+            return fileSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bytes taken by overwritten and deleted values and by record headers.
+     */
+    public long getGarbageBytes() {
+        lock.readLock().lock();
+        try {
+            return fileSize - liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public @NotNull Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            try {
+                force(false);
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long writeCompacted(FileChannel target, long position, List<Map.Entry<K, byte[]>> entries, Map<K, Location> relocated) throws IOException {
+        List<byte[]> keys = new ArrayList<>(entries.size());
+        int payloadBytes = 4;
+        for (Map.Entry<K, byte[]> entry : entries) {
+            byte[] key = keyCodec.encode(entry.getKey());
+            keys.add(key);
+            payloadBytes += OP_HEADER_BYTES + key.length + entry.getValue().length;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payloadBytes);
+        record.position(RECORD_HEADER_BYTES);
+        record.putInt(entries.size());
+
+        long valuePosition = position + RECORD_HEADER_BYTES + 4;
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<K, byte[]> entry = entries.get(i);
+            byte[] key = keys.get(i);
+            putOperation(record, Operation.put(entry.getKey(), entry.getValue()), key);
+
+            valuePosition += OP_HEADER_BYTES + key.length;
+            relocated.put(entry.getKey(), new Location(valuePosition, entry.getValue().length, OP_HEADER_BYTES + key.length));
+            valuePosition += entry.getValue().length;
+        }
+        sealRecord(record, payloadBytes);
+
+        writeFully(target, record, position);
+        return position + record.capacity();
+    }
+
+    private void replay() throws IOException {
+        long size = channel.size();
+        long position = applyRecords(0, size);
+
+        if (position < size) {
+            logger.warning("Discarding " + (size - position) + " bytes of an incomplete write at the end of " + file.getFileName());
+            channel.truncate(position);
+            channel.force(true);
+        }
+        fileSize = position;
+    }
+
+    /**
+     * Applies the records between {@code position} and {@code size} to the index.
+     *
+     * @return the end of the last intact record
+     */
+    private long applyRecords(long position, long size) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+
+        while (position + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int payloadBytes = header.getInt();
+            int checksum = header.getInt();
+
+            if (payloadBytes < 4 || position + RECORD_HEADER_BYTES + payloadBytes > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(payloadBytes);
+            readFully(channel, payload, position + RECORD_HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array(), 0, payloadBytes);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            payload.flip();
+            applyRecord(payload, position + RECORD_HEADER_BYTES);
+            position += RECORD_HEADER_BYTES + payloadBytes;
+        }
+        return position;
+    }
+
+    private void applyRecord(ByteBuffer payload, long payloadPosition) throws IOException {
+        int operations = payload.getInt();
+        for (int i = 0; i < operations; i++) {
+            byte op = payload.get();
+            byte[] key = new byte[payload.getInt()];
+            payload.get(key);
+            int valueLength = payload.getInt();
+
+            K decodedKey = keyCodec.decode(key);
+            if (op == OP_PUT) {
+                apply(decodedKey, new Location(payloadPosition + payload.position(), valueLength, OP_HEADER_BYTES + key.length));
+                payload.position(payload.position() + valueLength);
+            } else if (op == OP_DELETE) {
+                apply(decodedKey, null);
+            } else {
+                throw new IOException("Unknown operation " + op + " in " + file.getFileName());
+            }
+        }
+    }
+
+    private void apply(K key, @Nullable Location location) {
+        Location previous = location != null ? index.put(key, location) : index.remove(key);
+        if (previous != null) {
+            liveBytes -= previous.getRecordBytes();
+        }
+        if (location != null) {
+            liveBytes += location.getRecordBytes();
+        }
+    }
+
+    private void force(boolean metaData) throws IOException {
+        withChannel(channel -> {
+            channel.force(metaData);
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code operation} on the channel, reopening it if an interrupted thread closed it. The operation
+     * is retried on the new channel, unless it is the current thread that was interrupted.
+     */
+    private <R> R withChannel(ChannelOperation<R> operation) throws IOException {
+        FileChannel current = channel;
+        try {
+            return operation.apply(current);
+        } catch (ClosedChannelException e) {
+            if (closed) {
+                throw e;
+            }
+
+            reopen(current);
+            if (e instanceof ClosedByInterruptException || Thread.currentThread().isInterrupted()) {
+                InterruptedIOException interrupted = new InterruptedIOException("Interrupted while accessing " + file.getFileName());
+                interrupted.initCause(e);
+                throw interrupted;
+            }
+            return operation.apply(channel);
+        }
+    }
+
+    private void reopen(FileChannel broken) throws IOException {
+        synchronized (channelLock) {
+            if (channel == broken && !closed) {
+                logger.log(Level.FINE, "Reopening " + file.getFileName() + " after an interrupted thread closed it");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Store " + file.getFileName() + " is closed.");
+        }
+    }
+
+    private static <K> void putOperation(ByteBuffer record, Operation<K> operation, byte[] key) {
+        record.put(operation.value != null ? OP_PUT : OP_DELETE);
+        record.putInt(key.length);
+        record.put(key);
+        if (operation.value != null) {
+            record.putInt(operation.value.length);
+            record.put(operation.value);
+        } else {
+            record.putInt(0);
+        }
+    }
+
+    private static void sealRecord(ByteBuffer record, int payloadBytes) {
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_BYTES, payloadBytes);
+        record.putInt(0, payloadBytes);
+        record.putInt(4, (int) crc.getValue());
+        record.rewind();
+    }
+
+    private static byte[] read(FileChannel channel, Location location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.getLength());
+        readFully(channel, buffer, location.getPosition());
+        return buffer.array();
+    }
+
+    private static Void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return null;
+    }
+
+    private static Void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+        return null;
+    }
+
+    private static Path compactionFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".compact");
+    }
+
+    private interface ChannelOperation<R> {
+        R apply(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * A put or delete of a batch passed to {@link #write(List)}.
+     */
+    public static final class Operation<K> {
+        private final K key;
+        private final @Nullable byte[] value;
+
+        private Operation(K key, @Nullable byte[] value) {
+            this.key = Objects.requireNonNull(key, "key cannot be null.");
+            this.value = value;
+        }
+
+        public static <K> @NotNull Operation<K> put(@NotNull K key, @NotNull byte[] value) {
+            return new Operation<>(key, Objects.requireNonNull(value, "value cannot be null."));
+        }
+
+        public static <K> @NotNull Operation<K> delete(@NotNull K key) {
+            return new Operation<>(key, null);
+        }
+    }
+
+    private static final class Location {
+        private final long position;
+        private final int length;
+        // value plus its operation header, what the entry costs in the log
+        private final int overhead;
+
+        Location(long position, int length, int overhead) {
+            this.position = position;
+            this.length = length;
+            this.overhead = overhead;
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        long getRecordBytes() {
+            return (long) length + overhead;
+        }
+    }
+}
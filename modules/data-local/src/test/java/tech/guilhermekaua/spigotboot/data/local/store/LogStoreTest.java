@@ -0,0 +1,257 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.local.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.guilhermekaua.spigotboot.data.local.codec.KeyCodecs;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogStoreTest {
+    private static final Logger LOGGER = Logger.getLogger(LogStoreTest.class.getName());
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private LogStore<String> store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("test.log");
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void testPutGetDelete() throws IOException {
+        store.put("a", bytes("1"));
+        store.put("a", bytes("2"));
+        store.put("b", bytes("3"));
+        store.delete("b");
+
+        assertEquals("2", string(store.get("a")));
+        assertNull(store.get("b"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testReplay() throws IOException {
+        store.put("a", bytes("1"));
+        store.write(Arrays.asList(
+                LogStore.Operation.put("b", bytes("2")),
+                LogStore.Operation.put("c", bytes("3")),
+                LogStore.Operation.delete("a")
+        ));
+        store.close();
+
+        store = open();
+
+        assertNull(store.get("a"));
+        assertEquals("2", string(store.get("b")));
+        assertEquals("3", string(store.get("c")));
+        assertEquals(Arrays.asList("b", "c"), store.keys(null, 10));
+    }
+
+    @Test
+    void testTornWriteIsDiscarded() throws IOException {
+        store.put("a", bytes("1"));
+        store.close();
+        long size = Files.size(file);
+
+        // a record header announcing more bytes than were written
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 64, 1, 2, 3, 4, 5}));
+        }
+
+        store = open();
+
+        assertEquals("1", string(store.get("a")));
+        assertEquals(size, Files.size(file));
+
+        store.put("b", bytes("2"));
+        store.close();
+        store = open();
+        assertEquals("2", string(store.get("b")));
+    }
+
+    @Test
+    void testCorruptedRecordIsDiscarded() throws IOException {
+        store.put("a", bytes("1"));
+        long size = store.getFileSize();
+        store.put("b", bytes("2"));
+        store.close();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'x'}), Files.size(file) - 1);
+        }
+
+        store = open();
+
+        assertEquals("1", string(store.get("a")));
+        assertNull(store.get("b"));
+        assertEquals(size, store.getFileSize());
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, bytes("first" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, bytes("second" + i));
+        }
+        for (int i = 0; i < 50; i++) {
+            store.delete("key" + i);
+        }
+
+        long size = store.getFileSize();
+        assertTrue(store.needsCompaction(0.5, 0));
+
+        store.compact();
+
+        assertTrue(store.getFileSize() < size / 2);
+        assertFalse(store.needsCompaction(0.5, 0));
+        assertEquals(50, store.size());
+        assertEquals("second75", string(store.get("key75")));
+        assertFalse(Files.exists(directory.resolve("test.log.compact")));
+
+        store.put("key0", bytes("third0"));
+        store.close();
+        store = open();
+        assertEquals(51, store.size());
+        assertEquals("second99", string(store.get("key99")));
+        assertEquals("third0", string(store.get("key0")));
+    }
+
+    @Test
+    void testWritesDuringCompactionAreKept() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            store.put("key" + i, bytes("first" + i));
+            store.put("key" + i, bytes("second" + i));
+        }
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                started.countDown();
+                for (int i = 0; i < 2000; i++) {
+                    store.put("key" + i, bytes("third" + i));
+                    if (i % 2 == 0) {
+                        store.delete("key" + i);
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        writer.start();
+        started.await();
+        store.compact();
+        writer.join();
+        assertNull(failure.get());
+
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i % 2 == 0 ? null : "third" + i, string(store.get("key" + i)));
+        }
+        store.close();
+        store = open();
+        assertEquals(1000, store.size());
+        assertEquals("third1999", string(store.get("key1999")));
+    }
+
+    @Test
+    void testInterruptedReadDoesNotCloseTheStore() throws IOException {
+        store.put("a", bytes("1"));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, () -> store.get("a"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals("1", string(store.get("a")));
+        store.put("b", bytes("2"));
+        store.close();
+        store = open();
+        assertEquals("2", string(store.get("b")));
+    }
+
+    @Test
+    void testClear() throws IOException {
+        store.put("a", bytes("1"));
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.getFileSize());
+
+        store.close();
+        store = open();
+        assertNull(store.get("a"));
+    }
+
+    @Test
+    void testKeysAreOrdered() throws IOException {
+        for (String key : Arrays.asList("d", "b", "a", "c")) {
+            store.put(key, bytes(key));
+        }
+
+        assertEquals(Arrays.asList("a", "b"), store.keys(null, 2));
+        assertEquals(Arrays.asList("c", "d"), store.keys("b", 10));
+        assertTrue(store.keys("d", 10).isEmpty());
+    }
+
+    private LogStore<String> open() throws IOException {
+        return LogStore.open(file, KeyCodecs.forType(String.class), SyncPolicy.NEVER, LOGGER);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+}
@@ -22,46 +22,168 @@
  */
 package tech.guilhermekaua.spigotboot.data.ormLite;
 
+import com.google.common.hash.Hashing;
 import com.j256.ormlite.jdbc.DataSourceConnectionSource;
 import com.j256.ormlite.support.ConnectionSource;
+import com.zaxxer.hikari.HikariDataSource;
 import tech.guilhermekaua.spigotboot.core.context.Context;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Inject;
 import tech.guilhermekaua.spigotboot.core.module.Module;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+import tech.guilhermekaua.spigotboot.data.config.PoolSettings;
 import tech.guilhermekaua.spigotboot.data.config.impl.HikariPersistenceUnitConfig;
 import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
 import tech.guilhermekaua.spigotboot.data.ormLite.config.registry.PersistenceConfigRegistry;
+import tech.guilhermekaua.spigotboot.data.ormLite.executor.DatabaseExecutor;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.PoolMetrics;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.SlowQueryDataSource;
 import tech.guilhermekaua.spigotboot.data.ormLite.registry.OrmLiteRepositoryRegistry;
+import tech.guilhermekaua.spigotboot.data.ormLite.routing.RoutingConnectionSource;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 public class DataOrmLiteModule implements Module {
     @Inject
     private OrmLiteRepositoryRegistry ormLiteRepositoryRegistry;
     @Inject
     private PersistenceConfigRegistry persistenceConfigRegistry;
+    @Inject
+    private DatabaseExecutor databaseExecutor;
+    @Inject
+    private PoolMetrics poolMetrics;
+    private Logger logger = Logger.getLogger(DataOrmLiteModule.class.getName());
 
     @Override
     public void onInitialize(Context context) throws Exception {
-        registerConnectionSource(context);
+        logger = context.getPlugin().getLogger();
+        registerPersistenceUnits(context);
 
         ormLiteRepositoryRegistry.initialize(context);
     }
 
-    private void registerConnectionSource(Context context) throws SQLException {
-        PersistenceConfig persistenceConfig = persistenceConfigRegistry.initialize(context);
-        ConnectionSource connectionSource = createConnectionSource(persistenceConfig);
+    private void registerPersistenceUnits(Context context) throws SQLException {
+        List<PersistenceConfig> persistenceConfigs = persistenceConfigRegistry.initialize(context);
+
+        int connections = 0;
+        for (int i = 0; i < persistenceConfigs.size(); i++) {
+            PersistenceUnitPool unit = createPersistenceUnit(persistenceConfigs.get(i), i == 0);
+            persistenceConfigRegistry.registerUnit(unit);
+
+            context.getDependencyManager().registerDependency(unit.getConnectionSource(), unit.getName(), unit.isPrimary());
+            if (unit.getReplicaConnectionSource() != null) {
+                context.getDependencyManager().registerDependency(unit.getReplicaConnectionSource(), unit.getName() + "-replica", false);
+            }
+
+            connections += getMaximumPoolSize(unit.getDataSource()) + getMaximumPoolSize(unit.getReplicaDataSource());
+        }
+
+        if (connections > 0) {
+            databaseExecutor.setThreads(connections);
+        }
+    }
+
+    public PersistenceUnitPool createPersistenceUnit(PersistenceConfig persistenceConfig, boolean primary) throws SQLException {
+        DataSource dataSource = createDataSource(persistenceConfig, persistenceConfig.getName(), false);
+        ConnectionSource connectionSource = new DataSourceConnectionSource(
+                withSlowQueryLog(dataSource, persistenceConfig, persistenceConfig.getName()),
+                persistenceConfig.getAddress()
+        );
+
+        PersistenceConfig replica = persistenceConfig.getReplica();
+        DataSource replicaDataSource = null;
+        ConnectionSource replicaConnectionSource = null;
+        if (replica != null) {
+            replicaDataSource = createDataSource(replica, persistenceConfig.getName() + "-replica", true);
+            replicaConnectionSource = new DataSourceConnectionSource(
+                    withSlowQueryLog(replicaDataSource, replica, persistenceConfig.getName() + "-replica"),
+                    replica.getAddress()
+            );
+            connectionSource = new RoutingConnectionSource(
+                    connectionSource,
+                    replicaConnectionSource,
+                    persistenceConfig.getReadYourWritesWindow(),
+                    TimeUnit.MILLISECONDS
+            );
+        }
+
+        return new PersistenceUnitPool(persistenceConfig, primary, dataSource, connectionSource, replicaDataSource, replicaConnectionSource);
+    }
+
+    /**
+     * When the framework runs as the host plugin, units of any plugin pointing at the same database with the
+     * same credentials and pool settings share one pool, released through {@link PersistenceUnitPool#close()}.
+     * The shared pool is named after, and reports its metrics to, the plugin that created it.
+     */
+    private DataSource createDataSource(PersistenceConfig persistenceConfig, String poolName, boolean readOnly) {
+        SharedRuntime runtime = SharedRuntime.get();
+        if (!runtime.isHosted()) {
+            return configureDataSource(persistenceConfig, poolName, readOnly);
+        }
 
-        context.registerBean(connectionSource);
+        return runtime.acquire(
+                getSharedPoolKey(persistenceConfig, readOnly),
+                () -> configureDataSource(persistenceConfig, poolName, readOnly),
+                dataSource -> ((HikariDataSource) dataSource).close()
+        );
     }
 
-    public ConnectionSource createConnectionSource(PersistenceConfig persistenceConfig) throws SQLException {
-        final DataSource dataSource = new HikariPersistenceUnitConfig().configure(
+    private DataSource configureDataSource(PersistenceConfig persistenceConfig, String poolName, boolean readOnly) {
+        HikariPersistenceUnitConfig unitConfig = new HikariPersistenceUnitConfig();
+        unitConfig.setPoolSettings(persistenceConfig.getPoolSettings());
+        unitConfig.setDriverProfile(persistenceConfig.getDriverProfile());
+        unitConfig.setDataSourceProperties(persistenceConfig.getDataSourceProperties());
+        unitConfig.setPoolName(poolName);
+        unitConfig.setReadOnly(readOnly);
+        unitConfig.setMetricsTrackerFactory(poolMetrics);
+
+        return unitConfig.configure(
                 persistenceConfig.getAddress(),
                 persistenceConfig.getUsername(),
                 persistenceConfig.getPassword()
         );
+    }
+
+    // hashed, since the key is visible to every plugin and the settings include the password
+    private static String getSharedPoolKey(PersistenceConfig persistenceConfig, boolean readOnly) {
+        PoolSettings poolSettings = persistenceConfig.getPoolSettings();
+        String settings = String.join("\n",
+                persistenceConfig.getAddress(),
+                String.valueOf(persistenceConfig.getUsername()),
+                String.valueOf(persistenceConfig.getPassword()),
+                String.valueOf(readOnly),
+                String.valueOf(persistenceConfig.getDriverProfile()),
+                String.valueOf(new TreeMap<>(persistenceConfig.getDataSourceProperties())),
+                String.valueOf(poolSettings.getMaximumPoolSize()),
+                String.valueOf(poolSettings.getMinimumIdle()),
+                String.valueOf(poolSettings.getMaxLifetime()),
+                String.valueOf(poolSettings.getIdleTimeout()),
+                String.valueOf(poolSettings.getConnectionTimeout()),
+                String.valueOf(poolSettings.getKeepaliveTime()),
+                String.valueOf(poolSettings.getLeakDetectionThreshold())
+        );
+
+        return "hikari-" + Hashing.sha256().hashString(settings, StandardCharsets.UTF_8).toString().substring(0, 16);
+    }
+
+    // the unit keeps the raw pool, which is what gets closed and reported
+    private DataSource withSlowQueryLog(DataSource dataSource, PersistenceConfig persistenceConfig, String unitName) {
+        long threshold = persistenceConfig.getSlowQueryThreshold();
+        if (threshold <= 0) {
+            return dataSource;
+        }
+
+        return new SlowQueryDataSource(dataSource, unitName, threshold, TimeUnit.MILLISECONDS,
+                persistenceConfig.isSlowQueryParameterLogging(), logger);
+    }
 
-        return new DataSourceConnectionSource(dataSource, persistenceConfig.getAddress());
+    private static int getMaximumPoolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource ? ((HikariDataSource) dataSource).getMaximumPoolSize() : 0;
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps a read-only {@link tech.guilhermekaua.spigotboot.data.ormLite.snapshot.ColumnarSnapshot} of the
+ * repository's table off the heap, for large, read-mostly tables such as statistics or leaderboards that are
+ * scanned or ranked often. Get it from {@link tech.guilhermekaua.spigotboot.data.ormLite.snapshot.SnapshotRegistry}.
+ * <p>
+ * The snapshot is loaded on first use and refreshed in the background, so it lags behind writes by up to
+ * {@link #refreshInterval()}. The repository itself is unaffected and keeps reading from the database.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface OffHeapSnapshot {
+    /**
+     * Delay, in milliseconds, between background refreshes.
+     */
+    long refreshInterval() default 60_000;
+
+    /**
+     * Columns to build a sorted index for, used by lookups and top-N queries. The ID column is always indexed.
+     */
+    String[] indexes() default {};
+
+    /**
+     * Column holding the last modification time (or a version increasing on every write) of each row. When
+     * set, refreshes only load rows modified since the previous one, and fall back to a full reload once rows
+     * were deleted; otherwise every refresh reloads the table.
+     */
+    String updatedColumn() default "";
+}
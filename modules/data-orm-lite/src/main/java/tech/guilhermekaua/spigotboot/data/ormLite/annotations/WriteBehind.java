@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a repository buffer {@code save}, {@code update} and {@code createOrUpdate} calls in memory and
+ * persist them from a background thread.
+ * <p>
+ * Writes to the same ID are coalesced, so only the latest state of an entity is written. {@code findById},
+ * {@code existsById} and derived finds see buffered writes, the latter by matching them in memory with Java
+ * equality; derived counts, deletes and LIKE queries wait for a flush on the database executor instead.
+ * Other queries only see buffered writes once flushed. Buffers are flushed on disable. Entities without an
+ * ID yet are written immediately.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WriteBehind {
+    /**
+     * Delay, in milliseconds, between background flushes.
+     */
+    long flushInterval() default 1000;
+
+    /**
+     * Maximum number of entities written per batch transaction. A flush is also triggered early once
+     * this many entities are buffered.
+     */
+    int maxBatch() default 500;
+}
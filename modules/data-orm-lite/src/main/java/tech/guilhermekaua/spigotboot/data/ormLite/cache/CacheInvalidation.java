@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.cache;
+
+/**
+ * Marks DAO writes done by the framework itself on the current thread, so that caches which already
+ * account for them do not also treat them as foreign changes.
+ */
+public final class CacheInvalidation {
+    private static final ThreadLocal<int[]> SUPPRESSED = ThreadLocal.withInitial(() -> new int[1]);
+
+    private CacheInvalidation() {
+    }
+
+    /**
+     * Suppresses change notifications on the current thread until the returned handle is closed.
+     */
+    public static Suppression suppress() {
+        SUPPRESSED.get()[0]++;
+        return () -> SUPPRESSED.get()[0]--;
+    }
+
+    public static boolean isSuppressed() {
+        return SUPPRESSED.get()[0] > 0;
+    }
+
+    @FunctionalInterface
+    public interface Suppression extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds back cache writes made by a database transaction on the current thread until it commits, so
+ * other threads never read state from a cache that the database may still roll back.
+ * <p>
+ * A transaction begun inside another one stands for its savepoint: on commit its writes are handed to the
+ * outer transaction, and on rollback they are dropped without affecting the outer ones.
+ */
+public final class CacheTransaction implements AutoCloseable {
+    private static final ThreadLocal<CacheTransaction> CURRENT = new ThreadLocal<>();
+
+    private final @Nullable CacheTransaction outer;
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean ended;
+
+    private CacheTransaction(@Nullable CacheTransaction outer) {
+        this.outer = outer;
+    }
+
+    /**
+     * Defers cache writes on the current thread until the returned transaction is committed or closed.
+     */
+    public static @NotNull CacheTransaction begin() {
+        CacheTransaction transaction = new CacheTransaction(CURRENT.get());
+        CURRENT.set(transaction);
+        return transaction;
+    }
+
+    /**
+     * @return the innermost transaction running on the current thread, or {@code null} if there is none
+     */
+    public static @Nullable CacheTransaction current() {
+        return CURRENT.get();
+    }
+
+    public void afterCommit(@NotNull Runnable write) {
+        pending.add(write);
+    }
+
+    /**
+     * Applies the deferred writes in order, or hands them to the outer transaction.
+     */
+    public void commit() {
+        end();
+
+        if (outer != null) {
+            outer.pending.addAll(pending);
+        } else {
+            for (Runnable write : pending) {
+                write.run();
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Drops the deferred writes unless {@link #commit()} was called, since the database discarded them too.
+     */
+    @Override
+    public void close() {
+        if (!ended) {
+            end();
+            pending.clear();
+        }
+    }
+
+    private void end() {
+        if (ended) {
+            throw new IllegalStateException("Cache transaction has already ended");
+        }
+        if (CURRENT.get() != this) {
+            throw new IllegalStateException("Cache transaction is not the innermost one on this thread");
+        }
+
+        ended = true;
+        if (outer != null) {
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
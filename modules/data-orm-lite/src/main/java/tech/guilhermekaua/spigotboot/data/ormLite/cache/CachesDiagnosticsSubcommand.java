@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.integrations.bukkit.command.DiagnosticsSubcommand;
+import tech.guilhermekaua.spigotboot.core.utils.ColorUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /spigotboot caches [clear]}: prints the statistics of every repository cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachesDiagnosticsSubcommand implements DiagnosticsSubcommand {
+    private final EntityCacheRegistry entityCacheRegistry;
+
+    @Override
+    public @NotNull String getName() {
+        return "caches";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Shows hit rate and size of the repository caches";
+    }
+
+    @Override
+    public void execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        List<CacheStats> stats = entityCacheRegistry.getStats();
+        if (stats.isEmpty()) {
+            sender.sendMessage(ColorUtil.colored("&7No cached repositories."));
+            return;
+        }
+
+        for (CacheStats cache : stats) {
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "&6%s &7size &f%d&7/&f%d&7, hit rate &f%.1f%% &7(&f%d &7hits, &f%d &7misses)",
+                    cache.getName(), cache.getSize(), cache.getMaxSize(), cache.getHitRate() * 100,
+                    cache.getHits(), cache.getMisses())));
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "  &7evicted &f%d&7, expired &f%d&7, invalidated &f%d",
+                    cache.getEvictions(), cache.getExpirations(), cache.getInvalidations())));
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("clear")) {
+            for (EntityCache<?, ?> cache : entityCacheRegistry.getCaches()) {
+                cache.invalidateAll();
+            }
+            sender.sendMessage(ColorUtil.colored("&7Caches were cleared."));
+        }
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String[] args) {
+        return args.length == 1 ? Collections.singletonList("clear") : Collections.emptyList();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.cache;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Least-recently-used cache of entities by ID with an optional time to live.
+ * <p>
+ * Missing rows are cached as well, so repeated lookups of an absent ID do not hit the database either.
+ * A load that overlaps a write is returned to its caller but not cached, since it may have read the
+ * row before the write.
+ */
+public class EntityCache<ID, T> {
+    private static final Object ABSENT = new Object();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<ID, Entry> entries;
+    // incremented by every write, guarded by lock
+    private long writeStamp;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public EntityCache(@NotNull String name, int maxSize, long ttl, @NotNull TimeUnit unit) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl cannot be negative: " + ttl);
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<ID, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ID, Entry> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached entity, or loads it with {@code loader} and caches the result.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(@NotNull ID id, @NotNull Function<? super ID, ? extends T> loader) {
+        long stamp;
+        lock.lock();
+        try {
+            Object cached = lookup(id);
+            if (cached != null) {
+                hits.increment();
+                return cached == ABSENT ? null : (T) cached;
+            }
+            stamp = writeStamp;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        T loaded = loader.apply(id);
+        putIfUnchanged(id, loaded != null ? loaded : ABSENT, stamp);
+        return loaded;
+    }
+
+    /**
+     * Answers from the cache when possible, otherwise asks {@code loader}. Only negative answers are cached,
+     * since a positive one does not carry the entity.
+     */
+    public boolean exists(@NotNull ID id, @NotNull Predicate<? super ID> loader) {
+        long stamp;
+        lock.lock();
+        try {
+            Object cached = lookup(id);
+            if (cached != null) {
+                hits.increment();
+                return cached != ABSENT;
+            }
+            stamp = writeStamp;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        boolean exists = loader.test(id);
+        if (!exists) {
+            putIfUnchanged(id, ABSENT, stamp);
+        }
+        return exists;
+    }
+
+    /**
+     * Stores the entity as the current state of {@code id}.
+     */
+    public void put(@NotNull ID id, @NotNull T entity) {
+        lock.lock();
+        try {
+            writeStamp++;
+            entries.put(id, new Entry(entity, expiresAt()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(@NotNull ID id) {
+        lock.lock();
+        try {
+            writeStamp++;
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            writeStamp++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        invalidations.increment();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public @NotNull CacheStats getStats() {
+        return CacheStats.builder()
+                .name(name)
+                .size(size())
+                .maxSize(maxSize)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .expirations(expirations.sum())
+                .invalidations(invalidations.sum())
+                .build();
+    }
+
+    // must hold lock
+    private @Nullable Object lookup(ID id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt != 0 && System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(id);
+            expirations.increment();
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    private void putIfUnchanged(ID id, Object value, long stamp) {
+        lock.lock();
+        try {
+            if (writeStamp == stamp) {
+                entries.put(id, new Entry(value, expiresAt()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long expiresAt() {
+        if (ttlNanos == 0) {
+            return 0;
+        }
+
+        long expiresAt = System.nanoTime() + ttlNanos;
+        // 0 means "never"
+        return expiresAt == 0 ? 1 : expiresAt;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.cache;
+
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of the caches created for {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.CachedRepository}
+ * repositories, so their statistics can be reported.
+ */
+@Component
+public class EntityCacheRegistry {
+    private final List<EntityCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public void register(@NotNull EntityCache<?, ?> cache) {
+        caches.add(cache);
+    }
+
+    public @NotNull List<EntityCache<?, ?>> getCaches() {
+        return Collections.unmodifiableList(caches);
+    }
+
+    public @NotNull List<CacheStats> getStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (EntityCache<?, ?> cache : caches) {
+            stats.add(cache.getStats());
+        }
+        return stats;
+    }
+}
@@ -22,10 +22,96 @@
  */
 package tech.guilhermekaua.spigotboot.data.ormLite.config;
 
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+import tech.guilhermekaua.spigotboot.data.config.PoolSettings;
+import tech.guilhermekaua.spigotboot.data.ormLite.schema.SchemaAction;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Connection settings of a persistence unit. A plugin may declare several; the one annotated with
+ * {@code @Primary} (or the only one) backs repositories without a
+ * {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.PersistenceUnit} annotation.
+ */
 public interface PersistenceConfig {
     String getAddress();
 
     String getUsername();
 
     String getPassword();
+
+    /**
+     * Name of the unit, used as the qualifier of its {@code ConnectionSource} bean. Must be unique.
+     */
+    default String getName() {
+        return "default";
+    }
+
+    default PoolSettings getPoolSettings() {
+        return PoolSettings.defaults();
+    }
+
+    /**
+     * @return the driver profile, or {@code null} to detect it from {@link #getAddress()}
+     */
+    default @Nullable DriverProfile getDriverProfile() {
+        return null;
+    }
+
+    /**
+     * Extra data source properties, overriding the ones of the driver profile.
+     */
+    default Map<String, String> getDataSourceProperties() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return the read-only replica of this unit, which gets its own pool, or {@code null} if there is none
+     */
+    default @Nullable PersistenceConfig getReplica() {
+        return null;
+    }
+
+    /**
+     * Time, in milliseconds, during which a thread's reads still go to the primary after it wrote, so they
+     * are not served by a replica that has not caught up yet. Async repository calls count as writes of the
+     * thread that made them.
+     */
+    default long getReadYourWritesWindow() {
+        return 2000;
+    }
+
+    /**
+     * Rows per statement of the bulk repository operations ({@code upsertAll}, {@code findAllById} and
+     * {@code deleteAllById}). Upserts may use less to stay within the driver's bind parameter limit.
+     */
+    default int getBatchSize() {
+        return 500;
+    }
+
+    /**
+     * Statements taking at least this many milliseconds are logged with their SQL. Zero or less, the
+     * default, disables the slow query log.
+     */
+    default long getSlowQueryThreshold() {
+        return 0;
+    }
+
+    /**
+     * Whether the slow query log includes bind parameters. Off by default, since they may hold personal
+     * data or credentials.
+     */
+    default boolean isSlowQueryParameterLogging() {
+        return false;
+    }
+
+    /**
+     * What to do with the tables of this unit's repositories at startup. Runs while the DAOs are created,
+     * concurrently for every repository.
+     */
+    default SchemaAction getSchemaAction() {
+        return SchemaAction.NONE;
+    }
 }
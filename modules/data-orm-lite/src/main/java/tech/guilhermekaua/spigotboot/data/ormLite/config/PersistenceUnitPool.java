@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.config;
+
+import com.j256.ormlite.support.ConnectionSource;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.runtime.SharedRuntime;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+
+import javax.sql.DataSource;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A configured persistence unit: its pool and, when a replica is configured, the replica's pool. The
+ * {@link #getConnectionSource() connection source} of a unit with a replica is a
+ * {@link tech.guilhermekaua.spigotboot.data.ormLite.routing.RoutingConnectionSource} over both.
+ */
+@Getter
+public class PersistenceUnitPool {
+    private final String name;
+    private final PersistenceConfig config;
+    private final boolean primary;
+    private final DriverProfile driverProfile;
+    private final DataSource dataSource;
+    private final ConnectionSource connectionSource;
+    private final @Nullable DataSource replicaDataSource;
+    private final @Nullable ConnectionSource replicaConnectionSource;
+
+    public PersistenceUnitPool(@NotNull PersistenceConfig config,
+                           boolean primary,
+                           @NotNull DataSource dataSource,
+                           @NotNull ConnectionSource connectionSource,
+                           @Nullable DataSource replicaDataSource,
+                           @Nullable ConnectionSource replicaConnectionSource) {
+        this.name = config.getName();
+        this.config = config;
+        this.primary = primary;
+        this.driverProfile = config.getDriverProfile() != null ? config.getDriverProfile() : DriverProfile.detect(config.getAddress());
+        this.dataSource = dataSource;
+        this.connectionSource = connectionSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaConnectionSource = replicaConnectionSource;
+    }
+
+    public boolean hasReplica() {
+        return replicaConnectionSource != null;
+    }
+
+    /**
+     * Closes the replica and primary pools. A pool shared with other plugins is only released, and closed once
+     * the last of them releases it.
+     */
+    public void close() {
+        close(replicaDataSource);
+        close(dataSource);
+    }
+
+    // ConnectionSource#close does not close the DataSource it wraps
+    private void close(@Nullable DataSource source) {
+        if (!(source instanceof AutoCloseable) || SharedRuntime.get().release(source)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) source).close();
+        } catch (Exception e) {
+            Logger.getLogger(PersistenceUnitPool.class.getName()).log(Level.WARNING, "Failed to close persistence unit " + name, e);
+        }
+    }
+}
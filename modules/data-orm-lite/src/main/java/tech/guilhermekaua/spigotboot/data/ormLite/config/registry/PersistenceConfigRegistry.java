@@ -23,37 +23,136 @@
 package tech.guilhermekaua.spigotboot.data.ormLite.config.registry;
 
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tech.guilhermekaua.spigotboot.core.context.Context;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
 import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
 import tech.guilhermekaua.spigotboot.data.ormLite.config.registry.discovery.PersistenceConfigDiscoveryService;
 import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class PersistenceConfigRegistry {
-    private final AtomicReference<PersistenceConfig> persistenceConfigAtomicReference = new AtomicReference<>();
+    private final Map<String, PersistenceUnitPool> units = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile PersistenceConfig primaryConfig;
     private final PersistenceConfigDiscoveryService persistenceConfigDiscoveryService;
 
-    public PersistenceConfig initialize(Context context) {
-        Class<? extends PersistenceConfig> persistenceConfigClass = persistenceConfigDiscoveryService.discoverFromPackage(
+    /**
+     * Discovers and instantiates every {@link PersistenceConfig} of the plugin.
+     *
+     * @return the configs, primary first
+     */
+    public List<PersistenceConfig> initialize(Context context) {
+        Set<Class<? extends PersistenceConfig>> persistenceConfigClasses = persistenceConfigDiscoveryService.discoverFromPackage(
                 ProxyUtils.getRealClass(context.getPlugin()).getPackage().getName()
-        ).orElseThrow(
-                () -> new IllegalStateException("data-orm-lite is on classpath but no persistence configuration is found. Ensure that a valid PersistenceConfig is provided.")
         );
 
-        context.registerBean(persistenceConfigClass);
-        PersistenceConfig persistenceConfig = context.getBean(persistenceConfigClass);
+        List<PersistenceConfig> configs = new ArrayList<>();
+        for (Class<? extends PersistenceConfig> persistenceConfigClass : persistenceConfigClasses) {
+            if (persistenceConfigClass.isInterface()
+                    || persistenceConfigClass.isAnonymousClass()
+                    || Modifier.isAbstract(persistenceConfigClass.getModifiers())) {
+                continue;
+            }
 
-        persistenceConfigAtomicReference.set(persistenceConfig);
+            context.registerBean(persistenceConfigClass);
+            configs.add(context.getBean(persistenceConfigClass));
+        }
 
-        return persistenceConfig;
+        // a replica declared as its own class is not a unit of its own
+        Set<Class<?>> replicaClasses = new HashSet<>();
+        for (PersistenceConfig config : configs) {
+            if (config.getReplica() != null) {
+                replicaClasses.add(ProxyUtils.getRealClass(config.getReplica()));
+            }
+        }
+        configs.removeIf(config -> replicaClasses.contains(ProxyUtils.getRealClass(config)));
+
+        if (configs.isEmpty()) {
+            throw new IllegalStateException("data-orm-lite is on classpath but no persistence configuration is found. Ensure that a valid PersistenceConfig is provided.");
+        }
+
+        PersistenceConfig primary = resolvePrimary(configs);
+        checkUniqueNames(configs);
+
+        configs.remove(primary);
+        configs.add(0, primary);
+        primaryConfig = primary;
+
+        return configs;
+    }
+
+    public void registerUnit(@NotNull PersistenceUnitPool unit) {
+        units.put(unit.getName(), unit);
+    }
+
+    public @Nullable PersistenceUnitPool getUnit(@NotNull String name) {
+        return units.get(name);
+    }
+
+    public @Nullable PersistenceUnitPool getPrimaryUnit() {
+        PersistenceConfig primary = primaryConfig;
+        return primary != null ? units.get(primary.getName()) : null;
     }
 
+    public @NotNull Collection<PersistenceUnitPool> getUnits() {
+        synchronized (units) {
+            return new ArrayList<>(units.values());
+        }
+    }
+
+    /**
+     * Closes every unit's pools.
+     */
+    public void closeUnits() {
+        for (PersistenceUnitPool unit : getUnits()) {
+            unit.close();
+        }
+        units.clear();
+    }
+
+    /**
+     * @return the primary persistence config
+     */
     public @Nullable PersistenceConfig getPersistenceConfig() {
-        return persistenceConfigAtomicReference.get();
+        return primaryConfig;
+    }
+
+    private static PersistenceConfig resolvePrimary(List<PersistenceConfig> configs) {
+        if (configs.size() == 1) {
+            return configs.get(0);
+        }
+
+        List<PersistenceConfig> primaries = configs.stream()
+                .filter(config -> BeanUtils.getIsPrimary(ProxyUtils.getRealClass(config)))
+                .collect(Collectors.toList());
+        if (primaries.size() != 1) {
+            throw new IllegalStateException("Multiple PersistenceConfig implementations found, exactly one must be annotated with @Primary: ("
+                    + configs.stream().map(config -> ProxyUtils.getRealClass(config).getName()).collect(Collectors.joining(", ")) + ")");
+        }
+        return primaries.get(0);
+    }
+
+    private static void checkUniqueNames(List<PersistenceConfig> configs) {
+        Set<String> names = new HashSet<>();
+        for (PersistenceConfig config : configs) {
+            if (!names.add(config.getName())) {
+                throw new IllegalStateException("Multiple persistence units are named " + config.getName() + ", override PersistenceConfig#getName.");
+            }
+        }
     }
 }
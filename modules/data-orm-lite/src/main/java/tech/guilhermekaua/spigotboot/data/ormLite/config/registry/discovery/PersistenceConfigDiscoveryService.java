@@ -26,20 +26,11 @@ import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
 import tech.guilhermekaua.spigotboot.core.utils.ReflectionUtils;
 import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
 
-import java.util.Optional;
 import java.util.Set;
 
 @Component
 public class PersistenceConfigDiscoveryService {
-    public Optional<Class<? extends PersistenceConfig>> discoverFromPackage(String basePackage) {
-        final Set<Class<? extends PersistenceConfig>> configs = ReflectionUtils.getSubClassesOf(basePackage, PersistenceConfig.class);
-
-        if (configs.isEmpty()) return Optional.empty();
-
-        if (configs.size() > 1) {
-            throw new IllegalStateException("Multiple PersistenceConfig implementations currently not supported, found: (" + configs.stream().map(Class::getName).reduce((a, b) -> a + ", " + b).get() + ")");
-        }
-
-        return Optional.of(configs.iterator().next());
+    public Set<Class<? extends PersistenceConfig>> discoverFromPackage(String basePackage) {
+        return ReflectionUtils.getSubClassesOf(basePackage, PersistenceConfig.class);
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.dirty;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.table.TableInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Column values of tracked entities, as last loaded or written, keyed by ID.
+ * <p>
+ * A snapshot belongs to one instance and is weakly bound to it: it only applies to that very object, and
+ * is dropped once the object is garbage collected. Values are kept in their SQL form, as converted by the
+ * field persisters, so mutable field values such as dates are copied rather than shared. Persisters hand
+ * out some values as they are, so arrays are copied, and any other value still shared with the entity
+ * counts as changed, since an in-place edit of it could not be seen.
+ */
+public class EntitySnapshots<T, ID> {
+    private final List<FieldType> trackedFields = new ArrayList<>();
+    private final Map<ID, Snapshot<T, ID>> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    public EntitySnapshots(@NotNull TableInfo<T, ID> tableInfo) {
+        for (FieldType fieldType : tableInfo.getFieldTypes()) {
+            if (!fieldType.isId() && !fieldType.isForeignCollection() && !fieldType.isReadOnly()) {
+                trackedFields.add(fieldType);
+            }
+        }
+    }
+
+    /**
+     * Records the current column values of {@code entity}.
+     */
+    public void snapshot(@NotNull ID id, @NotNull T entity) {
+        purgeCollected();
+
+        try {
+            Object[] values = extractValues(entity);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copyArray(values[i]);
+            }
+            snapshots.put(id, new Snapshot<>(id, entity, values, collected));
+        } catch (SQLException e) {
+            // an entity that cannot be snapshotted is just not tracked
+            snapshots.remove(id);
+        }
+    }
+
+    /**
+     * @return the columns of {@code entity} that changed since its snapshot, or {@code null} if it has
+     * none, in which case it must be written in full
+     */
+    public @Nullable List<String> getChangedColumns(@NotNull ID id, @NotNull T entity) {
+        purgeCollected();
+
+        Snapshot<T, ID> snapshot = snapshots.get(id);
+        if (snapshot == null || snapshot.get() != entity) {
+            return null;
+        }
+
+        try {
+            Object[] values = extractValues(entity);
+            List<String> changed = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (!isUnchanged(values[i], snapshot.values[i])) {
+                    changed.add(trackedFields.get(i).getColumnName());
+                }
+            }
+            return changed;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    public void forget(@NotNull ID id) {
+        snapshots.remove(id);
+    }
+
+    public void clear() {
+        snapshots.clear();
+        purgeCollected();
+    }
+
+    public int size() {
+        purgeCollected();
+        return snapshots.size();
+    }
+
+    private Object[] extractValues(T entity) throws SQLException {
+        Object[] values = new Object[trackedFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = trackedFields.get(i).extractJavaFieldToSqlArgValue(entity);
+        }
+        return values;
+    }
+
+    private static Object copyArray(@Nullable Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+
+        int length = Array.getLength(value);
+        Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static boolean isUnchanged(@Nullable Object current, @Nullable Object snapshot) {
+        if (current == snapshot) {
+            // the very object the snapshot holds may have been edited in place
+            return current == null || isImmutable(current);
+        }
+        return Objects.deepEquals(current, snapshot);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof UUID
+                || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double
+                || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void purgeCollected() {
+        Reference<? extends T> reference;
+        while ((reference = collected.poll()) != null) {
+            Snapshot<T, ID> snapshot = (Snapshot<T, ID>) reference;
+            snapshots.remove(snapshot.id, snapshot);
+        }
+    }
+
+    private static final class Snapshot<T, ID> extends WeakReference<T> {
+        private final ID id;
+        private final Object[] values;
+
+        Snapshot(ID id, T entity, Object[] values, ReferenceQueue<T> queue) {
+            super(entity, queue);
+            this.id = id;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.exceptions;
+
+/**
+ * Thrown when writing an entity with a version field whose row was modified or deleted since the entity
+ * was read, e.g. by another server sharing the database.
+ */
+public class OptimisticLockException extends RuntimeException {
+    private final Class<?> entityClass;
+    private final Object id;
+
+    public OptimisticLockException(Class<?> entityClass, Object id) {
+        super(entityClass.getSimpleName() + " " + id + " was modified or deleted since it was read.");
+        this.entityClass = entityClass;
+        this.id = id;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Object getId() {
+        return id;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.service.metrics.ExecutorMetricsRegistry;
+import tech.guilhermekaua.spigotboot.data.config.PoolSettings;
+import tech.guilhermekaua.spigotboot.data.ormLite.routing.RoutingConnectionSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executor for blocking JDBC work, with one thread per pooled connection: fewer threads would leave
+ * connections idle, more would only block waiting for one.
+ * <p>
+ * Threads are started on first use and time out when idle. The pool is instrumented as {@code database}
+ * and drained on shutdown together with the service executors.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseExecutor implements Executor {
+    private final Plugin plugin;
+    private final ExecutorMetricsRegistry executorMetricsRegistry;
+
+    @Getter
+    private volatile int threads = PoolSettings.DEFAULT_MAXIMUM_POOL_SIZE;
+    private volatile ExecutorService executor;
+    private final ThreadLocal<Boolean> workerThread = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Sizes the executor to the connection pool. Has no effect once the executor has been used.
+     */
+    public synchronized void setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than 0: " + threads);
+        }
+        if (executor == null) {
+            this.threads = threads;
+        }
+    }
+
+    /**
+     * Runs {@code command} with the caller's {@link RoutingConnectionSource.WriteToken}, so that its writes
+     * route the caller's later reads to the primary, and its reads see the caller's writes.
+     */
+    @Override
+    public void execute(@NotNull Runnable command) {
+        RoutingConnectionSource.WriteToken token = RoutingConnectionSource.currentWriteToken();
+        getExecutor().execute(() -> {
+            try (RoutingConnectionSource.Scope ignored = RoutingConnectionSource.useWriteToken(token)) {
+                command.run();
+            }
+        });
+    }
+
+    public <V> @NotNull CompletableFuture<V> supply(@NotNull Supplier<V> supplier) {
+        return CompletableFuture.supplyAsync(supplier, this);
+    }
+
+    public @NotNull CompletableFuture<Void> run(@NotNull Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, this);
+    }
+
+    /**
+     * @return whether the current thread is one of this executor's threads, which must not block on its own tasks
+     */
+    public boolean isWorkerThread() {
+        return workerThread.get();
+    }
+
+    private ExecutorService getExecutor() {
+        ExecutorService current = executor;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (executor == null) {
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        60,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat(plugin.getName() + "-Database-%d")
+                                .setDaemon(true)
+                                .setThreadFactory(runnable -> new Thread(() -> {
+                                    workerThread.set(true);
+                                    runnable.run();
+                                }))
+                                .build()
+                );
+                pool.allowCoreThreadTimeOut(true);
+                executor = executorMetricsRegistry.instrument("database", pool);
+            }
+            return executor;
+        }
+    }
+}
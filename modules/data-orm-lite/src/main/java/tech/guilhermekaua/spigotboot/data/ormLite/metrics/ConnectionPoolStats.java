@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of a connection pool. Durations are in nanoseconds.
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+public class ConnectionPoolStats {
+    private final String name;
+    private final int active;
+    private final int idle;
+    private final int total;
+    private final int max;
+    /**
+     * Threads currently waiting for a connection.
+     */
+    private final int pendingThreads;
+    private final long acquisitions;
+    private final long averageWaitNanos;
+    private final long p99WaitNanos;
+    private final long maxWaitNanos;
+    /**
+     * Requests that gave up after the pool's connection timeout.
+     */
+    private final long timeouts;
+    /**
+     * How long connections were held before being returned to the pool.
+     */
+    private final long averageUsageNanos;
+}
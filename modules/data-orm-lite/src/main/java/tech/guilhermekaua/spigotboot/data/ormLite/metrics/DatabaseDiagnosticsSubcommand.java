@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.integrations.bukkit.command.DiagnosticsSubcommand;
+import tech.guilhermekaua.spigotboot.core.utils.ColorUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /spigotboot database [reset]}: prints the connection pools and the most expensive repository
+ * operations.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseDiagnosticsSubcommand implements DiagnosticsSubcommand {
+    private static final int MAX_OPERATIONS = 15;
+
+    private final RepositoryMetrics repositoryMetrics;
+    private final PoolMetrics poolMetrics;
+
+    @Override
+    public @NotNull String getName() {
+        return "database";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Shows connection pools and repository operation latencies";
+    }
+
+    @Override
+    public void execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            repositoryMetrics.reset();
+            poolMetrics.reset();
+            sender.sendMessage(ColorUtil.colored("&7Database metrics were reset."));
+            return;
+        }
+
+        for (ConnectionPoolStats pool : poolMetrics.getStats()) {
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "&6%s &7active &f%d&7/&f%d&7, idle &f%d&7, waiting &f%d",
+                    pool.getName(), pool.getActive(), pool.getMax(), pool.getIdle(), pool.getPendingThreads())));
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "  &7wait avg &f%.2fms &7p99 &f%.2fms &7max &f%.2fms&7, timeouts &f%d&7, held avg &f%.2fms",
+                    millis(pool.getAverageWaitNanos()), millis(pool.getP99WaitNanos()),
+                    millis(pool.getMaxWaitNanos()), pool.getTimeouts(), millis(pool.getAverageUsageNanos()))));
+        }
+
+        List<OperationStats> operations = repositoryMetrics.getStats();
+        if (operations.isEmpty()) {
+            sender.sendMessage(ColorUtil.colored("&7No repository operations recorded."));
+            return;
+        }
+
+        for (OperationStats operation : operations.subList(0, Math.min(MAX_OPERATIONS, operations.size()))) {
+            sender.sendMessage(ColorUtil.colored(String.format(Locale.ROOT,
+                    "&6%s#%s &7calls &f%d&7, avg &f%.2fms &7p99 &f%.2fms &7max &f%.2fms&7, rows/call &f%.1f%s",
+                    operation.getRepository(), operation.getOperation(), operation.getCalls(),
+                    millis(operation.getAverageNanos()), millis(operation.getP99Nanos()),
+                    millis(operation.getMaxNanos()), operation.getRowsPerCall(),
+                    operation.getFailures() > 0 ? "&7, failed &c" + operation.getFailures() : "")));
+        }
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String[] args) {
+        return args.length == 1 ? Collections.singletonList("reset") : Collections.emptyList();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
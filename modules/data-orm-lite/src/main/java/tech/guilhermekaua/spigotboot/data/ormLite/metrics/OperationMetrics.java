@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.service.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and row counters of one operation of one repository.
+ */
+public class OperationMetrics {
+    private final String repository;
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public OperationMetrics(@NotNull String repository, @NotNull String operation) {
+        this.repository = repository;
+        this.operation = operation;
+    }
+
+    public void record(long nanos, int rowCount) {
+        latency.recordNanos(nanos);
+        rows.add(rowCount);
+    }
+
+    public void recordFailure(long nanos) {
+        latency.recordNanos(nanos);
+        failures.increment();
+    }
+
+    public @NotNull OperationStats snapshot() {
+        return OperationStats.builder()
+                .repository(repository)
+                .operation(operation)
+                .calls(latency.getCount())
+                .failures(failures.sum())
+                .rows(rows.sum())
+                .totalNanos(latency.getTotalNanos())
+                .averageNanos(latency.getMeanNanos())
+                .p50Nanos(latency.getPercentileNanos(0.5))
+                .p99Nanos(latency.getPercentileNanos(0.99))
+                .maxNanos(latency.getMaxNanos())
+                .build();
+    }
+
+    public void reset() {
+        latency.reset();
+        rows.reset();
+        failures.reset();
+    }
+}
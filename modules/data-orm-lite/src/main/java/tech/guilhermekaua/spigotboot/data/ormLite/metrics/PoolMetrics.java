@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.service.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker of the persistence unit pools: records how long callers wait for a connection
+ * and how long they keep it, next to the pool's own active and idle counts.
+ */
+@Component
+public class PoolMetrics implements MetricsTrackerFactory {
+    private final Map<String, Tracker> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Tracker tracker = new Tracker(poolName, poolStats);
+        pools.put(poolName, tracker);
+        return tracker;
+    }
+
+    public @NotNull List<ConnectionPoolStats> getStats() {
+        List<ConnectionPoolStats> stats = new ArrayList<>(pools.size());
+        for (Tracker tracker : pools.values()) {
+            stats.add(tracker.snapshot());
+        }
+        stats.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return stats;
+    }
+
+    public void reset() {
+        for (Tracker tracker : pools.values()) {
+            tracker.wait.reset();
+            tracker.usage.reset();
+            tracker.timeouts.reset();
+        }
+    }
+
+    private final class Tracker implements IMetricsTracker {
+        private final String name;
+        private final PoolStats poolStats;
+        private final LatencyHistogram wait = new LatencyHistogram();
+        private final LatencyHistogram usage = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+
+        Tracker(String name, PoolStats poolStats) {
+            this.name = name;
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            wait.recordNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        @Override
+        public void close() {
+            pools.remove(name, this);
+        }
+
+        ConnectionPoolStats snapshot() {
+            return ConnectionPoolStats.builder()
+                    .name(name)
+                    .active(poolStats.getActiveConnections())
+                    .idle(poolStats.getIdleConnections())
+                    .total(poolStats.getTotalConnections())
+                    .max(poolStats.getMaxConnections())
+                    .pendingThreads(poolStats.getPendingThreads())
+                    .acquisitions(wait.getCount())
+                    .averageWaitNanos(wait.getMeanNanos())
+                    .p99WaitNanos(wait.getPercentileNanos(0.99))
+                    .maxWaitNanos(wait.getMaxNanos())
+                    .timeouts(timeouts.sum())
+                    .averageUsageNanos(usage.getMeanNanos())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link OperationMetrics} of every repository operation, keyed by repository and operation
+ * name (e.g. {@code UserRepository#findById} or a derived query such as {@code UserRepository#findAllByName}).
+ * <pre>{@code
+ * for (OperationStats stats : repositoryMetrics.getStats()) {
+ *     if (stats.getCalls() > 10_000 && stats.getRowsPerCall() <= 1) {
+ *         getLogger().warning(stats.getRepository() + "#" + stats.getOperation() + " looks like an N+1 query");
+ *     }
+ * }
+ * }</pre>
+ */
+@Component
+public class RepositoryMetrics {
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    public @NotNull OperationMetrics operation(@NotNull String repository, @NotNull String operation) {
+        return operations.computeIfAbsent(repository + "#" + operation, key -> new OperationMetrics(repository, operation));
+    }
+
+    /**
+     * @return the stats of every operation, the most expensive in total first
+     */
+    public @NotNull List<OperationStats> getStats() {
+        List<OperationStats> stats = new ArrayList<>(operations.size());
+        for (OperationMetrics metrics : operations.values()) {
+            stats.add(metrics.snapshot());
+        }
+        stats.sort(Comparator.comparingLong(OperationStats::getTotalNanos).reversed());
+        return stats;
+    }
+
+    public void reset() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Number of entities in a repository method result: the size of a collection, one for a present value
+     * and zero for scalars such as counts.
+     */
+    public static int countRows(@Nullable Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
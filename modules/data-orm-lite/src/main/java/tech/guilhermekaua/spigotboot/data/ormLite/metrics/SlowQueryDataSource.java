@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link DataSource} decorator that logs every statement slower than a threshold with its SQL and, when
+ * enabled, its bind parameters. Statements are timed at the JDBC level, so repository methods, derived
+ * queries and query builders are all covered.
+ */
+public class SlowQueryDataSource implements DataSource {
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    private final DataSource delegate;
+    private final String unitName;
+    private final long thresholdNanos;
+    private final boolean logParameters;
+    private final Logger logger;
+
+    public SlowQueryDataSource(@NotNull DataSource delegate,
+                               @NotNull String unitName,
+                               long threshold,
+                               @NotNull TimeUnit unit,
+                               boolean logParameters,
+                               @NotNull Logger logger) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be greater than 0: " + threshold);
+        }
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null.");
+        this.unitName = unitName;
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.logParameters = logParameters;
+        this.logger = logger;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(delegate.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    public @NotNull DataSource getDelegate() {
+        return delegate;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(method, connection, args);
+
+                    if (result instanceof Statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                        return wrapStatement((Statement) result, sql);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private Statement wrapStatement(Statement statement, @Nullable String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return (Statement) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, preparedSql)
+        );
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final @Nullable String preparedSql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        StatementHandler(Statement statement, @Nullable String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    return SlowQueryDataSource.invoke(method, statement, args);
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    if (elapsed >= thresholdNanos) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                        logSlowStatement(name, sql, elapsed);
+                    }
+                }
+            }
+
+            if (!logParameters) {
+                return SlowQueryDataSource.invoke(method, statement, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            return SlowQueryDataSource.invoke(method, statement, args);
+        }
+
+        private void logSlowStatement(String method, @Nullable String sql, long elapsed) {
+            StringBuilder message = new StringBuilder("Slow statement on persistence unit ")
+                    .append(unitName)
+                    .append(" took ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(elapsed))
+                    .append(" ms (")
+                    .append(method)
+                    .append("): ")
+                    .append(sql != null ? sql : "<unknown SQL>");
+
+            if (!parameters.isEmpty()) {
+                message.append(" with parameters ");
+                boolean first = true;
+                for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                    message.append(first ? "[" : ", ").append(parameter.getKey()).append('=').append(describe(parameter.getValue()));
+                    first = false;
+                }
+                message.append(']');
+            }
+
+            logger.log(Level.WARNING, message.toString());
+        }
+    }
+
+    private static String describe(@Nullable Object value) {
+        if (value instanceof byte[]) {
+            return "<" + ((byte[]) value).length + " bytes>";
+        }
+
+        String text = String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+}
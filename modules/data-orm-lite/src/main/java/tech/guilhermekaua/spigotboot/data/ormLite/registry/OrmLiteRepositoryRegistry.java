@@ -22,80 +22,186 @@
  */
 package tech.guilhermekaua.spigotboot.data.ormLite.registry;
 
+import com.j256.ormlite.dao.BaseDaoImpl;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.field.FieldType;
 import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.table.DatabaseTableConfig;
 import lombok.RequiredArgsConstructor;
 import tech.guilhermekaua.spigotboot.core.context.Context;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
-import tech.guilhermekaua.spigotboot.core.context.component.proxy.ComponentProxy;
 import tech.guilhermekaua.spigotboot.core.context.dependency.manager.DependencyManager;
 import tech.guilhermekaua.spigotboot.core.utils.BeanUtils;
 import tech.guilhermekaua.spigotboot.core.utils.ReflectionUtils;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.CachedRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.DirtyTracking;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.OffHeapSnapshot;
 import tech.guilhermekaua.spigotboot.data.ormLite.annotations.OrmLiteDao;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.PersistenceUnit;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.ReadFromPrimary;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.WriteBehind;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheInvalidation;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheTransaction;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.EntityCache;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.EntityCacheRegistry;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.registry.PersistenceConfigRegistry;
+import tech.guilhermekaua.spigotboot.data.ormLite.dirty.EntitySnapshots;
+import tech.guilhermekaua.spigotboot.data.ormLite.executor.DatabaseExecutor;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.OperationMetrics;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.RepositoryMetrics;
 import tech.guilhermekaua.spigotboot.data.ormLite.registry.discovery.OrmLiteRepositoryDiscoveryService;
 import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.CachedOrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.DirtyTrackingOrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.MetricsOrmLiteRepository;
 import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.OrmLiteRepositoryImpl;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.impl.WriteBehindOrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.proxy.RepositoryMethodInvoker;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.proxy.RepositoryProxy;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQuery;
+import tech.guilhermekaua.spigotboot.data.ormLite.routing.RoutingConnectionSource;
+import tech.guilhermekaua.spigotboot.data.ormLite.schema.GeneratedTableConfigs;
+import tech.guilhermekaua.spigotboot.data.ormLite.schema.SchemaInitializer;
+import tech.guilhermekaua.spigotboot.data.ormLite.snapshot.SnapshotRegistry;
+import tech.guilhermekaua.spigotboot.data.ormLite.snapshot.SnapshotTable;
+import tech.guilhermekaua.spigotboot.data.ormLite.writeBehind.WriteBehindBuffer;
+import tech.guilhermekaua.spigotboot.data.ormLite.writeBehind.WriteBehindFlusher;
 import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @Component
 @SuppressWarnings("rawtypes")
 @RequiredArgsConstructor
 public class OrmLiteRepositoryRegistry {
     private final Map<Class<?>, OrmLiteRepository<?, ?>> repositoryMap = new HashMap<>();
+    private final Map<Class<?>, WriteBehindBuffer<?, ?>> writeBehindBuffers = new HashMap<>();
     private final OrmLiteRepositoryDiscoveryService repositoryDiscoveryService;
+    private final WriteBehindFlusher writeBehindFlusher;
+    private final EntityCacheRegistry entityCacheRegistry;
+    private final DatabaseExecutor databaseExecutor;
+    private final PersistenceConfigRegistry persistenceConfigRegistry;
+    private final RepositoryMetrics repositoryMetrics;
+    private final GeneratedTableConfigs generatedTableConfigs;
+    private final SchemaInitializer schemaInitializer;
+    private final SnapshotRegistry snapshotRegistry;
+    private final Logger logger;
 
     public void initialize(Context context) {
+        Class<?> pluginClass = ProxyUtils.getRealClass(context.getPlugin());
         Set<Class<? extends OrmLiteRepository>> repositoryClasses = repositoryDiscoveryService.discoverFromPackage(
-                ProxyUtils.getRealClass(context.getPlugin()).getPackage().getName()
+                pluginClass.getPackage().getName()
         );
 
-        ConnectionSource connectionSource = context.getBean(ConnectionSource.class);
-
-        if (connectionSource == null) {
+        if (persistenceConfigRegistry.getPrimaryUnit() == null) {
             throw new IllegalStateException("ConnectionSource is not available. Ensure that the DataOrmLiteModule has been initialized.");
         }
 
-        DependencyManager dependencyManager = context.getDependencyManager();
+        generatedTableConfigs.load(pluginClass.getClassLoader());
 
+        // DAO setup and the schema action are independent per repository, so they run concurrently
+        Map<Class<? extends OrmLiteRepository>, CompletableFuture<PreparedRepository>> preparedRepositories = new LinkedHashMap<>();
         for (Class<? extends OrmLiteRepository> repositoryClass : repositoryClasses) {
+            preparedRepositories.put(repositoryClass, databaseExecutor.supply(() -> prepareRepository(repositoryClass)));
+        }
+
+        DependencyManager dependencyManager = context.getDependencyManager();
+        for (Map.Entry<Class<? extends OrmLiteRepository>, CompletableFuture<PreparedRepository>> entry : preparedRepositories.entrySet()) {
             try {
-                initializeRepository(repositoryClass, dependencyManager, connectionSource);
+                initializeRepository(entry.getKey(), dependencyManager, entry.getValue().join());
             } catch (Exception e) {
-                e.printStackTrace();
+                logger.log(Level.SEVERE, "Failed to register repository " + entry.getKey().getName(),
+                        e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
             }
         }
     }
 
+    private PreparedRepository prepareRepository(Class<? extends OrmLiteRepository> repositoryClass) {
+        try {
+            PersistenceUnitPool unit = resolveUnit(repositoryClass);
+            ConnectionSource connectionSource = unit.getConnectionSource();
+            Dao<?, ?> dao = createDao(connectionSource, resolveEntityClass(repositoryClass));
+
+            schemaInitializer.apply(unit.getConfig().getSchemaAction(), connectionSource, dao);
+            return new PreparedRepository(unit, dao);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create the DAO of repository " + repositoryClass.getName(), e);
+        }
+    }
+
+    /**
+     * Creates the DAO from the generated table config if there is one. {@link DaoManager#createDao} is
+     * synchronized globally, so only the cached lookup and registration go through it.
+     */
+    private <T> Dao<T, ?> createDao(ConnectionSource connectionSource, Class<T> entityClass) throws SQLException {
+        DatabaseTableConfig<T> tableConfig = generatedTableConfigs.create(connectionSource.getDatabaseType(), entityClass);
+        if (tableConfig == null) {
+            return DaoManager.createDao(connectionSource, entityClass);
+        }
+
+        Dao<T, ?> dao = DaoManager.lookupDao(connectionSource, entityClass);
+        if (dao == null) {
+            dao = BaseDaoImpl.createDao(connectionSource, tableConfig);
+            DaoManager.registerDao(connectionSource, dao);
+        }
+        return dao;
+    }
+
+    private PersistenceUnitPool resolveUnit(Class<?> repositoryClass) {
+        PersistenceUnit annotation = repositoryClass.getAnnotation(PersistenceUnit.class);
+        PersistenceUnitPool unit = annotation != null
+                ? persistenceConfigRegistry.getUnit(annotation.value())
+                : persistenceConfigRegistry.getPrimaryUnit();
+
+        if (unit == null) {
+            throw new IllegalStateException("Repository " + repositoryClass.getName() + " uses unknown persistence unit " + annotation.value() + ".");
+        }
+        return unit;
+    }
+
     @SuppressWarnings("unchecked")
-    private void initializeRepository(Class<? extends OrmLiteRepository> repositoryClass, DependencyManager dependencyManager, ConnectionSource connectionSource) throws ClassNotFoundException, SQLException {
+    private void initializeRepository(Class<? extends OrmLiteRepository> repositoryClass, DependencyManager dependencyManager, PreparedRepository prepared) {
         try {
+            PersistenceUnitPool unit = prepared.unit;
+            ConnectionSource connectionSource = unit.getConnectionSource();
+            Dao<?, ?> dao = prepared.dao;
+            OrmLiteRepository defaultImpl = createDelegate(repositoryClass, dao, unit);
+
+            repositoryMap.put(dao.getDataClass(), defaultImpl);
+            registerSnapshot(repositoryClass, dao, unit);
+
             dependencyManager.registerDependency(
                     (Class<OrmLiteRepository>) repositoryClass,
                     repositoryClass,
                     BeanUtils.getQualifier(repositoryClass),
                     BeanUtils.getIsPrimary(repositoryClass),
-                    (clazz) -> ComponentProxy.createProxy(clazz, null, new Class[0], new Object[0])
+                    (clazz) -> RepositoryProxy.create(
+                            repositoryClass,
+                            defaultImpl,
+                            method -> withWriteBehind(writeBehindBuffers.get(repositoryClass), DerivedQuery.create(method, dao)),
+                            (method, invoker) -> timed(repositoryClass, method, readFromPrimary(repositoryClass, method, invoker, connectionSource))
+                    )
             );
 
-            Type[] types = ((ParameterizedType) repositoryClass.getGenericInterfaces()[0]).getActualTypeArguments();
-            Type entityType = types[0];
-
-            Class<?> entityClass = Class.forName(entityType.getTypeName());
-            Dao<?, ?> dao = DaoManager.createDao(connectionSource, entityClass);
-
             OrmLiteRepository repository = dependencyManager.resolveDependency(repositoryClass, BeanUtils.getQualifier(repositoryClass));
-            OrmLiteRepositoryImpl defaultImpl = new OrmLiteRepositoryImpl<>(dao);
-
-            repositoryMap.put(entityClass, defaultImpl);
 
             setDaoObject(repository, dao);
         } catch (Throwable t) {
@@ -103,6 +209,215 @@ public class OrmLiteRepositoryRegistry {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void registerSnapshot(Class<? extends OrmLiteRepository> repositoryClass, Dao<?, ?> dao, PersistenceUnitPool unit) {
+        OffHeapSnapshot offHeapSnapshot = repositoryClass.getAnnotation(OffHeapSnapshot.class);
+        if (offHeapSnapshot == null) {
+            return;
+        }
+        if (!(dao instanceof BaseDaoImpl)) {
+            throw new IllegalStateException("@OffHeapSnapshot requires a DAO extending " + BaseDaoImpl.class.getSimpleName()
+                    + ", repository " + repositoryClass.getName() + " has " + dao.getClass().getName());
+        }
+
+        snapshotRegistry.register(repositoryClass, new SnapshotTable<>(
+                repositoryClass.getSimpleName(),
+                (Dao) dao,
+                ((BaseDaoImpl) dao).getTableInfo(),
+                offHeapSnapshot.indexes(),
+                offHeapSnapshot.updatedColumn().isEmpty() ? null : offHeapSnapshot.updatedColumn(),
+                offHeapSnapshot.refreshInterval(),
+                unit.getDriverProfile()
+        ));
+    }
+
+    /**
+     * Derived queries run straight on the DAO, so they have to account for the write-behind buffer: finds apply
+     * the pending writes on top of their results, while counts and deletes wait for a flush on the database
+     * executor. A derived delete would otherwise be undone by the next flush.
+     */
+    @SuppressWarnings("unchecked")
+    private RepositoryMethodInvoker withWriteBehind(WriteBehindBuffer<?, ?> buffer, DerivedQuery<?, ?> query) {
+        if (buffer == null || query == null) {
+            return query;
+        }
+
+        WriteBehindBuffer<Object, Object> pending = (WriteBehindBuffer<Object, Object>) buffer;
+        DerivedQuery<Object, Object> derivedQuery = (DerivedQuery<Object, Object>) query;
+        return (self, proceed, args) -> derivedQuery.invoke(args, pending.getPendingEntities(), () -> flush(pending));
+    }
+
+    private void flush(WriteBehindBuffer<?, ?> buffer) {
+        try {
+            if (databaseExecutor.isWorkerThread()) {
+                buffer.flush(true);
+                return;
+            }
+
+            databaseExecutor.supply(() -> {
+                try {
+                    return buffer.flush(true);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }).join();
+        } catch (SQLException | CompletionException e) {
+            throw new RuntimeException("Failed to flush write-behind repository " + buffer.getName(),
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private static RepositoryMethodInvoker readFromPrimary(Class<?> repositoryClass,
+                                                           Method method,
+                                                           RepositoryMethodInvoker invoker,
+                                                           ConnectionSource connectionSource) {
+        if (!(connectionSource instanceof RoutingConnectionSource)
+                || (!method.isAnnotationPresent(ReadFromPrimary.class) && !repositoryClass.isAnnotationPresent(ReadFromPrimary.class))) {
+            return invoker;
+        }
+
+        return (self, proceed, args) -> {
+            try (RoutingConnectionSource.Scope ignored = RoutingConnectionSource.usePrimary()) {
+                return invoker.invoke(self, proceed, args);
+            }
+        };
+    }
+
+    /**
+     * Times the methods the repository declares itself, e.g. derived queries and default methods running
+     * query builders; inherited ones are timed by {@link MetricsOrmLiteRepository}.
+     */
+    private RepositoryMethodInvoker timed(Class<?> repositoryClass, Method method, RepositoryMethodInvoker invoker) {
+        if (method.getDeclaringClass().isAssignableFrom(OrmLiteRepository.class)) {
+            return invoker;
+        }
+
+        OperationMetrics metrics = repositoryMetrics.operation(repositoryClass.getSimpleName(), method.getName());
+        return (self, proceed, args) -> {
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoker.invoke(self, proceed, args);
+            } catch (Throwable t) {
+                metrics.recordFailure(System.nanoTime() - start);
+                throw t;
+            }
+
+            metrics.record(System.nanoTime() - start, RepositoryMetrics.countRows(result));
+            return result;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private OrmLiteRepository createDelegate(Class<? extends OrmLiteRepository> repositoryClass, Dao dao, PersistenceUnitPool unit) {
+        OrmLiteRepository repository = new MetricsOrmLiteRepository<>(
+                new OrmLiteRepositoryImpl<>(dao, databaseExecutor, unit.getConfig().getBatchSize(), unit.getDriverProfile()),
+                repositoryClass.getSimpleName(),
+                repositoryMetrics
+        );
+
+        WriteBehind writeBehind = repositoryClass.getAnnotation(WriteBehind.class);
+        if (writeBehind != null) {
+            if (hasVersionField(dao)) {
+                // a conflict would only show up on the flush, long after the write returned
+                throw new IllegalStateException("@WriteBehind cannot be used on repository " + repositoryClass.getName()
+                        + ", its entity has a version field.");
+            }
+
+            WriteBehindBuffer buffer = new WriteBehindBuffer<>(
+                    repositoryClass.getSimpleName(),
+                    dao,
+                    writeBehind.flushInterval(),
+                    writeBehind.maxBatch()
+            );
+            writeBehindFlusher.register(buffer);
+            writeBehindBuffers.put(repositoryClass, buffer);
+            repository = new WriteBehindOrmLiteRepository<>(repository, dao, buffer);
+        }
+
+        // above write-behind, so unchanged entities are not even buffered
+        if (repositoryClass.isAnnotationPresent(DirtyTracking.class) && dao instanceof BaseDaoImpl) {
+            repository = new DirtyTrackingOrmLiteRepository<>(repository, dao, new EntitySnapshots<>(((BaseDaoImpl) dao).getTableInfo()));
+        }
+
+        CachedRepository cachedRepository = repositoryClass.getAnnotation(CachedRepository.class);
+        if (cachedRepository != null) {
+            EntityCache cache = new EntityCache<>(
+                    repositoryClass.getSimpleName(),
+                    cachedRepository.maxSize(),
+                    cachedRepository.ttl(),
+                    TimeUnit.MILLISECONDS
+            );
+            // writes that bypass the repository, e.g. builders and derived deletes, cannot be tracked per ID
+            dao.registerObserver(() -> {
+                if (!CacheInvalidation.isSuppressed()) {
+                    cache.invalidateAll();
+
+                    // rows read again before the transaction commits are stale once it does
+                    CacheTransaction transaction = CacheTransaction.current();
+                    if (transaction != null) {
+                        transaction.afterCommit(cache::invalidateAll);
+                    }
+                }
+            });
+            entityCacheRegistry.register(cache);
+            repository = new CachedOrmLiteRepository<>(repository, dao, cache);
+        }
+
+        return repository;
+    }
+
+    private static boolean hasVersionField(Dao<?, ?> dao) {
+        if (!(dao instanceof BaseDaoImpl)) {
+            return false;
+        }
+
+        for (FieldType fieldType : ((BaseDaoImpl<?, ?>) dao).getTableInfo().getFieldTypes()) {
+            if (fieldType.isVersion()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> resolveEntityClass(Class<?> repositoryClass) {
+        Type entityType = findRepositoryTypeArguments(repositoryClass)[0];
+
+        if (entityType instanceof Class) {
+            return (Class<?>) entityType;
+        }
+        if (entityType instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) entityType).getRawType();
+        }
+
+        throw new IllegalStateException("Cannot resolve the entity type of repository " + repositoryClass.getName() + ": " + entityType);
+    }
+
+    private Type[] findRepositoryTypeArguments(Class<?> type) {
+        List<Type> candidates = new ArrayList<>(Arrays.asList(type.getGenericInterfaces()));
+        if (type.getGenericSuperclass() != null) {
+            candidates.add(type.getGenericSuperclass());
+        }
+
+        for (Type candidate : candidates) {
+            if (candidate instanceof ParameterizedType && ((ParameterizedType) candidate).getRawType() == OrmLiteRepository.class) {
+                return ((ParameterizedType) candidate).getActualTypeArguments();
+            }
+        }
+
+        for (Type candidate : candidates) {
+            Class<?> raw = candidate instanceof ParameterizedType
+                    ? (Class<?>) ((ParameterizedType) candidate).getRawType()
+                    : (Class<?>) candidate;
+
+            if (OrmLiteRepository.class.isAssignableFrom(raw) && raw != OrmLiteRepository.class) {
+                return findRepositoryTypeArguments(raw);
+            }
+        }
+
+        throw new IllegalStateException("Repository " + type.getName() + " must extend " + OrmLiteRepository.class.getSimpleName() + " with concrete type arguments.");
+    }
+
     private void setDaoObject(OrmLiteRepository repository, Dao<?, ?> dao) {
         try {
             for (Field field : ReflectionUtils.getFieldsAnnotatedWith(OrmLiteDao.class, repository.getClass())) {
@@ -121,4 +436,14 @@ public class OrmLiteRepositoryRegistry {
     public <T, ID> OrmLiteRepository<T, ID> getDao(Class<T> entityClass) {
         return (OrmLiteRepository<T, ID>) repositoryMap.get(entityClass);
     }
+
+    private static final class PreparedRepository {
+        private final PersistenceUnitPool unit;
+        private final Dao<?, ?> dao;
+
+        PreparedRepository(PersistenceUnitPool unit, Dao<?, ?> dao) {
+            this.unit = unit;
+            this.dao = dao;
+        }
+    }
 }
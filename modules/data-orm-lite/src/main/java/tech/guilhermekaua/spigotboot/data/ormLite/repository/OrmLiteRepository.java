@@ -26,8 +26,14 @@ import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.UpdateBuilder;
+import tech.guilhermekaua.spigotboot.data.ormLite.exceptions.OptimisticLockException;
+import tech.guilhermekaua.spigotboot.data.repository.AsyncRepository;
 import tech.guilhermekaua.spigotboot.data.repository.Repository;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
 public interface OrmLiteRepository<T, ID> extends Repository<T, ID> {
     QueryBuilder<T, ID> queryBuilder();
 
@@ -37,5 +43,65 @@ public interface OrmLiteRepository<T, ID> extends Repository<T, ID> {
 
     Dao.CreateOrUpdateStatus createOrUpdate(T var1);
 
+    /**
+     * Updates {@code entity}'s row. For entities with a version field ({@code @DatabaseField(version = true)}),
+     * the row is only updated if it still holds the entity's version, which is then incremented.
+     *
+     * @return the number of updated rows
+     * @throws OptimisticLockException if the entity has a version field and its row was modified or deleted
+     *                                 since the entity was read
+     */
     int update(T var1);
+
+    /**
+     * Updates only the given columns of {@code entity}'s row. Entities with a version field are fully
+     * updated instead, so the version check still applies.
+     *
+     * @return the number of updated rows
+     */
+    int updateColumns(T entity, Collection<String> columnNames);
+
+    /**
+     * Updates {@code entity} only if its row still holds the version the entity was read with, like
+     * {@link #update}, but reports a conflict instead of throwing.
+     *
+     * @return whether the row was updated; {@code false} if it was modified or deleted since the entity was read
+     * @throws IllegalStateException if the entity has no version field
+     */
+    boolean compareAndSave(T entity);
+
+    /**
+     * Reads the entity with this ID, applies {@code mutation} to it and saves it with {@link #compareAndSave},
+     * starting over from a fresh read whenever another writer got there first. {@code mutation} may run
+     * several times, so it should only change the entity.
+     *
+     * @return the updated entity, or {@code null} if there is no entity with this ID
+     * @throws OptimisticLockException if every attempt conflicted
+     */
+    default T updateWithRetry(ID id, Consumer<T> mutation, int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0: " + maxAttempts);
+        }
+        Objects.requireNonNull(mutation, "Mutation cannot be null");
+
+        Class<?> entityClass = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            T entity = findById(id);
+            if (entity == null) {
+                return null;
+            }
+
+            mutation.accept(entity);
+            if (compareAndSave(entity)) {
+                return entity;
+            }
+            entityClass = entity.getClass();
+        }
+        throw new OptimisticLockException(entityClass, id);
+    }
+
+    /**
+     * Non-blocking view of this repository, running on the database executor.
+     */
+    AsyncRepository<T, ID> async();
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import tech.guilhermekaua.spigotboot.data.repository.AsyncRepository;
+import tech.guilhermekaua.spigotboot.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncRepository} running every call of a blocking repository on an executor, normally the
+ * {@link tech.guilhermekaua.spigotboot.data.ormLite.executor.DatabaseExecutor}.
+ */
+@RequiredArgsConstructor
+public class AsyncOrmLiteRepository<T, ID> implements AsyncRepository<T, ID> {
+    private final Repository<T, ID> repository;
+    @Getter
+    private final Executor executor;
+
+    @Override
+    public CompletableFuture<T> save(T entity) {
+        return CompletableFuture.supplyAsync(() -> repository.save(entity), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> saveAll(Iterable<T> iterable) {
+        return CompletableFuture.supplyAsync(() -> repository.saveAll(iterable), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> upsertAll(Collection<T> entities) {
+        return CompletableFuture.supplyAsync(() -> repository.upsertAll(entities), executor);
+    }
+
+    @Override
+    public CompletableFuture<T> findById(ID id) {
+        return CompletableFuture.supplyAsync(() -> repository.findById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAll() {
+        return CompletableFuture.supplyAsync(repository::findAll, executor);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAllById(Collection<ID> ids) {
+        return CompletableFuture.supplyAsync(() -> repository.findAllById(ids), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAllAfter(ID afterId, int limit) {
+        return CompletableFuture.supplyAsync(() -> repository.findAllAfter(afterId, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(T entity) {
+        return CompletableFuture.runAsync(() -> repository.delete(entity), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(Iterable<T> iterable) {
+        return CompletableFuture.runAsync(() -> repository.delete(iterable), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(ID id) {
+        return CompletableFuture.runAsync(() -> repository.deleteById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllById(Collection<ID> ids) {
+        return CompletableFuture.runAsync(() -> repository.deleteAllById(ids), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll() {
+        return CompletableFuture.runAsync(repository::deleteAll, executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return CompletableFuture.supplyAsync(repository::count, executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(ID id) {
+        return CompletableFuture.supplyAsync(() -> repository.existsById(id), executor);
+    }
+
+    @Override
+    public <V> CompletableFuture<V> call(Function<? super Repository<T, ID>, ? extends V> action) {
+        return CompletableFuture.supplyAsync(() -> action.apply(repository), executor);
+    }
+}
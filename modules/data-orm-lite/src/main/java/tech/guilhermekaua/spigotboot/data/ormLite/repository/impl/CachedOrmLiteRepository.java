@@ -0,0 +1,334 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheInvalidation;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheTransaction;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.EntityCache;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Repository decorator backing {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.CachedRepository}:
+ * {@code findById} and {@code existsById} read through an {@link EntityCache}, and writes made through
+ * this repository update it.
+ * <p>
+ * Inside a transaction, reads go to the database and cache writes are deferred until it commits, so the
+ * cache never holds state that may still be rolled back.
+ */
+public class CachedOrmLiteRepository<T, ID> extends ForwardingOrmLiteRepository<T, ID> {
+    private final Dao<T, ID> dao;
+    private final EntityCache<ID, T> cache;
+
+    public CachedOrmLiteRepository(OrmLiteRepository<T, ID> delegate, Dao<T, ID> dao, EntityCache<ID, T> cache) {
+        super(delegate);
+        this.dao = dao;
+        this.cache = cache;
+    }
+
+    @Override
+    public T save(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        return write(entity, () -> super.save(entity));
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        List<T> saved;
+        try {
+            saved = suppressed(() -> super.saveAll(iterable));
+        } catch (RuntimeException e) {
+            for (T entity : iterable) {
+                invalidate(entity);
+            }
+            throw e;
+        }
+
+        for (T entity : saved) {
+            cacheEntity(entity);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        Objects.requireNonNull(entities, "Entities cannot be null");
+
+        List<T> upserted;
+        try {
+            upserted = suppressed(() -> super.upsertAll(entities));
+        } catch (RuntimeException e) {
+            for (T entity : entities) {
+                invalidate(entity);
+            }
+            throw e;
+        }
+
+        for (T entity : upserted) {
+            cacheEntity(entity);
+        }
+        return upserted;
+    }
+
+    @Override
+    public int update(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        return write(entity, () -> super.update(entity), updated -> updated > 0);
+    }
+
+    /**
+     * The row only holds the given columns of {@code entity}, so its ID is invalidated rather than cached.
+     */
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        try {
+            return suppressed(() -> super.updateColumns(entity, columnNames));
+        } finally {
+            invalidate(entity);
+        }
+    }
+
+    @Override
+    public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        return write(entity, () -> super.createOrUpdate(entity));
+    }
+
+    @Override
+    public boolean compareAndSave(T entity) {
+        // when not saved, the cached entity is at least as stale as this one
+        return write(entity, () -> super.compareAndSave(entity), saved -> saved);
+    }
+
+    /**
+     * Runs on the delegate, so each attempt mutates a copy read from the database rather than the cached
+     * instance every other caller shares; the winning copy is cached once it is saved.
+     */
+    @Override
+    public T updateWithRetry(ID id, Consumer<T> mutation, int maxAttempts) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        T updated;
+        try {
+            updated = suppressed(() -> getDelegate().updateWithRetry(id, mutation, maxAttempts));
+        } catch (RuntimeException e) {
+            evict(id);
+            throw e;
+        }
+
+        if (updated != null) {
+            cacheEntity(updated);
+        } else {
+            evict(id);
+        }
+        return updated;
+    }
+
+    @Override
+    public T findById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        if (CacheTransaction.current() != null) {
+            return super.findById(id);
+        }
+        return cache.get(id, super::findById);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        if (CacheTransaction.current() != null) {
+            return super.existsById(id);
+        }
+        return cache.exists(id, super::existsById);
+    }
+
+    @Override
+    public void delete(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        try {
+            suppressed(() -> {
+                super.delete(entity);
+                return null;
+            });
+        } finally {
+            invalidate(entity);
+        }
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        try {
+            suppressed(() -> {
+                super.delete(iterable);
+                return null;
+            });
+        } finally {
+            for (T entity : iterable) {
+                invalidate(entity);
+            }
+        }
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        try {
+            suppressed(() -> {
+                super.deleteById(id);
+                return null;
+            });
+        } finally {
+            evict(id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+
+        try {
+            suppressed(() -> {
+                super.deleteAllById(ids);
+                return null;
+            });
+        } finally {
+            for (ID id : ids) {
+                evict(id);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            suppressed(() -> {
+                super.deleteAll();
+                return null;
+            });
+        } finally {
+            evictAll();
+        }
+    }
+
+    private <R> R write(T entity, Supplier<R> action) {
+        return write(entity, action, result -> true);
+    }
+
+    /**
+     * @param written whether the result means the row now holds {@code entity}; if not, its ID is invalidated
+     */
+    private <R> R write(T entity, Supplier<R> action, Predicate<R> written) {
+        R result;
+        try {
+            result = suppressed(action);
+        } catch (RuntimeException e) {
+            // the row may or may not have been written
+            invalidate(entity);
+            throw e;
+        }
+
+        if (written.test(result)) {
+            cacheEntity(entity);
+        } else {
+            invalidate(entity);
+        }
+        return result;
+    }
+
+    private static <R> R suppressed(Supplier<R> action) {
+        try (CacheInvalidation.Suppression ignored = CacheInvalidation.suppress()) {
+            return action.get();
+        }
+    }
+
+    private void cacheEntity(T entity) {
+        ID id = extractId(entity);
+        if (id == null) {
+            return;
+        }
+
+        CacheTransaction transaction = CacheTransaction.current();
+        if (transaction == null) {
+            cache.put(id, entity);
+        } else {
+            // the cached instance may be the one this transaction just changed
+            cache.invalidate(id);
+            transaction.afterCommit(() -> cache.put(id, entity));
+        }
+    }
+
+    private void invalidate(T entity) {
+        ID id = extractId(entity);
+        if (id != null) {
+            evict(id);
+        }
+    }
+
+    private void evict(ID id) {
+        cache.invalidate(id);
+
+        CacheTransaction transaction = CacheTransaction.current();
+        if (transaction != null) {
+            // other threads may cache the old row again before the transaction commits
+            transaction.afterCommit(() -> cache.invalidate(id));
+        }
+    }
+
+    private void evictAll() {
+        cache.invalidateAll();
+
+        CacheTransaction transaction = CacheTransaction.current();
+        if (transaction != null) {
+            transaction.afterCommit(cache::invalidateAll);
+        }
+    }
+
+    private ID extractId(T entity) {
+        try {
+            return dao.extractId(entity);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to extract entity ID", e);
+        }
+    }
+}
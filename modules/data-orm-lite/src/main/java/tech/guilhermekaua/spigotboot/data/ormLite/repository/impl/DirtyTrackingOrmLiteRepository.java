@@ -0,0 +1,271 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import tech.guilhermekaua.spigotboot.data.ormLite.dirty.EntitySnapshots;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Repository decorator backing {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.DirtyTracking}:
+ * entities read or written through it are snapshotted, and writes of a snapshotted instance are reduced
+ * to {@link #updateColumns} of the changed columns, or skipped when nothing changed.
+ */
+public class DirtyTrackingOrmLiteRepository<T, ID> extends ForwardingOrmLiteRepository<T, ID> {
+    private static final Dao.CreateOrUpdateStatus UNCHANGED = new Dao.CreateOrUpdateStatus(false, false, 0);
+
+    private final Dao<T, ID> dao;
+    private final EntitySnapshots<T, ID> snapshots;
+
+    public DirtyTrackingOrmLiteRepository(OrmLiteRepository<T, ID> delegate, Dao<T, ID> dao, EntitySnapshots<T, ID> snapshots) {
+        super(delegate);
+        this.dao = dao;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public T save(T entity) {
+        return track(super.save(entity));
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        return trackAll(super.saveAll(iterable));
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        Objects.requireNonNull(entities, "Entities cannot be null");
+
+        List<T> toUpsert = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ID id = extractId(entity);
+            List<String> changed = id != null ? snapshots.getChangedColumns(id, entity) : null;
+            if (changed == null || !changed.isEmpty()) {
+                toUpsert.add(entity);
+            }
+        }
+
+        if (!toUpsert.isEmpty()) {
+            trackAll(super.upsertAll(toUpsert));
+        }
+        return new ArrayList<>(entities);
+    }
+
+    /**
+     * @return the number of updated rows, zero if nothing changed
+     */
+    @Override
+    public int update(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        List<String> changed = id != null ? snapshots.getChangedColumns(id, entity) : null;
+        if (changed != null && changed.isEmpty()) {
+            return 0;
+        }
+
+        int updated;
+        try {
+            updated = changed != null ? super.updateColumns(entity, changed) : super.update(entity);
+        } catch (RuntimeException e) {
+            // e.g. a version conflict, after which the row no longer matches the snapshot
+            forget(entity);
+            throw e;
+        }
+
+        if (updated > 0) {
+            track(entity);
+        } else if (id != null) {
+            snapshots.forget(id);
+        }
+        return updated;
+    }
+
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        // other columns may still differ from the row, so the snapshot no longer describes it
+        forget(entity);
+        return super.updateColumns(entity, columnNames);
+    }
+
+    /**
+     * Never skipped, since the version check is the point of the call.
+     */
+    @Override
+    public boolean compareAndSave(T entity) {
+        boolean saved = super.compareAndSave(entity);
+        if (saved) {
+            track(entity);
+        } else {
+            forget(entity);
+        }
+        return saved;
+    }
+
+    @Override
+    public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        List<String> changed = id != null ? snapshots.getChangedColumns(id, entity) : null;
+        if (changed != null && changed.isEmpty()) {
+            return UNCHANGED;
+        }
+
+        if (changed != null) {
+            int updated = super.updateColumns(entity, changed);
+            if (updated > 0) {
+                track(entity);
+                return new Dao.CreateOrUpdateStatus(false, true, updated);
+            }
+            // the row is gone, recreate it
+        }
+
+        Dao.CreateOrUpdateStatus status = super.createOrUpdate(entity);
+        track(entity);
+        return status;
+    }
+
+    @Override
+    public T findById(ID id) {
+        T entity = super.findById(id);
+        return entity != null ? track(entity) : null;
+    }
+
+    @Override
+    public List<T> findAll() {
+        return trackAll(super.findAll());
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        return trackAll(super.findAllById(ids));
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        return super.streamAll().peek(this::track);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+
+        super.forEachBatch(batchSize, page -> consumer.accept(trackAll(page)));
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        return trackAll(super.findAllAfter(afterId, limit));
+    }
+
+    @Override
+    public void delete(T entity) {
+        try {
+            super.delete(entity);
+        } finally {
+            forget(entity);
+        }
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        try {
+            super.delete(iterable);
+        } finally {
+            for (T entity : iterable) {
+                forget(entity);
+            }
+        }
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        try {
+            super.deleteById(id);
+        } finally {
+            snapshots.forget(id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        try {
+            super.deleteAllById(ids);
+        } finally {
+            for (ID id : ids) {
+                snapshots.forget(id);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            super.deleteAll();
+        } finally {
+            snapshots.clear();
+        }
+    }
+
+    private T track(T entity) {
+        ID id = extractId(entity);
+        if (id != null) {
+            snapshots.snapshot(id, entity);
+        }
+        return entity;
+    }
+
+    private List<T> trackAll(List<T> entities) {
+        for (T entity : entities) {
+            track(entity);
+        }
+        return entities;
+    }
+
+    private void forget(T entity) {
+        ID id = extractId(entity);
+        if (id != null) {
+            snapshots.forget(id);
+        }
+    }
+
+    private ID extractId(T entity) {
+        try {
+            return dao.extractId(entity);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to extract entity ID", e);
+        }
+    }
+}
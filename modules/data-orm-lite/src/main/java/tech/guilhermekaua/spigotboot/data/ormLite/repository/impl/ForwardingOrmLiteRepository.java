@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.stmt.DeleteBuilder;
+import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.stmt.UpdateBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.repository.AsyncRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Base for repository decorators: forwards every call to {@link #getDelegate()} so subclasses only
+ * override the operations they change.
+ */
+@RequiredArgsConstructor
+public abstract class ForwardingOrmLiteRepository<T, ID> implements OrmLiteRepository<T, ID> {
+    @Getter
+    private final OrmLiteRepository<T, ID> delegate;
+    private volatile AsyncRepository<T, ID> async;
+
+    @Override
+    public T save(T entity) {
+        return delegate.save(entity);
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        return delegate.saveAll(iterable);
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        return delegate.upsertAll(entities);
+    }
+
+    @Override
+    public T findById(ID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        delegate.forEachBatch(batchSize, consumer);
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        return delegate.findAllAfter(afterId, limit);
+    }
+
+    @Override
+    public void delete(T entity) {
+        delegate.delete(entity);
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        delegate.delete(iterable);
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public QueryBuilder<T, ID> queryBuilder() {
+        return delegate.queryBuilder();
+    }
+
+    @Override
+    public UpdateBuilder<T, ID> updateBuilder() {
+        return delegate.updateBuilder();
+    }
+
+    @Override
+    public DeleteBuilder<T, ID> deleteBuilder() {
+        return delegate.deleteBuilder();
+    }
+
+    @Override
+    public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
+        return delegate.createOrUpdate(entity);
+    }
+
+    @Override
+    public int update(T entity) {
+        return delegate.update(entity);
+    }
+
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        return delegate.updateColumns(entity, columnNames);
+    }
+
+    @Override
+    public boolean compareAndSave(T entity) {
+        return delegate.compareAndSave(entity);
+    }
+
+    /**
+     * Runs on the delegate's executor but calls back into this decorator, so async calls see its behaviour.
+     */
+    @Override
+    public AsyncRepository<T, ID> async() {
+        AsyncRepository<T, ID> current = async;
+        if (current == null) {
+            async = current = new AsyncOrmLiteRepository<>(this, delegate.async().getExecutor());
+        }
+        return current;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.OperationMetrics;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.RepositoryMetrics;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Repository decorator recording the latency and row count of every call that reaches the database in
+ * {@link RepositoryMetrics}. It sits right above {@link OrmLiteRepositoryImpl}, so cache hits and
+ * buffered writes are not counted.
+ */
+public class MetricsOrmLiteRepository<T, ID> extends ForwardingOrmLiteRepository<T, ID> {
+    private final String repositoryName;
+    private final RepositoryMetrics metrics;
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    public MetricsOrmLiteRepository(OrmLiteRepository<T, ID> delegate, String repositoryName, RepositoryMetrics metrics) {
+        super(delegate);
+        this.repositoryName = repositoryName;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public T save(T entity) {
+        return timed("save", () -> super.save(entity), saved -> 1);
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        return timed("saveAll", () -> super.saveAll(iterable), List::size);
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        return timed("upsertAll", () -> super.upsertAll(entities), List::size);
+    }
+
+    @Override
+    public T findById(ID id) {
+        return timed("findById", () -> super.findById(id), found -> found != null ? 1 : 0);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return timed("findAll", super::findAll, List::size);
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        return timed("findAllById", () -> super.findAllById(ids), List::size);
+    }
+
+    /**
+     * Only opening the stream is timed, rows are read while the caller consumes it.
+     */
+    @Override
+    public Stream<T> streamAll() {
+        return timed("streamAll", super::streamAll, stream -> 0);
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        return timed("findAllAfter", () -> super.findAllAfter(afterId, limit), List::size);
+    }
+
+    @Override
+    public void delete(T entity) {
+        timed("delete", () -> {
+            super.delete(entity);
+            return null;
+        }, none -> 1);
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        timed("delete", () -> {
+            super.delete(iterable);
+            return null;
+        }, none -> iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0);
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        timed("deleteById", () -> {
+            super.deleteById(id);
+            return null;
+        }, none -> 1);
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        timed("deleteAllById", () -> {
+            super.deleteAllById(ids);
+            return null;
+        }, none -> ids.size());
+    }
+
+    @Override
+    public void deleteAll() {
+        timed("deleteAll", () -> {
+            super.deleteAll();
+            return null;
+        }, none -> 0);
+    }
+
+    @Override
+    public long count() {
+        return timed("count", super::count, count -> 0);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return timed("existsById", () -> super.existsById(id), exists -> 0);
+    }
+
+    @Override
+    public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
+        return timed("createOrUpdate", () -> super.createOrUpdate(entity), Dao.CreateOrUpdateStatus::getNumLinesChanged);
+    }
+
+    @Override
+    public int update(T entity) {
+        return timed("update", () -> super.update(entity), updated -> updated);
+    }
+
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        return timed("updateColumns", () -> super.updateColumns(entity, columnNames), updated -> updated);
+    }
+
+    @Override
+    public boolean compareAndSave(T entity) {
+        return timed("compareAndSave", () -> super.compareAndSave(entity), saved -> saved ? 1 : 0);
+    }
+
+    private <R> R timed(String operation, Supplier<R> action, ToIntFunction<? super R> rows) {
+        OperationMetrics operationMetrics = operations.computeIfAbsent(operation, name -> metrics.operation(repositoryName, name));
+
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            operationMetrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        operationMetrics.record(System.nanoTime() - start, rows.applyAsInt(result));
+        return result;
+    }
+}
@@ -22,22 +22,58 @@
  */
 package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
 
+import com.j256.ormlite.dao.BaseDaoImpl;
 import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.TransactionManager;
 import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.stmt.UpdateBuilder;
-import lombok.RequiredArgsConstructor;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.TableInfo;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+import tech.guilhermekaua.spigotboot.data.ormLite.exceptions.OptimisticLockException;
 import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.EntityCursor;
+import tech.guilhermekaua.spigotboot.data.repository.AsyncRepository;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-@RequiredArgsConstructor
 public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
     private final Dao<T, ID> dao;
+    private final AsyncRepository<T, ID> async;
+    private final int batchSize;
+    private final DriverProfile driverProfile;
+    private final boolean versioned;
+    private volatile String idColumn;
+
+    /**
+     * @param batchSize     rows per statement of the bulk operations
+     * @param driverProfile profile of the database, for the fetch size of {@link #streamAll()}
+     */
+    public OrmLiteRepositoryImpl(Dao<T, ID> dao, Executor executor, int batchSize, DriverProfile driverProfile) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than 0: " + batchSize);
+        }
+
+        this.dao = dao;
+        this.async = new AsyncOrmLiteRepository<>(this, executor);
+        this.batchSize = batchSize;
+        this.driverProfile = driverProfile;
+        this.versioned = dao instanceof BaseDaoImpl && hasVersionField(((BaseDaoImpl<T, ID>) dao).getTableInfo());
+    }
 
     @Override
     public T save(T entity) {
@@ -77,6 +113,106 @@ public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
         }
     }
 
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        Objects.requireNonNull(entities, "Entities cannot be null");
+
+        List<T> toUpsert = new ArrayList<>(entities);
+        if (toUpsert.isEmpty()) {
+            return toUpsert;
+        }
+
+        try {
+            TableInfo<T, ID> tableInfo = dao instanceof BaseDaoImpl ? ((BaseDaoImpl<T, ID>) dao).getTableInfo() : null;
+            UpsertDialect dialect = UpsertDialect.of(dao.getConnectionSource().getDatabaseType());
+
+            // the native upsert would skip the version check
+            if (tableInfo == null || tableInfo.getIdField() == null || dialect == null || versioned || hasUnassignedId(tableInfo, toUpsert)) {
+                dao.callBatchTasks(() -> {
+                    for (T entity : toUpsert) {
+                        checkVersion(entity, dao.createOrUpdate(entity));
+                    }
+                    return null;
+                });
+                return toUpsert;
+            }
+
+            upsertInBatches(tableInfo, dialect, toUpsert);
+            dao.notifyChanges();
+            return toUpsert;
+        } catch (OptimisticLockException e) {
+            throw e;
+        } catch (Exception e) {
+            // batch tasks wrap exceptions of the callable in a SQLException
+            if (e.getCause() instanceof OptimisticLockException) {
+                throw (OptimisticLockException) e.getCause();
+            }
+            throw new RuntimeException("Failed to upsert entities", e);
+        }
+    }
+
+    private void upsertInBatches(TableInfo<T, ID> tableInfo, UpsertDialect dialect, List<T> entities) throws SQLException {
+        List<FieldType> columnList = new ArrayList<>();
+        for (FieldType fieldType : tableInfo.getFieldTypes()) {
+            if (!fieldType.isForeignCollection()) {
+                columnList.add(fieldType);
+            }
+        }
+        FieldType[] columns = columnList.toArray(new FieldType[0]);
+        FieldType idField = tableInfo.getIdField();
+
+        ConnectionSource connectionSource = dao.getConnectionSource();
+        int rowsPerStatement = dialect.getRowsPerStatement(columns.length, batchSize);
+
+        inTransaction(entities.size() > rowsPerStatement, () -> {
+            DatabaseConnection connection = connectionSource.getReadWriteConnection(tableInfo.getTableName());
+            try {
+                String fullStatement = null;
+                for (int from = 0; from < entities.size(); from += rowsPerStatement) {
+                    List<T> batch = entities.subList(from, Math.min(entities.size(), from + rowsPerStatement));
+
+                    String statement;
+                    if (batch.size() == rowsPerStatement) {
+                        if (fullStatement == null) {
+                            fullStatement = dialect.createStatement(connectionSource.getDatabaseType(), tableInfo.getTableName(), columns, idField, rowsPerStatement);
+                        }
+                        statement = fullStatement;
+                    } else {
+                        statement = dialect.createStatement(connectionSource.getDatabaseType(), tableInfo.getTableName(), columns, idField, batch.size());
+                    }
+
+                    Object[] args = new Object[batch.size() * columns.length];
+                    FieldType[] argFieldTypes = new FieldType[args.length];
+                    int index = 0;
+                    for (T entity : batch) {
+                        for (FieldType column : columns) {
+                            args[index] = column.extractJavaFieldToSqlArgValue(entity);
+                            argFieldTypes[index++] = column;
+                        }
+                    }
+
+                    connection.update(statement, args, argFieldTypes);
+                }
+            } finally {
+                connectionSource.releaseConnection(connection);
+            }
+        });
+    }
+
+    // entities waiting for a generated ID must go through ORMLite's insert
+    private static <T> boolean hasUnassignedId(TableInfo<T, ?> tableInfo, List<T> entities) throws SQLException {
+        FieldType idField = tableInfo.getIdField();
+        if (!idField.isGeneratedId()) {
+            return false;
+        }
+
+        for (T entity : entities) {
+            if (idField.isObjectsFieldValueDefault(entity)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public T findById(ID id) {
@@ -98,6 +234,86 @@ public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
         }
     }
 
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+
+        List<ID> toFind = new ArrayList<>(ids);
+        List<T> found = new ArrayList<>(toFind.size());
+        try {
+            String idColumn = getIdColumn();
+            for (int from = 0; from < toFind.size(); from += batchSize) {
+                found.addAll(dao.queryBuilder()
+                        .where().in(idColumn, toFind.subList(from, Math.min(toFind.size(), from + batchSize)))
+                        .query());
+            }
+            return found;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find entities by ID", e);
+        }
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        EntityCursor<T> cursor;
+        try {
+            cursor = EntityCursor.open(dao, driverProfile);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to stream all entities", e);
+        }
+
+        // the cursor also closes itself once exhausted
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than 0: " + batchSize);
+        }
+
+        ID lastId = null;
+        while (true) {
+            List<T> page = findAllAfter(lastId, batchSize);
+            if (page.isEmpty()) {
+                return;
+            }
+
+            consumer.accept(page);
+            if (page.size() < batchSize) {
+                return;
+            }
+
+            try {
+                lastId = dao.extractId(page.get(page.size() - 1));
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to extract entity ID", e);
+            }
+        }
+    }
+
+    @Override
+    public List<T> findAllAfter(ID afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0: " + limit);
+        }
+
+        try {
+            String idColumn = getIdColumn();
+            QueryBuilder<T, ID> queryBuilder = dao.queryBuilder()
+                    .orderBy(idColumn, true)
+                    .limit((long) limit);
+            if (afterId != null) {
+                queryBuilder.where().gt(idColumn, afterId);
+            }
+            return queryBuilder.query();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find entities after ID: " + afterId, e);
+        }
+    }
+
     @Override
     public void delete(T entity) {
         Objects.requireNonNull(entity, "Entity cannot be null");
@@ -145,6 +361,26 @@ public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
         }
     }
 
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+
+        List<ID> toDelete = new ArrayList<>(ids);
+        if (toDelete.isEmpty()) {
+            return;
+        }
+
+        try {
+            inTransaction(toDelete.size() > batchSize, () -> {
+                for (int from = 0; from < toDelete.size(); from += batchSize) {
+                    dao.deleteIds(toDelete.subList(from, Math.min(toDelete.size(), from + batchSize)));
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete entities by ID", e);
+        }
+    }
+
     @Override
     public void deleteAll() {
         try {
@@ -189,12 +425,17 @@ public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
         return dao.deleteBuilder();
     }
 
+    @Override
+    public AsyncRepository<T, ID> async() {
+        return async;
+    }
+
     @Override
     public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
         Objects.requireNonNull(entity, "Entity cannot be null");
 
         try {
-            return dao.createOrUpdate(entity);
+            return checkVersion(entity, dao.createOrUpdate(entity));
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create or update entity", e);
         }
@@ -205,9 +446,110 @@ public class OrmLiteRepositoryImpl<T, ID> implements OrmLiteRepository<T, ID> {
         Objects.requireNonNull(entity, "Entity cannot be null");
 
         try {
-            return dao.update(entity);
+            int updated = dao.update(entity);
+            if (updated == 0 && versioned) {
+                throw new OptimisticLockException(dao.getDataClass(), dao.extractId(entity));
+            }
+            return updated;
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update entity", e);
         }
     }
+
+    @Override
+    public boolean compareAndSave(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+        if (!versioned) {
+            throw new IllegalStateException(dao.getDataClass().getName() + " has no version field, compareAndSave requires one.");
+        }
+
+        try {
+            // ORMLite adds the version to the WHERE clause and only bumps the entity's version on success
+            return dao.update(entity) > 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update entity", e);
+        }
+    }
+
+    // an update of an existing row that matched nothing lost against a concurrent write
+    private Dao.CreateOrUpdateStatus checkVersion(T entity, Dao.CreateOrUpdateStatus status) throws SQLException {
+        if (versioned && status.isUpdated() && status.getNumLinesChanged() == 0) {
+            throw new OptimisticLockException(dao.getDataClass(), dao.extractId(entity));
+        }
+        return status;
+    }
+
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+        Objects.requireNonNull(columnNames, "Column names cannot be null");
+
+        TableInfo<T, ID> tableInfo = dao instanceof BaseDaoImpl ? ((BaseDaoImpl<T, ID>) dao).getTableInfo() : null;
+        if (tableInfo == null || tableInfo.getIdField() == null || hasVersionField(tableInfo)) {
+            return update(entity);
+        }
+        if (columnNames.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            UpdateBuilder<T, ID> updateBuilder = dao.updateBuilder();
+            for (String columnName : columnNames) {
+                FieldType fieldType = tableInfo.getFieldTypeByColumnName(columnName);
+                // bound as an argument, converted by the field's persister
+                updateBuilder.updateColumnValue(columnName, new SelectArg(fieldType.extractJavaFieldValue(entity)));
+            }
+            updateBuilder.where().idEq(dao.extractId(entity));
+            return updateBuilder.update();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update entity columns " + columnNames, e);
+        }
+    }
+
+    private static boolean hasVersionField(TableInfo<?, ?> tableInfo) {
+        for (FieldType fieldType : tableInfo.getFieldTypes()) {
+            if (fieldType.isVersion()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // a single statement is atomic by itself
+    private void inTransaction(boolean severalStatements, SqlWork work) throws SQLException {
+        if (!severalStatements) {
+            work.run();
+            return;
+        }
+
+        TransactionManager.callInTransaction(dao.getConnectionSource(), () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private String getIdColumn() throws SQLException {
+        String column = idColumn;
+        if (column == null) {
+            idColumn = column = resolveIdColumn();
+        }
+        return column;
+    }
+
+    // the DAO's table info also covers generated table configs and persisters renaming columns
+    private String resolveIdColumn() throws SQLException {
+        TableInfo<T, ID> tableInfo = dao instanceof BaseDaoImpl
+                ? ((BaseDaoImpl<T, ID>) dao).getTableInfo()
+                : new TableInfo<>(dao.getConnectionSource().getDatabaseType(), dao.getDataClass());
+
+        FieldType idField = tableInfo.getIdField();
+        if (idField == null) {
+            throw new IllegalStateException("Entity " + dao.getDataClass().getName() + " has no ID field.");
+        }
+        return idField.getColumnName();
+    }
+
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
 }
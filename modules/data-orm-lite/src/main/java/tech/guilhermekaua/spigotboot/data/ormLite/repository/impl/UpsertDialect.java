@@ -0,0 +1,166 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.FieldType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Multi-row upsert syntax of the databases that have one.
+ */
+enum UpsertDialect {
+    /**
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE}, also used by MariaDB.
+     */
+    MYSQL(65_535),
+    /**
+     * {@code INSERT ... ON CONFLICT (id) DO UPDATE}.
+     */
+    POSTGRESQL(32_767),
+    /**
+     * Same syntax as PostgreSQL (SQLite 3.24+), with the bind parameter limit of older builds.
+     */
+    SQLITE(999),
+    /**
+     * {@code MERGE INTO ... KEY (id) VALUES ...}.
+     */
+    H2(65_535);
+
+    private final int maxParameters;
+
+    UpsertDialect(int maxParameters) {
+        this.maxParameters = maxParameters;
+    }
+
+    /**
+     * Number of rows of one statement, bounded by the bind parameters the driver accepts.
+     */
+    int getRowsPerStatement(int columns, int batchSize) {
+        return Math.max(1, Math.min(batchSize, maxParameters / columns));
+    }
+
+    String createStatement(DatabaseType databaseType, String tableName, FieldType[] columns, FieldType idField, int rows) {
+        StringBuilder sb = new StringBuilder(64 + rows * columns.length * 3);
+        sb.append(this == H2 ? "MERGE INTO " : "INSERT INTO ");
+        databaseType.appendEscapedEntityName(sb, tableName);
+
+        sb.append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            databaseType.appendEscapedEntityName(sb, columns[i].getColumnName());
+        }
+        sb.append(')');
+
+        if (this == H2) {
+            sb.append(" KEY (");
+            databaseType.appendEscapedEntityName(sb, idField.getColumnName());
+            sb.append(')');
+        }
+
+        sb.append(" VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sb.append(", ");
+            }
+            sb.append('(');
+            for (int i = 0; i < columns.length; i++) {
+                sb.append(i > 0 ? ", ?" : "?");
+            }
+            sb.append(')');
+        }
+
+        switch (this) {
+            case MYSQL:
+                if (!appendAssignments(sb, databaseType, columns, idField, " ON DUPLICATE KEY UPDATE ", "VALUES(", ")")) {
+                    // MySQL has no DO NOTHING, a no-op assignment keeps the existing row
+                    sb.append(" ON DUPLICATE KEY UPDATE ");
+                    databaseType.appendEscapedEntityName(sb, idField.getColumnName());
+                    sb.append(" = ");
+                    databaseType.appendEscapedEntityName(sb, idField.getColumnName());
+                }
+                break;
+            case POSTGRESQL:
+            case SQLITE:
+                sb.append(" ON CONFLICT (");
+                databaseType.appendEscapedEntityName(sb, idField.getColumnName());
+                sb.append(')');
+                if (!appendAssignments(sb, databaseType, columns, idField, " DO UPDATE SET ", "EXCLUDED.", "")) {
+                    sb.append(" DO NOTHING");
+                }
+                break;
+            default:
+                break;
+        }
+
+        return sb.toString();
+    }
+
+    private static boolean appendAssignments(StringBuilder sb,
+                                             DatabaseType databaseType,
+                                             FieldType[] columns,
+                                             FieldType idField,
+                                             String keyword,
+                                             String valuePrefix,
+                                             String valueSuffix) {
+        boolean first = true;
+        for (FieldType column : columns) {
+            if (column == idField) {
+                continue;
+            }
+
+            sb.append(first ? keyword : ", ");
+            databaseType.appendEscapedEntityName(sb, column.getColumnName());
+            sb.append(" = ").append(valuePrefix);
+            databaseType.appendEscapedEntityName(sb, column.getColumnName());
+            sb.append(valueSuffix);
+            first = false;
+        }
+
+        return !first;
+    }
+
+    /**
+     * @return the dialect of {@code databaseType}, or {@code null} if rows must be upserted one at a time
+     */
+    static @Nullable UpsertDialect of(DatabaseType databaseType) {
+        String name = databaseType.getDatabaseName().toLowerCase(Locale.ROOT);
+        if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        }
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        if (name.contains("sqlite")) {
+            return SQLITE;
+        }
+        if (name.equals("h2")) {
+            return H2;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+import tech.guilhermekaua.spigotboot.data.ormLite.writeBehind.WriteBehindBuffer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Objects;
+
+/**
+ * Repository decorator backing {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.WriteBehind}:
+ * writes go to a {@link WriteBehindBuffer} and deletes discard the matching pending writes first, without
+ * any flush running, so that a flush cannot bring a deleted row back.
+ */
+public class WriteBehindOrmLiteRepository<T, ID> extends ForwardingOrmLiteRepository<T, ID> {
+    private final Dao<T, ID> dao;
+    private final WriteBehindBuffer<T, ID> buffer;
+
+    public WriteBehindOrmLiteRepository(OrmLiteRepository<T, ID> delegate, Dao<T, ID> dao, WriteBehindBuffer<T, ID> buffer) {
+        super(delegate);
+        this.dao = dao;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public T save(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        if (id == null) {
+            return super.save(entity);
+        }
+
+        buffer.create(id, entity);
+        return entity;
+    }
+
+    @Override
+    public List<T> saveAll(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        List<T> saved = new ArrayList<>();
+        for (T entity : iterable) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<T> upsertAll(Collection<T> entities) {
+        Objects.requireNonNull(entities, "Entities cannot be null");
+
+        List<T> withoutId = new ArrayList<>();
+        for (T entity : entities) {
+            ID id = extractId(entity);
+            if (id == null) {
+                withoutId.add(entity);
+            } else {
+                buffer.createOrUpdate(id, entity);
+            }
+        }
+
+        if (!withoutId.isEmpty()) {
+            super.upsertAll(withoutId);
+        }
+        return new ArrayList<>(entities);
+    }
+
+    @Override
+    public int update(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        if (id == null) {
+            return super.update(entity);
+        }
+
+        buffer.update(id, entity);
+        return 1;
+    }
+
+    /**
+     * Buffered like {@link #update}: the flush writes the whole row.
+     */
+    @Override
+    public int updateColumns(T entity, Collection<String> columnNames) {
+        Objects.requireNonNull(columnNames, "Column names cannot be null");
+
+        return update(entity);
+    }
+
+    @Override
+    public Dao.CreateOrUpdateStatus createOrUpdate(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        if (id == null) {
+            return super.createOrUpdate(entity);
+        }
+
+        buffer.createOrUpdate(id, entity);
+        return new Dao.CreateOrUpdateStatus(false, true, 1);
+    }
+
+    @Override
+    public T findById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        T pending = buffer.get(id);
+        return pending != null ? pending : super.findById(id);
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+
+        List<T> found = new ArrayList<>();
+        Set<ID> missing = new HashSet<>();
+        for (ID id : ids) {
+            T pending = buffer.get(id);
+            if (pending != null) {
+                found.add(pending);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            found.addAll(super.findAllById(missing));
+        }
+        return found;
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        return buffer.contains(id) || super.existsById(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+
+        ID id = extractId(entity);
+        if (id == null) {
+            super.delete(entity);
+            return;
+        }
+        buffer.discard(Collections.singletonList(id), () -> super.delete(entity));
+    }
+
+    @Override
+    public void delete(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "Iterable cannot be null");
+
+        List<ID> ids = new ArrayList<>();
+        for (T entity : iterable) {
+            ID id = extractId(entity);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        buffer.discard(ids, () -> super.delete(iterable));
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        buffer.discard(Collections.singletonList(id), () -> super.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<ID> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+
+        buffer.discard(ids, () -> super.deleteAllById(ids));
+    }
+
+    @Override
+    public void deleteAll() {
+        buffer.discardAll(super::deleteAll);
+    }
+
+    private ID extractId(T entity) {
+        try {
+            return dao.extractId(entity);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to extract entity ID", e);
+        }
+    }
+}
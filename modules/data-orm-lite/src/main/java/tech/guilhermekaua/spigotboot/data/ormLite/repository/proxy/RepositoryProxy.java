@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.proxy;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.ComponentProxy;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.ProxyInterceptor;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Proxy interceptor bound to a repository's {@link OrmLiteRepository} delegate.
+ * <p>
+ * The dispatch table is built once when the proxy is created: abstract methods are mapped to the
+ * matching delegate method and default (or concrete) methods run their own body, so a call costs a
+ * single map lookup plus the target invocation.
+ */
+public final class RepositoryProxy implements ProxyInterceptor {
+    private final Class<?> repositoryClass;
+    private final Map<Method, RepositoryMethodInvoker> dispatchTable;
+
+    private RepositoryProxy(Class<?> repositoryClass, Map<Method, RepositoryMethodInvoker> dispatchTable) {
+        this.repositoryClass = repositoryClass;
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * @throws IllegalStateException if {@code repositoryClass} declares an abstract method the delegate cannot serve
+     */
+    public static <R> @NotNull R create(@NotNull Class<R> repositoryClass, @NotNull OrmLiteRepository<?, ?> delegate) {
+        return create(repositoryClass, delegate, method -> null);
+    }
+
+    /**
+     * @param fallback provides invokers for abstract methods the delegate does not implement (e.g. derived
+     *                 queries); returning {@code null} rejects the method
+     * @throws IllegalStateException if {@code repositoryClass} declares an abstract method nothing can serve
+     */
+    public static <R> @NotNull R create(@NotNull Class<R> repositoryClass,
+                                        @NotNull OrmLiteRepository<?, ?> delegate,
+                                        @NotNull Function<Method, RepositoryMethodInvoker> fallback) {
+        return create(repositoryClass, delegate, fallback, (method, invoker) -> invoker);
+    }
+
+    /**
+     * @param decorator wraps the invoker of each method, e.g. to run it in some thread-bound scope
+     */
+    public static <R> @NotNull R create(@NotNull Class<R> repositoryClass,
+                                        @NotNull OrmLiteRepository<?, ?> delegate,
+                                        @NotNull Function<Method, RepositoryMethodInvoker> fallback,
+                                        @NotNull BiFunction<Method, RepositoryMethodInvoker, RepositoryMethodInvoker> decorator) {
+        Objects.requireNonNull(repositoryClass, "repositoryClass cannot be null.");
+        Objects.requireNonNull(delegate, "delegate cannot be null.");
+        Objects.requireNonNull(fallback, "fallback cannot be null.");
+        Objects.requireNonNull(decorator, "decorator cannot be null.");
+
+        Map<Method, RepositoryMethodInvoker> dispatchTable = new HashMap<>();
+        for (Method method : repositoryClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+
+            dispatchTable.put(method, decorator.apply(method, createInvoker(repositoryClass, method, delegate, fallback)));
+        }
+
+        return ComponentProxy.createProxy(repositoryClass, new RepositoryProxy(repositoryClass, dispatchTable));
+    }
+
+    @Override
+    public Object intercept(Object self, Method thisMethod, @Nullable Method proceed, Object[] args) throws Throwable {
+        RepositoryMethodInvoker invoker = dispatchTable.get(thisMethod);
+        if (invoker != null) {
+            return invoker.invoke(self, proceed, args);
+        }
+
+        switch (thisMethod.getName()) {
+            case "toString":
+                return repositoryClass.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(self));
+            case "hashCode":
+                return System.identityHashCode(self);
+            case "equals":
+                return self == args[0];
+            default:
+                break;
+        }
+
+        if (proceed == null) {
+            throw new UnsupportedOperationException("Repository method has no implementation: " + thisMethod);
+        }
+        return invokeUnwrapped(proceed, self, args);
+    }
+
+    private static RepositoryMethodInvoker createInvoker(Class<?> repositoryClass,
+                                                         Method method,
+                                                         Object delegate,
+                                                         Function<Method, RepositoryMethodInvoker> fallback) {
+        if (!Modifier.isAbstract(method.getModifiers())) {
+            return (self, proceed, args) -> invokeUnwrapped(proceed, self, args);
+        }
+
+        Method target;
+        try {
+            target = delegate.getClass().getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            RepositoryMethodInvoker invoker = fallback.apply(method);
+            if (invoker != null) {
+                return invoker;
+            }
+
+            throw new IllegalStateException("Repository " + repositoryClass.getName() + " declares method "
+                    + method.getName() + " which has no implementation; declare it as a default method.", e);
+        }
+        target.setAccessible(true);
+
+        return (self, proceed, args) -> invokeUnwrapped(target, delegate, args);
+    }
+
+    private static Object invokeUnwrapped(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.query;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.field.types.VoidType;
+import com.j256.ormlite.stmt.DeleteBuilder;
+import com.j256.ormlite.stmt.PreparedDelete;
+import com.j256.ormlite.stmt.PreparedQuery;
+import com.j256.ormlite.stmt.PreparedStmt;
+import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.stmt.SelectArg;
+import com.j256.ormlite.stmt.Where;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.proxy.RepositoryMethodInvoker;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Action;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Operator;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Order;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Predicate;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Executes a derived query method against prepared statements built once per plan.
+ * <p>
+ * Statement argument holders are mutable, so prepared statements are pooled: each call borrows one,
+ * binds its arguments and returns it. The pool grows to the number of concurrent callers and no
+ * query builder or SQL string is created on the hot path.
+ * <p>
+ * Finds on plain properties can also be evaluated in memory, so that writes which are not in the database
+ * yet can be applied on top of their results; see {@link #invoke(Object[], Map, Runnable)}.
+ */
+public final class DerivedQuery<T, ID> implements RepositoryMethodInvoker {
+    private final Method method;
+    private final Dao<T, ID> dao;
+    private final DerivedQueryPlan plan;
+    private final Map<String, String> columns;
+    private final Map<String, Field> fields;
+    private final boolean evaluableInMemory;
+    private final Queue<PreparedStmt<T>> statements = new ConcurrentLinkedQueue<>();
+
+    private DerivedQuery(Method method, Dao<T, ID> dao, DerivedQueryPlan plan, Map<String, Field> fields) {
+        this.method = method;
+        this.dao = dao;
+        this.plan = plan;
+        this.fields = fields;
+        this.columns = new HashMap<>();
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            columns.put(entry.getKey(), columnName(entry.getValue()));
+        }
+        this.evaluableInMemory = isEvaluableInMemory(plan, fields);
+    }
+
+    /**
+     * Parses {@code method}'s name and prepares its statement.
+     *
+     * @return the query, or {@code null} if the method name is not a derived query
+     * @throws IllegalStateException if the method is a malformed derived query
+     */
+    public static <T, ID> @Nullable DerivedQuery<T, ID> create(@NotNull Method method, @NotNull Dao<T, ID> dao) {
+        DerivedQueryPlan plan;
+        try {
+            plan = DerivedQueryParser.parse(method.getName(), isCollection(method.getReturnType()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+
+        if (plan == null) {
+            return null;
+        }
+
+        if (plan.getAction() == Action.FIND_ALL && !method.getReturnType().isAssignableFrom(List.class)
+                && !method.getReturnType().isAssignableFrom(LinkedHashSet.class)) {
+            throw new IllegalStateException("Derived query " + method.getName() + " must return a List, Set, Collection or Iterable, not "
+                    + method.getReturnType().getName() + ".");
+        }
+
+        if (plan.getArgumentCount() != method.getParameterCount()) {
+            throw new IllegalStateException("Derived query " + method.getName() + " expects " + plan.getArgumentCount()
+                    + " argument(s) but declares " + method.getParameterCount() + ".");
+        }
+
+        DerivedQuery<T, ID> query = new DerivedQuery<>(method, dao, plan, resolveFields(dao.getDataClass(), plan));
+        try {
+            // prepared eagerly so mistakes surface at startup
+            query.statements.add(query.prepare());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to prepare derived query " + method.getName(), e);
+        }
+        return query;
+    }
+
+    @Override
+    public Object invoke(Object self, @Nullable Method proceed, Object[] args) {
+        PreparedStmt<T> statement = statements.poll();
+
+        try {
+            if (statement == null) {
+                statement = prepare();
+            }
+
+            for (int i = 0; i < plan.getArgumentCount(); i++) {
+                statement.setArgumentHolderValue(i, args[i]);
+            }
+
+            return execute(statement);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute derived query " + method.getName(), e);
+        } finally {
+            if (statement != null) {
+                statements.offer(statement);
+            }
+        }
+    }
+
+    /**
+     * Runs the query as if {@code pending} had been written: rows with a pending write are replaced by their
+     * pending state if it still matches, and pending entities that match are added, in the order the query
+     * asks for. Queries that cannot be evaluated in memory, i.e. counts, deletes, LIKE patterns and
+     * properties stored through a foreign key or custom persister, run {@code flush} first instead.
+     *
+     * @param pending entities written but not in the database yet, by ID
+     * @param flush   writes {@code pending} to the database
+     */
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object[] args, @NotNull Map<ID, T> pending, @NotNull Runnable flush) {
+        if (pending.isEmpty()) {
+            return invoke(null, null, args);
+        }
+        if (!evaluableInMemory) {
+            flush.run();
+            return invoke(null, null, args);
+        }
+
+        List<T> rows = new ArrayList<>();
+        if (plan.getAction() == Action.FIND_ONE) {
+            Object result = invoke(null, null, args);
+            T row = result instanceof Optional ? ((Optional<T>) result).orElse(null) : (T) result;
+
+            T pendingRow = row != null ? pending.get(extractId(row)) : null;
+            if (pendingRow == null) {
+                if (row != null) {
+                    rows.add(row);
+                }
+            } else if (!matches(pendingRow, args) || compareByOrders(pendingRow, row) > 0) {
+                // the row moved behind the next database row in line, which is unknown without writing it first
+                flush.run();
+                return invoke(null, null, args);
+            }
+        } else {
+            for (T row : (Collection<T>) invoke(null, null, args)) {
+                if (!pending.containsKey(extractId(row))) {
+                    rows.add(row);
+                }
+            }
+        }
+
+        for (T entity : pending.values()) {
+            if (matches(entity, args)) {
+                rows.add(entity);
+            }
+        }
+        if (!plan.getOrders().isEmpty()) {
+            rows.sort(this::compareByOrders);
+        }
+
+        if (plan.getAction() == Action.FIND_ONE) {
+            T first = rows.isEmpty() ? null : rows.get(0);
+            return method.getReturnType() == Optional.class ? Optional.ofNullable(first) : first;
+        }
+        return method.getReturnType().isAssignableFrom(List.class) ? rows : new LinkedHashSet<>(rows);
+    }
+
+    private boolean matches(T entity, Object[] args) {
+        int argument = 0;
+        for (List<Predicate> group : plan.getOrGroups()) {
+            boolean matches = true;
+            for (Predicate predicate : group) {
+                Object value = read(entity, predicate.getProperty());
+                matches &= matches(predicate, value, args, argument);
+                argument += predicate.getOperator().getArguments();
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return plan.getOrGroups().isEmpty();
+    }
+
+    // follows SQL: comparisons involving NULL are never true
+    private static boolean matches(Predicate predicate, Object value, Object[] args, int argument) {
+        switch (predicate.getOperator()) {
+            case IS_NULL:
+                return value == null;
+            case IS_NOT_NULL:
+                return value != null;
+            case BETWEEN:
+                return value != null && args[argument] != null && args[argument + 1] != null
+                        && compareValues(value, args[argument]) >= 0 && compareValues(value, args[argument + 1]) <= 0;
+            default:
+                break;
+        }
+
+        Object argumentValue = args[argument];
+        if (value == null || argumentValue == null) {
+            return false;
+        }
+
+        int comparison = compareValues(value, argumentValue);
+        switch (predicate.getOperator()) {
+            case EQUALS:
+                return comparison == 0;
+            case NOT_EQUALS:
+                return comparison != 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case LESS_THAN_EQUAL:
+                return comparison <= 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            case GREATER_THAN_EQUAL:
+                return comparison >= 0;
+            default:
+                throw new IllegalStateException("Operator cannot be evaluated in memory: " + predicate.getOperator());
+        }
+    }
+
+    // NULL sorts first in ascending order, as on MySQL, H2 and SQLite
+    private int compareByOrders(T a, T b) {
+        for (Order order : plan.getOrders()) {
+            Object first = read(a, order.getProperty());
+            Object second = read(b, order.getProperty());
+
+            int comparison;
+            if (first == null || second == null) {
+                comparison = first == null ? (second == null ? 0 : -1) : 1;
+            } else {
+                comparison = compareValues(first, second);
+            }
+
+            if (comparison != 0) {
+                return order.isAscending() ? comparison : -comparison;
+            }
+        }
+        return 0;
+    }
+
+    // compares values as the database stores them: enums and UUIDs by their string form
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            if (a instanceof Double || a instanceof Float || b instanceof Double || b instanceof Float) {
+                return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+            }
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+        }
+        if (a instanceof Date && b instanceof Date) {
+            return Long.compare(((Date) a).getTime(), ((Date) b).getTime());
+        }
+
+        Object first = a instanceof Enum ? ((Enum<?>) a).name() : a;
+        Object second = b instanceof Enum ? ((Enum<?>) b).name() : b;
+        if (first.getClass() == second.getClass() && !(first instanceof UUID)) {
+            return ((Comparable) first).compareTo(second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+
+    private Object read(T entity, String property) {
+        try {
+            return fields.get(property).get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to read property " + property + " of " + entity.getClass().getName(), e);
+        }
+    }
+
+    private ID extractId(T entity) {
+        try {
+            return dao.extractId(entity);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to extract entity ID", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object execute(PreparedStmt<T> statement) throws SQLException {
+        switch (plan.getAction()) {
+            case FIND_ONE:
+                T result = dao.queryForFirst((PreparedQuery<T>) statement);
+                return method.getReturnType() == Optional.class ? Optional.ofNullable(result) : result;
+            case FIND_ALL:
+                List<T> results = dao.query((PreparedQuery<T>) statement);
+                return method.getReturnType().isAssignableFrom(List.class) ? results : new LinkedHashSet<>(results);
+            case COUNT:
+                long count = dao.countOf((PreparedQuery<T>) statement);
+                return isInt(method.getReturnType()) ? (Object) (int) count : (Object) count;
+            case EXISTS:
+                return dao.countOf((PreparedQuery<T>) statement) > 0;
+            case DELETE:
+                int deleted = dao.delete((PreparedDelete<T>) statement);
+                return method.getReturnType() == void.class ? null : (isInt(method.getReturnType()) ? (Object) deleted : (Object) (long) deleted);
+            default:
+                throw new IllegalStateException("Unsupported derived query action: " + plan.getAction());
+        }
+    }
+
+    private PreparedStmt<T> prepare() throws SQLException {
+        if (plan.getAction() == Action.DELETE) {
+            DeleteBuilder<T, ID> builder = dao.deleteBuilder();
+            applyCriteria(builder.where());
+            return builder.prepare();
+        }
+
+        QueryBuilder<T, ID> builder = dao.queryBuilder();
+        applyCriteria(builder.where());
+
+        switch (plan.getAction()) {
+            case COUNT:
+            case EXISTS:
+                builder.setCountOf(true);
+                break;
+            case FIND_ONE:
+                builder.limit(1L);
+                // fall through
+            default:
+                for (Order order : plan.getOrders()) {
+                    builder.orderBy(columns.get(order.getProperty()), order.isAscending());
+                }
+        }
+
+        return builder.prepare();
+    }
+
+    private void applyCriteria(Where<T, ID> where) throws SQLException {
+        List<List<Predicate>> groups = plan.getOrGroups();
+
+        for (List<Predicate> group : groups) {
+            for (Predicate predicate : group) {
+                applyPredicate(where, columns.get(predicate.getProperty()), predicate);
+            }
+            if (group.size() > 1) {
+                where.and(group.size());
+            }
+        }
+
+        if (groups.size() > 1) {
+            where.or(groups.size());
+        }
+    }
+
+    private static <T, ID> void applyPredicate(Where<T, ID> where, String column, Predicate predicate) throws SQLException {
+        switch (predicate.getOperator()) {
+            case EQUALS:
+                where.eq(column, new SelectArg());
+                break;
+            case NOT_EQUALS:
+                where.ne(column, new SelectArg());
+                break;
+            case LESS_THAN:
+                where.lt(column, new SelectArg());
+                break;
+            case LESS_THAN_EQUAL:
+                where.le(column, new SelectArg());
+                break;
+            case GREATER_THAN:
+                where.gt(column, new SelectArg());
+                break;
+            case GREATER_THAN_EQUAL:
+                where.ge(column, new SelectArg());
+                break;
+            case LIKE:
+                where.like(column, new SelectArg());
+                break;
+            case NOT_LIKE:
+                where.not().like(column, new SelectArg());
+                break;
+            case BETWEEN:
+                where.between(column, new SelectArg(), new SelectArg());
+                break;
+            case IS_NULL:
+                where.isNull(column);
+                break;
+            case IS_NOT_NULL:
+                where.isNotNull(column);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operator: " + predicate.getOperator());
+        }
+    }
+
+    private static Map<String, Field> resolveFields(Class<?> entityClass, DerivedQueryPlan plan) {
+        Map<String, Field> fields = new HashMap<>();
+
+        for (List<Predicate> group : plan.getOrGroups()) {
+            for (Predicate predicate : group) {
+                fields.computeIfAbsent(predicate.getProperty(), property -> resolveField(entityClass, property));
+            }
+        }
+        for (Order order : plan.getOrders()) {
+            fields.computeIfAbsent(order.getProperty(), property -> resolveField(entityClass, property));
+        }
+
+        return fields;
+    }
+
+    private static Field resolveField(Class<?> entityClass, String property) {
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            Field field;
+            try {
+                field = type.getDeclaredField(property);
+            } catch (NoSuchFieldException e) {
+                continue;
+            }
+
+            if (!field.isAnnotationPresent(DatabaseField.class)) {
+                throw new IllegalStateException("Property " + property + " of " + entityClass.getName() + " is not a @DatabaseField.");
+            }
+
+            field.setAccessible(true);
+            return field;
+        }
+
+        throw new IllegalStateException("Entity " + entityClass.getName() + " has no property named " + property + ".");
+    }
+
+    private static String columnName(Field field) {
+        DatabaseField databaseField = field.getAnnotation(DatabaseField.class);
+        if (!databaseField.columnName().isEmpty()) {
+            return databaseField.columnName();
+        }
+        return databaseField.foreign() ? field.getName() + "_id" : field.getName();
+    }
+
+    private static boolean isEvaluableInMemory(DerivedQueryPlan plan, Map<String, Field> fields) {
+        if (plan.getAction() != Action.FIND_ONE && plan.getAction() != Action.FIND_ALL) {
+            return false;
+        }
+
+        for (List<Predicate> group : plan.getOrGroups()) {
+            for (Predicate predicate : group) {
+                // pattern matching and its case sensitivity depend on the database
+                if (predicate.getOperator() == Operator.LIKE || predicate.getOperator() == Operator.NOT_LIKE) {
+                    return false;
+                }
+            }
+        }
+
+        for (Field field : fields.values()) {
+            DatabaseField databaseField = field.getAnnotation(DatabaseField.class);
+            if (databaseField.foreign() || databaseField.dataType() != DataType.UNKNOWN
+                    || databaseField.persisterClass() != VoidType.class || !isPlainType(field.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlainType(Class<?> type) {
+        return type.isPrimitive() || Number.class.isAssignableFrom(type) || type == String.class || type == Boolean.class
+                || type == Character.class || type.isEnum() || type == UUID.class || Date.class.isAssignableFrom(type);
+    }
+
+    private static boolean isCollection(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || type == Iterable.class;
+    }
+
+    private static boolean isInt(Class<?> type) {
+        return type == int.class || type == Integer.class;
+    }
+}
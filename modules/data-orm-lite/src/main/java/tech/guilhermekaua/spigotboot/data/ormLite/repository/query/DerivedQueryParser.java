@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Action;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Operator;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Order;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.DerivedQueryPlan.Predicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses Spring-Data-style query method names into {@link DerivedQueryPlan}s.
+ * <p>
+ * Supported prefixes are {@code find}, {@code findAll}, {@code findFirst}, {@code count}, {@code exists}
+ * and {@code delete}, followed by {@code By}, predicates joined with {@code And}/{@code Or} and an optional
+ * {@code OrderBy<Property>[Asc|Desc]...} clause.
+ */
+public final class DerivedQueryParser {
+    private static final Pattern PREFIX = Pattern.compile("^(find|count|exists|delete)(All|First)?By([A-Z].*)$");
+    private static final Pattern ORDER = Pattern.compile("([A-Z][A-Za-z0-9]*?)(Asc|Desc)");
+    private static final Map<String, Operator> OPERATOR_SUFFIXES = new LinkedHashMap<>();
+
+    static {
+        // longest suffixes first, so "LessThanEqual" wins over "LessThan"
+        OPERATOR_SUFFIXES.put("GreaterThanEqual", Operator.GREATER_THAN_EQUAL);
+        OPERATOR_SUFFIXES.put("LessThanEqual", Operator.LESS_THAN_EQUAL);
+        OPERATOR_SUFFIXES.put("GreaterThan", Operator.GREATER_THAN);
+        OPERATOR_SUFFIXES.put("IsNotNull", Operator.IS_NOT_NULL);
+        OPERATOR_SUFFIXES.put("LessThan", Operator.LESS_THAN);
+        OPERATOR_SUFFIXES.put("NotEquals", Operator.NOT_EQUALS);
+        OPERATOR_SUFFIXES.put("NotLike", Operator.NOT_LIKE);
+        OPERATOR_SUFFIXES.put("NotNull", Operator.IS_NOT_NULL);
+        OPERATOR_SUFFIXES.put("Between", Operator.BETWEEN);
+        OPERATOR_SUFFIXES.put("Equals", Operator.EQUALS);
+        OPERATOR_SUFFIXES.put("Before", Operator.LESS_THAN);
+        OPERATOR_SUFFIXES.put("IsNull", Operator.IS_NULL);
+        OPERATOR_SUFFIXES.put("After", Operator.GREATER_THAN);
+        OPERATOR_SUFFIXES.put("Null", Operator.IS_NULL);
+        OPERATOR_SUFFIXES.put("Like", Operator.LIKE);
+        OPERATOR_SUFFIXES.put("Not", Operator.NOT_EQUALS);
+        OPERATOR_SUFFIXES.put("Is", Operator.EQUALS);
+    }
+
+    private DerivedQueryParser() {
+    }
+
+    /**
+     * @param collectionResult whether the method returns a collection, used to tell {@code findBy} lookups apart
+     * @return the parsed plan, or {@code null} if {@code methodName} is not a derived query name
+     * @throws IllegalArgumentException if the name looks like a derived query but is malformed
+     */
+    public static @Nullable DerivedQueryPlan parse(@NotNull String methodName, boolean collectionResult) {
+        Matcher matcher = PREFIX.matcher(methodName);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Action action = resolveAction(methodName, matcher.group(1), matcher.group(2), collectionResult);
+
+        String criteria = matcher.group(3);
+        List<Order> orders = Collections.emptyList();
+
+        int orderByIndex = criteria.indexOf("OrderBy");
+        if (orderByIndex >= 0) {
+            orders = parseOrders(methodName, criteria.substring(orderByIndex + "OrderBy".length()));
+            criteria = criteria.substring(0, orderByIndex);
+        }
+
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("Derived query " + methodName + " has no criteria after 'By'.");
+        }
+
+        List<List<Predicate>> orGroups = new ArrayList<>();
+        for (String orPart : criteria.split("Or(?=[A-Z])")) {
+            List<Predicate> group = new ArrayList<>();
+            for (String andPart : orPart.split("And(?=[A-Z])")) {
+                group.add(parsePredicate(methodName, andPart));
+            }
+            orGroups.add(group);
+        }
+
+        return new DerivedQueryPlan(action, orGroups, orders);
+    }
+
+    private static Action resolveAction(String methodName, String verb, String modifier, boolean collectionResult) {
+        switch (verb) {
+            case "count":
+                return Action.COUNT;
+            case "exists":
+                return Action.EXISTS;
+            case "delete":
+                return Action.DELETE;
+            default:
+                if ("First".equals(modifier)) {
+                    return Action.FIND_ONE;
+                }
+                if ("All".equals(modifier) && !collectionResult) {
+                    throw new IllegalArgumentException("Derived query " + methodName + " must return a collection.");
+                }
+                return collectionResult ? Action.FIND_ALL : Action.FIND_ONE;
+        }
+    }
+
+    private static Predicate parsePredicate(String methodName, String part) {
+        for (Map.Entry<String, Operator> entry : OPERATOR_SUFFIXES.entrySet()) {
+            String suffix = entry.getKey();
+            if (part.length() > suffix.length() && part.endsWith(suffix)) {
+                return new Predicate(decapitalize(part.substring(0, part.length() - suffix.length())), entry.getValue());
+            }
+        }
+
+        if (part.isEmpty()) {
+            throw new IllegalArgumentException("Derived query " + methodName + " has an empty predicate.");
+        }
+        return new Predicate(decapitalize(part), Operator.EQUALS);
+    }
+
+    private static List<Order> parseOrders(String methodName, String clause) {
+        List<Order> orders = new ArrayList<>();
+
+        Matcher matcher = ORDER.matcher(clause);
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() != end) {
+                break;
+            }
+            orders.add(new Order(decapitalize(matcher.group(1)), "Asc".equals(matcher.group(2))));
+            end = matcher.end();
+        }
+
+        if (end < clause.length()) {
+            // a trailing property without direction is ascending
+            String rest = clause.substring(end);
+            if (!Character.isUpperCase(rest.charAt(0))) {
+                throw new IllegalArgumentException("Derived query " + methodName + " has an invalid OrderBy clause.");
+            }
+            orders.add(new Order(decapitalize(rest), true));
+        }
+
+        return orders;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
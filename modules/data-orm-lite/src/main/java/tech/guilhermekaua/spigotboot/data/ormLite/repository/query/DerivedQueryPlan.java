@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.query;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Parsed form of a derived query method name, e.g. {@code findAllByNameAndCreatedAtAfterOrderByNameDesc}.
+ * Predicates are grouped as a disjunction of conjunctions: {@code (a AND b) OR (c)}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DerivedQueryPlan {
+    public enum Action {
+        FIND_ONE,
+        FIND_ALL,
+        COUNT,
+        EXISTS,
+        DELETE
+    }
+
+    public enum Operator {
+        EQUALS(1),
+        NOT_EQUALS(1),
+        LESS_THAN(1),
+        LESS_THAN_EQUAL(1),
+        GREATER_THAN(1),
+        GREATER_THAN_EQUAL(1),
+        LIKE(1),
+        NOT_LIKE(1),
+        BETWEEN(2),
+        IS_NULL(0),
+        IS_NOT_NULL(0);
+
+        @Getter
+        private final int arguments;
+
+        Operator(int arguments) {
+            this.arguments = arguments;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Predicate {
+        private final String property;
+        private final Operator operator;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Order {
+        private final String property;
+        private final boolean ascending;
+    }
+
+    private final Action action;
+    private final List<List<Predicate>> orGroups;
+    private final List<Order> orders;
+
+    public int getArgumentCount() {
+        int count = 0;
+        for (List<Predicate> group : orGroups) {
+            for (Predicate predicate : group) {
+                count += predicate.getOperator().getArguments();
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.query;
+
+import com.j256.ormlite.dao.CloseableIterator;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.jdbc.JdbcDatabaseResults;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads every entity of a table, fetching the rows from the database as they are read.
+ * <p>
+ * ORMLite's iterators do not set a fetch size, and without one MySQL Connector/J, MariaDB Connector/J and the
+ * PostgreSQL driver read the whole result set into memory before returning the first row. The cursor sets the
+ * {@link DriverProfile#getStreamingFetchSize() streaming fetch size} of the driver instead, except inside a
+ * transaction, whose connection may be used by other statements while the cursor is open.
+ */
+public abstract class EntityCursor<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Opens a cursor over every entity of the table of {@code dao}. It holds a connection until it is
+     * exhausted or closed.
+     */
+    public static <T> @NotNull EntityCursor<T> open(@NotNull Dao<T, ?> dao, @NotNull DriverProfile profile) throws SQLException {
+        ConnectionSource connectionSource = dao.getConnectionSource();
+        String tableName = dao.getTableName();
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection(tableName);
+
+        if (!(connection.getUnderlyingConnection() instanceof Connection)) {
+            connectionSource.releaseConnection(connection);
+            return new IteratorCursor<>(dao.iterator(dao.queryBuilder().prepare(), ResultSet.TYPE_FORWARD_ONLY));
+        }
+
+        Connection jdbcConnection = (Connection) connection.getUnderlyingConnection();
+        boolean streaming = profile.getStreamingFetchSize() != 0 && connectionSource.getSpecialConnection(tableName) != connection;
+        boolean restoreAutoCommit = false;
+        PreparedStatement statement = null;
+        try {
+            if (streaming && profile.isStreamingInTransactionOnly() && jdbcConnection.getAutoCommit()) {
+                jdbcConnection.setAutoCommit(false);
+                restoreAutoCommit = true;
+            }
+
+            statement = jdbcConnection.prepareStatement(dao.queryBuilder().prepareStatementString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if (streaming) {
+                statement.setFetchSize(profile.getStreamingFetchSize());
+            }
+            ResultSet resultSet = statement.executeQuery();
+
+            return new JdbcCursor<>(connectionSource, connection, restoreAutoCommit, statement, resultSet, dao.getSelectStarRowMapper());
+        } catch (SQLException | RuntimeException e) {
+            JdbcCursor.release(connectionSource, connection, restoreAutoCommit, statement);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the connection of the cursor. Also done once the last entity is read.
+     */
+    @Override
+    public abstract void close();
+
+    private static final class JdbcCursor<T> extends EntityCursor<T> {
+        private final ConnectionSource connectionSource;
+        private final DatabaseConnection connection;
+        private final boolean restoreAutoCommit;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final JdbcDatabaseResults results;
+        private final GenericRowMapper<T> rowMapper;
+
+        private boolean fetched;
+        private boolean hasRow;
+        private boolean closed;
+
+        private JdbcCursor(ConnectionSource connectionSource,
+                           DatabaseConnection connection,
+                           boolean restoreAutoCommit,
+                           PreparedStatement statement,
+                           ResultSet resultSet,
+                           GenericRowMapper<T> rowMapper) {
+            this.connectionSource = connectionSource;
+            this.connection = connection;
+            this.restoreAutoCommit = restoreAutoCommit;
+            this.statement = statement;
+            this.resultSet = resultSet;
+            this.results = new JdbcDatabaseResults(statement, resultSet, null, false);
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (!fetched) {
+                try {
+                    hasRow = resultSet.next();
+                } catch (SQLException e) {
+                    close();
+                    throw new RuntimeException("Failed to read the next row", e);
+                }
+                fetched = true;
+            }
+            if (!hasRow) {
+                close();
+            }
+            return hasRow;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            try {
+                return rowMapper.mapRow(results);
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException("Failed to map the current row", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            release(connectionSource, connection, restoreAutoCommit, statement);
+        }
+
+        private static void release(ConnectionSource connectionSource,
+                                    DatabaseConnection connection,
+                                    boolean restoreAutoCommit,
+                                    PreparedStatement statement) {
+            try {
+                if (statement != null) {
+                    // also closes its result set
+                    statement.close();
+                }
+                if (restoreAutoCommit) {
+                    // nothing was written, this only ends the read transaction
+                    ((Connection) connection.getUnderlyingConnection()).setAutoCommit(true);
+                }
+            } catch (SQLException ignored) {
+                // the pool validates the connection before handing it out again
+            } finally {
+                try {
+                    connectionSource.releaseConnection(connection);
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+    }
+
+    private static final class IteratorCursor<T> extends EntityCursor<T> {
+        private final CloseableIterator<T> iterator;
+
+        private IteratorCursor(CloseableIterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            iterator.closeQuietly();
+        }
+    }
+}
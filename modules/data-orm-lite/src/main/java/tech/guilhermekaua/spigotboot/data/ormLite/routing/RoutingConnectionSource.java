@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.routing;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends read-only connection requests to a replica and everything else to the primary.
+ * <p>
+ * ORMLite already asks for a read-only connection for queries ({@code queryForId}, {@code countOf},
+ * derived {@code find*} methods...) and a read-write one for writes, so routing happens per statement.
+ * Reads still go to the primary when:
+ * <ul>
+ *     <li>a transaction holds a special connection, so it sees its own uncommitted writes;</li>
+ *     <li>the current thread wrote within the read-your-writes window, since the replica may lag behind.
+ *     Writes are tracked per {@link WriteToken}: each thread has its own, and tasks that run on another
+ *     thread on its behalf, e.g. async repository calls, can carry it along with {@link #useWriteToken};</li>
+ *     <li>the caller is inside {@link #usePrimary()}, e.g. a {@code @ReadFromPrimary} method.</li>
+ * </ul>
+ */
+public class RoutingConnectionSource implements ConnectionSource {
+    private static final ThreadLocal<int[]> FORCE_PRIMARY = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<WriteToken> WRITE_TOKEN = ThreadLocal.withInitial(WriteToken::new);
+
+    @Getter
+    private final ConnectionSource primary;
+    @Getter
+    private final ConnectionSource replica;
+    private final long readYourWritesNanos;
+
+    private final Map<DatabaseConnection, ConnectionSource> owners = new ConcurrentHashMap<>();
+
+    public RoutingConnectionSource(@NotNull ConnectionSource primary,
+                                   @NotNull ConnectionSource replica,
+                                   long readYourWritesWindow,
+                                   @NotNull TimeUnit unit) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesNanos = unit.toNanos(readYourWritesWindow);
+    }
+
+    /**
+     * Routes every read of the current thread to the primary until the returned handle is closed.
+     */
+    public static Scope usePrimary() {
+        FORCE_PRIMARY.get()[0]++;
+        return () -> FORCE_PRIMARY.get()[0]--;
+    }
+
+    /**
+     * @return the token the current thread records its writes on
+     */
+    public static @NotNull WriteToken currentWriteToken() {
+        return WRITE_TOKEN.get();
+    }
+
+    /**
+     * Records the current thread's writes on {@code token}, and routes its reads by it, until the returned
+     * handle is closed. Used to run a task on behalf of the thread that captured the token.
+     */
+    public static Scope useWriteToken(@NotNull WriteToken token) {
+        WriteToken previous = WRITE_TOKEN.get();
+        WRITE_TOKEN.set(token);
+        return () -> WRITE_TOKEN.set(previous);
+    }
+
+    @Override
+    public DatabaseConnection getReadOnlyConnection(String tableName) throws SQLException {
+        ConnectionSource target = shouldReadFromPrimary(tableName) ? primary : replica;
+        return track(target, target.getReadOnlyConnection(tableName));
+    }
+
+    @Override
+    public DatabaseConnection getReadWriteConnection(String tableName) throws SQLException {
+        WRITE_TOKEN.get().lastWrite = System.nanoTime();
+        return track(primary, primary.getReadWriteConnection(tableName));
+    }
+
+    @Override
+    public void releaseConnection(DatabaseConnection connection) throws SQLException {
+        ConnectionSource owner = owners.remove(connection);
+        (owner != null ? owner : primary).releaseConnection(connection);
+    }
+
+    @Override
+    public boolean saveSpecialConnection(DatabaseConnection connection) throws SQLException {
+        return primary.saveSpecialConnection(connection);
+    }
+
+    @Override
+    public void clearSpecialConnection(DatabaseConnection connection) {
+        primary.clearSpecialConnection(connection);
+    }
+
+    @Override
+    public DatabaseConnection getSpecialConnection(String tableName) {
+        return primary.getSpecialConnection(tableName);
+    }
+
+    @Override
+    public void close() {
+        replica.closeQuietly();
+        primary.closeQuietly();
+    }
+
+    @Override
+    public void closeQuietly() {
+        close();
+    }
+
+    @Override
+    public DatabaseType getDatabaseType() {
+        return primary.getDatabaseType();
+    }
+
+    @Override
+    public boolean isOpen(String tableName) {
+        return primary.isOpen(tableName);
+    }
+
+    @Override
+    public boolean isSingleConnection(String tableName) {
+        return primary.isSingleConnection(tableName);
+    }
+
+    private boolean shouldReadFromPrimary(String tableName) {
+        if (FORCE_PRIMARY.get()[0] > 0 || primary.getSpecialConnection(tableName) != null) {
+            return true;
+        }
+
+        long lastWriteAt = WRITE_TOKEN.get().lastWrite;
+        return lastWriteAt != Long.MIN_VALUE && System.nanoTime() - lastWriteAt < readYourWritesNanos;
+    }
+
+    private DatabaseConnection track(ConnectionSource owner, DatabaseConnection connection) {
+        if (owner != primary) {
+            owners.put(connection, owner);
+        }
+        return connection;
+    }
+
+    /**
+     * Last write of a thread, or of a chain of tasks run on its behalf.
+     */
+    public static final class WriteToken {
+        private volatile long lastWrite = Long.MIN_VALUE;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.schema;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DatabaseFieldConfig;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.DatabaseTableConfigLoader;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Table configs generated at compile time by the annotation processor, so DAOs of these entities are
+ * created without reading their ORMLite annotations. Entities missing from the file are configured by
+ * reflection as usual.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeneratedTableConfigs {
+    // written by the annotation processor's TableConfigAnnotationProcessor
+    public static final String RESOURCE = "META-INF/spigot-boot/ormlite-tables.txt";
+
+    private final Logger logger;
+    private volatile Map<Class<?>, List<DatabaseFieldConfig>> fieldConfigs = Collections.emptyMap();
+
+    /**
+     * Reads the generated configs bundled with the plugin. A missing or unreadable file only disables them.
+     */
+    public void load(@NotNull ClassLoader classLoader) {
+        URL resource = classLoader.getResource(RESOURCE);
+        if (resource == null) {
+            return;
+        }
+
+        Map<Class<?>, List<DatabaseFieldConfig>> loaded = new HashMap<>();
+        try (InputStream in = resource.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            for (DatabaseTableConfig<?> tableConfig : DatabaseTableConfigLoader.loadDatabaseConfigFromReader(reader)) {
+                loaded.put(tableConfig.getDataClass(), tableConfig.getFieldConfigs());
+            }
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Failed to read " + RESOURCE + ", entities will be configured by reflection", e);
+            return;
+        }
+
+        fieldConfigs = loaded;
+    }
+
+    /**
+     * @return a new table config of {@code entityClass}, or {@code null} if none was generated for it
+     */
+    public <T> @Nullable DatabaseTableConfig<T> create(@NotNull DatabaseType databaseType, @NotNull Class<T> entityClass) {
+        List<DatabaseFieldConfig> entityFieldConfigs = fieldConfigs.get(entityClass);
+        if (entityFieldConfigs == null) {
+            return null;
+        }
+
+        // a config caches field types for one database type, so every DAO gets its own
+        return new DatabaseTableConfig<>(
+                entityClass,
+                DatabaseTableConfig.extractTableName(databaseType, entityClass),
+                entityFieldConfigs
+        );
+    }
+}
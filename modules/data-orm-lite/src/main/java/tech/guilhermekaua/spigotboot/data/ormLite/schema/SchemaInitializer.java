@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.schema;
+
+import com.j256.ormlite.dao.BaseDaoImpl;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.TableUtils;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Applies a unit's {@link SchemaAction} to the table of a DAO.
+ */
+@Component
+public class SchemaInitializer {
+    public void apply(@NotNull SchemaAction action, @NotNull ConnectionSource connectionSource, @NotNull Dao<?, ?> dao) throws SQLException {
+        switch (action) {
+            case CREATE:
+                createTable(connectionSource, dao);
+                break;
+            case VALIDATE:
+                validateTable(connectionSource, dao);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void createTable(ConnectionSource connectionSource, Dao<?, ?> dao) throws SQLException {
+        DatabaseTableConfig tableConfig = dao instanceof BaseDaoImpl ? ((BaseDaoImpl) dao).getTableConfig() : null;
+        if (tableConfig != null) {
+            TableUtils.createTableIfNotExists(connectionSource, tableConfig);
+        } else {
+            TableUtils.createTableIfNotExists(connectionSource, dao.getDataClass());
+        }
+    }
+
+    private void validateTable(ConnectionSource connectionSource, Dao<?, ?> dao) throws SQLException {
+        if (!dao.isTableExists()) {
+            throw new IllegalStateException("Table " + dao.getTableName() + " of " + dao.getDataClass().getName() + " does not exist.");
+        }
+        if (!(dao instanceof BaseDaoImpl)) {
+            return;
+        }
+
+        Set<String> columns = getColumns(connectionSource, dao.getTableName());
+        if (columns.isEmpty()) {
+            // the driver does not report columns
+            return;
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (FieldType fieldType : ((BaseDaoImpl<?, ?>) dao).getTableInfo().getFieldTypes()) {
+            if (!fieldType.isForeignCollection() && !columns.contains(fieldType.getColumnName().toLowerCase(Locale.ROOT))) {
+                missing.add(fieldType.getColumnName());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Table " + dao.getTableName() + " of " + dao.getDataClass().getName() + " is missing columns " + missing + ".");
+        }
+    }
+
+    /**
+     * @return the lower-cased column names of {@code tableName}, looked up as written, then upper and lower case
+     */
+    private static Set<String> getColumns(ConnectionSource connectionSource, String tableName) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection(tableName);
+        try {
+            if (!(connection.getUnderlyingConnection() instanceof Connection)) {
+                return new HashSet<>();
+            }
+
+            DatabaseMetaData metaData = ((Connection) connection.getUnderlyingConnection()).getMetaData();
+            Set<String> columns = new HashSet<>();
+            for (String name : new String[]{tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT)}) {
+                try (ResultSet resultSet = metaData.getColumns(null, null, name, null)) {
+                    while (resultSet.next()) {
+                        columns.add(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+                if (!columns.isEmpty()) {
+                    break;
+                }
+            }
+            return columns;
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Off-heap encoding of a snapshot column, chosen from the Java type of its field.
+ */
+public enum ColumnKind {
+    BOOLEAN(1),
+    /**
+     * {@code byte}, {@code short} and {@code int}.
+     */
+    INT(4),
+    LONG(8),
+    /**
+     * {@code float} and {@code double}.
+     */
+    DOUBLE(8),
+    /**
+     * Strings and enum names, stored as an ID into a sorted dictionary, so IDs order like the strings.
+     */
+    STRING(4),
+    UUID(16),
+    /**
+     * {@link Date}, as epoch milliseconds.
+     */
+    TIMESTAMP(8),
+    /**
+     * {@link Instant}, as epoch seconds and nanoseconds.
+     */
+    INSTANT(12);
+
+    private final int width;
+
+    ColumnKind(int width) {
+        this.width = width;
+    }
+
+    /**
+     * @return bytes per row
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the kind storing values of {@code type}, or {@code null} if it cannot be stored
+     */
+    public static @Nullable ColumnKind of(Class<?> type) {
+        if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        }
+        if (type == byte.class || type == Byte.class || type == short.class || type == Short.class
+                || type == int.class || type == Integer.class) {
+            return INT;
+        }
+        if (type == long.class || type == Long.class) {
+            return LONG;
+        }
+        if (type == float.class || type == Float.class || type == double.class || type == Double.class) {
+            return DOUBLE;
+        }
+        if (type == String.class || type.isEnum()) {
+            return STRING;
+        }
+        if (type == java.util.UUID.class) {
+            return UUID;
+        }
+        if (type == Date.class) {
+            return TIMESTAMP;
+        }
+        if (type == Instant.class) {
+            return INSTANT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, read-only copy of a table, stored column by column in direct (off-heap) buffers. Rows are addressed
+ * by number, and values are read as primitives, so scanning or ranking a large table allocates nothing on the
+ * heap; entities are only created when asked for with {@link #getEntity(int)}.
+ * <p>
+ * Strings and enum names are dictionary-encoded. The ID column, and every column listed in
+ * {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.OffHeapSnapshot#indexes()}, have a sorted index
+ * used by {@link #find}, {@link #top} and {@link #bottom}.
+ * <pre>{@code
+ * ColumnarSnapshot<PlayerStats> stats = snapshotRegistry.getSnapshot(PlayerStatsRepository.class);
+ * int kills = stats.getColumnIndex("kills");
+ * for (int row : stats.top("kills", 10)) {
+ *     broadcast(stats.getString(row, stats.getColumnIndex("name")) + ": " + stats.getInt(row, kills));
+ * }
+ * }</pre>
+ * Instances are safe to share between threads.
+ */
+public final class ColumnarSnapshot<T> {
+    private final SnapshotSchema<T> schema;
+    private final int size;
+    private final ByteBuffer[] data;
+    private final @Nullable ByteBuffer[] nulls;
+    private final @Nullable StringDictionary[] dictionaries;
+    private final @Nullable SortedIndex[] indexes;
+    private final long createdAt = System.currentTimeMillis();
+
+    ColumnarSnapshot(SnapshotSchema<T> schema, int size, ByteBuffer[] data, ByteBuffer[] nulls,
+                     StringDictionary[] dictionaries, SortedIndex[] indexes) {
+        this.schema = schema;
+        this.size = size;
+        this.data = data;
+        this.nulls = nulls;
+        this.dictionaries = dictionaries;
+        this.indexes = indexes;
+    }
+
+    public @NotNull SnapshotSchema<T> getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return when this snapshot was built, in epoch milliseconds
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the column is not part of the snapshot
+     */
+    public int getColumnIndex(@NotNull String columnName) {
+        return schema.getColumnIndex(columnName);
+    }
+
+    public boolean isNull(int row, int column) {
+        ByteBuffer bitmap = nulls[column];
+        return bitmap != null && (bitmap.get(row >>> 3) & (1 << (row & 7))) != 0;
+    }
+
+    public boolean getBoolean(int row, int column) {
+        requireKind(column, ColumnKind.BOOLEAN);
+        return data[column].get(row) != 0;
+    }
+
+    public int getInt(int row, int column) {
+        requireKind(column, ColumnKind.INT);
+        return data[column].getInt(row * 4);
+    }
+
+    /**
+     * Reads an integral column; {@link ColumnKind#TIMESTAMP} columns read as epoch milliseconds.
+     */
+    public long getLong(int row, int column) {
+        switch (schema.getColumns().get(column).getKind()) {
+            case BOOLEAN:
+            case INT:
+            case LONG:
+            case TIMESTAMP:
+                return rawLong(row, column);
+            default:
+                throw wrongKind(column, "long");
+        }
+    }
+
+    /**
+     * Reads a numeric column.
+     */
+    public double getDouble(int row, int column) {
+        ColumnKind kind = schema.getColumns().get(column).getKind();
+        if (kind == ColumnKind.DOUBLE) {
+            return data[column].getDouble(row * 8);
+        }
+        if (kind == ColumnKind.INT || kind == ColumnKind.LONG) {
+            return rawLong(row, column);
+        }
+        throw wrongKind(column, "double");
+    }
+
+    /**
+     * Reads a string column, returning the enum name for enum fields. This decodes the value, so it allocates.
+     */
+    public @Nullable String getString(int row, int column) {
+        requireKind(column, ColumnKind.STRING);
+        return isNull(row, column) ? null : dictionaries[column].get(data[column].getInt(row * 4));
+    }
+
+    public @Nullable UUID getUuid(int row, int column) {
+        requireKind(column, ColumnKind.UUID);
+        ByteBuffer buffer = data[column];
+        return isNull(row, column) ? null : new UUID(buffer.getLong(row * 16), buffer.getLong(row * 16 + 8));
+    }
+
+    /**
+     * Reads an {@link ColumnKind#INSTANT} or {@link ColumnKind#TIMESTAMP} column.
+     */
+    public @Nullable Instant getInstant(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+
+        ColumnKind kind = schema.getColumns().get(column).getKind();
+        if (kind == ColumnKind.TIMESTAMP) {
+            return Instant.ofEpochMilli(data[column].getLong(row * 8));
+        }
+        if (kind == ColumnKind.INSTANT) {
+            return Instant.ofEpochSecond(data[column].getLong(row * 12), data[column].getInt(row * 12 + 8));
+        }
+        throw wrongKind(column, "Instant");
+    }
+
+    /**
+     * @return the value of a cell, of the type of its entity field
+     */
+    public @Nullable Object getValue(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+
+        SnapshotColumn snapshotColumn = schema.getColumns().get(column);
+        Class<?> type = snapshotColumn.getJavaType();
+        ByteBuffer buffer = data[column];
+        switch (snapshotColumn.getKind()) {
+            case BOOLEAN:
+                return buffer.get(row) != 0;
+            case INT:
+                int value = buffer.getInt(row * 4);
+                if (type == byte.class || type == Byte.class) {
+                    return (byte) value;
+                }
+                if (type == short.class || type == Short.class) {
+                    return (short) value;
+                }
+                return value;
+            case LONG:
+                return buffer.getLong(row * 8);
+            case DOUBLE:
+                double number = buffer.getDouble(row * 8);
+                return type == float.class || type == Float.class ? (Object) (float) number : (Object) number;
+            case STRING:
+                String string = dictionaries[column].get(buffer.getInt(row * 4));
+                return type.isEnum() ? enumValue(type, string) : string;
+            case UUID:
+                return new UUID(buffer.getLong(row * 16), buffer.getLong(row * 16 + 8));
+            case TIMESTAMP:
+                return new Date(buffer.getLong(row * 8));
+            case INSTANT:
+                return Instant.ofEpochSecond(buffer.getLong(row * 12), buffer.getInt(row * 12 + 8));
+            default:
+                throw new IllegalStateException("Unknown column kind: " + snapshotColumn.getKind());
+        }
+    }
+
+    /**
+     * Creates an entity from a row. Fields that are not part of the snapshot (foreign fields and types the
+     * snapshot cannot store) are left as the entity's constructor set them.
+     */
+    public @NotNull T getEntity(int row) {
+        checkRow(row);
+        T entity = schema.newEntity();
+        List<SnapshotColumn> columns = schema.getColumns();
+        for (int column = 0; column < columns.size(); column++) {
+            columns.get(column).write(entity, getValue(row, column));
+        }
+        return entity;
+    }
+
+    public @NotNull List<T> getEntities(@NotNull int[] rows) {
+        List<T> entities = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            entities.add(getEntity(row));
+        }
+        return entities;
+    }
+
+    /**
+     * @return the row holding the entity with this ID, or {@code -1}
+     */
+    public int findById(@NotNull Object id) {
+        return find(schema.getIdColumn(), id);
+    }
+
+    /**
+     * Looks a value up through the sorted index of an indexed column.
+     *
+     * @return the first row holding {@code value}, or {@code -1}
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public int find(@NotNull String columnName, @NotNull Object value) {
+        return find(schema.getColumnIndex(columnName), value);
+    }
+
+    /**
+     * @return every row holding {@code value}, in row order
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public @NotNull int[] findAll(@NotNull String columnName, @NotNull Object value) {
+        int column = schema.getColumnIndex(columnName);
+        SortedIndex index = requireIndex(column);
+        Probe probe = probe(column, value);
+        if (probe == null) {
+            return new int[0];
+        }
+
+        int from = lowerBound(index, column, probe);
+        int to = from;
+        while (to < index.size() && compare(index.rowAt(to), column, probe) == 0) {
+            to++;
+        }
+
+        int[] rows = new int[to - from];
+        for (int i = from; i < to; i++) {
+            rows[i - from] = index.rowAt(i);
+        }
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /**
+     * @return up to {@code n} rows with the highest non-null values of an indexed column, highest first
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public @NotNull int[] top(@NotNull String columnName, int n) {
+        SortedIndex index = requireIndex(schema.getColumnIndex(columnName));
+        int[] rows = new int[Math.max(0, Math.min(n, index.size() - index.getNullCount()))];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = index.rowAt(index.size() - 1 - i);
+        }
+        return rows;
+    }
+
+    /**
+     * @return up to {@code n} rows with the lowest non-null values of an indexed column, lowest first
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public @NotNull int[] bottom(@NotNull String columnName, int n) {
+        SortedIndex index = requireIndex(schema.getColumnIndex(columnName));
+        int[] rows = new int[Math.max(0, Math.min(n, index.size() - index.getNullCount()))];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = index.rowAt(index.getNullCount() + i);
+        }
+        return rows;
+    }
+
+    /**
+     * @return memory held outside the heap by this snapshot, in bytes
+     */
+    public long getOffHeapBytes() {
+        long bytes = 0;
+        for (int column = 0; column < data.length; column++) {
+            bytes += data[column].capacity();
+            if (nulls[column] != null) {
+                bytes += nulls[column].capacity();
+            }
+            if (dictionaries[column] != null) {
+                bytes += dictionaries[column].getOffHeapBytes();
+            }
+            if (indexes[column] != null) {
+                bytes += indexes[column].getOffHeapBytes();
+            }
+        }
+        return bytes;
+    }
+
+    boolean isIndexed(int column) {
+        return indexes[column] != null;
+    }
+
+    /**
+     * @return the row with the highest value of an indexed column, or {@code -1} if every value is null
+     */
+    int maxRow(int column) {
+        SortedIndex index = requireIndex(column);
+        return index.size() > index.getNullCount() ? index.rowAt(index.size() - 1) : -1;
+    }
+
+    long rawLong(int row, int column) {
+        ByteBuffer buffer = data[column];
+        switch (schema.getColumns().get(column).getKind()) {
+            case BOOLEAN:
+                return buffer.get(row);
+            case INT:
+            case STRING:
+                return buffer.getInt(row * 4);
+            case LONG:
+            case TIMESTAMP:
+                return buffer.getLong(row * 8);
+            case UUID:
+                return buffer.getLong(row * 16);
+            case INSTANT:
+                return buffer.getLong(row * 12);
+            default:
+                throw new IllegalStateException("Column " + column + " is not integral");
+        }
+    }
+
+    /**
+     * Second half of {@link ColumnKind#UUID} and {@link ColumnKind#INSTANT} values.
+     */
+    long rawExtra(int row, int column) {
+        ByteBuffer buffer = data[column];
+        return schema.getColumns().get(column).getKind() == ColumnKind.UUID
+                ? buffer.getLong(row * 16 + 8)
+                : buffer.getInt(row * 12 + 8);
+    }
+
+    double rawDouble(int row, int column) {
+        return data[column].getDouble(row * 8);
+    }
+
+    @Nullable StringDictionary dictionary(int column) {
+        return dictionaries[column];
+    }
+
+    private int find(int column, Object value) {
+        SortedIndex index = requireIndex(column);
+        Probe probe = probe(column, value);
+        if (probe == null) {
+            return -1;
+        }
+
+        int position = lowerBound(index, column, probe);
+        return position < index.size() && compare(index.rowAt(position), column, probe) == 0
+                ? index.rowAt(position)
+                : -1;
+    }
+
+    private int lowerBound(SortedIndex index, int column, Probe probe) {
+        int low = index.getNullCount();
+        int high = index.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(index.rowAt(mid), column, probe) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int row, int column, Probe probe) {
+        switch (schema.getColumns().get(column).getKind()) {
+            case DOUBLE:
+                return Double.compare(rawDouble(row, column), probe.number);
+            case UUID:
+            case INSTANT:
+                int cmp = Long.compare(rawLong(row, column), probe.high);
+                return cmp != 0 ? cmp : Long.compare(rawExtra(row, column), probe.low);
+            default:
+                return Long.compare(rawLong(row, column), probe.high);
+        }
+    }
+
+    /**
+     * @return the encoded form of {@code value}, or {@code null} for a string that is not in the dictionary
+     */
+    private @Nullable Probe probe(int column, Object value) {
+        Probe probe = new Probe();
+        switch (schema.getColumns().get(column).getKind()) {
+            case STRING:
+                int id = dictionaries[column].find(value instanceof Enum ? ((Enum<?>) value).name() : (String) value);
+                if (id < 0) {
+                    return null;
+                }
+                probe.high = id;
+                break;
+            case DOUBLE:
+                probe.number = ((Number) value).doubleValue();
+                break;
+            case UUID:
+                probe.high = ((UUID) value).getMostSignificantBits();
+                probe.low = ((UUID) value).getLeastSignificantBits();
+                break;
+            case INSTANT:
+                probe.high = ((Instant) value).getEpochSecond();
+                probe.low = ((Instant) value).getNano();
+                break;
+            case TIMESTAMP:
+                probe.high = value instanceof Date ? ((Date) value).getTime() : ((Number) value).longValue();
+                break;
+            case BOOLEAN:
+                probe.high = (Boolean) value ? 1 : 0;
+                break;
+            default:
+                probe.high = ((Number) value).longValue();
+        }
+        return probe;
+    }
+
+    private SortedIndex requireIndex(int column) {
+        SortedIndex index = indexes[column];
+        if (index == null) {
+            throw new IllegalArgumentException("Snapshot column " + schema.getColumns().get(column).getName()
+                    + " is not indexed.");
+        }
+        return index;
+    }
+
+    private void requireKind(int column, ColumnKind kind) {
+        if (schema.getColumns().get(column).getKind() != kind) {
+            throw wrongKind(column, kind.name());
+        }
+    }
+
+    private IllegalArgumentException wrongKind(int column, String requested) {
+        SnapshotColumn snapshotColumn = schema.getColumns().get(column);
+        return new IllegalArgumentException("Snapshot column " + snapshotColumn.getName() + " is "
+                + snapshotColumn.getKind() + ", cannot read it as " + requested);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf((Class) type, name);
+    }
+
+    private static final class Probe {
+        long high;
+        long low;
+        double number;
+    }
+}
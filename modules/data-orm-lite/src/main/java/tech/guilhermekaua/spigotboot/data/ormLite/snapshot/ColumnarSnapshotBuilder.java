@@ -0,0 +1,340 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects rows, from entities or from a previous snapshot, into primitive arrays, then copies them off-heap in
+ * {@link #build}. Not thread-safe.
+ */
+final class ColumnarSnapshotBuilder<T> {
+    private final SnapshotSchema<T> schema;
+    private final List<SnapshotColumn> columns;
+    private final long[][] longs;
+    private final long[][] extras;
+    private final double[][] doubles;
+    private final BitSet[] nulls;
+    // strings get provisional IDs in order of appearance, remapped to sorted dictionary IDs on build
+    private final List<Map<String, Integer>> stringIds;
+    private final List<List<String>> strings;
+    private final Map<ColumnarSnapshot<T>, int[][]> copiedDictionaries = new IdentityHashMap<>();
+    private int size;
+
+    ColumnarSnapshotBuilder(@NotNull SnapshotSchema<T> schema, int expectedRows) {
+        this.schema = schema;
+        this.columns = schema.getColumns();
+
+        int capacity = Math.max(16, expectedRows);
+        int count = columns.size();
+        this.longs = new long[count][];
+        this.extras = new long[count][];
+        this.doubles = new double[count][];
+        this.nulls = new BitSet[count];
+        this.stringIds = new ArrayList<>(count);
+        this.strings = new ArrayList<>(count);
+        for (int column = 0; column < count; column++) {
+            ColumnKind kind = columns.get(column).getKind();
+            if (kind == ColumnKind.DOUBLE) {
+                doubles[column] = new double[capacity];
+            } else {
+                longs[column] = new long[capacity];
+            }
+            if (kind == ColumnKind.UUID || kind == ColumnKind.INSTANT) {
+                extras[column] = new long[capacity];
+            }
+            nulls[column] = new BitSet();
+            stringIds.add(kind == ColumnKind.STRING ? new HashMap<>() : null);
+            strings.add(kind == ColumnKind.STRING ? new ArrayList<>() : null);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addEntity(@NotNull T entity) {
+        int row = nextRow();
+        for (int column = 0; column < columns.size(); column++) {
+            SnapshotColumn snapshotColumn = columns.get(column);
+            Object value = snapshotColumn.read(entity);
+            if (value == null) {
+                nulls[column].set(row);
+                continue;
+            }
+
+            switch (snapshotColumn.getKind()) {
+                case BOOLEAN:
+                    longs[column][row] = (Boolean) value ? 1 : 0;
+                    break;
+                case INT:
+                case LONG:
+                    longs[column][row] = ((Number) value).longValue();
+                    break;
+                case DOUBLE:
+                    doubles[column][row] = ((Number) value).doubleValue();
+                    break;
+                case STRING:
+                    longs[column][row] = stringId(column, value instanceof Enum ? ((Enum<?>) value).name() : (String) value);
+                    break;
+                case UUID:
+                    longs[column][row] = ((UUID) value).getMostSignificantBits();
+                    extras[column][row] = ((UUID) value).getLeastSignificantBits();
+                    break;
+                case TIMESTAMP:
+                    longs[column][row] = ((Date) value).getTime();
+                    break;
+                case INSTANT:
+                    longs[column][row] = ((Instant) value).getEpochSecond();
+                    extras[column][row] = ((Instant) value).getNano();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown column kind: " + snapshotColumn.getKind());
+            }
+        }
+    }
+
+    /**
+     * Copies a row of another snapshot of the same schema, without creating its entity.
+     */
+    void addRow(@NotNull ColumnarSnapshot<T> source, int sourceRow) {
+        int row = nextRow();
+        int[][] dictionaryIds = copiedDictionaries.computeIfAbsent(source, key -> new int[columns.size()][]);
+        for (int column = 0; column < columns.size(); column++) {
+            if (source.isNull(sourceRow, column)) {
+                nulls[column].set(row);
+                continue;
+            }
+
+            switch (columns.get(column).getKind()) {
+                case DOUBLE:
+                    doubles[column][row] = source.rawDouble(sourceRow, column);
+                    break;
+                case STRING:
+                    longs[column][row] = copiedStringId(source, dictionaryIds, column, (int) source.rawLong(sourceRow, column));
+                    break;
+                case UUID:
+                case INSTANT:
+                    longs[column][row] = source.rawLong(sourceRow, column);
+                    extras[column][row] = source.rawExtra(sourceRow, column);
+                    break;
+                default:
+                    longs[column][row] = source.rawLong(sourceRow, column);
+            }
+        }
+    }
+
+    /**
+     * @param indexedColumns columns to build a sorted index for, besides the ID column
+     */
+    @NotNull ColumnarSnapshot<T> build(@NotNull Collection<Integer> indexedColumns) {
+        int count = columns.size();
+        ByteBuffer[] data = new ByteBuffer[count];
+        ByteBuffer[] nullBitmaps = new ByteBuffer[count];
+        StringDictionary[] dictionaries = new StringDictionary[count];
+        SortedIndex[] indexes = new SortedIndex[count];
+
+        for (int column = 0; column < count; column++) {
+            ColumnKind kind = columns.get(column).getKind();
+            if (kind == ColumnKind.STRING) {
+                dictionaries[column] = sortDictionary(column);
+            }
+
+            data[column] = encode(column, kind);
+            nullBitmaps[column] = encodeNulls(column);
+        }
+
+        for (int column = 0; column < count; column++) {
+            if (column == schema.getIdColumn() || indexedColumns.contains(column)) {
+                indexes[column] = SortedIndex.build(size, nulls[column].cardinality(), comparator(column));
+            }
+        }
+
+        return new ColumnarSnapshot<>(schema, size, data, nullBitmaps, dictionaries, indexes);
+    }
+
+    private int nextRow() {
+        int row = size++;
+        int capacity = columns.isEmpty() ? Integer.MAX_VALUE : (longs[0] != null ? longs[0].length : doubles[0].length);
+        if (row < capacity) {
+            return row;
+        }
+
+        int newCapacity = capacity + (capacity >> 1);
+        for (int column = 0; column < columns.size(); column++) {
+            if (longs[column] != null) {
+                longs[column] = Arrays.copyOf(longs[column], newCapacity);
+            }
+            if (extras[column] != null) {
+                extras[column] = Arrays.copyOf(extras[column], newCapacity);
+            }
+            if (doubles[column] != null) {
+                doubles[column] = Arrays.copyOf(doubles[column], newCapacity);
+            }
+        }
+        return row;
+    }
+
+    private int stringId(int column, String value) {
+        Map<String, Integer> ids = stringIds.get(column);
+        Integer id = ids.get(value);
+        if (id == null) {
+            List<String> values = strings.get(column);
+            id = values.size();
+            values.add(value);
+            ids.put(value, id);
+        }
+        return id;
+    }
+
+    private int copiedStringId(ColumnarSnapshot<T> source, int[][] dictionaryIds, int column, int sourceId) {
+        int[] ids = dictionaryIds[column];
+        if (ids == null) {
+            ids = new int[source.dictionary(column).size()];
+            Arrays.fill(ids, -1);
+            dictionaryIds[column] = ids;
+        }
+        if (ids[sourceId] < 0) {
+            // decode each distinct value of the source once, rather than once per row
+            ids[sourceId] = stringId(column, source.dictionary(column).get(sourceId));
+        }
+        return ids[sourceId];
+    }
+
+    private StringDictionary sortDictionary(int column) {
+        List<String> values = strings.get(column);
+        Integer[] order = new Integer[values.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> values.get(a).compareTo(values.get(b)));
+
+        String[] sorted = new String[order.length];
+        int[] sortedIds = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = values.get(order[i]);
+            sortedIds[order[i]] = i;
+        }
+
+        long[] ids = longs[column];
+        BitSet nullRows = nulls[column];
+        for (int row = 0; row < size; row++) {
+            if (!nullRows.get(row)) {
+                ids[row] = sortedIds[(int) ids[row]];
+            }
+        }
+        return new StringDictionary(sorted);
+    }
+
+    private ByteBuffer encode(int column, ColumnKind kind) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(size, 1) * kind.getWidth()).order(ByteOrder.nativeOrder());
+        long[] values = longs[column];
+        for (int row = 0; row < size; row++) {
+            switch (kind) {
+                case BOOLEAN:
+                    buffer.put(row, (byte) values[row]);
+                    break;
+                case INT:
+                case STRING:
+                    buffer.putInt(row * 4, (int) values[row]);
+                    break;
+                case LONG:
+                case TIMESTAMP:
+                    buffer.putLong(row * 8, values[row]);
+                    break;
+                case DOUBLE:
+                    buffer.putDouble(row * 8, doubles[column][row]);
+                    break;
+                case UUID:
+                    buffer.putLong(row * 16, values[row]);
+                    buffer.putLong(row * 16 + 8, extras[column][row]);
+                    break;
+                case INSTANT:
+                    buffer.putLong(row * 12, values[row]);
+                    buffer.putInt(row * 12 + 8, (int) extras[column][row]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown column kind: " + kind);
+            }
+        }
+        return buffer;
+    }
+
+    private ByteBuffer encodeNulls(int column) {
+        BitSet nullRows = nulls[column];
+        if (nullRows.isEmpty()) {
+            return null;
+        }
+
+        ByteBuffer bitmap = ByteBuffer.allocateDirect((size + 7) >>> 3);
+        byte[] bytes = nullRows.toByteArray();
+        bitmap.put(bytes, 0, Math.min(bytes.length, bitmap.capacity()));
+        return bitmap;
+    }
+
+    private SortedIndex.RowComparator comparator(int column) {
+        BitSet nullRows = nulls[column];
+        SortedIndex.RowComparator values;
+        switch (columns.get(column).getKind()) {
+            case DOUBLE:
+                double[] numbers = doubles[column];
+                values = (a, b) -> Double.compare(numbers[a], numbers[b]);
+                break;
+            case UUID:
+            case INSTANT:
+                long[] high = longs[column];
+                long[] low = extras[column];
+                values = (a, b) -> {
+                    int cmp = Long.compare(high[a], high[b]);
+                    return cmp != 0 ? cmp : Long.compare(low[a], low[b]);
+                };
+                break;
+            default:
+                long[] numbersLong = longs[column];
+                values = (a, b) -> Long.compare(numbersLong[a], numbersLong[b]);
+        }
+
+        return (a, b) -> {
+            boolean aNull = nullRows.get(a);
+            boolean bNull = nullRows.get(b);
+            if (aNull || bNull) {
+                return aNull == bNull ? 0 : (aNull ? -1 : 1);
+            }
+            return values.compare(a, b);
+        };
+    }
+}
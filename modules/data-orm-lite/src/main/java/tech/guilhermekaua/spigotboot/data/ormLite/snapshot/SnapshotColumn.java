@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+
+/**
+ * A column of a {@link ColumnarSnapshot}, bound to the entity field it is read from.
+ */
+public final class SnapshotColumn {
+    private final String name;
+    private final Field field;
+    private final ColumnKind kind;
+
+    public SnapshotColumn(@NotNull String name, @NotNull Field field, @NotNull ColumnKind kind) {
+        this.name = name;
+        this.field = field;
+        this.kind = kind;
+        field.setAccessible(true);
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public @NotNull ColumnKind getKind() {
+        return kind;
+    }
+
+    public @NotNull Class<?> getJavaType() {
+        return field.getType();
+    }
+
+    Object read(Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read field " + field.getName(), e);
+        }
+    }
+
+    void write(Object entity, Object value) {
+        if (value == null && field.getType().isPrimitive()) {
+            return;
+        }
+
+        try {
+            field.set(entity, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot write field " + field.getName(), e);
+        }
+    }
+}
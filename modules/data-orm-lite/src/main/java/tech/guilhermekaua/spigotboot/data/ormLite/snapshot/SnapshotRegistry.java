@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Keeps the {@link SnapshotTable} of every {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.OffHeapSnapshot}
+ * repository, and refreshes them from a single background thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class SnapshotRegistry {
+    private final Plugin plugin;
+    private final Map<Class<?>, SnapshotTable<?, ?>> tables = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public synchronized void register(@NotNull Class<?> repositoryClass, @NotNull SnapshotTable<?, ?> table) {
+        tables.put(repositoryClass, table);
+
+        getScheduler().scheduleWithFixedDelay(
+                () -> refresh(table),
+                table.getRefreshInterval(),
+                table.getRefreshInterval(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * @throws IllegalArgumentException if the repository is not annotated with {@code @OffHeapSnapshot}
+     */
+    @SuppressWarnings("unchecked")
+    public <T, ID> @NotNull SnapshotTable<T, ID> getTable(@NotNull Class<?> repositoryClass) {
+        SnapshotTable<?, ?> table = tables.get(repositoryClass);
+        if (table == null) {
+            throw new IllegalArgumentException("Repository " + repositoryClass.getName() + " has no off-heap snapshot.");
+        }
+        return (SnapshotTable<T, ID>) table;
+    }
+
+    /**
+     * @return the current snapshot of a repository's table, loading it first if needed
+     */
+    public <T> @NotNull ColumnarSnapshot<T> getSnapshot(@NotNull Class<?> repositoryClass) {
+        return this.<T, Object>getTable(repositoryClass).get();
+    }
+
+    public @NotNull Collection<SnapshotTable<?, ?>> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Stops background refreshes. Snapshots stay readable; their memory is released once they are unreachable.
+     */
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refresh(SnapshotTable<?, ?> table) {
+        // nobody asked for it yet, so there is nothing to keep up to date
+        if (!table.isLoaded()) {
+            return;
+        }
+
+        try {
+            table.refresh();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to refresh snapshot " + table.getName()
+                    + ", the previous one is kept", e);
+        }
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                    .setNameFormat(plugin.getName() + "-Snapshot-%d")
+                    .setDaemon(true)
+                    .build());
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Columns of a {@link ColumnarSnapshot} and how to create the entities it materializes.
+ */
+public final class SnapshotSchema<T> {
+    private final List<SnapshotColumn> columns;
+    private final int idColumn;
+    private final Supplier<T> entityFactory;
+
+    /**
+     * @param idColumn index of the ID column in {@code columns}
+     */
+    public SnapshotSchema(@NotNull List<SnapshotColumn> columns, int idColumn, @NotNull Supplier<T> entityFactory) {
+        if (idColumn < 0 || idColumn >= columns.size()) {
+            throw new IllegalArgumentException("idColumn out of range: " + idColumn);
+        }
+
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        this.idColumn = idColumn;
+        this.entityFactory = Objects.requireNonNull(entityFactory, "entityFactory cannot be null.");
+    }
+
+    public @NotNull List<SnapshotColumn> getColumns() {
+        return columns;
+    }
+
+    public int getIdColumn() {
+        return idColumn;
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int getColumnIndex(@NotNull String columnName) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown snapshot column: " + columnName);
+    }
+
+    T newEntity() {
+        return entityFactory.get();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.stmt.SelectArg;
+import com.j256.ormlite.table.TableInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.query.EntityCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The current {@link ColumnarSnapshot} of a table, and how to refresh it.
+ */
+public class SnapshotTable<T, ID> {
+    private final String name;
+    private final Dao<T, ID> dao;
+    private final DriverProfile driverProfile;
+    private final SnapshotSchema<T> schema;
+    private final List<Integer> indexedColumns = new ArrayList<>();
+    private final int updatedColumn;
+    private final long refreshInterval;
+
+    private volatile ColumnarSnapshot<T> current;
+
+    /**
+     * @param indexes       columns to index, besides the ID column
+     * @param updatedColumn column holding the modification time of each row, or {@code null} to reload the
+     *                      whole table on every refresh
+     * @param driverProfile profile of the database, for the fetch size of full loads
+     */
+    public SnapshotTable(@NotNull String name,
+                         @NotNull Dao<T, ID> dao,
+                         @NotNull TableInfo<T, ID> tableInfo,
+                         @NotNull String[] indexes,
+                         @Nullable String updatedColumn,
+                         long refreshInterval,
+                         @NotNull DriverProfile driverProfile) {
+        this.name = name;
+        this.dao = dao;
+        this.driverProfile = driverProfile;
+        this.schema = createSchema(tableInfo);
+        this.refreshInterval = refreshInterval;
+
+        for (String index : indexes) {
+            indexedColumns.add(schema.getColumnIndex(index));
+        }
+
+        if (updatedColumn == null) {
+            this.updatedColumn = -1;
+        } else {
+            this.updatedColumn = schema.getColumnIndex(updatedColumn);
+            ColumnKind kind = schema.getColumns().get(this.updatedColumn).getKind();
+            if (kind != ColumnKind.INT && kind != ColumnKind.LONG && kind != ColumnKind.TIMESTAMP && kind != ColumnKind.INSTANT) {
+                throw new IllegalArgumentException("Updated column " + updatedColumn + " of snapshot " + name
+                        + " must hold a number, a Date or an Instant.");
+            }
+            // its maximum is where the next incremental refresh starts
+            indexedColumns.add(this.updatedColumn);
+        }
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * @return the current snapshot, loading it first if needed
+     */
+    public @NotNull ColumnarSnapshot<T> get() {
+        ColumnarSnapshot<T> snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            if (current == null) {
+                refresh();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * @return whether the snapshot was loaded yet
+     */
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    /**
+     * Replaces the snapshot with an up-to-date one. Readers keep using the previous snapshot until this returns.
+     */
+    public synchronized @NotNull ColumnarSnapshot<T> refresh() {
+        try {
+            ColumnarSnapshot<T> snapshot = current;
+            current = snapshot != null && updatedColumn >= 0 ? refreshModified(snapshot) : loadAll();
+            return current;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to refresh snapshot " + name, e);
+        }
+    }
+
+    private ColumnarSnapshot<T> loadAll() throws SQLException {
+        ColumnarSnapshotBuilder<T> builder = new ColumnarSnapshotBuilder<>(schema, current != null ? current.size() : 0);
+        // one entity at a time, so the table is never held in memory as entities or as a driver result set
+        try (EntityCursor<T> cursor = EntityCursor.open(dao, driverProfile)) {
+            while (cursor.hasNext()) {
+                builder.addEntity(cursor.next());
+            }
+        }
+        return builder.build(indexedColumns);
+    }
+
+    private ColumnarSnapshot<T> refreshModified(ColumnarSnapshot<T> snapshot) throws SQLException {
+        int lastModified = snapshot.maxRow(updatedColumn);
+        if (lastModified < 0) {
+            return loadAll();
+        }
+
+        // rows modified in the same tick as the previous refresh may have been missed, so they are loaded again
+        List<T> modified = dao.query(dao.queryBuilder()
+                .where().ge(schema.getColumns().get(updatedColumn).getName(), new SelectArg(snapshot.getValue(lastModified, updatedColumn)))
+                .prepare());
+
+        BitSet replacedRows = new BitSet(snapshot.size());
+        SnapshotColumn idColumn = schema.getColumns().get(schema.getIdColumn());
+        for (T entity : modified) {
+            int row = snapshot.findById(idColumn.read(entity));
+            if (row >= 0) {
+                replacedRows.set(row);
+            }
+        }
+
+        ColumnarSnapshotBuilder<T> builder = new ColumnarSnapshotBuilder<>(schema, snapshot.size() + modified.size());
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (!replacedRows.get(row)) {
+                builder.addRow(snapshot, row);
+            }
+        }
+        for (T entity : modified) {
+            builder.addEntity(entity);
+        }
+
+        // every row still in the table is in the builder, so any extra one was deleted since
+        if (builder.size() != dao.countOf()) {
+            return loadAll();
+        }
+        return builder.build(indexedColumns);
+    }
+
+    private static <T, ID> SnapshotSchema<T> createSchema(TableInfo<T, ID> tableInfo) {
+        List<SnapshotColumn> columns = new ArrayList<>();
+        int idColumn = -1;
+        for (FieldType fieldType : tableInfo.getFieldTypes()) {
+            ColumnKind kind = ColumnKind.of(fieldType.getType());
+            if (kind == null || fieldType.isForeign() || fieldType.isForeignCollection()) {
+                if (fieldType.isId()) {
+                    throw new IllegalArgumentException("The ID of " + tableInfo.getDataClass().getName()
+                            + " cannot be stored in a snapshot: " + fieldType.getType().getName());
+                }
+                continue;
+            }
+
+            if (fieldType.isId()) {
+                idColumn = columns.size();
+            }
+            columns.add(new SnapshotColumn(fieldType.getColumnName(), fieldType.getField(), kind));
+        }
+
+        if (idColumn < 0) {
+            throw new IllegalArgumentException(tableInfo.getDataClass().getName() + " has no ID column.");
+        }
+
+        return new SnapshotSchema<>(columns, idColumn, () -> {
+            try {
+                return tableInfo.createObject();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to create " + tableInfo.getDataClass().getName(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Row numbers of a snapshot ordered by one column, nulls first, stored off-heap.
+ */
+final class SortedIndex {
+    private final ByteBuffer rows;
+    private final int size;
+    private final int nullCount;
+
+    private SortedIndex(ByteBuffer rows, int size, int nullCount) {
+        this.rows = rows;
+        this.size = size;
+        this.nullCount = nullCount;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the rows at the start of the index that hold {@code null}
+     */
+    int getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * @return the row at {@code position} in index order
+     */
+    int rowAt(int position) {
+        return rows.getInt(position * 4);
+    }
+
+    long getOffHeapBytes() {
+        return rows.capacity();
+    }
+
+    interface RowComparator {
+        int compare(int a, int b);
+    }
+
+    static SortedIndex build(int size, int nullCount, RowComparator comparator) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size, comparator);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(size, 1) * 4).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(i * 4, order[i]);
+        }
+        return new SortedIndex(buffer, size, nullCount);
+    }
+
+    // stable, and without boxing the row numbers as Arrays.sort(T[], Comparator) would
+    private static void mergeSort(int[] values, int[] scratch, int from, int to, RowComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(values, scratch, from, mid, comparator);
+        mergeSort(values, scratch, mid, to, comparator);
+        if (comparator.compare(values[mid - 1], values[mid]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(values, from, scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(scratch[left], scratch[right]) <= 0)) {
+                values[i] = scratch[left++];
+            } else {
+                values[i] = scratch[right++];
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Distinct values of a string column, sorted, stored off-heap as UTF-8. Since the values are sorted, their IDs
+ * order like the strings themselves.
+ */
+final class StringDictionary {
+    private final int size;
+    private final ByteBuffer offsets;
+    private final ByteBuffer bytes;
+
+    StringDictionary(String[] sortedValues) {
+        this.size = sortedValues.length;
+
+        byte[][] encoded = new byte[size][];
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            encoded[i] = sortedValues[i].getBytes(StandardCharsets.UTF_8);
+            total += encoded[i].length;
+        }
+
+        this.offsets = ByteBuffer.allocateDirect((size + 1) * 4).order(ByteOrder.nativeOrder());
+        this.bytes = ByteBuffer.allocateDirect(Math.max(total, 1));
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offsets.putInt(i * 4, offset);
+            bytes.position(offset);
+            bytes.put(encoded[i]);
+            offset += encoded[i].length;
+        }
+        offsets.putInt(size * 4, offset);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(int id) {
+        int start = offsets.getInt(id * 4);
+        byte[] value = new byte[offsets.getInt((id + 1) * 4) - start];
+        ByteBuffer view = bytes.duplicate();
+        view.position(start);
+        view.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the ID of {@code value}, or {@code -1} if it is not in the dictionary
+     */
+    int find(String value) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = get(mid).compareTo(value);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    long getOffHeapBytes() {
+        return offsets.capacity() + (long) bytes.capacity();
+    }
+}
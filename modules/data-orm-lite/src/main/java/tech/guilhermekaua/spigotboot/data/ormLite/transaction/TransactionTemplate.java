@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.transaction;
+
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.support.ConnectionSource;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheTransaction;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.registry.PersistenceConfigRegistry;
+
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+
+/**
+ * Programmatic counterpart of {@link tech.guilhermekaua.spigotboot.data.ormLite.annotations.Transactional}.
+ * <p>
+ * Uses ORMLite's {@link TransactionManager}: the connection is saved as the connection source's special
+ * connection for the current thread, so DAOs pick it up without checking out another one, and a nested
+ * call joins the running transaction. Cache writes made in the meantime are held back in a
+ * {@link CacheTransaction} until the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionTemplate {
+    private final PersistenceConfigRegistry persistenceConfigRegistry;
+
+    /**
+     * Runs {@code callable} in a transaction of the primary persistence unit.
+     */
+    public <T> T execute(@NotNull Callable<T> callable) throws Exception {
+        return execute(null, callable);
+    }
+
+    /**
+     * @param unit the persistence unit name, or {@code null} for the primary one
+     * @throws Exception whatever {@code callable} throws, after the transaction was rolled back
+     */
+    public <T> T execute(@Nullable String unit, @NotNull Callable<T> callable) throws Exception {
+        ConnectionSource connectionSource = getConnectionSource(unit);
+
+        // a nested call is rolled back to its savepoint, and the outer transaction may catch the exception
+        // and still commit, so each call gets its own cache transaction
+        try (CacheTransaction cacheTransaction = CacheTransaction.begin()) {
+            T result = TransactionManager.callInTransaction(connectionSource, callable);
+            cacheTransaction.commit();
+            return result;
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+    }
+
+    private ConnectionSource getConnectionSource(@Nullable String unit) {
+        PersistenceUnitPool pool = unit == null || unit.isEmpty()
+                ? persistenceConfigRegistry.getPrimaryUnit()
+                : persistenceConfigRegistry.getUnit(unit);
+
+        if (pool == null) {
+            throw new IllegalStateException(unit == null || unit.isEmpty()
+                    ? "No persistence unit is available. Ensure that the DataOrmLiteModule has been initialized."
+                    : "Unknown persistence unit: " + unit);
+        }
+        return pool.getConnectionSource();
+    }
+
+    /**
+     * {@link TransactionManager} wraps checked exceptions of the callable in an {@link SQLException}.
+     */
+    private static Exception unwrap(Exception e) {
+        if (e instanceof SQLException && e.getCause() instanceof Exception && !(e.getCause() instanceof SQLException)) {
+            return (Exception) e.getCause();
+        }
+        return e;
+    }
+}
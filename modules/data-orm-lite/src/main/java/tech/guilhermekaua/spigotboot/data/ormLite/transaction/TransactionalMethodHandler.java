@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.transaction;
+
+import lombok.RequiredArgsConstructor;
+import tech.guilhermekaua.spigotboot.core.context.annotations.RegisterMethodHandler;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.annotations.MethodHandler;
+import tech.guilhermekaua.spigotboot.core.context.component.proxy.methodHandler.context.MethodHandlerContext;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.Transactional;
+import tech.guilhermekaua.spigotboot.utils.ProxyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+@RegisterMethodHandler
+public class TransactionalMethodHandler {
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Method, String> unitCache = new ConcurrentHashMap<>();
+
+    @MethodHandler(methodAnnotatedWith = Transactional.class)
+    public Object handle(MethodHandlerContext context) throws Throwable {
+        if (context.self() == null || context.proceed() == null) {
+            return null;
+        }
+
+        String unit = unitCache.computeIfAbsent(context.thisMethod(), method -> resolveUnit(context));
+        try {
+            return transactionTemplate.execute(unit, () -> {
+                try {
+                    return context.proceed().invoke(context.self(), context.args());
+                } catch (InvocationTargetException e) {
+                    throw asException(e.getCause());
+                }
+            });
+        } catch (TransactionalError e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String resolveUnit(MethodHandlerContext context) {
+        Transactional transactional = context.thisMethod().getAnnotation(Transactional.class);
+        if (transactional == null) {
+            transactional = context.proceed().getAnnotation(Transactional.class);
+        }
+        if (transactional == null) {
+            try {
+                transactional = ProxyUtils.getRealClass(context.self())
+                        .getMethod(context.thisMethod().getName(), context.thisMethod().getParameterTypes())
+                        .getAnnotation(Transactional.class);
+            } catch (NoSuchMethodException ignored) {
+                // annotated on an interface method
+            }
+        }
+        return transactional != null ? transactional.unit() : "";
+    }
+
+    private static Exception asException(Throwable throwable) {
+        return throwable instanceof Exception ? (Exception) throwable : new TransactionalError(throwable);
+    }
+
+    /**
+     * Carries an {@link Error} through {@link java.util.concurrent.Callable}, so the transaction still rolls back.
+     */
+    private static final class TransactionalError extends Exception {
+        TransactionalError(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.writeBehind;
+
+import com.j256.ormlite.dao.Dao;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheInvalidation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pending writes of a single write-behind repository, coalesced by entity ID.
+ */
+public class WriteBehindBuffer<T, ID> {
+    enum Operation {
+        CREATE,
+        UPDATE,
+        CREATE_OR_UPDATE;
+
+        /**
+         * @return the operation that has the effect of {@code this} followed by {@code next}
+         */
+        Operation then(Operation next) {
+            if (this == CREATE) {
+                // the row does not exist yet, whatever follows still has to insert it
+                return CREATE;
+            }
+            if (this == UPDATE && next == UPDATE) {
+                return UPDATE;
+            }
+            return CREATE_OR_UPDATE;
+        }
+    }
+
+    private static final class PendingWrite<T> {
+        private final Operation operation;
+        private final T entity;
+        /**
+         * Flushes that failed to write this entity on its own while other entities were written.
+         */
+        private final int failures;
+        /**
+         * Whether the last attempt to write this entity on its own failed, which moves it to the end of the next flush.
+         */
+        private final boolean suspect;
+
+        PendingWrite(Operation operation, T entity) {
+            this(operation, entity, 0, false);
+        }
+
+        private PendingWrite(Operation operation, T entity, int failures, boolean suspect) {
+            this.operation = operation;
+            this.entity = entity;
+            this.failures = failures;
+            this.suspect = suspect;
+        }
+
+        PendingWrite<T> then(PendingWrite<T> next) {
+            return new PendingWrite<>(operation.then(next.operation), next.entity);
+        }
+
+        PendingWrite<T> afterWritten() {
+            return operation == Operation.CREATE ? new PendingWrite<>(Operation.CREATE_OR_UPDATE, entity) : this;
+        }
+
+        PendingWrite<T> afterFailure(boolean counted) {
+            return new PendingWrite<>(operation, entity, counted ? failures + 1 : failures, true);
+        }
+    }
+
+    private static final class FailedWrite<ID, T> {
+        private final ID id;
+        private final PendingWrite<T> write;
+        private final Exception cause;
+
+        FailedWrite(ID id, PendingWrite<T> write, Exception cause) {
+            this.id = id;
+            this.write = write;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Flushes an entity may fail on its own before it is dropped, so that it cannot hold back the rest of the buffer.
+     */
+    public static final int MAX_FAILED_FLUSHES = 3;
+
+    /**
+     * Consecutive entities that may fail on their own, with nothing written in between, before a flush assumes
+     * the database is unreachable and stops.
+     */
+    public static final int OUTAGE_PROBES = 3;
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindBuffer.class.getName());
+
+    @Getter
+    private final String name;
+    private final Dao<T, ID> dao;
+    @Getter
+    private final long flushInterval;
+    @Getter
+    private final int maxBatch;
+
+    private final Map<ID, PendingWrite<T>> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile Runnable onFull;
+
+    public WriteBehindBuffer(@NotNull String name, @NotNull Dao<T, ID> dao, long flushInterval, int maxBatch) {
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("flushInterval must be greater than 0: " + flushInterval);
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be greater than 0: " + maxBatch);
+        }
+
+        this.name = name;
+        this.dao = dao;
+        this.flushInterval = flushInterval;
+        this.maxBatch = maxBatch;
+    }
+
+    public void create(@NotNull ID id, @NotNull T entity) {
+        enqueue(id, Operation.CREATE, entity);
+    }
+
+    public void update(@NotNull ID id, @NotNull T entity) {
+        enqueue(id, Operation.UPDATE, entity);
+    }
+
+    public void createOrUpdate(@NotNull ID id, @NotNull T entity) {
+        enqueue(id, Operation.CREATE_OR_UPDATE, entity);
+    }
+
+    /**
+     * Sets the callback invoked when the buffer reaches {@link #getMaxBatch()} entries before its interval elapses.
+     */
+    void setOnFull(@Nullable Runnable onFull) {
+        this.onFull = onFull;
+    }
+
+    private void enqueue(ID id, Operation operation, T entity) {
+        pending.merge(id, new PendingWrite<>(operation, entity), PendingWrite::then);
+
+        Runnable callback = onFull;
+        if (callback != null && pending.size() >= maxBatch && flushRequested.compareAndSet(false, true)) {
+            callback.run();
+        }
+    }
+
+    /**
+     * @return the buffered state of the entity, or {@code null} if it has no pending write
+     */
+    public @Nullable T get(@NotNull ID id) {
+        PendingWrite<T> write = pending.get(id);
+        return write != null ? write.entity : null;
+    }
+
+    /**
+     * @return a copy of the buffered state of every entity with a pending write, by ID
+     */
+    public @NotNull Map<ID, T> getPendingEntities() {
+        Map<ID, T> entities = new LinkedHashMap<>();
+        for (Map.Entry<ID, PendingWrite<T>> entry : pending.entrySet()) {
+            entities.put(entry.getKey(), entry.getValue().entity);
+        }
+        return entities;
+    }
+
+    public boolean contains(@NotNull ID id) {
+        return pending.containsKey(id);
+    }
+
+    /**
+     * Drops the pending write of {@code id}, e.g. because the entity is being deleted.
+     */
+    public void discard(@NotNull ID id) {
+        pending.remove(id);
+    }
+
+    public void discardAll() {
+        pending.clear();
+    }
+
+    /**
+     * Drops the pending writes of {@code ids} and runs {@code delete} while no flush is running. A flush that
+     * already picked up one of these writes would otherwise write it after the delete, bringing the row back.
+     */
+    public void discard(@NotNull Collection<ID> ids, @NotNull Runnable delete) {
+        flushLock.lock();
+        try {
+            for (ID id : ids) {
+                pending.remove(id);
+            }
+            delete.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #discard(Collection, Runnable)}, for every pending write.
+     */
+    public void discardAll(@NotNull Runnable delete) {
+        flushLock.lock();
+        try {
+            pending.clear();
+            delete.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Writes every pending entity in batches of {@link #getMaxBatch()}, each in a single transaction. The
+     * entities of a failed batch are retried one by one, so that a single bad row does not hold back the
+     * others; an entity that still fails stays buffered and is written last by the next flush.
+     * <p>
+     * A failure only counts against an entity when other entities were written by the same flush, and the
+     * entity is logged and dropped after {@link #MAX_FAILED_FLUSHES} such flushes. When nothing can be written,
+     * or {@link #OUTAGE_PROBES} entities in a row fail on their own, the database is assumed to be unreachable:
+     * the flush stops and every entity stays buffered without counting a failure.
+     *
+     * @param waitForRunningFlush whether to wait for a concurrent flush instead of returning immediately
+     * @return the number of entities that were written
+     * @throws SQLException the first failure, once the flush is over
+     */
+    public int flush(boolean waitForRunningFlush) throws SQLException {
+        if (waitForRunningFlush) {
+            flushLock.lock();
+        } else if (!flushLock.tryLock()) {
+            return 0;
+        }
+
+        try {
+            flushRequested.set(false);
+            int written = 0;
+            int consecutiveFailures = 0;
+            boolean outage = false;
+            SQLException failure = null;
+            List<FailedWrite<ID, T>> failed = new ArrayList<>();
+            Iterator<ID> ids = flushOrder().iterator();
+
+            while (ids.hasNext() && !outage) {
+                Map<ID, PendingWrite<T>> batch = new LinkedHashMap<>();
+                while (ids.hasNext() && batch.size() < maxBatch) {
+                    ID id = ids.next();
+                    PendingWrite<T> write = pending.get(id);
+                    if (write != null) {
+                        batch.put(id, write);
+                    }
+                }
+
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    writeBatch(new ArrayList<>(batch.values()));
+                    for (Map.Entry<ID, PendingWrite<T>> entry : batch.entrySet()) {
+                        markWritten(entry.getKey(), entry.getValue());
+                    }
+                    written += batch.size();
+                    consecutiveFailures = 0;
+                    continue;
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = toSQLException(e);
+                    }
+                }
+
+                for (Map.Entry<ID, PendingWrite<T>> entry : batch.entrySet()) {
+                    try {
+                        writeBatch(Collections.singletonList(entry.getValue()));
+                        markWritten(entry.getKey(), entry.getValue());
+                        written++;
+                        consecutiveFailures = 0;
+                    } catch (Exception e) {
+                        failed.add(new FailedWrite<>(entry.getKey(), entry.getValue(), e));
+                        if (++consecutiveFailures >= OUTAGE_PROBES) {
+                            outage = true;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // a failure only says something about the entity itself if the database accepted other writes
+            boolean counted = !outage && written > 0;
+            for (FailedWrite<ID, T> write : failed) {
+                markFailed(write.id, write.write, counted, write.cause);
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // entities that failed last time go last, so that they cannot pass for an outage ahead of the others
+    private List<ID> flushOrder() {
+        List<ID> order = new ArrayList<>(pending.size());
+        List<ID> suspects = new ArrayList<>();
+        for (Map.Entry<ID, PendingWrite<T>> entry : pending.entrySet()) {
+            (entry.getValue().suspect ? suspects : order).add(entry.getKey());
+        }
+        order.addAll(suspects);
+        return order;
+    }
+
+    // entries stay visible to readers until written; a write that raced the flush is kept,
+    // but the row exists now so it can no longer be a plain insert
+    private void markWritten(ID id, PendingWrite<T> write) {
+        pending.computeIfPresent(id, (key, current) -> current == write ? null : current.afterWritten());
+    }
+
+    // a write that raced the flush replaces the failed one and gets a fresh start
+    private void markFailed(ID id, PendingWrite<T> write, boolean counted, Exception e) {
+        PendingWrite<T> failed = write.afterFailure(counted);
+        boolean dropped = failed.failures >= MAX_FAILED_FLUSHES;
+        PendingWrite<T> result = pending.computeIfPresent(id, (key, current) -> {
+            if (current != write) {
+                return current;
+            }
+            return dropped ? null : failed;
+        });
+
+        if (dropped && result == null) {
+            LOGGER.log(Level.SEVERE, "Dropping write of entity " + id + " from write-behind buffer " + name
+                    + " after " + failed.failures + " failed flushes", e);
+        }
+    }
+
+    private SQLException toSQLException(Exception e) {
+        return e instanceof SQLException ? (SQLException) e : new SQLException("Failed to flush write-behind buffer " + name, e);
+    }
+
+    private void writeBatch(List<PendingWrite<T>> batch) throws Exception {
+        // a cache in front of this buffer already holds these entities
+        try (CacheInvalidation.Suppression ignored = CacheInvalidation.suppress()) {
+            dao.callBatchTasks(() -> {
+                for (PendingWrite<T> write : batch) {
+                    switch (write.operation) {
+                        case CREATE:
+                            dao.create(write.entity);
+                            break;
+                        case UPDATE:
+                            dao.update(write.entity);
+                            break;
+                        default:
+                            dao.createOrUpdate(write.entity);
+                            break;
+                    }
+                }
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.writeBehind;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Component;
+import tech.guilhermekaua.spigotboot.core.service.shutdown.ShutdownFlushable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Flushes every {@link WriteBehindBuffer} from a single background thread and drains them on shutdown.
+ */
+@Component
+@RequiredArgsConstructor
+public class WriteBehindFlusher implements ShutdownFlushable {
+    private final Plugin plugin;
+    private final List<WriteBehindBuffer<?, ?>> buffers = new CopyOnWriteArrayList<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public synchronized void register(@NotNull WriteBehindBuffer<?, ?> buffer) {
+        buffers.add(buffer);
+        buffer.setOnFull(() -> requestFlush(buffer));
+
+        getScheduler().scheduleWithFixedDelay(
+                () -> flush(buffer, false),
+                buffer.getFlushInterval(),
+                buffer.getFlushInterval(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Requests an out-of-band flush, used when a buffer fills up before its interval elapses.
+     */
+    private synchronized void requestFlush(@NotNull WriteBehindBuffer<?, ?> buffer) {
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.execute(() -> flush(buffer, false));
+        }
+    }
+
+    @Override
+    public int flush(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+
+        // let a flush that is already running finish before draining on this thread
+        if (scheduler != null) {
+            scheduler.awaitTermination(timeout, unit);
+        }
+
+        int unflushed = 0;
+        for (WriteBehindBuffer<?, ?> buffer : buffers) {
+            flush(buffer, true);
+            unflushed += buffer.size();
+        }
+        return unflushed;
+    }
+
+    private void flush(WriteBehindBuffer<?, ?> buffer, boolean waitForRunningFlush) {
+        try {
+            buffer.flush(waitForRunningFlush);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to flush write-behind repository " + buffer.getName()
+                    + ", " + buffer.size() + " entit(ies) will be retried", e);
+        }
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                    .setNameFormat(plugin.getName() + "-WriteBehind-%d")
+                    .setDaemon(true)
+                    .build());
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite;
+
+import com.j256.ormlite.jdbc.DataSourceConnectionSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.data.config.DriverProfile;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
+import tech.guilhermekaua.spigotboot.data.ormLite.routing.RoutingConnectionSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataOrmLiteModuleTest {
+    private final DataOrmLiteModule module = new DataOrmLiteModule();
+    private final List<PersistenceUnitPool> units = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (PersistenceUnitPool unit : units) {
+            unit.close();
+        }
+    }
+
+    @Test
+    void testUnitWithoutReplica() throws SQLException {
+        PersistenceUnitPool unit = create(new H2Config("inventory", null, null), true);
+
+        assertEquals("inventory", unit.getName());
+        assertTrue(unit.isPrimary());
+        assertFalse(unit.hasReplica());
+        assertInstanceOf(DataSourceConnectionSource.class, unit.getConnectionSource());
+        assertEquals("inventory", ((HikariDataSource) unit.getDataSource()).getPoolName());
+    }
+
+    @Test
+    void testReplicaGetsItsOwnReadOnlyPool() throws SQLException {
+        PersistenceUnitPool unit = create(new H2Config("stats", new H2Config("stats-copy", null, null), null), false);
+
+        assertFalse(unit.isPrimary());
+        assertTrue(unit.hasReplica());
+        assertInstanceOf(RoutingConnectionSource.class, unit.getConnectionSource());
+
+        HikariDataSource replica = (HikariDataSource) unit.getReplicaDataSource();
+        assertEquals("stats-replica", replica.getPoolName());
+        assertTrue(replica.isReadOnly());
+        assertFalse(((HikariDataSource) unit.getDataSource()).isReadOnly());
+    }
+
+    @Test
+    void testUnitsOfOnePluginUseSeparatePools() throws SQLException {
+        PersistenceUnitPool main = create(new H2Config("main", null, null), true);
+        PersistenceUnitPool logs = create(new H2Config("logs", null, null), false);
+
+        assertNotSame(main.getDataSource(), logs.getDataSource());
+        try (Connection connection = main.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE accounts (id INT PRIMARY KEY)");
+        }
+        try (Connection connection = logs.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.executeQuery("SELECT COUNT(*) FROM accounts"));
+        }
+    }
+
+    @Test
+    void testDriverProfileIsDetectedUnlessConfigured() throws SQLException {
+        assertEquals(DriverProfile.H2, create(new H2Config("detected", null, null), true).getDriverProfile());
+        assertEquals(DriverProfile.GENERIC, create(new H2Config("configured", null, DriverProfile.GENERIC), false).getDriverProfile());
+    }
+
+    @Test
+    void testPoolSizeIsCappedByDriverProfile() throws SQLException {
+        PersistenceUnitPool unit = create(new H2Config("single", null, DriverProfile.SQLITE), true);
+
+        assertEquals(1, ((HikariDataSource) unit.getDataSource()).getMaximumPoolSize());
+    }
+
+    private PersistenceUnitPool create(PersistenceConfig config, boolean primary) throws SQLException {
+        PersistenceUnitPool unit = module.createPersistenceUnit(config, primary);
+        units.add(unit);
+        return unit;
+    }
+
+    private static final class H2Config implements PersistenceConfig {
+        private final String name;
+        private final PersistenceConfig replica;
+        private final DriverProfile driverProfile;
+
+        H2Config(String name, @Nullable PersistenceConfig replica, @Nullable DriverProfile driverProfile) {
+            this.name = name;
+            this.replica = replica;
+            this.driverProfile = driverProfile;
+        }
+
+        @Override
+        public String getAddress() {
+            return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+        }
+
+        @Override
+        public String getUsername() {
+            return "sa";
+        }
+
+        @Override
+        public String getPassword() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public @Nullable DriverProfile getDriverProfile() {
+            return driverProfile;
+        }
+
+        @Override
+        public @Nullable PersistenceConfig getReplica() {
+            return replica;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.config.registry;
+
+import com.j256.ormlite.support.ConnectionSource;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.core.context.Context;
+import tech.guilhermekaua.spigotboot.core.context.annotations.Primary;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceUnitPool;
+import tech.guilhermekaua.spigotboot.data.ormLite.config.registry.discovery.PersistenceConfigDiscoveryService;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PersistenceConfigRegistryTest {
+    private final PersistenceConfigDiscoveryService discoveryService = mock(PersistenceConfigDiscoveryService.class);
+    private final Context context = mock(Context.class);
+    private final PersistenceConfigRegistry registry = new PersistenceConfigRegistry(discoveryService);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(context.getPlugin()).thenReturn(mock(Plugin.class));
+        when(context.getBean(any(Class.class))).thenAnswer(invocation -> ((Class<?>) invocation.getArgument(0)).getDeclaredConstructor().newInstance());
+    }
+
+    @Test
+    void testSingleConfigIsPrimary() {
+        discover(MainConfig.class);
+
+        List<PersistenceConfig> configs = registry.initialize(context);
+
+        assertEquals(1, configs.size());
+        assertInstanceOf(MainConfig.class, registry.getPersistenceConfig());
+    }
+
+    @Test
+    void testPrimaryConfigComesFirst() {
+        discover(AnalyticsConfig.class, PrimaryConfig.class, BaseConfig.class);
+
+        List<PersistenceConfig> configs = registry.initialize(context);
+
+        // the abstract base is skipped
+        assertEquals(2, configs.size());
+        assertInstanceOf(PrimaryConfig.class, configs.get(0));
+        assertInstanceOf(AnalyticsConfig.class, configs.get(1));
+        assertInstanceOf(PrimaryConfig.class, registry.getPersistenceConfig());
+    }
+
+    @Test
+    void testPrimaryUnitFollowsPrimaryConfig() {
+        discover(AnalyticsConfig.class, PrimaryConfig.class);
+        List<PersistenceConfig> configs = registry.initialize(context);
+
+        PersistenceUnitPool primary = unit(configs.get(0), true);
+        PersistenceUnitPool analytics = unit(configs.get(1), false);
+        registry.registerUnit(analytics);
+        registry.registerUnit(primary);
+
+        assertSame(primary, registry.getPrimaryUnit());
+        assertSame(analytics, registry.getUnit("analytics"));
+        assertNull(registry.getUnit("unknown"));
+        assertEquals(2, registry.getUnits().size());
+    }
+
+    @Test
+    void testSeveralConfigsRequireExactlyOnePrimary() {
+        discover(MainConfig.class, AnalyticsConfig.class);
+        assertThrows(IllegalStateException.class, () -> registry.initialize(context));
+
+        discover(PrimaryConfig.class, OtherPrimaryConfig.class);
+        assertThrows(IllegalStateException.class, () -> registry.initialize(context));
+    }
+
+    @Test
+    void testReplicaClassIsNotAUnit() {
+        discover(ReplicatedConfig.class, ReplicaConfig.class);
+
+        List<PersistenceConfig> configs = registry.initialize(context);
+
+        assertEquals(1, configs.size());
+        assertInstanceOf(ReplicatedConfig.class, configs.get(0));
+        assertInstanceOf(ReplicaConfig.class, configs.get(0).getReplica());
+    }
+
+    @Test
+    void testUnitNamesMustBeUnique() {
+        discover(PrimaryConfig.class, MainConfig.class);
+
+        // both keep the default name
+        assertThrows(IllegalStateException.class, () -> registry.initialize(context));
+    }
+
+    @Test
+    void testMissingConfigFails() {
+        discover(BaseConfig.class);
+
+        assertThrows(IllegalStateException.class, () -> registry.initialize(context));
+    }
+
+    @SafeVarargs
+    private final void discover(Class<? extends PersistenceConfig>... classes) {
+        Set<Class<? extends PersistenceConfig>> discovered = new LinkedHashSet<>(Arrays.asList(classes));
+        when(discoveryService.discoverFromPackage(anyString())).thenReturn(discovered);
+    }
+
+    private static PersistenceUnitPool unit(PersistenceConfig config, boolean primary) {
+        return new PersistenceUnitPool(config, primary, mock(DataSource.class), mock(ConnectionSource.class), null, null);
+    }
+
+    public abstract static class BaseConfig implements PersistenceConfig {
+        @Override
+        public String getAddress() {
+            return "jdbc:h2:mem:" + getName();
+        }
+
+        @Override
+        public String getUsername() {
+            return "sa";
+        }
+
+        @Override
+        public String getPassword() {
+            return "";
+        }
+    }
+
+    public static class MainConfig extends BaseConfig {
+    }
+
+    @Primary
+    public static class PrimaryConfig extends BaseConfig {
+    }
+
+    @Primary
+    public static class OtherPrimaryConfig extends BaseConfig {
+        @Override
+        public String getName() {
+            return "other";
+        }
+    }
+
+    public static class AnalyticsConfig extends BaseConfig {
+        @Override
+        public String getName() {
+            return "analytics";
+        }
+    }
+
+    public static class ReplicatedConfig extends BaseConfig {
+        @Override
+        public PersistenceConfig getReplica() {
+            return new ReplicaConfig();
+        }
+    }
+
+    public static class ReplicaConfig extends BaseConfig {
+        @Override
+        public String getAddress() {
+            return "jdbc:h2:mem:replica";
+        }
+    }
+}
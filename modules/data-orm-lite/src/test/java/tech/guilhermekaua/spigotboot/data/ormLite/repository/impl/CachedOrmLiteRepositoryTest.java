@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.repository.impl;
+
+import com.j256.ormlite.dao.Dao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.CacheTransaction;
+import tech.guilhermekaua.spigotboot.data.ormLite.cache.EntityCache;
+import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CachedOrmLiteRepositoryTest {
+    private OrmLiteRepository<Account, String> delegate;
+    private EntityCache<String, Account> cache;
+    private CachedOrmLiteRepository<Account, String> repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        delegate = mock(OrmLiteRepository.class);
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Dao<Account, String> dao = mock(Dao.class);
+        when(dao.extractId(any())).thenAnswer(invocation -> ((Account) invocation.getArgument(0)).id);
+
+        cache = new EntityCache<>("accounts", 100, 0, TimeUnit.MILLISECONDS);
+        repository = new CachedOrmLiteRepository<>(delegate, dao, cache);
+    }
+
+    @Test
+    void testWritesOutsideTransactionsAreCachedRightAway() {
+        Account account = new Account("a", 1);
+
+        repository.save(account);
+
+        assertSame(account, repository.findById("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testTransactionWritesReachTheCacheOnCommit() {
+        Account account = new Account("a", 1);
+
+        try (CacheTransaction transaction = CacheTransaction.begin()) {
+            repository.save(account);
+            assertEquals(0, cache.size());
+
+            transaction.commit();
+        }
+
+        assertSame(account, repository.findById("a"));
+    }
+
+    @Test
+    void testRolledBackWritesNeverReachTheCache() {
+        Account committed = new Account("a", 1);
+        cache.put("a", committed);
+
+        try (CacheTransaction ignored = CacheTransaction.begin()) {
+            repository.save(new Account("a", 2));
+        }
+
+        assertEquals(0, cache.size());
+        when(delegate.findById("a")).thenReturn(committed);
+        assertSame(committed, repository.findById("a"));
+    }
+
+    @Test
+    void testReadsInsideTransactionBypassTheCache() {
+        Account cached = new Account("a", 1);
+        Account uncommitted = new Account("a", 2);
+        cache.put("a", cached);
+        when(delegate.findById("a")).thenReturn(uncommitted);
+
+        try (CacheTransaction ignored = CacheTransaction.begin()) {
+            assertSame(uncommitted, repository.findById("a"));
+        }
+
+        assertSame(cached, repository.findById("a"));
+    }
+
+    @Test
+    void testEvictionIsRepeatedOnCommit() {
+        cache.put("a", new Account("a", 1));
+
+        try (CacheTransaction transaction = CacheTransaction.begin()) {
+            repository.deleteById("a");
+            // another thread reads the row before the delete is committed
+            cache.put("a", new Account("a", 1));
+
+            transaction.commit();
+        }
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testNestedRollbackKeepsTheOuterWrites() {
+        Account outer = new Account("a", 1);
+
+        try (CacheTransaction transaction = CacheTransaction.begin()) {
+            repository.save(outer);
+            try (CacheTransaction ignored = CacheTransaction.begin()) {
+                repository.save(new Account("b", 1));
+            }
+
+            transaction.commit();
+        }
+
+        assertEquals(1, cache.size());
+        assertSame(outer, repository.findById("a"));
+        assertNull(CacheTransaction.current());
+    }
+
+    private static final class Account {
+        private final String id;
+        private final int balance;
+
+        Account(String id, int balance) {
+            this.id = id;
+            this.balance = balance;
+        }
+    }
+}
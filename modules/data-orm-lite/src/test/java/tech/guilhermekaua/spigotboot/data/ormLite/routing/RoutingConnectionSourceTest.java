@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.routing;
+
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RoutingConnectionSourceTest {
+    private static final String TABLE = "accounts";
+
+    private final DatabaseConnection primaryConnection = mock(DatabaseConnection.class);
+    private final DatabaseConnection replicaConnection = mock(DatabaseConnection.class);
+    private final ConnectionSource primary = mock(ConnectionSource.class);
+    private final ConnectionSource replica = mock(ConnectionSource.class);
+
+    private RoutingConnectionSource source;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getReadOnlyConnection(TABLE)).thenReturn(primaryConnection);
+        when(primary.getReadWriteConnection(TABLE)).thenReturn(primaryConnection);
+        when(replica.getReadOnlyConnection(TABLE)).thenReturn(replicaConnection);
+
+        source = new RoutingConnectionSource(primary, replica, 200, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void testReadsGoToReplica() throws SQLException {
+        DatabaseConnection connection = source.getReadOnlyConnection(TABLE);
+        assertSame(replicaConnection, connection);
+
+        source.releaseConnection(connection);
+        verify(replica).releaseConnection(replicaConnection);
+    }
+
+    @Test
+    void testReadsStickToPrimaryAfterLocalWrite() throws Exception {
+        source.releaseConnection(source.getReadWriteConnection(TABLE));
+
+        assertSame(primaryConnection, source.getReadOnlyConnection(TABLE));
+
+        Thread.sleep(300);
+        assertSame(replicaConnection, source.getReadOnlyConnection(TABLE));
+    }
+
+    @Test
+    void testWritesOfOtherThreadsDoNotStick() throws Exception {
+        Thread writer = new Thread(() -> {
+            try {
+                source.getReadWriteConnection(TABLE);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        writer.start();
+        writer.join();
+
+        assertSame(replicaConnection, source.getReadOnlyConnection(TABLE));
+    }
+
+    @Test
+    void testWritesUnderCallersTokenStick() throws Exception {
+        RoutingConnectionSource.WriteToken token = RoutingConnectionSource.currentWriteToken();
+        Thread task = new Thread(() -> {
+            try (RoutingConnectionSource.Scope ignored = RoutingConnectionSource.useWriteToken(token)) {
+                source.getReadWriteConnection(TABLE);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        task.start();
+        task.join();
+
+        assertSame(primaryConnection, source.getReadOnlyConnection(TABLE));
+    }
+
+    @Test
+    void testUsePrimary() throws SQLException {
+        try (RoutingConnectionSource.Scope ignored = RoutingConnectionSource.usePrimary()) {
+            assertSame(primaryConnection, source.getReadOnlyConnection(TABLE));
+        }
+        assertSame(replicaConnection, source.getReadOnlyConnection(TABLE));
+    }
+}
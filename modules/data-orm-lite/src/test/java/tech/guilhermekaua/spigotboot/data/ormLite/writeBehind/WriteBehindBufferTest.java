@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ * Copyright © 2025 Guilherme Kauã da Silva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tech.guilhermekaua.spigotboot.data.ormLite.writeBehind;
+
+import com.j256.ormlite.dao.Dao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class WriteBehindBufferTest {
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final ThreadLocal<List<String>> pendingBatch = new ThreadLocal<>();
+    private volatile boolean databaseDown;
+    private volatile CountDownLatch writeStarted;
+    private volatile CountDownLatch releaseWrite;
+
+    private WriteBehindBuffer<Account, String> buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        Dao<Account, String> dao = mock(Dao.class);
+
+        doAnswer(invocation -> {
+            attempts.incrementAndGet();
+            if (databaseDown) {
+                throw new SQLException("Connection is not available, request timed out");
+            }
+            // a batch is one transaction: none of its writes are kept when one of them fails
+            List<String> batch = new ArrayList<>();
+            pendingBatch.set(batch);
+            try {
+                ((Callable<?>) invocation.getArgument(0)).call();
+            } finally {
+                pendingBatch.remove();
+            }
+            writes.addAll(batch);
+            return null;
+        }).when(dao).callBatchTasks(any());
+        doAnswer(invocation -> write("create", invocation.getArgument(0))).when(dao).create(any(Account.class));
+        doAnswer(invocation -> write("update", invocation.getArgument(0))).when(dao).update(any(Account.class));
+        doAnswer(invocation -> write("createOrUpdate", invocation.getArgument(0))).when(dao).createOrUpdate(any(Account.class));
+
+        buffer = new WriteBehindBuffer<>("accounts", dao, 1000, 10);
+    }
+
+    private Object write(String operation, Account account) throws Exception {
+        if (writeStarted != null) {
+            writeStarted.countDown();
+            assertTrue(releaseWrite.await(5, TimeUnit.SECONDS));
+        }
+        if (failing.contains(account.id)) {
+            throw new SQLException("Constraint violation on " + account.id);
+        }
+        pendingBatch.get().add(operation + " " + account.id + "=" + account.balance);
+        return operation.equals("createOrUpdate") ? null : 1;
+    }
+
+    @Test
+    void testWritesAreCoalescedById() throws SQLException {
+        buffer.create("a", new Account("a", 1));
+        buffer.update("a", new Account("a", 2));
+        buffer.update("b", new Account("b", 3));
+        buffer.update("b", new Account("b", 4));
+        buffer.update("c", new Account("c", 5));
+        buffer.createOrUpdate("c", new Account("c", 6));
+
+        assertEquals(3, buffer.size());
+        assertEquals(2, buffer.get("a").balance);
+        assertEquals(3, buffer.flush(true));
+
+        assertEquals(0, buffer.size());
+        assertTrue(writes.contains("create a=2"));
+        assertTrue(writes.contains("update b=4"));
+        assertTrue(writes.contains("createOrUpdate c=6"));
+        assertEquals(3, writes.size());
+    }
+
+    @Test
+    void testDeleteWaitsForRunningFlush() throws Exception {
+        buffer.create("a", new Account("a", 1));
+        writeStarted = new CountDownLatch(1);
+        releaseWrite = new CountDownLatch(1);
+
+        Thread flush = new Thread(() -> {
+            try {
+                buffer.flush(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        flush.start();
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+
+        Thread delete = new Thread(() -> buffer.discard(Collections.singleton("a"), () -> writes.add("delete a")));
+        delete.start();
+        delete.join(100);
+        // the flush already picked up the write, the delete has to wait for it
+        assertTrue(delete.isAlive());
+
+        releaseWrite.countDown();
+        flush.join(5000);
+        delete.join(5000);
+
+        assertEquals(Arrays.asList("create a=1", "delete a"), writes);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testFailingRowDoesNotHoldBackOthers() {
+        failing.add("bad");
+        buffer.create("bad", new Account("bad", 1));
+        buffer.create("a", new Account("a", 1));
+        buffer.create("b", new Account("b", 1));
+
+        assertThrows(SQLException.class, () -> buffer.flush(true));
+        assertTrue(writes.contains("create a=1"));
+        assertTrue(writes.contains("create b=1"));
+        assertTrue(buffer.contains("bad"));
+        assertEquals(1, buffer.size());
+
+        // every flush writes something else, so each one counts against the bad row
+        for (int i = 1; i < WriteBehindBuffer.MAX_FAILED_FLUSHES; i++) {
+            buffer.create("other" + i, new Account("other" + i, 1));
+            assertThrows(SQLException.class, () -> buffer.flush(true));
+        }
+
+        assertFalse(buffer.contains("bad"));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testOutageKeepsEverythingBuffered() throws SQLException {
+        for (int i = 0; i < 25; i++) {
+            buffer.create("id" + i, new Account("id" + i, i));
+        }
+
+        databaseDown = true;
+        for (int i = 0; i < WriteBehindBuffer.MAX_FAILED_FLUSHES * 2; i++) {
+            attempts.set(0);
+            assertThrows(SQLException.class, () -> buffer.flush(true));
+
+            // one batch and a few probes, instead of one connection timeout per row
+            assertEquals(1 + WriteBehindBuffer.OUTAGE_PROBES, attempts.get());
+            assertEquals(25, buffer.size());
+        }
+
+        databaseDown = false;
+        assertEquals(25, buffer.flush(true));
+        assertEquals(0, buffer.size());
+        assertEquals(25, writes.size());
+    }
+
+    private static final class Account {
+        private final String id;
+        private final int balance;
+
+        Account(String id, int balance) {
+            this.id = id;
+            this.balance = balance;
+        }
+    }
+}
@@ -23,6 +23,7 @@
 package tech.guilhermekaua.spigotboot.testPlugin.configuration;
 
 import tech.guilhermekaua.spigotboot.data.ormLite.config.PersistenceConfig;
+import tech.guilhermekaua.spigotboot.data.ormLite.schema.SchemaAction;
 
 public class PersistenceConfigImpl implements PersistenceConfig {
     @Override
@@ -39,4 +40,9 @@ public class PersistenceConfigImpl implements PersistenceConfig {
     public String getPassword() {
         return "";
     }
+
+    @Override
+    public SchemaAction getSchemaAction() {
+        return SchemaAction.CREATE;
+    }
 }
@@ -22,13 +22,30 @@
  */
 package tech.guilhermekaua.spigotboot.testPlugin.repositories;
 
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.DirtyTracking;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.OffHeapSnapshot;
 import tech.guilhermekaua.spigotboot.data.ormLite.repository.OrmLiteRepository;
 import tech.guilhermekaua.spigotboot.testPlugin.People;
 
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+@DirtyTracking
+@OffHeapSnapshot(indexes = {"name", "created_at"}, updatedColumn = "created_at")
 public interface UserRepository extends OrmLiteRepository<People, UUID> {
+    List<People> findAllByNameAndCreatedAtAfter(String name, Instant createdAt);
+
+    Optional<People> findFirstByNameOrderByEmailDesc(String name);
+
+    long countByName(String name);
+
+    boolean existsByEmail(String email);
+
+    int deleteByName(String name);
+
     default People findByEmail(String email) throws SQLException {
         return queryBuilder()
                 .where()
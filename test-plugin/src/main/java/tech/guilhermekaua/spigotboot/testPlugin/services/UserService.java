@@ -24,9 +24,11 @@ package tech.guilhermekaua.spigotboot.testPlugin.services;
 
 import lombok.RequiredArgsConstructor;
 import tech.guilhermekaua.spigotboot.core.context.annotations.Service;
+import tech.guilhermekaua.spigotboot.data.ormLite.annotations.Transactional;
 import tech.guilhermekaua.spigotboot.testPlugin.People;
 import tech.guilhermekaua.spigotboot.testPlugin.repositories.UserRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -57,4 +59,14 @@ public class UserService {
     public CompletableFuture<People> savePeople(People people) {
         return CompletableFuture.completedFuture(userRepository.save(people));
     }
+
+    @Transactional
+    public void savePeopleAtomically(List<People> peoples) {
+        for (People people : peoples) {
+            if (people.getEmail().isEmpty()) {
+                throw new IllegalArgumentException(people.getName() + " has no email");
+            }
+            userRepository.save(people);
+        }
+    }
 }
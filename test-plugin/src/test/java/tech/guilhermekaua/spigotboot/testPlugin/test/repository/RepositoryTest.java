@@ -24,6 +24,9 @@ package tech.guilhermekaua.spigotboot.testPlugin.test.repository;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
+import com.j256.ormlite.dao.BaseDaoImpl;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -31,15 +34,32 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.guilhermekaua.spigotboot.core.SpigotBoot;
+import tech.guilhermekaua.spigotboot.data.ormLite.exceptions.OptimisticLockException;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.OperationStats;
+import tech.guilhermekaua.spigotboot.data.ormLite.metrics.RepositoryMetrics;
+import tech.guilhermekaua.spigotboot.data.ormLite.schema.GeneratedTableConfigs;
+import tech.guilhermekaua.spigotboot.data.ormLite.snapshot.ColumnarSnapshot;
+import tech.guilhermekaua.spigotboot.data.ormLite.snapshot.SnapshotRegistry;
+import tech.guilhermekaua.spigotboot.testPlugin.Account;
 import tech.guilhermekaua.spigotboot.testPlugin.Main;
 import tech.guilhermekaua.spigotboot.testPlugin.People;
+import tech.guilhermekaua.spigotboot.testPlugin.Wallet;
+import tech.guilhermekaua.spigotboot.testPlugin.repositories.AccountRepository;
 import tech.guilhermekaua.spigotboot.testPlugin.repositories.UserRepository;
+import tech.guilhermekaua.spigotboot.testPlugin.repositories.WalletRepository;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class RepositoryTest {
     private ServerMock server;
@@ -169,4 +189,262 @@ public class RepositoryTest {
 
         Assertions.assertFalse(userRepository.existsById(people.getUuid()));
     }
+
+    @Test
+    public void shouldRunDerivedQueries() {
+        Instant now = Instant.now();
+        final People old = new People(UUID.randomUUID(), "steve", "a@test.com", now.minusSeconds(3600));
+        final People recent = new People(UUID.randomUUID(), "steve", "b@test.com", now);
+        final People other = new People(UUID.randomUUID(), "alex", "c@test.com", now);
+        userRepository.saveAll(Arrays.asList(old, recent, other));
+
+        List<People> found = userRepository.findAllByNameAndCreatedAtAfter("steve", now.minusSeconds(60));
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertEquals(recent.getUuid(), found.get(0).getUuid());
+
+        Assertions.assertEquals("b@test.com", userRepository.findFirstByNameOrderByEmailDesc("steve").map(People::getEmail).orElse(null));
+        Assertions.assertFalse(userRepository.findFirstByNameOrderByEmailDesc("nobody").isPresent());
+
+        Assertions.assertEquals(2, userRepository.countByName("steve"));
+        Assertions.assertTrue(userRepository.existsByEmail("c@test.com"));
+        Assertions.assertFalse(userRepository.existsByEmail("missing@test.com"));
+
+        Assertions.assertEquals(2, userRepository.deleteByName("steve"));
+        Assertions.assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    public void shouldIterateWithoutMaterializing() {
+        Instant now = Instant.now();
+        List<People> saved = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            saved.add(new People(UUID.randomUUID(), "test" + i, "test" + i + "@test.com", now));
+        }
+        userRepository.saveAll(saved);
+
+        try (Stream<People> stream = userRepository.streamAll()) {
+            Assertions.assertEquals(25, stream.count());
+        }
+
+        List<Integer> batchSizes = new ArrayList<>();
+        Set<UUID> visited = new HashSet<>();
+        userRepository.forEachBatch(10, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(people -> visited.add(people.getUuid()));
+        });
+        Assertions.assertEquals(Arrays.asList(10, 10, 5), batchSizes);
+        Assertions.assertEquals(25, visited.size());
+
+        List<People> firstPage = userRepository.findAllAfter(null, 20);
+        List<People> secondPage = userRepository.findAllAfter(firstPage.get(19).getUuid(), 20);
+        Assertions.assertEquals(5, secondPage.size());
+        Assertions.assertFalse(firstPage.stream().anyMatch(people -> people.getUuid().equals(secondPage.get(0).getUuid())));
+    }
+
+    @Test
+    public void shouldRunAsync() {
+        final People people = new People(UUID.randomUUID(), "test", "test@test.com", Instant.now());
+
+        userRepository.async().save(people).join();
+
+        Assertions.assertEquals(1L, userRepository.async().count().join());
+        Assertions.assertTrue(userRepository.async().existsById(people.getUuid()).join());
+        Assertions.assertEquals(people.getEmail(), userRepository.async().findById(people.getUuid()).join().getEmail());
+        Assertions.assertNotEquals(Thread.currentThread().getName(), userRepository.async().call(repository -> Thread.currentThread().getName()).join());
+    }
+
+    @Test
+    public void shouldUpsertAndDeleteInBulk() {
+        Instant now = Instant.now();
+        List<People> peoples = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            peoples.add(new People(UUID.randomUUID(), "test" + i, "test" + i + "@test.com", now));
+        }
+        userRepository.upsertAll(peoples);
+        Assertions.assertEquals(1200L, userRepository.count());
+
+        peoples.forEach(people -> people.setEmail("changed@test.com"));
+        userRepository.upsertAll(peoples);
+        Assertions.assertEquals(1200L, userRepository.count());
+        Assertions.assertEquals("changed@test.com", userRepository.findById(peoples.get(1100).getUuid()).getEmail());
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 700; i++) {
+            ids.add(peoples.get(i).getUuid());
+        }
+        Assertions.assertEquals(700, userRepository.findAllById(ids).size());
+
+        userRepository.deleteAllById(ids);
+        Assertions.assertEquals(500L, userRepository.count());
+        Assertions.assertTrue(userRepository.findAllById(ids).isEmpty());
+    }
+
+    @Test
+    public void shouldRecordOperationMetrics() {
+        RepositoryMetrics repositoryMetrics = SpigotBoot.getContext(plugin).getBean(RepositoryMetrics.class);
+        repositoryMetrics.reset();
+
+        final People people = new People(UUID.randomUUID(), "test", "test@test.com", Instant.now());
+        userRepository.save(people);
+        userRepository.findById(people.getUuid());
+        userRepository.findAllByNameAndCreatedAtAfter("test", Instant.EPOCH);
+
+        OperationStats findById = findOperation(repositoryMetrics, "findById");
+        Assertions.assertEquals(1, findById.getCalls());
+        Assertions.assertEquals(1, findById.getRows());
+
+        OperationStats derived = findOperation(repositoryMetrics, "findAllByNameAndCreatedAtAfter");
+        Assertions.assertEquals(1, derived.getCalls());
+        Assertions.assertEquals("UserRepository", derived.getRepository());
+    }
+
+    @Test
+    public void shouldSkipUnchangedUpdates() {
+        RepositoryMetrics repositoryMetrics = SpigotBoot.getContext(plugin).getBean(RepositoryMetrics.class);
+
+        final People people = new People(UUID.randomUUID(), "test", "test@test.com", Instant.now());
+        userRepository.save(people);
+        final People loaded = userRepository.findById(people.getUuid());
+        repositoryMetrics.reset();
+
+        Assertions.assertEquals(0, userRepository.update(loaded));
+        Assertions.assertFalse(userRepository.createOrUpdate(loaded).isUpdated());
+        userRepository.upsertAll(Collections.singletonList(loaded));
+        Assertions.assertEquals(0, countCalls(repositoryMetrics, "update"));
+        Assertions.assertEquals(0, countCalls(repositoryMetrics, "createOrUpdate"));
+        Assertions.assertEquals(0, countCalls(repositoryMetrics, "upsertAll"));
+
+        loaded.setEmail("changed@test.com");
+        Assertions.assertEquals(1, userRepository.update(loaded));
+        Assertions.assertEquals(1, countCalls(repositoryMetrics, "updateColumns"));
+        Assertions.assertEquals(0, countCalls(repositoryMetrics, "update"));
+        Assertions.assertEquals("changed@test.com", userRepository.findById(people.getUuid()).getEmail());
+
+        // a different instance with the same ID is written in full
+        Assertions.assertEquals(1, userRepository.update(people));
+        Assertions.assertEquals(1, countCalls(repositoryMetrics, "update"));
+        Assertions.assertEquals("test@test.com", userRepository.findById(people.getUuid()).getEmail());
+    }
+
+    private static long countCalls(RepositoryMetrics repositoryMetrics, String operation) {
+        return repositoryMetrics.getStats().stream()
+                .filter(stats -> stats.getOperation().equals(operation))
+                .mapToLong(OperationStats::getCalls)
+                .sum();
+    }
+
+    private static OperationStats findOperation(RepositoryMetrics repositoryMetrics, String operation) {
+        return repositoryMetrics.getStats().stream()
+                .filter(stats -> stats.getOperation().equals(operation))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No metrics for " + operation));
+    }
+
+    @Test
+    public void shouldCreateDaoFromGeneratedTableConfig() throws SQLException {
+        Assertions.assertNotNull(plugin.getClass().getClassLoader().getResource(GeneratedTableConfigs.RESOURCE));
+
+        ConnectionSource connectionSource = SpigotBoot.getContext(plugin).getBean(ConnectionSource.class, null);
+        Dao<People, ?> dao = DaoManager.lookupDao(connectionSource, People.class);
+
+        Assertions.assertNotNull(dao);
+        Assertions.assertNotNull(((BaseDaoImpl<People, ?>) dao).getTableConfig());
+        Assertions.assertTrue("person".equalsIgnoreCase(dao.getTableName()));
+        Assertions.assertTrue(dao.isTableExists());
+    }
+
+    @Test
+    public void shouldReadFromOffHeapSnapshot() {
+        SnapshotRegistry snapshotRegistry = SpigotBoot.getContext(plugin).getBean(SnapshotRegistry.class);
+
+        Instant now = Instant.now();
+        final People alice = new People(UUID.randomUUID(), "alice", "alice@test.com", now.minusSeconds(30));
+        final People bob = new People(UUID.randomUUID(), "bob", "bob@test.com", now.minusSeconds(20));
+        final People carol = new People(UUID.randomUUID(), "carol", "carol@test.com", now.minusSeconds(10));
+        userRepository.saveAll(Arrays.asList(alice, bob, carol));
+
+        ColumnarSnapshot<People> snapshot = snapshotRegistry.getSnapshot(UserRepository.class);
+        Assertions.assertEquals(3, snapshot.size());
+
+        int[] newest = snapshot.top("created_at", 2);
+        Assertions.assertEquals(2, newest.length);
+        Assertions.assertEquals(carol.getUuid(), snapshot.getEntity(newest[0]).getUuid());
+        Assertions.assertEquals(bob.getUuid(), snapshot.getEntity(newest[1]).getUuid());
+
+        int row = snapshot.find("name", "bob");
+        Assertions.assertEquals("bob@test.com", snapshot.getString(row, snapshot.getColumnIndex("email")));
+        Assertions.assertEquals(-1, snapshot.find("name", "nobody"));
+
+        // an incremental refresh picks the new row up, and falls back to a full reload for the deleted one
+        final People dave = new People(UUID.randomUUID(), "dave", "dave@test.com", now);
+        userRepository.save(dave);
+        userRepository.delete(alice);
+        snapshot = snapshotRegistry.getTable(UserRepository.class).refresh();
+
+        Assertions.assertEquals(3, snapshot.size());
+        Assertions.assertEquals(-1, snapshot.findById(alice.getUuid()));
+        Assertions.assertEquals("dave", snapshot.getEntity(snapshot.findById(dave.getUuid())).getName());
+        Assertions.assertEquals("carol", snapshot.getString(snapshot.findById(carol.getUuid()), snapshot.getColumnIndex("name")));
+    }
+
+    @Test
+    public void shouldDetectConflictingUpdatesWithVersion() {
+        AccountRepository accountRepository = SpigotBoot.getContext(plugin).getBean(AccountRepository.class);
+        accountRepository.deleteAll();
+
+        final Account account = new Account(UUID.randomUUID(), 100);
+        accountRepository.save(account);
+
+        Account first = accountRepository.findById(account.getId());
+        Account second = accountRepository.findById(account.getId());
+
+        first.setBalance(150);
+        Assertions.assertTrue(accountRepository.compareAndSave(first));
+
+        second.setBalance(50);
+        Assertions.assertFalse(accountRepository.compareAndSave(second));
+        Assertions.assertThrows(OptimisticLockException.class, () -> accountRepository.update(second));
+        Assertions.assertEquals(150, accountRepository.findById(account.getId()).getBalance());
+
+        // the first attempt loses against a write made while it runs, the second one goes through
+        AtomicInteger attempts = new AtomicInteger();
+        Account updated = accountRepository.updateWithRetry(account.getId(), current -> {
+            if (attempts.getAndIncrement() == 0) {
+                Account concurrent = accountRepository.findById(account.getId());
+                concurrent.setBalance(0);
+                accountRepository.update(concurrent);
+            }
+            current.setBalance(current.getBalance() + 10);
+        }, 3);
+
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(10, updated.getBalance());
+        Assertions.assertEquals(10, accountRepository.findById(account.getId()).getBalance());
+        Assertions.assertNull(accountRepository.updateWithRetry(UUID.randomUUID(), current -> current.setBalance(1), 3));
+    }
+
+    @Test
+    public void shouldNotLoseConcurrentUpdatesOnCachedRepository() {
+        WalletRepository walletRepository = SpigotBoot.getContext(plugin).getBean(WalletRepository.class);
+        walletRepository.deleteAll();
+
+        final Wallet wallet = new Wallet(UUID.randomUUID(), 0);
+        walletRepository.save(wallet);
+        // every reader now shares the cached instance
+        Wallet cached = walletRepository.findById(wallet.getId());
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 25; j++) {
+                    walletRepository.updateWithRetry(wallet.getId(), current -> current.setCoins(current.getCoins() + 1), 1_000);
+                }
+            }));
+        }
+        workers.forEach(CompletableFuture::join);
+
+        Assertions.assertEquals(0, cached.getCoins());
+        Assertions.assertEquals(100, walletRepository.findById(wallet.getId()).getCoins());
+        Assertions.assertEquals(100, walletRepository.findAllById(Collections.singletonList(wallet.getId())).get(0).getCoins());
+    }
 }
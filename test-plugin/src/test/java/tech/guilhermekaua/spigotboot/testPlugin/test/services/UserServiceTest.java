@@ -27,14 +27,19 @@ import be.seeseemelk.mockbukkit.ServerMock;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.guilhermekaua.spigotboot.core.SpigotBoot;
 import tech.guilhermekaua.spigotboot.testPlugin.Main;
 import tech.guilhermekaua.spigotboot.testPlugin.People;
+import tech.guilhermekaua.spigotboot.testPlugin.repositories.UserRepository;
 import tech.guilhermekaua.spigotboot.testPlugin.services.UserService;
 
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 
 public class UserServiceTest {
@@ -68,6 +73,19 @@ public class UserServiceTest {
         Thread.sleep(5000);
     }
 
+    @Test
+    public void shouldRollBackTransactionalMethod() {
+        UserRepository userRepository = SpigotBoot.getContext(plugin).getBean(UserRepository.class);
+        People valid = new People(UUID.randomUUID(), "valid", "valid@test.com", Instant.now());
+        People invalid = new People(UUID.randomUUID(), "invalid", "", Instant.now());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> userService.savePeopleAtomically(Arrays.asList(valid, invalid)));
+        Assertions.assertEquals(0, userRepository.count());
+
+        userService.savePeopleAtomically(Collections.singletonList(valid));
+        Assertions.assertEquals(1, userRepository.count());
+    }
+
     @AfterEach
     public void tearDown() {
         MockBukkit.unmock();